@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.Lifecycle;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.vault.client.ClientHttpRequestFactoryFactory;
+import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.SslConfiguration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Benchmarks comparing HTTP client backends created by
+ * {@link ClientHttpRequestFactoryFactory} with client defaults and with a tuned connection
+ * pool. Requests are issued concurrently against a local {@link MockWebServer} to expose
+ * pool contention.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class ClientHttpRequestFactoryBenchmarks {
+
+	static final String RESPONSE = """
+			{ "lease_duration": 2764800, "renewable": false,
+			  "data": { "username": "walter", "password": "heisenberg" } }
+			""";
+
+	@Param({ "HttpComponents", "ReactorNetty", "Jetty", "JdkHttpClient" })
+	String client;
+
+	@Param({ "default", "pooled" })
+	String pool;
+
+	MockWebServer server;
+
+	ClientHttpRequestFactory requestFactory;
+
+	RestTemplate restTemplate;
+
+	String url;
+
+	@Setup
+	public void setup() throws Exception {
+
+		this.server = new MockWebServer();
+		this.server.setDispatcher(new Dispatcher() {
+
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return new MockResponse().setHeader("Content-Type", "application/json").setBody(RESPONSE);
+			}
+		});
+		this.server.start();
+
+		ClientOptions options = this.pool.equals("pooled") ? ClientOptions.builder()
+			.maxConnections(64)
+			.keepAlive(Duration.ofMinutes(5))
+			.idleTimeout(Duration.ofSeconds(30))
+			.pendingAcquireTimeout(Duration.ofSeconds(5))
+			.build() : new ClientOptions();
+
+		this.requestFactory = createRequestFactory(options);
+
+		if (this.requestFactory instanceof Lifecycle lifecycle) {
+			lifecycle.start();
+		}
+
+		this.restTemplate = new RestTemplate(this.requestFactory);
+		this.url = this.server.url("/v1/secret/credentials").toString();
+	}
+
+	private ClientHttpRequestFactory createRequestFactory(ClientOptions options) throws Exception {
+
+		SslConfiguration sslConfiguration = SslConfiguration.unconfigured();
+
+		return switch (this.client) {
+			case "HttpComponents" ->
+				ClientHttpRequestFactoryFactory.HttpComponents.usingHttpComponents(options, sslConfiguration);
+			case "ReactorNetty" ->
+				ClientHttpRequestFactoryFactory.ReactorNetty.usingReactorNetty(options, sslConfiguration);
+			case "Jetty" -> ClientHttpRequestFactoryFactory.JettyClient.usingJetty(options, sslConfiguration);
+			case "JdkHttpClient" ->
+				ClientHttpRequestFactoryFactory.JdkHttpClient.usingJdkHttpClient(options, sslConfiguration);
+			default -> throw new IllegalArgumentException("Unknown client " + this.client);
+		};
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		if (this.requestFactory instanceof DisposableBean disposableBean) {
+			disposableBean.destroy();
+		}
+
+		if (this.requestFactory instanceof Lifecycle lifecycle) {
+			lifecycle.stop();
+		}
+
+		this.server.shutdown();
+	}
+
+	@Benchmark
+	public String read() throws IOException {
+		return this.restTemplate.getForObject(this.url, String.class);
+	}
+
+}
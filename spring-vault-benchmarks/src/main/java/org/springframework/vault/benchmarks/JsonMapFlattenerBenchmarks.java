@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.vault.support.JsonMapFlattener;
+
+/**
+ * Benchmarks for {@link JsonMapFlattener}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMapFlattenerBenchmarks {
+
+	@Param({ "10", "100" })
+	int size;
+
+	Map<String, Object> nested;
+
+	@Setup
+	public void setup() {
+
+		this.nested = new LinkedHashMap<>();
+
+		for (int i = 0; i < this.size; i++) {
+
+			Map<String, Object> child = new LinkedHashMap<>();
+			child.put("username", "user-" + i);
+			child.put("port", 5432 + i);
+			child.put("enabled", i % 2 == 0);
+
+			List<Object> hosts = new ArrayList<>();
+			hosts.add("host-a-" + i);
+			hosts.add(Map.of("name", "host-b-" + i));
+			child.put("hosts", hosts);
+
+			this.nested.put("datasource" + i, child);
+		}
+	}
+
+	@Benchmark
+	public Map<String, Object> flatten() {
+		return JsonMapFlattener.flatten(this.nested);
+	}
+
+	@Benchmark
+	public Map<String, String> flattenToStringMap() {
+		return JsonMapFlattener.flattenToStringMap(this.nested);
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.core.lease.HashedWheelTaskScheduler;
+
+/**
+ * Benchmarks for lease renewal scheduling with a large number of leases. Each scheduler
+ * is populated with {@code leases} scheduled renewals one hour in the future. The
+ * benchmarks measure the renewal churn of canceling and rescheduling a single lease
+ * within that population and the cost of scheduling and canceling all leases.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaseSchedulingBenchmarks {
+
+	private static final Runnable NOOP = () -> {
+	};
+
+	@Param({ "ThreadPoolTaskScheduler", "HashedWheelTaskScheduler" })
+	String scheduler;
+
+	@Param({ "100000" })
+	int leases;
+
+	TaskScheduler taskScheduler;
+
+	ScheduledFuture<?>[] schedules;
+
+	Instant renewal;
+
+	@Setup
+	public void setup() {
+
+		if (this.scheduler.equals("ThreadPoolTaskScheduler")) {
+
+			ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+			threadPoolTaskScheduler.setDaemon(true);
+			threadPoolTaskScheduler.setRemoveOnCancelPolicy(true);
+			threadPoolTaskScheduler.afterPropertiesSet();
+
+			this.taskScheduler = threadPoolTaskScheduler;
+		}
+		else {
+			this.taskScheduler = new HashedWheelTaskScheduler(Runnable::run);
+		}
+
+		this.renewal = Instant.now().plusSeconds(3600);
+		this.schedules = new ScheduledFuture<?>[this.leases];
+
+		for (int i = 0; i < this.leases; i++) {
+			this.schedules[i] = this.taskScheduler.schedule(NOOP, this.renewal);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		for (ScheduledFuture<?> schedule : this.schedules) {
+			schedule.cancel(false);
+		}
+
+		if (this.taskScheduler instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+			threadPoolTaskScheduler.destroy();
+		}
+
+		if (this.taskScheduler instanceof HashedWheelTaskScheduler hashedWheelTaskScheduler) {
+			hashedWheelTaskScheduler.destroy();
+		}
+	}
+
+	/**
+	 * Cancel the schedule of a random lease and schedule its next renewal, as happens on
+	 * every lease renewal.
+	 */
+	@Benchmark
+	public ScheduledFuture<?> reschedule() {
+
+		int index = ThreadLocalRandom.current().nextInt(this.leases);
+
+		this.schedules[index].cancel(false);
+		ScheduledFuture<?> schedule = this.taskScheduler.schedule(NOOP,
+				this.renewal.plusMillis(ThreadLocalRandom.current().nextInt(60_000)));
+		this.schedules[index] = schedule;
+
+		return schedule;
+	}
+
+}
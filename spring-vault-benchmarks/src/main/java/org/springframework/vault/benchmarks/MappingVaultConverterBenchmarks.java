@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.vault.repository.convert.MappingVaultConverter;
+import org.springframework.vault.repository.convert.SecretDocument;
+import org.springframework.vault.repository.mapping.VaultMappingContext;
+
+/**
+ * Benchmarks for {@link MappingVaultConverter} reading and writing entities.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingVaultConverterBenchmarks {
+
+	MappingVaultConverter converter;
+
+	Person person;
+
+	SecretDocument document;
+
+	@Setup
+	public void setup() {
+
+		VaultMappingContext mappingContext = new VaultMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class, Address.class));
+		mappingContext.afterPropertiesSet();
+
+		this.converter = new MappingVaultConverter(mappingContext);
+		this.converter.afterPropertiesSet();
+
+		Address address = new Address();
+		address.street = "Foo Street";
+		address.city = "Bar City";
+
+		this.person = new Person();
+		this.person.id = "walter";
+		this.person.firstname = "Walter";
+		this.person.lastname = "White";
+		this.person.age = 50;
+		this.person.address = address;
+		this.person.nicknames = List.of("Heisenberg", "Mr. White");
+
+		this.document = new SecretDocument();
+		this.converter.write(this.person, this.document);
+	}
+
+	@Benchmark
+	public Person read() {
+		return this.converter.read(Person.class, this.document);
+	}
+
+	@Benchmark
+	public SecretDocument write() {
+
+		SecretDocument document = new SecretDocument();
+		this.converter.write(this.person, document);
+
+		return document;
+	}
+
+	public static class Person {
+
+		@Id
+		String id;
+
+		String firstname;
+
+		String lastname;
+
+		int age;
+
+		Address address;
+
+		List<String> nicknames;
+
+	}
+
+	public static class Address {
+
+		String street;
+
+		String city;
+
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.authentication.SimpleSessionManager;
+import org.springframework.vault.authentication.TokenAuthentication;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+/**
+ * Benchmarks for {@link SecretLeaseContainer} lease scheduling. Vault responses are
+ * served by {@link StaticResponseRequestFactory} without I/O so that results reflect
+ * the container and scheduling overhead.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecretLeaseContainerBenchmarks {
+
+	static final String LEASE_RESPONSE = """
+			{ "lease_id": "database/creds/readonly/2f6a614c-4aa2-7b19-24b9-ad944a8d4de6",
+			  "renewable": true, "lease_duration": 3600,
+			  "data": { "username": "walter", "password": "heisenberg" } }
+			""";
+
+	@Param({ "10", "1000" })
+	int leases;
+
+	ThreadPoolTaskScheduler taskScheduler;
+
+	VaultTemplate vaultTemplate;
+
+	SecretLeaseContainer container;
+
+	RequestedSecret renewable;
+
+	@Setup
+	public void setup() {
+
+		this.taskScheduler = new ThreadPoolTaskScheduler();
+		this.taskScheduler.setDaemon(true);
+		this.taskScheduler.afterPropertiesSet();
+
+		VaultEndpoint endpoint = VaultEndpoint.create("localhost", 8200);
+		this.vaultTemplate = new VaultTemplate(endpoint, new StaticResponseRequestFactory(LEASE_RESPONSE),
+				new SimpleSessionManager(new TokenAuthentication("token")));
+	}
+
+	@Setup(Level.Invocation)
+	public void setupContainer() {
+
+		this.container = new SecretLeaseContainer(this.vaultTemplate, this.taskScheduler);
+
+		for (int i = 0; i < this.leases; i++) {
+			this.renewable = this.container.requestRenewableSecret("database/creds/role-" + i);
+		}
+
+		this.container.afterPropertiesSet();
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDownContainer() throws Exception {
+		this.container.destroy();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		this.vaultTemplate.destroy();
+		this.taskScheduler.destroy();
+	}
+
+	/**
+	 * Obtain secrets and schedule renewal for all requested secrets.
+	 */
+	@Benchmark
+	public SecretLeaseContainer start() {
+
+		this.container.start();
+
+		return this.container;
+	}
+
+	/**
+	 * Start the container and renew a single lease, rescheduling its renewal.
+	 */
+	@Benchmark
+	public boolean startAndRenew() {
+
+		this.container.start();
+
+		return this.container.renew(this.renewable);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LifecycleAwareSessionManager;
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Benchmarks for {@link LifecycleAwareSessionManager#getSessionToken()} under contention
+ * of 256 threads. Logins take {@code loginLatency} milliseconds and issue tokens with a
+ * lease duration of two seconds that cannot be renewed.
+ * <p>
+ * In {@code blocking} mode, tokens are dropped once per second to model expiry so that
+ * request threads wait for a synchronous login. In {@code background} mode, tokens are
+ * replaced by a background login one second ahead of their expiry.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(256)
+@Fork(1)
+public class SessionManagerBenchmarks {
+
+	@Param({ "blocking", "background" })
+	String mode;
+
+	@Param({ "5" })
+	int loginLatency;
+
+	ThreadPoolTaskScheduler taskScheduler;
+
+	LifecycleAwareSessionManager sessionManager;
+
+	@Setup
+	public void setup() {
+
+		this.taskScheduler = new ThreadPoolTaskScheduler();
+		this.taskScheduler.setPoolSize(2);
+		this.taskScheduler.setDaemon(true);
+		this.taskScheduler.afterPropertiesSet();
+
+		long latency = TimeUnit.MILLISECONDS.toNanos(this.loginLatency);
+		ClientAuthentication clientAuthentication = () -> {
+			LockSupport.parkNanos(latency);
+			return LoginToken.of("token".toCharArray(), Duration.ofSeconds(2));
+		};
+
+		this.sessionManager = new LifecycleAwareSessionManager(clientAuthentication, this.taskScheduler,
+				new RestTemplate(), new FixedTimeoutRefreshTrigger(Duration.ofSeconds(1), Duration.ofMillis(500)));
+
+		if (this.mode.equals("background")) {
+			this.sessionManager.setBackgroundRefreshEnabled(true);
+			this.sessionManager.setRefreshJitter(Duration.ofMillis(100));
+		}
+		else {
+			this.taskScheduler.scheduleAtFixedRate(this.sessionManager::revoke, Duration.ofSeconds(1));
+		}
+
+		this.sessionManager.getSessionToken();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.taskScheduler.shutdown();
+	}
+
+	@Benchmark
+	public VaultToken getSessionToken() {
+		return this.sessionManager.getSessionToken();
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestFactory} responding to each request with a static JSON body
+ * without performing I/O. Used to isolate client-side overhead from network latency.
+ *
+ * @author agent
+ */
+class StaticResponseRequestFactory implements ClientHttpRequestFactory {
+
+	private final byte[] body;
+
+	StaticResponseRequestFactory(String body) {
+		this.body = body.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+
+		return new AbstractClientHttpRequest() {
+
+			private final ByteArrayOutputStream requestBody = new ByteArrayOutputStream();
+
+			@Override
+			public HttpMethod getMethod() {
+				return httpMethod;
+			}
+
+			@Override
+			public URI getURI() {
+				return uri;
+			}
+
+			@Override
+			protected OutputStream getBodyInternal(HttpHeaders headers) {
+				return this.requestBody;
+			}
+
+			@Override
+			protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+				return new StaticResponse(StaticResponseRequestFactory.this.body);
+			}
+		};
+	}
+
+	static class StaticResponse implements ClientHttpResponse {
+
+		private final byte[] body;
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		StaticResponse(byte[] body) {
+			this.body = body;
+			this.headers.setContentType(MediaType.APPLICATION_JSON);
+			this.headers.setContentLength(body.length);
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() {
+			return HttpStatus.OK;
+		}
+
+		@Override
+		public String getStatusText() {
+			return HttpStatus.OK.getReasonPhrase();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(this.body);
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
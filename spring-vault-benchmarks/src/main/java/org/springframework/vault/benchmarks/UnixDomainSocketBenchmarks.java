@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.vault.client.ClientHttpRequestFactoryFactory;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.SslConfiguration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Benchmarks comparing Unix domain sockets with loopback TCP to talk to a co-located
+ * Vault Agent. Both transports use Reactor Netty on the client and server side so that
+ * only the transport differs.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class UnixDomainSocketBenchmarks {
+
+	static final String RESPONSE = """
+			{ "lease_duration": 2764800, "renewable": false,
+			  "data": { "username": "walter", "password": "heisenberg" } }
+			""";
+
+	@Param({ "tcp", "unix" })
+	String transport;
+
+	Path socket;
+
+	DisposableServer server;
+
+	RestTemplate restTemplate;
+
+	String url;
+
+	@Setup
+	public void setup() throws Exception {
+
+		HttpServer httpServer = HttpServer.create()
+			.route(routes -> routes.get("/v1/secret/credentials",
+					(request, response) -> response.header("Content-Type", "application/json")
+						.sendString(Mono.just(RESPONSE))));
+
+		ClientOptions options = new ClientOptions();
+		SslConfiguration sslConfiguration = SslConfiguration.unconfigured();
+
+		VaultEndpoint endpoint;
+		ClientHttpRequestFactory requestFactory;
+
+		if (this.transport.equals("unix")) {
+
+			this.socket = Files.createTempDirectory("vault").resolve("agent.sock");
+			this.server = httpServer.bindAddress(() -> UnixDomainSocketAddress.of(this.socket)).bindNow();
+			endpoint = VaultEndpoint.unixDomainSocket(this.socket);
+			requestFactory = ClientHttpRequestFactoryFactory.create(endpoint, options, sslConfiguration);
+		}
+		else {
+
+			this.server = httpServer.host("localhost").port(0).bindNow();
+			endpoint = VaultEndpoint.create("localhost", this.server.port());
+			endpoint.setScheme("http");
+			requestFactory = ClientHttpRequestFactoryFactory.ReactorNetty.usingReactorNetty(options, sslConfiguration);
+		}
+
+		this.restTemplate = new RestTemplate(requestFactory);
+		this.url = endpoint.createUriString("secret/credentials");
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		this.server.disposeNow();
+
+		if (this.socket != null) {
+			Files.deleteIfExists(this.socket);
+			Files.deleteIfExists(this.socket.getParent());
+		}
+	}
+
+	@Benchmark
+	public String read() {
+		return this.restTemplate.getForObject(this.url, String.class);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.vault.client.VaultResponses;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+
+/**
+ * Benchmarks for Vault response deserialization through {@link VaultResponses} and the
+ * {@link ObjectMapper} used by the HTTP message converters.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VaultResponsesBenchmarks {
+
+	static final String RESPONSE = """
+			{
+			  "request_id": "9b0ac2a6-0f43-4a85-a8dc-8e1d44c34c41",
+			  "lease_id": "database/creds/readonly/2f6a614c-4aa2-7b19-24b9-ad944a8d4de6",
+			  "renewable": true,
+			  "lease_duration": 3600,
+			  "data": {
+			    "username": "v-token-readonly-6iRIcGv8tLpu816T8xqS-1717669345",
+			    "password": "A1a-1kAiN0gqOIJOvxX4",
+			    "nested": { "key": "value", "list": [ "a", "b", "c" ] }
+			  },
+			  "wrap_info": null,
+			  "warnings": null,
+			  "auth": null
+			}
+			""";
+
+	static final String ERROR = """
+			{ "errors": [ "permission denied" ] }
+			""";
+
+	ObjectMapper objectMapper;
+
+	JavaType typedResponse;
+
+	@Setup
+	public void setup() {
+
+		this.objectMapper = new ObjectMapper();
+		this.typedResponse = this.objectMapper
+			.constructType(VaultResponses.getTypeReference(Credentials.class).getType());
+	}
+
+	@Benchmark
+	public VaultResponse readVaultResponse() throws Exception {
+		return this.objectMapper.readValue(RESPONSE, VaultResponse.class);
+	}
+
+	@Benchmark
+	public VaultResponseSupport<Credentials> readTypedResponse() throws Exception {
+		return this.objectMapper.readValue(RESPONSE, this.typedResponse);
+	}
+
+	@Benchmark
+	public VaultResponse unwrap() {
+		return VaultResponses.unwrap(RESPONSE, VaultResponse.class);
+	}
+
+	@Benchmark
+	public String getError() {
+		return VaultResponses.getError(ERROR);
+	}
+
+	public static class Credentials {
+
+		public String username;
+
+		public String password;
+
+		public Map<String, Object> nested;
+
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.vault.authentication.TokenAuthentication;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.core.VaultVersionedKeyValueOperations;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.vault.support.Versioned;
+
+/**
+ * Benchmarks for {@link VaultTemplate#read(String)} against a local
+ * {@link MockWebServer} standing in for Vault. Results include the HTTP round trip
+ * over the loopback interface.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VaultTemplateBenchmarks {
+
+	static final String KV1_RESPONSE = """
+			{ "lease_duration": 2764800, "renewable": false,
+			  "data": { "username": "walter", "password": "heisenberg" } }
+			""";
+
+	static final String KV2_RESPONSE = """
+			{ "data": {
+			    "data": { "username": "walter", "password": "heisenberg" },
+			    "metadata": { "created_time": "2018-03-22T02:24:06.945319214Z", "deletion_time": "",
+			                  "destroyed": false, "version": 1 } } }
+			""";
+
+	MockWebServer server;
+
+	VaultTemplate vaultTemplate;
+
+	VaultVersionedKeyValueOperations versioned;
+
+	@Setup
+	public void setup() throws IOException {
+
+		this.server = new MockWebServer();
+		this.server.setDispatcher(new Dispatcher() {
+
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+
+				String body = request.getPath().startsWith("/v1/secret/data/") ? KV2_RESPONSE : KV1_RESPONSE;
+
+				return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+			}
+		});
+		this.server.start();
+
+		VaultEndpoint endpoint = VaultEndpoint.create(this.server.getHostName(), this.server.getPort());
+		endpoint.setScheme("http");
+
+		this.vaultTemplate = new VaultTemplate(endpoint, new TokenAuthentication("token"));
+		this.versioned = this.vaultTemplate.opsForVersionedKeyValue("secret");
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+
+		this.vaultTemplate.destroy();
+		this.server.shutdown();
+	}
+
+	@Benchmark
+	public VaultResponse read() {
+		return this.vaultTemplate.read("kv/credentials");
+	}
+
+	@Benchmark
+	public VaultResponseSupport<Credentials> readTyped() {
+		return this.vaultTemplate.read("kv/credentials", Credentials.class);
+	}
+
+	@Benchmark
+	public Versioned<Credentials> readVersioned() {
+		return this.versioned.get("credentials", Credentials.class);
+	}
+
+	public static class Credentials {
+
+		public String username;
+
+		public String password;
+
+	}
+
+}
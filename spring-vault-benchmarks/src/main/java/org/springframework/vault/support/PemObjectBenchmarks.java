@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.security.spec.KeySpec;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link PemObject} parsing and {@link KeystoreUtil} key store
+ * creation. Located in the {@code support} package to access {@link KeystoreUtil}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PemObjectBenchmarks {
+
+	String certificate;
+
+	String privateKey;
+
+	String bundle;
+
+	X509Certificate x509Certificate;
+
+	KeySpec privateKeySpec;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() throws Exception {
+
+		try (InputStream is = getClass().getResourceAsStream("/certificate-response-rsa-pem.json")) {
+
+			Map<String, Object> data = new ObjectMapper().readValue(is, Map.class);
+
+			this.certificate = (String) data.get("certificate");
+			this.privateKey = (String) data.get("private_key");
+			this.bundle = this.certificate + "\n" + data.get("issuing_ca");
+		}
+
+		this.x509Certificate = PemObject.parseFirst(this.certificate).getCertificate();
+		this.privateKeySpec = PemObject.parseFirst(this.privateKey).getRSAPrivateKeySpec();
+	}
+
+	@Benchmark
+	public X509Certificate parseCertificate() {
+		return PemObject.parseFirst(this.certificate).getCertificate();
+	}
+
+	@Benchmark
+	public List<PemObject> parseBundle() {
+		return PemObject.parse(this.bundle);
+	}
+
+	@Benchmark
+	public KeySpec parsePrivateKey() {
+		return PemObject.parseFirst(this.privateKey).getRSAPrivateKeySpec();
+	}
+
+	@Benchmark
+	public X509Certificate getCertificate() throws Exception {
+		return KeystoreUtil.getCertificate(PemObject.parseFirst(this.certificate).getContent());
+	}
+
+	@Benchmark
+	public KeyStore createKeyStore() throws Exception {
+		return KeystoreUtil.createKeyStore("key", this.privateKeySpec, new char[0], this.x509Certificate);
+	}
+
+}
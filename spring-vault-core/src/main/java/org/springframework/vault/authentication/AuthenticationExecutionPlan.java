@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
+import org.springframework.vault.authentication.AuthenticationSteps.HttpRequestNode;
+import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
+import org.springframework.vault.authentication.AuthenticationSteps.Node;
+import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
+import org.springframework.vault.authentication.AuthenticationSteps.ScalarValueStep;
+import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
+import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
+
+/**
+ * Immutable execution plan compiled from {@link AuthenticationSteps}. Compilation
+ * resolves request definitions and restructures {@link Node#zipWith(Node) zip} steps
+ * into a {@link Zip} holding the steps preceding the zip as left branch and the zipped
+ * steps as right branch so that executors can evaluate both branches concurrently.
+ * Plans are compiled once and can be executed any number of times.
+ *
+ * @author agent
+ * @since 4.0
+ * @see AuthenticationStepsExecutor
+ * @see AuthenticationStepsOperator
+ */
+final class AuthenticationExecutionPlan {
+
+	private final List<Step> steps;
+
+	private AuthenticationExecutionPlan(List<Step> steps) {
+		this.steps = List.copyOf(steps);
+	}
+
+	/**
+	 * Compile the given chain of {@link Node nodes} into an execution plan.
+	 * @param nodes the nodes in execution order.
+	 * @return the compiled {@link AuthenticationExecutionPlan}.
+	 */
+	static AuthenticationExecutionPlan compile(List<Node<?>> nodes) {
+
+		List<Step> steps = new ArrayList<>();
+
+		for (Node<?> node : nodes) {
+
+			if (node instanceof ZipStep<?, ?> zip) {
+
+				Step step = new Zip(zip, new AuthenticationExecutionPlan(steps), compile(zip.getRight()));
+				steps = new ArrayList<>();
+				steps.add(step);
+				continue;
+			}
+
+			steps.add(compileStep(node));
+		}
+
+		return new AuthenticationExecutionPlan(steps);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Step compileStep(Node<?> node) {
+
+		if (node instanceof HttpRequestNode<?> request) {
+			return Request.from(request);
+		}
+
+		if (node instanceof MapStep<?, ?> map) {
+			return new Transform((MapStep<Object, Object>) map);
+		}
+
+		if (node instanceof OnNextStep<?> onNext) {
+			return new Peek((OnNextStep<Object>) onNext);
+		}
+
+		if (node instanceof ScalarValueStep<?> scalar) {
+			return new Value(scalar);
+		}
+
+		if (node instanceof SupplierStep<?> supplier) {
+			return new Supply(supplier);
+		}
+
+		throw new IllegalArgumentException("Unsupported authentication step: %s".formatted(node));
+	}
+
+	/**
+	 * @return the steps in execution order.
+	 */
+	List<Step> getSteps() {
+		return this.steps;
+	}
+
+	/**
+	 * Compiled step.
+	 */
+	sealed interface Step permits Request, Transform, Peek, Value, Supply, Zip {
+
+		/**
+		 * @return the {@link Node} this step was compiled from.
+		 */
+		Node<?> node();
+
+	}
+
+	/**
+	 * HTTP request with its URI template variables and response type resolved.
+	 */
+	record Request(HttpRequestNode<?> node, HttpMethod method, @Nullable URI uri, @Nullable String uriTemplate,
+			Object[] uriVariables, @Nullable HttpEntity<?> entity, Class<?> responseType) implements Step {
+
+		static Request from(HttpRequestNode<?> node) {
+
+			HttpRequest<?> definition = node.getDefinition();
+			@Nullable String[] urlVariables = definition.getUrlVariables();
+
+			Assert.state(definition.getUri() != null || definition.getUriTemplate() != null,
+					() -> "HttpRequest %s must define either URI or URI template".formatted(definition));
+
+			return new Request(node, definition.getMethod(), definition.getUri(), definition.getUriTemplate(),
+					urlVariables != null ? urlVariables : new Object[0], definition.getEntity(),
+					definition.getResponseType());
+		}
+
+		/**
+		 * Create the {@link HttpEntity} to send given the current {@code state}.
+		 * @param state the current state object.
+		 * @return the {@link HttpEntity} to send.
+		 */
+		HttpEntity<?> createEntity(@Nullable Object state) {
+			return AuthenticationStepsExecutor.getEntity(this.entity, state);
+		}
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+
+	}
+
+	record Transform(MapStep<Object, Object> node) implements Step {
+
+		Object apply(Object state) {
+			return this.node.apply(state);
+		}
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+
+	}
+
+	record Peek(OnNextStep<Object> node) implements Step {
+
+		Object apply(Object state) {
+			return this.node.apply(state);
+		}
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+
+	}
+
+	record Value(ScalarValueStep<?> node) implements Step {
+
+		Object get() {
+			return this.node.get();
+		}
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+
+	}
+
+	record Supply(SupplierStep<?> node) implements Step {
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+
+	}
+
+	/**
+	 * Zip of two independent branches. {@code left} holds the steps that preceded the
+	 * zip in the chain.
+	 */
+	record Zip(ZipStep<?, ?> node, AuthenticationExecutionPlan left, AuthenticationExecutionPlan right)
+			implements Step {
+
+		@Override
+		public String toString() {
+			return this.node.toString();
+		}
+
+	}
+
+}
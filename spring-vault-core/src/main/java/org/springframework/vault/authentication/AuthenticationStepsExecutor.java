@@ -15,24 +15,34 @@
  */
 package org.springframework.vault.authentication;
 
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.vault.VaultException;
-import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
-import org.springframework.vault.authentication.AuthenticationSteps.HttpRequestNode;
-import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Peek;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Request;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Step;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Supply;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Transform;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Value;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Zip;
 import org.springframework.vault.authentication.AuthenticationSteps.Node;
-import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
 import org.springframework.vault.authentication.AuthenticationSteps.Pair;
-import org.springframework.vault.authentication.AuthenticationSteps.ScalarValueStep;
-import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
-import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
 import org.springframework.vault.client.VaultResponses;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
@@ -42,6 +52,12 @@ import org.springframework.web.client.RestOperations;
 /**
  * Synchronous executor for {@link AuthenticationSteps} using {@link RestOperations} to
  * login using authentication flows.
+ * <p>
+ * {@link AuthenticationSteps} are compiled once into an execution plan when creating
+ * the executor. The right branch of a {@link Node#zipWith(Node) zip} is evaluated on the
+ * configured {@link Executor} while the calling thread evaluates the left branch so that
+ * independent requests (e.g. obtaining a role and a secret) are issued concurrently. The
+ * Vault namespace bound to the calling thread is propagated to the branch.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -51,10 +67,12 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 
 	private static final Log logger = LogFactory.getLog(AuthenticationStepsExecutor.class);
 
-	private final AuthenticationSteps chain;
+	private final AuthenticationExecutionPlan plan;
 
 	private final RestOperations restOperations;
 
+	private Executor executor = createDefaultExecutor();
+
 	/**
 	 * Create a new {@link AuthenticationStepsExecutor} given {@link AuthenticationSteps}
 	 * and {@link RestOperations}.
@@ -66,16 +84,37 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 		Assert.notNull(steps, "AuthenticationSteps must not be null");
 		Assert.notNull(restOperations, "RestOperations must not be null");
 
-		this.chain = steps;
+		this.plan = AuthenticationExecutionPlan.compile(steps.steps);
 		this.restOperations = restOperations;
 	}
 
+	private static Executor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-vault-auth-");
+		executor.setDaemon(true);
+		return executor;
+	}
+
+	/**
+	 * Set the {@link Executor} to evaluate {@link Node#zipWith(Node) zipped} branches
+	 * concurrently. Defaults to a {@link SimpleAsyncTaskExecutor} using daemon threads
+	 * that exit once the branch completes. Branches are evaluated on the calling thread if the {@link Executor}
+	 * rejects the task or has not started it by the time the calling thread requires the
+	 * branch result.
+	 * @param executor must not be {@literal null}.
+	 * @since 4.0
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
 	@Override
 	public VaultToken login() throws VaultException {
 
-		Iterable<Node<?>> steps = this.chain.steps;
-
-		Object state = evaluate(steps);
+		Object state = evaluate(this.plan);
 
 		if (state instanceof VaultToken) {
 			return (VaultToken) state;
@@ -91,83 +130,183 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 				"Cannot retrieve VaultToken from authentication chain. Got instead %s".formatted(state));
 	}
 
-	@SuppressWarnings({ "unchecked", "ConstantConditions" })
-	private @Nullable Object evaluate(Iterable<Node<?>> steps) {
+	private @Nullable Object evaluate(AuthenticationExecutionPlan plan) {
 
 		Object state = null;
 
-		for (Node<?> o : steps) {
+		for (Step step : plan.getSteps()) {
 
 			if (logger.isDebugEnabled()) {
-				logger.debug("Executing %s with current state %s".formatted(o, state));
+				logger.debug("Executing %s with current state %s".formatted(step, state));
 			}
 
 			try {
-				if (o instanceof HttpRequestNode) {
-					state = doHttpRequest((HttpRequestNode<Object>) o, state);
-				}
-
-				if (o instanceof MapStep) {
-					Assert.state(state != null, "No state available for MapStep");
-					state = doMapStep((MapStep<Object, Object>) o, state);
-				}
-
-				if (o instanceof ZipStep) {
-					Assert.state(state != null, "No state available for ZipStep");
-					state = doZipStep((ZipStep<Object, Object>) o, state);
-				}
-
-				if (o instanceof OnNextStep) {
-					Assert.state(state != null, "No state available for OnNextStep");
-					state = doOnNext((OnNextStep<Object>) o, state);
-				}
-
-				if (o instanceof ScalarValueStep<?>) {
-					state = doScalarValueStep((ScalarValueStep<Object>) o);
-				}
-
-				if (o instanceof SupplierStep<?>) {
-					state = doSupplierStep((SupplierStep<Object>) o);
-				}
+				state = execute(step, state);
 
 				if (logger.isDebugEnabled()) {
-					logger.debug("Executed %s with current state %s".formatted(o, state));
+					logger.debug("Executed %s with current state %s".formatted(step, state));
 				}
 			}
 			catch (HttpStatusCodeException e) {
 				throw new VaultLoginException("HTTP request %s in state %s failed with Status %s and body %s".formatted(
-						o, state, e.getStatusCode().value(), VaultResponses.getError(e.getResponseBodyAsString())), e);
+						step, state, e.getStatusCode().value(), VaultResponses.getError(e.getResponseBodyAsString())),
+						e);
+			}
+			catch (VaultLoginException e) {
+				throw e;
 			}
 			catch (RuntimeException e) {
-				throw new VaultLoginException("Authentication execution failed in %s".formatted(o), e);
+				throw new VaultLoginException("Authentication execution failed in %s".formatted(step), e);
 			}
 		}
+
 		return state;
 	}
 
-	@SuppressWarnings("ConstantConditions")
-	private @Nullable Object doHttpRequest(HttpRequestNode<Object> step, @Nullable Object state) {
+	private @Nullable Object execute(Step step, @Nullable Object state) {
 
-		HttpRequest<Object> definition = step.getDefinition();
+		if (step instanceof Request request) {
+			return doHttpRequest(request, state);
+		}
+
+		if (step instanceof Transform transform) {
+			Assert.state(state != null, "No state available for MapStep");
+			return transform.apply(state);
+		}
 
-		if (definition.getUriTemplate() != null) {
+		if (step instanceof Zip zip) {
+			return doZip(zip);
+		}
+
+		if (step instanceof Peek peek) {
+			Assert.state(state != null, "No state available for OnNextStep");
+			return peek.apply(state);
+		}
 
-			ResponseEntity<?> exchange = this.restOperations.exchange(definition.getUriTemplate(),
-					definition.getMethod(), getEntity(definition.getEntity(), state), definition.getResponseType(),
-					(Object[]) definition.getUrlVariables());
+		if (step instanceof Value value) {
+			return value.get();
+		}
 
-			return exchange.getBody();
+		if (step instanceof Supply supply) {
+			return supply.node().get();
 		}
 
-		if (definition.getUri() != null) {
+		return state;
+	}
+
+	private @Nullable Object doHttpRequest(Request request, @Nullable Object state) {
+
+		HttpEntity<?> entity = request.createEntity(state);
+		URI uri = request.uri();
+		ResponseEntity<?> exchange;
+
+		if (uri != null) {
+			exchange = this.restOperations.exchange(uri, request.method(), entity, request.responseType());
+		}
+		else {
 
-			ResponseEntity<?> exchange = this.restOperations.exchange(definition.getUri(), definition.getMethod(),
-					getEntity(definition.getEntity(), state), definition.getResponseType());
+			String uriTemplate = request.uriTemplate();
+			Assert.state(uriTemplate != null, "URI template must not be null");
 
-			return exchange.getBody();
+			exchange = this.restOperations.exchange(uriTemplate, request.method(), entity, request.responseType(),
+					request.uriVariables());
+		}
+
+		return exchange.getBody();
+	}
+
+	@SuppressWarnings("NullAway")
+	private Object doZip(Zip zip) {
+
+		Branch right = new Branch(zip.right());
+
+		try {
+			this.executor.execute(right::run);
+		}
+		catch (RejectedExecutionException e) {
+			// evaluated on the calling thread below
+		}
+
+		Object left;
+
+		try {
+			left = evaluate(zip.left());
+		}
+		catch (RuntimeException e) {
+			right.cancel();
+			throw e;
+		}
+
+		Assert.state(left != null, "No state available for ZipStep");
+
+		right.run();
+
+		return Pair.of(left, join(right.result));
+	}
+
+	private static @Nullable Object join(CompletableFuture<@Nullable Object> future) {
+
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Zipped branch that is evaluated once, either by the {@link Executor} or by the
+	 * calling thread if the {@link Executor} has not started the branch by the time the
+	 * calling thread requires its result. Evaluation on the calling thread prevents
+	 * starvation of bounded executors.
+	 */
+	private class Branch {
+
+		final CompletableFuture<@Nullable Object> result = new CompletableFuture<>();
+
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private final AuthenticationExecutionPlan plan;
+
+		private final @Nullable String namespace = VaultNamespaceContextHolder.getNamespace();
+
+		Branch(AuthenticationExecutionPlan plan) {
+			this.plan = plan;
+		}
+
+		void cancel() {
+			this.claimed.set(true);
+		}
+
+		void run() {
+
+			if (!this.claimed.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+
+				String namespace = this.namespace;
+				Supplier<@Nullable Object> evaluation = () -> evaluate(this.plan);
+
+				this.result.complete(
+						namespace != null ? VaultNamespaceContextHolder.withNamespace(namespace, evaluation)
+								: evaluation.get());
+			}
+			catch (Throwable e) {
+				this.result.completeExceptionally(e);
+			}
 		}
 
-		return null;
 	}
 
 	static HttpEntity<?> getEntity(@Nullable HttpEntity<?> entity, @Nullable Object state) {
@@ -188,27 +327,4 @@ public class AuthenticationStepsExecutor implements ClientAuthentication {
 		return entity;
 	}
 
-	private static Object doMapStep(MapStep<Object, Object> o, Object state) {
-		return o.apply(state);
-	}
-
-	@SuppressWarnings("NullAway")
-	private Object doZipStep(ZipStep<Object, Object> o, Object state) {
-
-		Object result = evaluate(o.getRight());
-		return Pair.of(state, result);
-	}
-
-	private static Object doOnNext(OnNextStep<Object> o, Object state) {
-		return o.apply(state);
-	}
-
-	private static Object doScalarValueStep(ScalarValueStep<Object> scalarValueStep) {
-		return scalarValueStep.get();
-	}
-
-	private static Object doSupplierStep(SupplierStep<Object> supplierStep) {
-		return supplierStep.get();
-	}
-
 }
@@ -31,15 +31,16 @@ import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.Assert;
 import org.springframework.vault.VaultException;
-import org.springframework.vault.authentication.AuthenticationSteps.HttpRequest;
-import org.springframework.vault.authentication.AuthenticationSteps.HttpRequestNode;
-import org.springframework.vault.authentication.AuthenticationSteps.MapStep;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Peek;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Request;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Step;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Supply;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Transform;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Value;
+import org.springframework.vault.authentication.AuthenticationExecutionPlan.Zip;
 import org.springframework.vault.authentication.AuthenticationSteps.Node;
-import org.springframework.vault.authentication.AuthenticationSteps.OnNextStep;
 import org.springframework.vault.authentication.AuthenticationSteps.Pair;
-import org.springframework.vault.authentication.AuthenticationSteps.ScalarValueStep;
 import org.springframework.vault.authentication.AuthenticationSteps.SupplierStep;
-import org.springframework.vault.authentication.AuthenticationSteps.ZipStep;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -51,7 +52,9 @@ import org.springframework.web.reactive.function.client.WebClient.RequestBodySpe
  * <p>
  * This class uses {@link WebClient} for non-blocking and reactive HTTP access. The
  * {@link AuthenticationSteps authentication flow} is materialized as reactive sequence
- * postponing execution until {@link Mono#subscribe() subscription}.
+ * postponing execution until {@link Mono#subscribe() subscription}. The reactive sequence
+ * is assembled once from the compiled execution plan and re-subscribed for each login.
+ * {@link Node#zipWith(Node) Zipped} branches are subscribed concurrently.
  * <p>
  * {@link Supplier Supplier} instances are inspected for their type.
  * {@link ResourceCredentialSupplier} instances are loaded through
@@ -68,12 +71,12 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 
 	private static final Log logger = LogFactory.getLog(AuthenticationStepsOperator.class);
 
-	private final AuthenticationSteps chain;
-
 	private final WebClient webClient;
 
 	private final DataBufferFactory factory = new DefaultDataBufferFactory();
 
+	private final Mono<VaultToken> login;
+
 	/**
 	 * Create a new {@link AuthenticationStepsOperator} given {@link AuthenticationSteps}
 	 * and {@link WebClient}.
@@ -85,14 +88,18 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 		Assert.notNull(steps, "AuthenticationSteps must not be null");
 		Assert.notNull(webClient, "WebClient must not be null");
 
-		this.chain = steps;
 		this.webClient = webClient;
+		this.login = createLogin(AuthenticationExecutionPlan.compile(steps.steps));
 	}
 
 	@Override
 	public Mono<VaultToken> getVaultToken() throws VaultException {
+		return this.login;
+	}
+
+	private Mono<VaultToken> createLogin(AuthenticationExecutionPlan plan) {
 
-		Mono<Object> state = createMono(this.chain.steps);
+		Mono<Object> state = createMono(plan);
 
 		return state.map(stateObject -> {
 
@@ -112,63 +119,60 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 		}).onErrorMap(t -> new VaultLoginException("Cannot retrieve VaultToken from authentication chain", t));
 	}
 
-	@SuppressWarnings("unchecked")
-	private Mono<Object> createMono(Iterable<Node<?>> steps) {
+	private Mono<Object> createMono(AuthenticationExecutionPlan plan) {
 
 		Mono<Object> state = Mono.just(Undefinded.UNDEFINDED);
 
-		for (Node<?> o : steps) {
+		for (Step step : plan.getSteps()) {
 
 			if (logger.isDebugEnabled()) {
-				logger.debug("Executing %s with current state %s".formatted(o, state));
+				logger.debug("Executing %s with current state %s".formatted(step, state));
 			}
 
-			if (o instanceof HttpRequestNode) {
-				state = state.flatMap(stateObject -> doHttpRequest((HttpRequestNode<Object>) o, stateObject));
+			if (step instanceof Request request) {
+				state = state.flatMap(stateObject -> doHttpRequest(request, stateObject));
 			}
 
-			if (o instanceof MapStep) {
-				state = state.map(stateObject -> doMapStep((MapStep<Object, Object>) o, stateObject));
+			if (step instanceof Transform transform) {
+				state = state.map(transform::apply);
 			}
 
-			if (o instanceof ZipStep) {
-				state = state.zipWith(doZipStep((ZipStep<Object, Object>) o))
+			if (step instanceof Zip zip) {
+				state = Mono.zip(createMono(zip.left()), createMono(zip.right()))
 					.map(it -> Pair.of(it.getT1(), it.getT2()));
 			}
 
-			if (o instanceof OnNextStep) {
-				state = state.doOnNext(stateObject -> doOnNext((OnNextStep<Object>) o, stateObject));
+			if (step instanceof Peek peek) {
+				state = state.doOnNext(peek::apply);
 			}
 
-			if (o instanceof ScalarValueStep<?>) {
-				state = state.map(stateObject -> doScalarValueStep((ScalarValueStep<Object>) o));
+			if (step instanceof Value value) {
+				state = state.map(stateObject -> value.get());
 			}
 
-			if (o instanceof SupplierStep<?>) {
-				state = state.flatMap(stateObject -> doSupplierStepLater((SupplierStep<Object>) o));
+			if (step instanceof Supply supply) {
+				state = state.flatMap(stateObject -> doSupplierStepLater(supply.node()));
 			}
 
 			if (logger.isDebugEnabled()) {
-				logger.debug("Executed %s with current state %s".formatted(o, state));
+				logger.debug("Executed %s with current state %s".formatted(step, state));
 			}
 		}
 		return state;
 	}
 
-	@SuppressWarnings({ "NullAway", "DataFlowIssue" })
-	private Mono<Object> doHttpRequest(HttpRequestNode<Object> step, Object state) {
+	@SuppressWarnings({ "NullAway", "DataFlowIssue", "unchecked" })
+	private Mono<Object> doHttpRequest(Request request, Object state) {
 
-		HttpRequest<Object> definition = step.getDefinition();
-		HttpEntity<?> entity = AuthenticationStepsExecutor.getEntity(definition.getEntity(), state);
+		HttpEntity<?> entity = request.createEntity(state);
+		Class<Object> responseType = (Class<Object>) request.responseType();
 
 		RequestBodySpec spec;
-		if (definition.getUri() == null) {
-
-			spec = this.webClient.method(definition.getMethod())
-				.uri(definition.getUriTemplate(), (Object[]) definition.getUrlVariables());
+		if (request.uri() == null) {
+			spec = this.webClient.method(request.method()).uri(request.uriTemplate(), request.uriVariables());
 		}
 		else {
-			spec = this.webClient.method(definition.getMethod()).uri(definition.getUri());
+			spec = this.webClient.method(request.method()).uri(request.uri());
 		}
 
 		for (Entry<String, List<String>> header : entity.getHeaders().headerSet()) {
@@ -176,34 +180,18 @@ public class AuthenticationStepsOperator implements VaultTokenSupplier {
 		}
 
 		if (entity.getBody() != null && !entity.getBody().equals(Undefinded.UNDEFINDED)) {
-			return spec.bodyValue(entity.getBody()).retrieve().bodyToMono(definition.getResponseType());
+			return spec.bodyValue(entity.getBody()).retrieve().bodyToMono(responseType);
 		}
 
-		return spec.retrieve().bodyToMono(definition.getResponseType());
-	}
-
-	private static Object doMapStep(MapStep<Object, Object> o, Object state) {
-		return o.apply(state);
-	}
-
-	private Mono<Object> doZipStep(ZipStep<Object, Object> o) {
-		return createMono(o.getRight());
-	}
-
-	private static void doOnNext(OnNextStep<Object> o, Object state) {
-		o.apply(state);
-	}
-
-	private static Object doScalarValueStep(ScalarValueStep<Object> scalarValueStep) {
-		return scalarValueStep.get();
+		return spec.retrieve().bodyToMono(responseType);
 	}
 
-	private Mono<Object> doSupplierStepLater(SupplierStep<Object> supplierStep) {
+	private Mono<Object> doSupplierStepLater(SupplierStep<?> supplierStep) {
 
 		Supplier<?> supplier = supplierStep.getSupplier();
 
 		if (!(supplier instanceof ResourceCredentialSupplier resourceSupplier)) {
-			return Mono.fromSupplier(supplierStep.getSupplier()).subscribeOn(Schedulers.boundedElastic());
+			return Mono.<Object>fromSupplier(supplierStep.getSupplier()).subscribeOn(Schedulers.boundedElastic());
 		}
 
 		return DataBufferUtils.join(DataBufferUtils.read(resourceSupplier.getResource(), this.factory, 4096))
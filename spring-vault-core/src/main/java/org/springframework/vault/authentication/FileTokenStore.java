@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * File-based {@link TokenStore}. Tokens are written atomically to a file that is
+ * readable only by its owner on file systems supporting POSIX permissions.
+ * <p>
+ * {@link #encrypted(Path, byte[]) Encrypted} stores protect the token with AES-GCM using
+ * a key supplied by the application, for example from a Kubernetes secret or an
+ * environment variable, so that the file does not disclose the token on persistent
+ * volumes. {@link #unencrypted(Path) Unencrypted} stores are intended for memory-backed
+ * file systems such as {@code tmpfs} that do not survive a machine restart.
+ * <p>
+ * Files that cannot be read or decrypted, for example after a key change, are ignored.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class FileTokenStore implements TokenStore {
+
+	private static final Log logger = LogFactory.getLog(FileTokenStore.class);
+
+	private static final byte FORMAT_UNENCRYPTED = 1;
+
+	private static final byte FORMAT_AES_GCM = 2;
+
+	private static final int NONCE_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 16;
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private final SecureRandom random = new SecureRandom();
+
+	private final Path file;
+
+	private final @Nullable SecretKey key;
+
+	private final Clock clock;
+
+	FileTokenStore(Path file, @Nullable SecretKey key, Clock clock) {
+
+		Assert.notNull(file, "File must not be null");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.file = file;
+		this.key = key;
+		this.clock = clock;
+	}
+
+	/**
+	 * Create a new {@link FileTokenStore} encrypting the token with AES-GCM.
+	 * @param file the file to store the token in, must not be {@literal null}.
+	 * @param key AES key with a length of 16, 24 or 32 bytes, must not be
+	 * {@literal null}.
+	 * @return the new {@link FileTokenStore}.
+	 */
+	public static FileTokenStore encrypted(Path file, byte[] key) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.isTrue(key.length == 16 || key.length == 24 || key.length == 32,
+				"Key must have a length of 16, 24 or 32 bytes");
+
+		return new FileTokenStore(file, new SecretKeySpec(key, "AES"), Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new {@link FileTokenStore} storing the token without encryption. Use only
+	 * with memory-backed file systems such as {@code tmpfs}.
+	 * @param file the file to store the token in, must not be {@literal null}.
+	 * @return the new {@link FileTokenStore}.
+	 */
+	public static FileTokenStore unencrypted(Path file) {
+		return new FileTokenStore(file, null, Clock.systemUTC());
+	}
+
+	@Override
+	public @Nullable LoginToken load() {
+
+		if (!Files.isRegularFile(this.file)) {
+			return null;
+		}
+
+		byte[] payload = null;
+
+		try {
+
+			payload = decode(Files.readAllBytes(this.file));
+
+			if (payload == null) {
+				return null;
+			}
+
+			return read(payload);
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+
+			logger.warn("Cannot read token from %s: %s".formatted(this.file, e.getMessage()));
+			return null;
+		}
+		finally {
+			if (payload != null) {
+				Arrays.fill(payload, (byte) 0);
+			}
+		}
+	}
+
+	@Override
+	public void save(LoginToken token) {
+
+		Assert.notNull(token, "LoginToken must not be null");
+
+		byte[] payload = write(token);
+
+		try {
+
+			byte[] content = encode(payload);
+			Path directory = this.file.toAbsolutePath().getParent();
+
+			Assert.state(directory != null, "Token file must have a parent directory");
+			Files.createDirectories(directory);
+
+			Path temp = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+
+			try {
+
+				if (temp.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+					Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+				}
+
+				Files.write(temp, content);
+				move(temp);
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+		catch (IOException | GeneralSecurityException e) {
+			logger.warn("Cannot write token to %s: %s".formatted(this.file, e.getMessage()));
+		}
+		finally {
+			Arrays.fill(payload, (byte) 0);
+		}
+	}
+
+	@Override
+	public void clear() {
+
+		try {
+			Files.deleteIfExists(this.file);
+		}
+		catch (IOException e) {
+			logger.warn("Cannot delete token file %s: %s".formatted(this.file, e.getMessage()));
+		}
+	}
+
+	private void move(Path temp) throws IOException {
+
+		try {
+			Files.move(temp, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private byte[] encode(byte[] payload) throws GeneralSecurityException {
+
+		SecretKey key = this.key;
+
+		if (key == null) {
+			return ByteBuffer.allocate(1 + payload.length).put(FORMAT_UNENCRYPTED).put(payload).array();
+		}
+
+		byte[] nonce = new byte[NONCE_LENGTH];
+		this.random.nextBytes(nonce);
+
+		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+		cipher.updateAAD(new byte[] { FORMAT_AES_GCM });
+
+		byte[] ciphertext = cipher.doFinal(payload);
+
+		return ByteBuffer.allocate(1 + NONCE_LENGTH + ciphertext.length)
+			.put(FORMAT_AES_GCM)
+			.put(nonce)
+			.put(ciphertext)
+			.array();
+	}
+
+	private byte @Nullable [] decode(byte[] content) throws GeneralSecurityException {
+
+		SecretKey key = this.key;
+		byte format = content.length > 0 ? content[0] : 0;
+
+		if (key == null) {
+
+			if (format != FORMAT_UNENCRYPTED) {
+				logger.warn("Ignoring token file %s: not an unencrypted token file".formatted(this.file));
+				return null;
+			}
+
+			return Arrays.copyOfRange(content, 1, content.length);
+		}
+
+		if (format != FORMAT_AES_GCM || content.length < 1 + NONCE_LENGTH + TAG_LENGTH) {
+			logger.warn("Ignoring token file %s: not an encrypted token file".formatted(this.file));
+			return null;
+		}
+
+		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+		cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, content, 1, NONCE_LENGTH));
+		cipher.updateAAD(content, 0, 1);
+
+		int offset = 1 + NONCE_LENGTH;
+
+		return cipher.doFinal(content, offset, content.length - offset);
+	}
+
+	private byte[] write(LoginToken token) {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+
+			String accessor = token.getAccessor();
+			String type = token.getType();
+
+			out.writeUTF(token.getToken());
+			out.writeUTF(accessor != null ? accessor : "");
+			out.writeUTF(type != null ? type : "");
+			out.writeBoolean(token.isRenewable());
+			out.writeLong(token.getLeaseDuration().getSeconds());
+			out.writeLong(this.clock.millis());
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Cannot serialize token", e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	private @Nullable LoginToken read(byte[] payload) throws IOException {
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+
+			String token = in.readUTF();
+			String accessor = in.readUTF();
+			String type = in.readUTF();
+			boolean renewable = in.readBoolean();
+			Duration leaseDuration = Duration.ofSeconds(in.readLong());
+			Duration elapsed = Duration.ofMillis(this.clock.millis() - in.readLong());
+
+			LoginToken.LoginTokenBuilder builder = LoginToken.builder().token(token).renewable(renewable);
+
+			if (!leaseDuration.isZero()) {
+
+				Duration remaining = leaseDuration.minus(elapsed);
+
+				if (remaining.isNegative() || remaining.isZero()) {
+					return null;
+				}
+
+				builder.leaseDuration(remaining);
+			}
+
+			if (!accessor.isEmpty()) {
+				builder.accessor(accessor);
+			}
+
+			if (!type.isEmpty()) {
+				builder.type(type);
+			}
+
+			return builder.build();
+		}
+	}
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * {@link SessionManager} routing to a {@link SessionManager} per identity. The identity
+ * is obtained from {@link VaultIdentityContextHolder}. {@link SessionManager}s are
+ * created lazily through a factory function on first use of an identity so that the
+ * login happens only once a token for the identity is requested. The default
+ * {@link SessionManager} is used if no identity is bound to the calling thread.
+ * <p>
+ * The number of retained {@link SessionManager}s is bounded by
+ * {@link #setMaxIdentities(int) max identities}. Once the bound is exceeded, the
+ * least-recently used {@link SessionManager} is evicted. Tokens of evicted session
+ * managers are not revoked as callers may still use them. They expire at the end of
+ * their TTL instead. A {@link LifecycleAwareSessionManager} drops its token and stops
+ * its renewal on eviction. A later use of an evicted identity performs a new login.
+ * {@link #destroy() Destroying} this session manager destroys all retained session
+ * managers, revoking their tokens.
+ * <p>
+ * Session managers created by the factory should share the
+ * {@link org.springframework.web.client.RestOperations} and
+ * {@link org.springframework.scheduling.TaskScheduler} so that all identities use a
+ * single connection pool and renewal scheduler, for example:
+ *
+ * <pre class="code">
+ * new IdentityRoutingSessionManager(defaultSessionManager,
+ * 		role -&gt; new LifecycleAwareSessionManager(authenticationFor(role), taskScheduler, restOperations));
+ * </pre>
+ *
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultIdentityContextHolder
+ */
+public class IdentityRoutingSessionManager implements SessionManager, DisposableBean {
+
+	public static final int DEFAULT_MAX_IDENTITIES = 256;
+
+	private static final Log logger = LogFactory.getLog(IdentityRoutingSessionManager.class);
+
+	private final SessionManager defaultSessionManager;
+
+	private final Function<String, ? extends SessionManager> sessionManagerFactory;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final LinkedHashMap<String, SessionManager> sessionManagers = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int maxIdentities = DEFAULT_MAX_IDENTITIES;
+
+	/**
+	 * Create a new {@link IdentityRoutingSessionManager}.
+	 * @param defaultSessionManager session manager to use if no identity is bound, must
+	 * not be {@literal null}.
+	 * @param sessionManagerFactory factory function to create a {@link SessionManager}
+	 * for an identity, must not be {@literal null}.
+	 */
+	public IdentityRoutingSessionManager(SessionManager defaultSessionManager,
+			Function<String, ? extends SessionManager> sessionManagerFactory) {
+
+		Assert.notNull(defaultSessionManager, "Default SessionManager must not be null");
+		Assert.notNull(sessionManagerFactory, "SessionManager factory must not be null");
+
+		this.defaultSessionManager = defaultSessionManager;
+		this.sessionManagerFactory = sessionManagerFactory;
+	}
+
+	/**
+	 * Set the maximum number of identities for which a {@link SessionManager} is
+	 * retained. Defaults to {@link #DEFAULT_MAX_IDENTITIES}.
+	 * @param maxIdentities must be greater than zero.
+	 */
+	public void setMaxIdentities(int maxIdentities) {
+
+		Assert.isTrue(maxIdentities > 0, "Max identities must be greater than zero");
+
+		this.maxIdentities = maxIdentities;
+	}
+
+	@Override
+	public VaultToken getSessionToken() {
+		return getSessionManager().getSessionToken();
+	}
+
+	/**
+	 * Return the {@link SessionManager} for the identity bound to the calling thread.
+	 * @return the {@link SessionManager} for the current identity.
+	 */
+	public SessionManager getSessionManager() {
+
+		String identity = VaultIdentityContextHolder.getIdentity();
+
+		if (identity == null) {
+			return this.defaultSessionManager;
+		}
+
+		return getSessionManager(identity);
+	}
+
+	/**
+	 * Return the {@link SessionManager} for the given {@code identity}. Creates the
+	 * {@link SessionManager} if it does not exist yet.
+	 * @param identity the identity, must not be {@literal null} or empty.
+	 * @return the {@link SessionManager} for {@code identity}.
+	 */
+	public SessionManager getSessionManager(String identity) {
+
+		Assert.hasText(identity, "Identity must not be empty");
+
+		this.lock.lock();
+		try {
+
+			SessionManager sessionManager = this.sessionManagers.get(identity);
+
+			if (sessionManager != null) {
+				return sessionManager;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		// create outside the lock to not block other identities
+		SessionManager created = this.sessionManagerFactory.apply(identity);
+
+		Assert.state(created != null, () -> "No SessionManager for identity %s".formatted(identity));
+
+		SessionManager sessionManager;
+		List<Map.Entry<String, SessionManager>> evicted = new ArrayList<>(0);
+
+		this.lock.lock();
+		try {
+
+			sessionManager = this.sessionManagers.get(identity);
+
+			if (sessionManager == null) {
+
+				sessionManager = created;
+				this.sessionManagers.put(identity, sessionManager);
+
+				while (this.sessionManagers.size() > this.maxIdentities) {
+
+					Map.Entry<String, SessionManager> eldest = this.sessionManagers.entrySet().iterator().next();
+					this.sessionManagers.remove(eldest.getKey());
+					evicted.add(eldest);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (sessionManager != created) {
+			release(created);
+		}
+
+		evicted.forEach(it -> release(it.getValue()));
+
+		return sessionManager;
+	}
+
+	/**
+	 * @return the number of identities for which a {@link SessionManager} is retained.
+	 */
+	public int getIdentityCount() {
+
+		this.lock.lock();
+		try {
+			return this.sessionManagers.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Destroy all {@link SessionManager}s created for identities.
+	 */
+	@Override
+	public void destroy() {
+
+		List<Map.Entry<String, SessionManager>> sessionManagers;
+
+		this.lock.lock();
+		try {
+			sessionManagers = new ArrayList<>(this.sessionManagers.entrySet());
+			this.sessionManagers.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		sessionManagers.forEach(it -> destroy(it.getKey(), it.getValue()));
+	}
+
+	/**
+	 * Release an evicted {@link SessionManager} without revoking its token.
+	 */
+	private static void release(SessionManager sessionManager) {
+
+		if (sessionManager instanceof LifecycleAwareSessionManager lifecycleAwareSessionManager) {
+			lifecycleAwareSessionManager.setTokenRevocationEnabled(false);
+			lifecycleAwareSessionManager.destroy();
+		}
+	}
+
+	private static void destroy(String identity, SessionManager sessionManager) {
+
+		if (sessionManager instanceof DisposableBean disposableBean) {
+			try {
+				disposableBean.destroy();
+			}
+			catch (Exception e) {
+				logger.warn("Cannot destroy SessionManager for identity %s".formatted(identity), e);
+			}
+		}
+	}
+
+}
@@ -16,10 +16,19 @@
 package org.springframework.vault.authentication;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpEntity;
 import org.springframework.scheduling.TaskScheduler;
@@ -54,10 +63,21 @@ import org.springframework.web.client.RestOperations;
  * By default, {@link VaultToken} are looked up in Vault to determine renewability,
  * remaining TTL, accessor and type, see {@link #setTokenSelfLookupEnabled(boolean)}.
  * <p>
+ * {@link LoginToken#isBatchToken() Batch tokens} are neither renewed nor revoked as Vault
+ * does not support these operations for batch tokens. Instead, batch tokens with a lease
+ * duration are replaced by a new login ahead of their expiry. Tokens using the batch
+ * token prefix are not looked up.
+ * <p>
  * The session manager dispatches authentication events to {@link AuthenticationListener}
  * and {@link AuthenticationErrorListener}. Event notifications are dispatched either on
  * the calling {@link Thread} or worker threads used for background renewal.
  * <p>
+ * With {@link #setBackgroundRefreshEnabled(boolean) background refresh} enabled, tokens
+ * are served from a snapshot without locking. Tokens are renewed or replaced by a new
+ * login ahead of their expiry on a background task so that request threads do not wait
+ * for a login. Calling threads only wait, for at most
+ * {@link #setMaxLoginWait(Duration)}, if no valid token is available.
+ * <p>
  * This class is thread-safe.
  *
  * @author Mark Paluch
@@ -71,6 +91,13 @@ import org.springframework.web.client.RestOperations;
 public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSupport
 		implements SessionManager, DisposableBean {
 
+	/**
+	 * Default maximum duration to wait for a login when using background refresh.
+	 *
+	 * @since 4.0
+	 */
+	public static final Duration DEFAULT_MAX_LOGIN_WAIT = Duration.ofSeconds(30);
+
 	/**
 	 * Client authentication mechanism. Used to obtain a {@link VaultToken} or
 	 * {@link LoginToken}.
@@ -84,6 +111,19 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 	private final ReentrantLock lock = new ReentrantLock();
 
+	/**
+	 * Login in progress when using background refresh.
+	 */
+	private final AtomicReference<@Nullable CompletableFuture<VaultToken>> pendingLogin = new AtomicReference<>();
+
+	private boolean backgroundRefreshEnabled;
+
+	private Duration maxLoginWait = DEFAULT_MAX_LOGIN_WAIT;
+
+	private Duration refreshJitter = Duration.ZERO;
+
+	private boolean tokenRevocationEnabled = true;
+
 	/**
 	 * The token state: Contains the currently valid token that identifies the Vault
 	 * session.
@@ -146,9 +186,81 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 		this.token = token;
 	}
 
+	/**
+	 * Enable or disable background refresh. With background refresh enabled, tokens are
+	 * served from a snapshot without locking. Renewable tokens are renewed ahead of their
+	 * expiry, tokens that cannot be renewed anymore are replaced by a new login on a
+	 * background task ahead of their expiry. Calling threads wait for at most
+	 * {@link #setMaxLoginWait(Duration) max login wait} if no valid token is available.
+	 * Disabled by default.
+	 * @param backgroundRefreshEnabled {@literal true} to enable background refresh.
+	 * @since 4.0
+	 */
+	public void setBackgroundRefreshEnabled(boolean backgroundRefreshEnabled) {
+		this.backgroundRefreshEnabled = backgroundRefreshEnabled;
+	}
+
+	/**
+	 * @return {@literal true} if background refresh is enabled.
+	 * @since 4.0
+	 */
+	public boolean isBackgroundRefreshEnabled() {
+		return this.backgroundRefreshEnabled;
+	}
+
+	/**
+	 * Set the maximum duration a calling thread waits for a login if no valid token is
+	 * available when using background refresh. Defaults to
+	 * {@link #DEFAULT_MAX_LOGIN_WAIT}.
+	 * @param maxLoginWait must not be {@literal null}, must be positive.
+	 * @since 4.0
+	 */
+	public void setMaxLoginWait(Duration maxLoginWait) {
+
+		Assert.notNull(maxLoginWait, "Max login wait must not be null");
+		Assert.isTrue(!maxLoginWait.isNegative() && !maxLoginWait.isZero(), "Max login wait must be positive");
+
+		this.maxLoginWait = maxLoginWait;
+	}
+
+	/**
+	 * Set the maximum jitter to apply to token refresh. Refresh is scheduled earlier by a
+	 * random duration between zero and {@code refreshJitter} to spread logins and
+	 * renewals of many application instances that obtained their tokens at the same
+	 * time. Defaults to {@link Duration#ZERO} (no jitter).
+	 * @param refreshJitter maximum jitter, must not be {@literal null} or negative.
+	 * @since 4.0
+	 */
+	public void setRefreshJitter(Duration refreshJitter) {
+
+		Assert.notNull(refreshJitter, "Refresh jitter must not be null");
+		Assert.isTrue(!refreshJitter.isNegative(), "Refresh jitter must not be negative");
+
+		this.refreshJitter = refreshJitter;
+	}
+
+	/**
+	 * Enable or disable revocation of {@link LoginToken login tokens} on
+	 * {@link #destroy()}. Disabling revocation allows reusing a token after an
+	 * application restart, for example with {@link PersistentTokenAuthentication}.
+	 * Enabled by default.
+	 * @param tokenRevocationEnabled {@literal true} to revoke login tokens on
+	 * {@link #destroy()}.
+	 * @since 4.0
+	 */
+	public void setTokenRevocationEnabled(boolean tokenRevocationEnabled) {
+		this.tokenRevocationEnabled = tokenRevocationEnabled;
+	}
+
 	@Override
 	public void destroy() {
-		revoke();
+
+		if (this.tokenRevocationEnabled) {
+			revoke();
+		}
+		else {
+			setToken(Optional.empty());
+		}
 	}
 
 	/**
@@ -245,16 +357,20 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 		if (isExpired(renewed)) {
 
+			// keep serving the still valid token until the background login replaces it
+			boolean retain = isBackgroundRefreshEnabled() && !renewed.getLeaseDuration().isZero();
+			String action = retain ? "Replacing token in background." : "Dropping token.";
+
 			if (this.logger.isDebugEnabled()) {
 				Duration validTtlThreshold = getRefreshTrigger().getValidTtlThreshold(renewed);
-				this.logger.info("Token TTL (%s) exceeded validity TTL threshold (%s). Dropping token."
-					.formatted(renewed.getLeaseDuration(), validTtlThreshold));
+				this.logger.info("Token TTL (%s) exceeded validity TTL threshold (%s). %s"
+					.formatted(renewed.getLeaseDuration(), validTtlThreshold, action));
 			}
 			else {
-				this.logger.info("Token TTL exceeded validity TTL threshold. Dropping token.");
+				this.logger.info("Token TTL exceeded validity TTL threshold. %s".formatted(action));
 			}
 
-			setToken(Optional.empty());
+			setToken(retain ? Optional.of(new TokenWrapper(renewed, wrapper.revocable)) : Optional.empty());
 			multicastEvent(new LoginTokenExpiredEvent(renewed));
 			return RenewOutcome.TERMINAL_ERROR;
 		}
@@ -268,6 +384,17 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 	@Override
 	public VaultToken getSessionToken() {
 
+		if (isBackgroundRefreshEnabled()) {
+
+			Optional<TokenWrapper> token = getToken();
+
+			if (token.isPresent() && !token.get().isExpired()) {
+				return token.get().getToken();
+			}
+
+			return awaitLogin();
+		}
+
 		if (getToken().isEmpty()) {
 
 			this.lock.lock();
@@ -299,7 +426,8 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 		TokenWrapper wrapper = new TokenWrapper(token, token instanceof LoginToken);
 
-		if (isTokenSelfLookupEnabled() && !ClassUtils.isAssignableValue(LoginToken.class, token)) {
+		if (isTokenSelfLookupEnabled() && !ClassUtils.isAssignableValue(LoginToken.class, token)
+				&& !LoginToken.isBatchToken(token)) {
 			try {
 				token = LoginTokenAdapter.augmentWithSelfLookup(this.restOperations, token);
 				wrapper = new TokenWrapper(token, false);
@@ -313,11 +441,108 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 		setToken(Optional.of(wrapper));
 		multicastEvent(new AfterLoginEvent(token));
 
-		if (isTokenRenewable()) {
+		if (isTokenRenewable() || ((isBackgroundRefreshEnabled() || wrapper.isBatchToken())
+				&& wrapper.hasLeaseDuration())) {
 			scheduleRenewal();
 		}
 	}
 
+	/**
+	 * Replace the current token with a new login. Drops the current token if the login
+	 * fails so that the next {@link #getSessionToken()} attempts another login.
+	 */
+	private void reLogin() {
+
+		this.lock.lock();
+		try {
+			doGetSessionToken();
+		}
+		catch (RuntimeException e) {
+			setToken(Optional.empty());
+			throw e;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private VaultToken awaitLogin() {
+
+		CompletableFuture<VaultToken> login = loginInBackground();
+
+		try {
+			return login.get(this.maxLoginWait.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			throw new VaultSessionManagerException(
+					"Cannot obtain VaultToken within %d ms".formatted(this.maxLoginWait.toMillis()), e);
+		}
+		catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new VaultSessionManagerException("Cannot obtain VaultToken", e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new VaultSessionManagerException("Interrupted while waiting for VaultToken", e);
+		}
+	}
+
+	/**
+	 * Obtain a new token on a background task. Concurrent calls share the login in
+	 * progress.
+	 * @return the future completing with the new token.
+	 */
+	private CompletableFuture<VaultToken> loginInBackground() {
+
+		CompletableFuture<VaultToken> future = new CompletableFuture<>();
+
+		while (true) {
+
+			CompletableFuture<VaultToken> pending = this.pendingLogin.get();
+
+			if (pending != null) {
+				return pending;
+			}
+
+			if (this.pendingLogin.compareAndSet(null, future)) {
+				break;
+			}
+		}
+
+		this.logger.info("Obtaining new token in background");
+
+		Runnable task = () -> {
+
+			this.lock.lock();
+			try {
+				doGetSessionToken();
+				future.complete(getToken().map(TokenWrapper::getToken)
+					.orElseThrow(() -> new IllegalStateException("Cannot obtain VaultToken")));
+			}
+			catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			finally {
+				this.lock.unlock();
+				this.pendingLogin.compareAndSet(future, null);
+			}
+		};
+
+		try {
+			getTaskScheduler().schedule(task, Instant.now());
+		}
+		catch (RuntimeException e) {
+			this.pendingLogin.compareAndSet(future, null);
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
 	protected VaultToken login() {
 		return this.clientAuthentication.login();
 	}
@@ -330,7 +555,8 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 		return getToken().map(TokenWrapper::getToken).filter(LoginToken.class::isInstance).filter(it -> {
 
 			LoginToken loginToken = (LoginToken) it;
-			return !loginToken.getLeaseDuration().isZero() && loginToken.isRenewable();
+			return !loginToken.getLeaseDuration().isZero() && loginToken.isRenewable()
+					&& !LoginToken.isBatchToken(loginToken);
 		}).isPresent();
 	}
 
@@ -353,6 +579,15 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 					if (result.shouldRenew()) {
 						scheduleRenewal();
 					}
+					else if (isBackgroundRefreshEnabled()) {
+						loginInBackground();
+					}
+				}
+				else if (isBackgroundRefreshEnabled()) {
+					loginInBackground();
+				}
+				else if (tokenWrapper.get().isBatchToken()) {
+					reLogin();
 				}
 			}
 			catch (Exception e) {
@@ -367,7 +602,21 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 	}
 
 	private OneShotTrigger createTrigger(TokenWrapper tokenWrapper) {
-		return new OneShotTrigger(getRefreshTrigger().nextExecution((LoginToken) tokenWrapper.getToken()));
+
+		Instant nextExecution = getRefreshTrigger().nextExecution((LoginToken) tokenWrapper.getToken());
+
+		if (nextExecution != null && !this.refreshJitter.isZero()) {
+
+			long jitter = ThreadLocalRandom.current().nextLong(this.refreshJitter.toMillis() + 1);
+			Instant now = Instant.now();
+			nextExecution = nextExecution.minusMillis(jitter);
+
+			if (nextExecution.isBefore(now)) {
+				nextExecution = now;
+			}
+		}
+
+		return new OneShotTrigger(nextExecution);
 	}
 
 	private static String format(String message, RuntimeException e) {
@@ -393,9 +642,17 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 		private final boolean revocable;
 
+		private final long expiresAt;
+
 		TokenWrapper(VaultToken token, boolean revocable) {
 			this.token = token;
 			this.revocable = revocable;
+			this.expiresAt = hasLeaseDuration(token)
+					? System.nanoTime() + ((LoginToken) token).getLeaseDuration().toNanos() : 0;
+		}
+
+		private static boolean hasLeaseDuration(VaultToken token) {
+			return token instanceof LoginToken loginToken && !loginToken.getLeaseDuration().isZero();
 		}
 
 		public VaultToken getToken() {
@@ -404,13 +661,29 @@ public class LifecycleAwareSessionManager extends LifecycleAwareSessionManagerSu
 
 		public boolean isRevocable() {
 
-			if (token instanceof LoginToken login && login.isServiceToken()) {
+			if (token instanceof LoginToken && !isBatchToken()) {
 				return this.revocable;
 			}
 
 			return false;
 		}
 
+		boolean isBatchToken() {
+			return LoginToken.isBatchToken(this.token);
+		}
+
+		boolean hasLeaseDuration() {
+			return hasLeaseDuration(this.token);
+		}
+
+		/**
+		 * @return {@literal true} if the token has a lease duration that has elapsed since
+		 * this wrapper was created.
+		 */
+		boolean isExpired() {
+			return hasLeaseDuration() && System.nanoTime() - this.expiresAt >= 0;
+		}
+
 	}
 
 	static class RenewOutcome {
@@ -31,6 +31,8 @@ import org.springframework.vault.support.VaultToken;
  */
 public class LoginToken extends VaultToken {
 
+	private static final String BATCH_TOKEN_PREFIX = "hvb.";
+
 	private final boolean renewable;
 
 	/**
@@ -138,6 +140,22 @@ public class LoginToken extends VaultToken {
 		return token instanceof LoginToken && StringUtils.hasText(((LoginToken) token).getAccessor());
 	}
 
+	/**
+	 * Determine whether the given {@link VaultToken} is a batch token. Uses the
+	 * {@link #getType() token type} if known and falls back to the {@code hvb.} prefix of
+	 * batch tokens issued by Vault 1.10 and newer.
+	 * @param token the token to inspect.
+	 * @return {@literal true} if the token is a batch token.
+	 */
+	static boolean isBatchToken(VaultToken token) {
+
+		if (token instanceof LoginToken loginToken && loginToken.getType() != null) {
+			return loginToken.isBatchToken();
+		}
+
+		return token.getToken().startsWith(BATCH_TOKEN_PREFIX);
+	}
+
 	/**
 	 * @return the lease duration in seconds. May be {@literal 0} if none.
 	 */
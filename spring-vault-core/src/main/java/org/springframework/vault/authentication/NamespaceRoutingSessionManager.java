@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * {@link SessionManager} routing to a {@link SessionManager} per Vault Enterprise
+ * namespace. The namespace is obtained from {@link VaultNamespaceContextHolder}.
+ * {@link SessionManager}s are created lazily through a factory function on first use of
+ * a namespace and retained until this session manager is {@link #destroy() destroyed}.
+ * The default {@link SessionManager} is used if no namespace is bound to the calling
+ * thread.
+ * <p>
+ * Session managers created by the factory should use a
+ * {@link org.springframework.web.client.RestTemplate} that is bound to the namespace
+ * (e.g. through
+ * {@link org.springframework.vault.client.VaultClients#createNamespaceInterceptor(String)})
+ * and that shares the {@link org.springframework.http.client.ClientHttpRequestFactory}
+ * with other namespaces so that token renewal in background threads targets the correct
+ * namespace while all namespaces share a single connection pool.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultNamespaceContextHolder
+ */
+public class NamespaceRoutingSessionManager implements SessionManager, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(NamespaceRoutingSessionManager.class);
+
+	private final SessionManager defaultSessionManager;
+
+	private final Function<String, ? extends SessionManager> sessionManagerFactory;
+
+	private final Map<String, SessionManager> sessionManagers = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link NamespaceRoutingSessionManager}.
+	 * @param defaultSessionManager session manager to use if no namespace is bound, must
+	 * not be {@literal null}.
+	 * @param sessionManagerFactory factory function to create a {@link SessionManager}
+	 * for a namespace, must not be {@literal null}.
+	 */
+	public NamespaceRoutingSessionManager(SessionManager defaultSessionManager,
+			Function<String, ? extends SessionManager> sessionManagerFactory) {
+
+		Assert.notNull(defaultSessionManager, "Default SessionManager must not be null");
+		Assert.notNull(sessionManagerFactory, "SessionManager factory must not be null");
+
+		this.defaultSessionManager = defaultSessionManager;
+		this.sessionManagerFactory = sessionManagerFactory;
+	}
+
+	@Override
+	public VaultToken getSessionToken() {
+		return getSessionManager().getSessionToken();
+	}
+
+	/**
+	 * Return the {@link SessionManager} for the namespace bound to the calling thread.
+	 * @return the {@link SessionManager} for the current namespace.
+	 */
+	public SessionManager getSessionManager() {
+
+		String namespace = VaultNamespaceContextHolder.getNamespace();
+
+		if (namespace == null) {
+			return this.defaultSessionManager;
+		}
+
+		return this.sessionManagers.computeIfAbsent(namespace, key -> {
+
+			SessionManager sessionManager = this.sessionManagerFactory.apply(key);
+
+			Assert.state(sessionManager != null, () -> "No SessionManager for namespace %s".formatted(key));
+
+			return sessionManager;
+		});
+	}
+
+	/**
+	 * Destroy all {@link SessionManager}s created for namespaces.
+	 */
+	@Override
+	public void destroy() {
+
+		for (Map.Entry<String, SessionManager> entry : this.sessionManagers.entrySet()) {
+
+			if (entry.getValue() instanceof DisposableBean disposableBean) {
+				try {
+					disposableBean.destroy();
+				}
+				catch (Exception e) {
+					logger.warn("Cannot destroy SessionManager for namespace %s".formatted(entry.getKey()), e);
+				}
+			}
+		}
+
+		this.sessionManagers.clear();
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.event.AfterLoginTokenRenewedEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
+import org.springframework.vault.authentication.event.AuthenticationEvent;
+import org.springframework.vault.authentication.event.AuthenticationListener;
+import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * {@link ClientAuthentication} decorator that reuses a {@link LoginToken} persisted in a
+ * {@link TokenStore} across application restarts. Reusing tokens avoids login storms
+ * against Vault when many application instances restart at the same time.
+ * <p>
+ * On {@link #login()}, a stored token is validated by a token self-lookup and used if
+ * its remaining time to live exceeds {@link #setMinTimeToLive(Duration) min time to
+ * live}. Otherwise, the stored token is discarded and the login is delegated to the
+ * decorated {@link ClientAuthentication}. Tokens obtained by the delegate are stored if
+ * they are {@link LoginToken login tokens}.
+ * <p>
+ * Register this class as {@link AuthenticationListener} with the session manager to
+ * update the store on token renewal and to discard tokens that were revoked or that
+ * expired. Disable token revocation on shutdown (see
+ * {@link LifecycleAwareSessionManager#setTokenRevocationEnabled(boolean)}) to retain
+ * the token for the next application start.
+ *
+ * @author agent
+ * @since 4.0
+ * @see TokenStore
+ * @see FileTokenStore
+ */
+public class PersistentTokenAuthentication implements ClientAuthentication, AuthenticationListener {
+
+	public static final Duration DEFAULT_MIN_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	private static final Log logger = LogFactory.getLog(PersistentTokenAuthentication.class);
+
+	private final ClientAuthentication delegate;
+
+	private final TokenStore tokenStore;
+
+	private final RestOperations restOperations;
+
+	private Duration minTimeToLive = DEFAULT_MIN_TIME_TO_LIVE;
+
+	/**
+	 * Create a new {@link PersistentTokenAuthentication} given the
+	 * {@link ClientAuthentication} to decorate, {@link TokenStore} and
+	 * {@link RestOperations} to validate stored tokens.
+	 * @param delegate must not be {@literal null}.
+	 * @param tokenStore must not be {@literal null}.
+	 * @param restOperations must not be {@literal null}.
+	 */
+	public PersistentTokenAuthentication(ClientAuthentication delegate, TokenStore tokenStore,
+			RestOperations restOperations) {
+
+		Assert.notNull(delegate, "ClientAuthentication delegate must not be null");
+		Assert.notNull(tokenStore, "TokenStore must not be null");
+		Assert.notNull(restOperations, "RestOperations must not be null");
+
+		this.delegate = delegate;
+		this.tokenStore = tokenStore;
+		this.restOperations = restOperations;
+	}
+
+	/**
+	 * Set the minimum remaining time to live a stored token must have to be reused.
+	 * Defaults to {@link #DEFAULT_MIN_TIME_TO_LIVE}.
+	 * @param minTimeToLive must not be {@literal null} or negative.
+	 */
+	public void setMinTimeToLive(Duration minTimeToLive) {
+
+		Assert.notNull(minTimeToLive, "Min time to live must not be null");
+		Assert.isTrue(!minTimeToLive.isNegative(), "Min time to live must not be negative");
+
+		this.minTimeToLive = minTimeToLive;
+	}
+
+	@Override
+	public VaultToken login() throws VaultException {
+
+		LoginToken stored = this.tokenStore.load();
+
+		if (stored != null) {
+
+			LoginToken validated = validate(stored);
+
+			if (validated != null) {
+				return validated;
+			}
+
+			this.tokenStore.clear();
+		}
+
+		VaultToken token = this.delegate.login();
+
+		if (token instanceof LoginToken loginToken) {
+			this.tokenStore.save(loginToken);
+		}
+
+		return token;
+	}
+
+	@Override
+	public void onAuthenticationEvent(AuthenticationEvent authenticationEvent) {
+
+		if (authenticationEvent instanceof AfterLoginTokenRenewedEvent
+				&& authenticationEvent.getSource() instanceof LoginToken token) {
+			this.tokenStore.save(token);
+		}
+
+		if (authenticationEvent instanceof AfterLoginTokenRevocationEvent
+				|| authenticationEvent instanceof LoginTokenExpiredEvent) {
+			this.tokenStore.clear();
+		}
+	}
+
+	private @Nullable LoginToken validate(LoginToken stored) {
+
+		LoginToken token;
+
+		try {
+			token = LoginTokenAdapter.augmentWithSelfLookup(this.restOperations, stored);
+		}
+		catch (VaultTokenLookupException e) {
+
+			logger.debug("Stored token is not valid anymore: %s".formatted(e.getMessage()));
+			return null;
+		}
+
+		Duration leaseDuration = token.getLeaseDuration();
+
+		if (!leaseDuration.isZero() && leaseDuration.compareTo(this.minTimeToLive) <= 0) {
+
+			logger.debug("Stored token expires in %s, obtaining a new token".formatted(leaseDuration));
+			return null;
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Reusing stored token with accessor %s".formatted(token.getAccessor()));
+		}
+
+		return token;
+	}
+
+}
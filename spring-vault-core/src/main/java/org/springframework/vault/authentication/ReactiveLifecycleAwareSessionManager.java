@@ -58,6 +58,11 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * By default, {@link VaultToken} are looked up in Vault to determine renewability,
  * remaining TTL, accessor and type, see {@link #setTokenSelfLookupEnabled(boolean)}.
  * <p>
+ * {@link LoginToken#isBatchToken() Batch tokens} are neither renewed nor revoked as Vault
+ * does not support these operations for batch tokens. Instead, batch tokens with a lease
+ * duration are replaced by a new login ahead of their expiry. Tokens using the batch
+ * token prefix are not looked up.
+ * <p>
  * The session manager dispatches authentication events to {@link AuthenticationListener}
  * and {@link AuthenticationErrorListener}.
  * <p>
@@ -312,20 +317,7 @@ public class ReactiveLifecycleAwareSessionManager extends LifecycleAwareSessionM
 
 		if (tokenWrapper == EMPTY) {
 
-			Mono<TokenWrapper> obtainToken = this.clientAuthentication.getVaultToken()
-				.flatMap(this::doSelfLookup) //
-				.onErrorMap(it -> {
-					multicastEvent(new LoginFailedEvent(this.clientAuthentication, it));
-					return it;
-				})
-				.doOnNext(it -> {
-
-					if (isTokenRenewable(it.getToken())) {
-						scheduleRenewal(it.getToken());
-					}
-
-					multicastEvent(new AfterLoginEvent(it.getToken()));
-				});
+			Mono<TokenWrapper> obtainToken = doLogin().doOnNext(this::onLogin);
 
 			this.token.compareAndSet(tokenWrapper, obtainToken.cache());
 		}
@@ -333,11 +325,37 @@ public class ReactiveLifecycleAwareSessionManager extends LifecycleAwareSessionM
 		return this.token.get().map(TokenWrapper::getToken);
 	}
 
+	private Mono<TokenWrapper> doLogin() {
+
+		return this.clientAuthentication.getVaultToken()
+			.flatMap(this::doSelfLookup) //
+			.onErrorMap(it -> {
+				multicastEvent(new LoginFailedEvent(this.clientAuthentication, it));
+				return it;
+			});
+	}
+
+	private void onLogin(TokenWrapper wrapper) {
+
+		VaultToken token = wrapper.getToken();
+
+		if (isTokenRenewable(token)) {
+			scheduleRenewal(token);
+		}
+		else if (LoginToken.isBatchToken(token) && token instanceof LoginToken loginToken
+				&& !loginToken.getLeaseDuration().isZero()) {
+			scheduleLogin(token);
+		}
+
+		multicastEvent(new AfterLoginEvent(token));
+	}
+
 	private Mono<TokenWrapper> doSelfLookup(VaultToken token) {
 
 		TokenWrapper wrapper = new TokenWrapper(token, token instanceof LoginToken);
 
-		if (isTokenSelfLookupEnabled() && !ClassUtils.isAssignableValue(LoginToken.class, token)) {
+		if (isTokenSelfLookupEnabled() && !ClassUtils.isAssignableValue(LoginToken.class, token)
+				&& !LoginToken.isBatchToken(token)) {
 
 			Mono<VaultToken> loginTokenMono = augmentWithSelfLookup(this.webClient, token);
 
@@ -363,7 +381,8 @@ public class ReactiveLifecycleAwareSessionManager extends LifecycleAwareSessionM
 			.filter(it -> {
 
 				LoginToken loginToken = (LoginToken) it;
-				return !loginToken.getLeaseDuration().isZero() && loginToken.isRenewable();
+				return !loginToken.getLeaseDuration().isZero() && loginToken.isRenewable()
+						&& !LoginToken.isBatchToken(loginToken);
 			})
 			.isPresent();
 	}
@@ -397,6 +416,38 @@ public class ReactiveLifecycleAwareSessionManager extends LifecycleAwareSessionM
 		getTaskScheduler().schedule(task, createTrigger(token));
 	}
 
+	/**
+	 * Schedule a login to replace the given token ahead of its expiry. The current token
+	 * remains in use until the login completes. A failed login drops the current token
+	 * so that the next {@link #getVaultToken()} attempts another login.
+	 */
+	private void scheduleLogin(VaultToken token) {
+
+		this.logger.info("Scheduling login to replace batch token");
+
+		Runnable task = () -> {
+
+			Mono<TokenWrapper> tokenWrapper = this.token.get();
+
+			if (tokenWrapper == EMPTY || tokenWrapper == TERMINATED) {
+				return;
+			}
+
+			doLogin().subscribe(it -> {
+
+				if (this.token.compareAndSet(tokenWrapper, Mono.just(it))) {
+					onLogin(it);
+				}
+			}, e -> {
+
+				this.logger.error("Cannot replace VaultToken", e);
+				this.token.compareAndSet(tokenWrapper, EMPTY);
+			});
+		};
+
+		getTaskScheduler().schedule(task, createTrigger(token));
+	}
+
 	private OneShotTrigger createTrigger(VaultToken token) {
 
 		return new OneShotTrigger(getRefreshTrigger().nextExecution((LoginToken) token));
@@ -460,7 +511,7 @@ public class ReactiveLifecycleAwareSessionManager extends LifecycleAwareSessionM
 
 		public boolean isRevocable() {
 
-			if (token instanceof LoginToken login && login.isServiceToken()) {
+			if (token instanceof LoginToken && !LoginToken.isBatchToken(token)) {
 				return this.revocable;
 			}
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Store for a {@link LoginToken} that outlives the application. Allows reusing a token
+ * obtained by a previous application run instead of logging in again.
+ * <p>
+ * Implementations should not fail if a token cannot be stored or read but rather log the
+ * failure and behave as if no token was stored.
+ *
+ * @author agent
+ * @since 4.0
+ * @see FileTokenStore
+ * @see PersistentTokenAuthentication
+ */
+public interface TokenStore {
+
+	/**
+	 * Load the stored token. The returned token carries the lease duration that remains
+	 * after subtracting the time since the token was stored.
+	 * @return the stored token or {@literal null} if no token is stored or the stored
+	 * token has expired.
+	 */
+	@Nullable
+	LoginToken load();
+
+	/**
+	 * Store the given {@link LoginToken} replacing a previously stored token.
+	 * @param token must not be {@literal null}.
+	 */
+	void save(LoginToken token);
+
+	/**
+	 * Remove the stored token.
+	 */
+	void clear();
+
+}
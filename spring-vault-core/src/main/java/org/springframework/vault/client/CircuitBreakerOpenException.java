@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import org.springframework.vault.VaultException;
+
+/**
+ * Exception thrown when a request is rejected because the circuit breaker of a
+ * {@link ResiliencePolicy} is open.
+ *
+ * @author agent
+ * @since 4.0
+ * @see ResiliencePolicy
+ */
+@SuppressWarnings("serial")
+public class CircuitBreakerOpenException extends VaultException {
+
+	/**
+	 * Create a {@code CircuitBreakerOpenException} with the specified detail message.
+	 * @param msg the detail message.
+	 */
+	public CircuitBreakerOpenException(String msg) {
+		super(msg);
+	}
+
+}
@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.ProxySelector;
 import java.net.Socket;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyStore;
@@ -28,6 +30,7 @@ import java.security.Principal;
 import java.security.PrivateKey;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.List;
 
 import javax.net.ssl.*;
@@ -40,7 +43,10 @@ import org.eclipse.jetty.client.transport.HttpClientTransportOverHTTP;
 import org.eclipse.jetty.io.ClientConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.jspecify.annotations.Nullable;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
@@ -64,6 +70,17 @@ class ClientConfiguration {
 
 	static SSLContext getSSLContext(SslConfiguration sslConfiguration) throws GeneralSecurityException, IOException {
 
+		if (sslConfiguration.isReloadEnabled()) {
+
+			KeyManager[] keyManagers = sslConfiguration.getKeyStoreConfiguration().isPresent()
+					? new KeyManager[] { ReloadingSslMaterial.keyManager(sslConfiguration) } : null;
+
+			SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(keyManagers, getTrustManagers(sslConfiguration), null);
+
+			return sslContext;
+		}
+
 		return getSSLContext(sslConfiguration.getKeyStoreConfiguration(), sslConfiguration.getKeyConfiguration(),
 				getTrustManagers(sslConfiguration));
 	}
@@ -116,6 +133,11 @@ class ClientConfiguration {
 	static TrustManager @Nullable [] getTrustManagers(SslConfiguration sslConfiguration)
 			throws GeneralSecurityException, IOException {
 
+		if (sslConfiguration.isReloadEnabled()) {
+			return sslConfiguration.getTrustStoreConfiguration().isPresent()
+					? new TrustManager[] { ReloadingSslMaterial.trustManager(sslConfiguration) } : null;
+		}
+
 		return sslConfiguration.getTrustStoreConfiguration().isPresent()
 				? createTrustManagerFactory(sslConfiguration.getTrustStoreConfiguration()).getTrustManagers() : null;
 	}
@@ -130,6 +152,35 @@ class ClientConfiguration {
 		return KeyStore.getDefaultType();
 	}
 
+	/**
+	 * Create a {@link KeyManagerFactory} for the key store of the given
+	 * {@link SslConfiguration} that reloads key material if reloading is enabled.
+	 */
+	static KeyManagerFactory getKeyManagerFactory(SslConfiguration sslConfiguration)
+			throws GeneralSecurityException, IOException {
+
+		if (sslConfiguration.isReloadEnabled()) {
+			return ReloadingSslMaterial.keyManagerFactory(ReloadingSslMaterial.keyManager(sslConfiguration));
+		}
+
+		return createKeyManagerFactory(sslConfiguration.getKeyStoreConfiguration(),
+				sslConfiguration.getKeyConfiguration());
+	}
+
+	/**
+	 * Create a {@link TrustManagerFactory} for the trust store of the given
+	 * {@link SslConfiguration} that reloads trust material if reloading is enabled.
+	 */
+	static TrustManagerFactory getTrustManagerFactory(SslConfiguration sslConfiguration)
+			throws GeneralSecurityException, IOException {
+
+		if (sslConfiguration.isReloadEnabled()) {
+			return ReloadingSslMaterial.trustManagerFactory(ReloadingSslMaterial.trustManager(sslConfiguration));
+		}
+
+		return createTrustManagerFactory(sslConfiguration.getTrustStoreConfiguration());
+	}
+
 	static TrustManagerFactory createTrustManagerFactory(SslConfiguration.KeyStoreConfiguration keyStoreConfiguration)
 			throws GeneralSecurityException, IOException {
 
@@ -189,6 +240,18 @@ class ClientConfiguration {
 				|| sslConfiguration.getKeyStoreConfiguration().isPresent();
 	}
 
+	/**
+	 * Determine the per-route connection limit falling back to the total connection
+	 * limit.
+	 * @param options the client options.
+	 * @return the per-route connection limit or {@literal null} if not configured.
+	 */
+	static @Nullable Integer getMaxConnectionsPerRoute(ClientOptions options) {
+
+		Integer maxConnectionsPerRoute = options.getMaxConnectionsPerRoute();
+		return maxConnectionsPerRoute != null ? maxConnectionsPerRoute : options.getMaxConnections();
+	}
+
 	/**
 	 * {@link ClientHttpConnector} for Reactor Netty.
 	 *
@@ -198,9 +261,23 @@ class ClientConfiguration {
 
 		public static HttpClient createClient(ClientOptions options, SslConfiguration sslConfiguration) {
 
-			HttpClient client = HttpClient.create();
+			HttpClient client = hasPoolOptions(options) ? HttpClient.create(createConnectionProvider(options))
+					: HttpClient.create();
 
-			if (hasSslConfiguration(sslConfiguration)) {
+			if (options.isHttp2()) {
+
+				client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure(builder -> {
+
+					Http2SslContextSpec spec = Http2SslContextSpec.forClient();
+
+					if (hasSslConfiguration(sslConfiguration)) {
+						spec = spec.configure(sslContextBuilder -> configureSsl(sslConfiguration, sslContextBuilder));
+					}
+
+					builder.sslContext(spec);
+				});
+			}
+			else if (hasSslConfiguration(sslConfiguration)) {
 
 				client = client.secure(builder -> {
 
@@ -224,18 +301,62 @@ class ClientConfiguration {
 			return client;
 		}
 
+		public static HttpClient createClient(Path socket, ClientOptions options, SslConfiguration sslConfiguration) {
+
+			// proxies cannot route to a local socket
+			return createClient(options, sslConfiguration).noProxy()
+				.remoteAddress(() -> UnixDomainSocketAddress.of(socket));
+		}
+
+		private static boolean hasPoolOptions(ClientOptions options) {
+			return options.getMaxConnections() != null || options.getMaxConnectionsPerRoute() != null
+					|| options.getKeepAlive() != null || options.getIdleTimeout() != null
+					|| options.getMaxPendingAcquires() != null || options.getPendingAcquireTimeout() != null;
+		}
+
+		private static ConnectionProvider createConnectionProvider(ClientOptions options) {
+
+			ConnectionProvider.Builder builder = ConnectionProvider.builder("spring-vault");
+
+			// Reactor Netty maintains a pool per remote address
+			Integer maxConnections = getMaxConnectionsPerRoute(options);
+			if (maxConnections != null) {
+				builder.maxConnections(maxConnections);
+			}
+
+			Duration keepAlive = options.getKeepAlive();
+			if (keepAlive != null) {
+				builder.maxLifeTime(keepAlive);
+			}
+
+			Duration idleTimeout = options.getIdleTimeout();
+			if (idleTimeout != null) {
+				builder.maxIdleTime(idleTimeout).evictInBackground(idleTimeout);
+			}
+
+			Integer maxPendingAcquires = options.getMaxPendingAcquires();
+			if (maxPendingAcquires != null) {
+				builder.pendingAcquireMaxCount(maxPendingAcquires);
+			}
+
+			Duration pendingAcquireTimeout = options.getPendingAcquireTimeout();
+			if (pendingAcquireTimeout != null) {
+				builder.pendingAcquireTimeout(pendingAcquireTimeout);
+			}
+
+			return builder.build();
+		}
+
 		private static void configureSsl(SslConfiguration sslConfiguration, SslContextBuilder sslContextBuilder) {
 
 			try {
 
 				if (sslConfiguration.getTrustStoreConfiguration().isPresent()) {
-					sslContextBuilder
-						.trustManager(createTrustManagerFactory(sslConfiguration.getTrustStoreConfiguration()));
+					sslContextBuilder.trustManager(getTrustManagerFactory(sslConfiguration));
 				}
 
 				if (sslConfiguration.getKeyStoreConfiguration().isPresent()) {
-					sslContextBuilder.keyManager(createKeyManagerFactory(sslConfiguration.getKeyStoreConfiguration(),
-							sslConfiguration.getKeyConfiguration()));
+					sslContextBuilder.keyManager(getKeyManagerFactory(sslConfiguration));
 				}
 
 				if (!sslConfiguration.getEnabledProtocols().isEmpty()) {
@@ -266,6 +387,21 @@ class ClientConfiguration {
 			httpClient.setConnectTimeout(options.getConnectionTimeout().toMillis());
 			httpClient.setAddressResolutionTimeout(options.getConnectionTimeout().toMillis());
 
+			Integer maxConnectionsPerRoute = getMaxConnectionsPerRoute(options);
+			if (maxConnectionsPerRoute != null) {
+				httpClient.setMaxConnectionsPerDestination(maxConnectionsPerRoute);
+			}
+
+			Duration idleTimeout = options.getIdleTimeout();
+			if (idleTimeout != null) {
+				httpClient.setIdleTimeout(idleTimeout.toMillis());
+			}
+
+			Integer maxPendingAcquires = options.getMaxPendingAcquires();
+			if (maxPendingAcquires != null) {
+				httpClient.setMaxRequestsQueuedPerDestination(maxPendingAcquires);
+			}
+
 			return httpClient;
 		}
 
@@ -276,24 +412,12 @@ class ClientConfiguration {
 
 				SslContextFactory.Client sslContextFactory = new SslContextFactory.Client();
 
-				if (sslConfiguration.getKeyStoreConfiguration().isPresent()) {
-					KeyStore keyStore = getKeyStore(sslConfiguration.getKeyStoreConfiguration());
-					sslContextFactory.setKeyStore(keyStore);
+				if (sslConfiguration.isReloadEnabled()) {
+					// reloading managers select the configured key alias
+					sslContextFactory.setSslContext(getSSLContext(sslConfiguration));
 				}
-
-				if (sslConfiguration.getTrustStoreConfiguration().isPresent()) {
-					KeyStore keyStore = getKeyStore(sslConfiguration.getTrustStoreConfiguration());
-					sslContextFactory.setTrustStore(keyStore);
-				}
-
-				SslConfiguration.KeyConfiguration keyConfiguration = sslConfiguration.getKeyConfiguration();
-
-				if (keyConfiguration.getKeyAlias() != null) {
-					sslContextFactory.setCertAlias(keyConfiguration.getKeyAlias());
-				}
-
-				if (keyConfiguration.getKeyPassword() != null) {
-					sslContextFactory.setKeyManagerPassword(new String(keyConfiguration.getKeyPassword()));
+				else {
+					configureKeyMaterial(sslConfiguration, sslContextFactory);
 				}
 
 				if (!sslConfiguration.getEnabledProtocols().isEmpty()) {
@@ -315,6 +439,30 @@ class ClientConfiguration {
 			return new org.eclipse.jetty.client.HttpClient();
 		}
 
+		private static void configureKeyMaterial(SslConfiguration sslConfiguration,
+				SslContextFactory.Client sslContextFactory) throws IOException, GeneralSecurityException {
+
+			if (sslConfiguration.getKeyStoreConfiguration().isPresent()) {
+				KeyStore keyStore = getKeyStore(sslConfiguration.getKeyStoreConfiguration());
+				sslContextFactory.setKeyStore(keyStore);
+			}
+
+			if (sslConfiguration.getTrustStoreConfiguration().isPresent()) {
+				KeyStore keyStore = getKeyStore(sslConfiguration.getTrustStoreConfiguration());
+				sslContextFactory.setTrustStore(keyStore);
+			}
+
+			SslConfiguration.KeyConfiguration keyConfiguration = sslConfiguration.getKeyConfiguration();
+
+			if (keyConfiguration.getKeyAlias() != null) {
+				sslContextFactory.setCertAlias(keyConfiguration.getKeyAlias());
+			}
+
+			if (keyConfiguration.getKeyPassword() != null) {
+				sslContextFactory.setKeyManagerPassword(new String(keyConfiguration.getKeyPassword()));
+			}
+		}
+
 	}
 
 	/**
@@ -349,6 +497,11 @@ class ClientConfiguration {
 			builder.proxy(ProxySelector.getDefault())
 				.followRedirects(java.net.http.HttpClient.Redirect.ALWAYS)
 				.connectTimeout(options.getConnectionTimeout());
+
+			if (options.isHttp2()) {
+				builder.version(java.net.http.HttpClient.Version.HTTP_2);
+			}
+
 			return builder;
 		}
 
@@ -17,17 +17,22 @@ package org.springframework.vault.client;
 
 import java.io.IOException;
 import java.net.ProxySelector;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 
 import javax.net.ssl.SSLContext;
 
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.routing.SystemDefaultRoutePlanner;
 import org.apache.hc.core5.http.nio.ssl.BasicClientTlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import reactor.netty.http.client.HttpClient;
 
@@ -95,6 +100,35 @@ public class ClientHttpConnectorFactory {
 		}
 	}
 
+	/**
+	 * Create a {@link ClientHttpConnector} for the given {@link VaultEndpoint},
+	 * {@link ClientOptions} and {@link SslConfiguration}. Endpoints pointing to a
+	 * {@link VaultEndpoint#isUnixDomainSocket() Unix domain socket} require Reactor
+	 * Netty.
+	 * @param endpoint must not be {@literal null}
+	 * @param options must not be {@literal null}
+	 * @param sslConfiguration must not be {@literal null}
+	 * @return a new {@link ClientHttpConnector}.
+	 * @since 4.0
+	 */
+	public static ClientHttpConnector create(VaultEndpoint endpoint, ClientOptions options,
+			SslConfiguration sslConfiguration) {
+
+		Assert.notNull(endpoint, "VaultEndpoint must not be null");
+
+		Path socket = endpoint.getUnixDomainSocket();
+
+		if (socket == null) {
+			return create(options, sslConfiguration);
+		}
+
+		Assert.notNull(options, "ClientOptions must not be null");
+		Assert.notNull(sslConfiguration, "SslConfiguration must not be null");
+		Assert.state(reactorNettyPresent, "Unix domain sockets require Reactor Netty");
+
+		return ReactorNetty.usingUnixDomainSocket(socket, options, sslConfiguration);
+	}
+
 	/**
 	 * {@link ClientHttpConnector} for Reactor Netty.
 	 *
@@ -113,6 +147,21 @@ public class ClientHttpConnectorFactory {
 			return new ReactorClientHttpConnector(createClient(options, sslConfiguration));
 		}
 
+		/**
+		 * Create a {@link ClientHttpConnector} using Reactor Netty connecting to a Unix
+		 * domain socket.
+		 * @param socket path to the Unix domain socket, must not be {@literal null}
+		 * @param options must not be {@literal null}
+		 * @param sslConfiguration must not be {@literal null}
+		 * @return a new and configured {@link ReactorClientHttpConnector} instance.
+		 * @since 4.0
+		 */
+		public static ReactorClientHttpConnector usingUnixDomainSocket(Path socket, ClientOptions options,
+				SslConfiguration sslConfiguration) {
+			return new ReactorClientHttpConnector(
+					ClientConfiguration.ReactorNetty.createClient(socket, options, sslConfiguration));
+		}
+
 		public static HttpClient createClient(ClientOptions options, SslConfiguration sslConfiguration) {
 			return ClientConfiguration.ReactorNetty.createClient(options, sslConfiguration);
 		}
@@ -155,20 +204,49 @@ public class ClientHttpConnectorFactory {
 			Timeout readTimeout = Timeout.ofMilliseconds(options.getReadTimeout().toMillis());
 			Timeout connectTimeout = Timeout.ofMilliseconds(options.getConnectionTimeout().toMillis());
 
-			ConnectionConfig connectionConfig = ConnectionConfig.custom()
+			ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
 				.setConnectTimeout(connectTimeout) //
-				.setSocketTimeout(readTimeout) //
-				.build();
+				.setSocketTimeout(readTimeout);
 
-			RequestConfig requestConfig = RequestConfig.custom()
+			Duration keepAlive = options.getKeepAlive();
+			if (keepAlive != null) {
+				connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(keepAlive.toMillis()));
+			}
+
+			RequestConfig.Builder requestConfig = RequestConfig.custom()
 				.setResponseTimeout(Timeout.ofMilliseconds(options.getReadTimeout().toMillis()))
 				.setAuthenticationEnabled(true) //
-				.setRedirectsEnabled(true)
-				.build();
+				.setRedirectsEnabled(true);
+
+			Duration pendingAcquireTimeout = options.getPendingAcquireTimeout();
+			if (pendingAcquireTimeout != null) {
+				requestConfig.setConnectionRequestTimeout(Timeout.ofMilliseconds(pendingAcquireTimeout.toMillis()));
+			}
 
 			PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder //
 				.create()
-				.setDefaultConnectionConfig(connectionConfig);
+				.setDefaultConnectionConfig(connectionConfig.build());
+
+			Integer maxConnections = options.getMaxConnections();
+			if (maxConnections != null) {
+				connectionManagerBuilder.setMaxConnTotal(maxConnections);
+			}
+
+			Integer maxConnectionsPerRoute = ClientConfiguration.getMaxConnectionsPerRoute(options);
+			if (maxConnectionsPerRoute != null) {
+				connectionManagerBuilder.setMaxConnPerRoute(maxConnectionsPerRoute);
+			}
+
+			if (options.isHttp2()) {
+				connectionManagerBuilder
+					.setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build());
+			}
+
+			Duration idleTimeout = options.getIdleTimeout();
+			if (idleTimeout != null) {
+				httpClientBuilder.evictExpiredConnections()
+					.evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+			}
 
 			if (ClientConfiguration.hasSslConfiguration(sslConfiguration)) {
 
@@ -194,7 +272,7 @@ public class ClientHttpConnectorFactory {
 				connectionManagerBuilder.setTlsStrategy(tlsStrategy);
 			}
 
-			httpClientBuilder.setDefaultRequestConfig(requestConfig);
+			httpClientBuilder.setDefaultRequestConfig(requestConfig.build());
 			httpClientBuilder.setConnectionManager(connectionManagerBuilder.build());
 
 			return httpClientBuilder;
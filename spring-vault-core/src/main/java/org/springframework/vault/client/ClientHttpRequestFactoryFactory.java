@@ -28,8 +28,10 @@ import javax.net.ssl.X509TrustManager;
 
 import java.io.IOException;
 import java.net.ProxySelector;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.time.Duration;
 
 import javax.net.ssl.SSLContext;
 
@@ -43,6 +45,7 @@ import org.apache.hc.client5.http.impl.routing.SystemDefaultRoutePlanner;
 import org.apache.hc.client5.http.ssl.HttpsSupport;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 import org.springframework.http.client.ClientHttpRequestFactory;
@@ -118,6 +121,36 @@ public class ClientHttpRequestFactoryFactory {
 		}
 	}
 
+	/**
+	 * Create a {@link ClientHttpRequestFactory} for the given {@link VaultEndpoint},
+	 * {@link ClientOptions} and {@link SslConfiguration}. Endpoints pointing to a
+	 * {@link VaultEndpoint#isUnixDomainSocket() Unix domain socket} require Reactor
+	 * Netty.
+	 * @param endpoint must not be {@literal null}
+	 * @param options must not be {@literal null}
+	 * @param sslConfiguration must not be {@literal null}
+	 * @return a new {@link ClientHttpRequestFactory}. Lifecycle beans must be initialized
+	 * after obtaining.
+	 * @since 4.0
+	 */
+	public static ClientHttpRequestFactory create(VaultEndpoint endpoint, ClientOptions options,
+			SslConfiguration sslConfiguration) {
+
+		Assert.notNull(endpoint, "VaultEndpoint must not be null");
+
+		Path socket = endpoint.getUnixDomainSocket();
+
+		if (socket == null) {
+			return create(options, sslConfiguration);
+		}
+
+		Assert.notNull(options, "ClientOptions must not be null");
+		Assert.notNull(sslConfiguration, "SslConfiguration must not be null");
+		Assert.state(reactorNettyPresent, "Unix domain sockets require Reactor Netty");
+
+		return ReactorNetty.usingUnixDomainSocket(socket, options, sslConfiguration);
+	}
+
 	/**
 	 * {@link ClientHttpConnector} for Reactor Netty.
 	 *
@@ -138,6 +171,20 @@ public class ClientHttpRequestFactoryFactory {
 					ClientConfiguration.ReactorNetty.createClient(options, sslConfiguration));
 		}
 
+		/**
+		 * Create a {@link ReactorClientHttpRequestFactory} using Reactor Netty connecting
+		 * to a Unix domain socket.
+		 * @param socket path to the Unix domain socket, must not be {@literal null}
+		 * @param options must not be {@literal null}
+		 * @param sslConfiguration must not be {@literal null}
+		 * @return a new and configured {@link ReactorClientHttpRequestFactory} instance.
+		 */
+		public static ReactorClientHttpRequestFactory usingUnixDomainSocket(Path socket, ClientOptions options,
+				SslConfiguration sslConfiguration) {
+			return new ReactorClientHttpRequestFactory(
+					ClientConfiguration.ReactorNetty.createClient(socket, options, sslConfiguration));
+		}
+
 	}
 
 	/**
@@ -175,13 +222,21 @@ public class ClientHttpRequestFactoryFactory {
 			Timeout readTimeout = Timeout.ofMilliseconds(options.getReadTimeout().toMillis());
 			Timeout connectTimeout = Timeout.ofMilliseconds(options.getConnectionTimeout().toMillis());
 
-			ConnectionConfig connectionConfig = ConnectionConfig.custom()
+			ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
 				.setConnectTimeout(connectTimeout) //
-				.setSocketTimeout(readTimeout) //
-				.build();
+				.setSocketTimeout(readTimeout);
+
+			Duration keepAlive = options.getKeepAlive();
+			if (keepAlive != null) {
+				connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(keepAlive.toMillis()));
+			}
+
+			Duration pendingAcquireTimeout = options.getPendingAcquireTimeout();
+			Timeout connectionRequestTimeout = pendingAcquireTimeout != null
+					? Timeout.ofMilliseconds(pendingAcquireTimeout.toMillis()) : connectTimeout;
 
 			RequestConfig requestConfig = RequestConfig.custom()
-				.setConnectionRequestTimeout(connectTimeout)
+				.setConnectionRequestTimeout(connectionRequestTimeout)
 				.setResponseTimeout(readTimeout)
 				.setAuthenticationEnabled(true) //
 				.setRedirectsEnabled(true)
@@ -189,11 +244,27 @@ public class ClientHttpRequestFactoryFactory {
 
 			PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder //
 				.create()
-				.setDefaultConnectionConfig(connectionConfig) //
+				.setDefaultConnectionConfig(connectionConfig.build()) //
 				.setDefaultSocketConfig(SocketConfig.custom() //
 					.setSoTimeout(readTimeout)
 					.build());
 
+			Integer maxConnections = options.getMaxConnections();
+			if (maxConnections != null) {
+				connectionManagerBuilder.setMaxConnTotal(maxConnections);
+			}
+
+			Integer maxConnectionsPerRoute = ClientConfiguration.getMaxConnectionsPerRoute(options);
+			if (maxConnectionsPerRoute != null) {
+				connectionManagerBuilder.setMaxConnPerRoute(maxConnectionsPerRoute);
+			}
+
+			Duration idleTimeout = options.getIdleTimeout();
+			if (idleTimeout != null) {
+				httpClientBuilder.evictExpiredConnections()
+					.evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+			}
+
 			if (ClientConfiguration.hasSslConfiguration(sslConfiguration)) {
 
 				SSLContext sslContext = ClientConfiguration.getSSLContext(sslConfiguration);
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.vault.client.ClusterVaultEndpointProvider.Node;
+import org.springframework.vault.client.ClusterVaultEndpointProvider.NodeRole;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} routing requests across the nodes of a
+ * {@link ClusterVaultEndpointProvider}. Reactive variant of
+ * {@link ClusterVaultEndpointProvider#intercept}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ClusterExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final ClusterVaultEndpointProvider cluster;
+
+	ClusterExchangeFilterFunction(ClusterVaultEndpointProvider cluster) {
+		this.cluster = cluster;
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		if (this.cluster.findNode(request.url()) == null) {
+			return next.exchange(request);
+		}
+
+		HedgingPolicy hedgingPolicy = this.cluster.getHedgingPolicy();
+
+		if (hedgingPolicy != null && hedgingPolicy.isHedgeable(request.method(), request.url())) {
+
+			List<Node> candidates = this.cluster.getCandidates(true);
+
+			if (candidates.size() > 1) {
+				return hedge(request, next, candidates.get(0), candidates.get(1), hedgingPolicy);
+			}
+		}
+
+		boolean read = ClusterVaultEndpointProvider.isRead(request.method());
+
+		return exchange(request, next, this.cluster.getCandidates(read), 0, read);
+	}
+
+	private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, List<Node> candidates,
+			int index, boolean read) {
+
+		Node node = candidates.get(index);
+		ClientRequest requestToSend = ClientRequest.from(request)
+			.url(ClusterVaultEndpointProvider.rewrite(request.url(), node))
+			.build();
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			return next.exchange(requestToSend)
+				.doOnNext(response -> this.cluster.recordLatency(node, System.nanoTime() - start));
+		}).onErrorResume(e -> index + 1 < candidates.size() && ClusterVaultEndpointProvider.shouldFailover(e, read),
+				e -> {
+
+					node.role = NodeRole.UNHEALTHY;
+
+					return exchange(request, next, candidates, index + 1, read);
+				});
+	}
+
+	/**
+	 * Send {@code request} to {@code primary} and hedge it to {@code secondary} if the
+	 * primary request does not succeed within the hedging delay. The slower request is
+	 * cancelled once a response succeeds.
+	 */
+	private Mono<ClientResponse> hedge(ClientRequest request, ExchangeFunction next, Node primary, Node secondary,
+			HedgingPolicy hedgingPolicy) {
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			Mono<Outcome> hedge = Mono.delay(hedgingPolicy.getDelay()).then(Mono.defer(() -> {
+
+				hedgingPolicy.onHedge();
+
+				return send(request, next, secondary, true);
+			}));
+
+			return Flux.merge(send(request, next, primary, false), hedge)
+				.takeUntil(Outcome::isSuccessful)
+				.collectList()
+				.flatMap(outcomes -> {
+
+					Outcome last = outcomes.get(outcomes.size() - 1);
+					Outcome winner = last.isSuccessful() ? last
+							: outcomes.stream().filter(it -> !it.hedge).findFirst().orElse(last);
+
+					if (winner.isSuccessful()) {
+
+						hedgingPolicy.recordLatency(System.nanoTime() - start);
+
+						if (winner.hedge) {
+							hedgingPolicy.onHedgeWin();
+						}
+					}
+
+					return Flux.fromIterable(outcomes)
+						.filter(it -> it != winner)
+						.concatMap(Outcome::release)
+						.then(winner.toResponse());
+				});
+		});
+	}
+
+	private Mono<Outcome> send(ClientRequest request, ExchangeFunction next, Node node, boolean hedge) {
+
+		ClientRequest requestToSend = ClientRequest.from(request)
+			.url(ClusterVaultEndpointProvider.rewrite(request.url(), node))
+			.build();
+
+		return Mono.defer(() -> {
+
+			long start = System.nanoTime();
+
+			return next.exchange(requestToSend).map(response -> {
+
+				this.cluster.recordLatency(node, System.nanoTime() - start);
+
+				return new Outcome(response, null, hedge);
+			});
+		}).onErrorResume(e -> {
+
+			if (ClusterVaultEndpointProvider.shouldFailover(e, true)) {
+				node.role = NodeRole.UNHEALTHY;
+			}
+
+			return Mono.just(new Outcome(null, e, hedge));
+		});
+	}
+
+	/**
+	 * Outcome of a single hedged request, either a response or an error.
+	 */
+	static class Outcome {
+
+		final @Nullable ClientResponse response;
+
+		final @Nullable Throwable error;
+
+		final boolean hedge;
+
+		Outcome(@Nullable ClientResponse response, @Nullable Throwable error, boolean hedge) {
+			this.response = response;
+			this.error = error;
+			this.hedge = hedge;
+		}
+
+		boolean isSuccessful() {
+
+			ClientResponse response = this.response;
+
+			return response != null && !response.statusCode().isError();
+		}
+
+		Mono<Void> release() {
+
+			ClientResponse response = this.response;
+
+			return response != null ? response.releaseBody().onErrorComplete() : Mono.empty();
+		}
+
+		Mono<ClientResponse> toResponse() {
+
+			ClientResponse response = this.response;
+			Throwable error = this.error;
+
+			if (response != null) {
+				return Mono.just(response);
+			}
+
+			return Mono.error(error != null ? error : new IllegalStateException("No response"));
+		}
+
+	}
+
+}
@@ -0,0 +1,767 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link VaultEndpointProvider} for a Vault cluster consisting of multiple nodes. This
+ * provider probes {@code sys/health} of each node in the background to determine the
+ * active node, performance standby nodes and unhealthy nodes. It tracks an exponentially
+ * weighted moving average (EWMA) of the request latency per node.
+ * <p>
+ * When used with {@link VaultClients#createRestTemplate(VaultEndpointProvider,
+ * ClientHttpRequestFactory)} or {@link ReactiveVaultClients}, requests are routed
+ * depending on their HTTP method:
+ * <ul>
+ * <li>Reads ({@code GET}, {@code HEAD}) are routed to the healthy node with the lowest
+ * latency that can serve reads, either the active node or a performance standby.</li>
+ * <li>Other requests are routed to the active node.</li>
+ * </ul>
+ * Requests that fail with a connection error fail over to the next candidate node within
+ * the same request. Reads fail over on any I/O error, other requests fail over only if
+ * the connection could not be established. Nodes with an unknown health state (before
+ * the first probe) are considered after healthy nodes, unhealthy nodes are used as last
+ * resort. {@link #getVaultEndpoint()} returns the active node.
+ * <p>
+ * Reads can be hedged across two nodes by configuring a {@link HedgingPolicy}.
+ * <p>
+ * All nodes must use the same {@link VaultEndpoint#getPath() path}.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultEndpoint
+ */
+public class ClusterVaultEndpointProvider
+		implements VaultEndpointProvider, ClientHttpRequestInterceptor, InitializingBean, DisposableBean {
+
+	public static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+	public static final double DEFAULT_LATENCY_SMOOTHING = 0.2;
+
+	private static final Log logger = LogFactory.getLog(ClusterVaultEndpointProvider.class);
+
+	private final List<Node> nodes;
+
+	private final ClientHttpRequestFactory requestFactory;
+
+	private final TaskScheduler taskScheduler;
+
+	private Duration healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+
+	private double latencySmoothing = DEFAULT_LATENCY_SMOOTHING;
+
+	private @Nullable HedgingPolicy hedgingPolicy;
+
+	private @Nullable ScheduledFuture<?> healthCheck;
+
+	/**
+	 * Create a new {@link ClusterVaultEndpointProvider}.
+	 * @param endpoints the cluster nodes, must not be {@literal null} or empty.
+	 * @param requestFactory the {@link ClientHttpRequestFactory} to probe node health,
+	 * must not be {@literal null}.
+	 * @param taskScheduler the {@link TaskScheduler} to run health checks, must not be
+	 * {@literal null}.
+	 */
+	public ClusterVaultEndpointProvider(List<VaultEndpoint> endpoints, ClientHttpRequestFactory requestFactory,
+			TaskScheduler taskScheduler) {
+
+		Assert.notEmpty(endpoints, "VaultEndpoints must not be empty");
+		Assert.noNullElements(endpoints, "VaultEndpoints must not contain null elements");
+		Assert.notNull(requestFactory, "ClientHttpRequestFactory must not be null");
+		Assert.notNull(taskScheduler, "TaskScheduler must not be null");
+
+		this.nodes = endpoints.stream().map(Node::new).toList();
+		this.requestFactory = requestFactory;
+		this.taskScheduler = taskScheduler;
+	}
+
+	/**
+	 * @return the endpoints of all cluster nodes in configuration order.
+	 */
+	public List<VaultEndpoint> getEndpoints() {
+		return this.nodes.stream().map(node -> node.endpoint).toList();
+	}
+
+	/**
+	 * Set the interval between health checks. Defaults to {@literal 5} seconds.
+	 * @param healthCheckInterval must not be {@literal null}, must be positive.
+	 */
+	public void setHealthCheckInterval(Duration healthCheckInterval) {
+
+		Assert.notNull(healthCheckInterval, "Health check interval must not be null");
+		Assert.isTrue(!healthCheckInterval.isNegative() && !healthCheckInterval.isZero(),
+				"Health check interval must be positive");
+
+		this.healthCheckInterval = healthCheckInterval;
+	}
+
+	/**
+	 * Set the smoothing factor of the latency EWMA. Higher values weigh recent
+	 * measurements more. Defaults to {@literal 0.2}.
+	 * @param latencySmoothing smoothing factor, must be greater than zero and less or
+	 * equal to one.
+	 */
+	public void setLatencySmoothing(double latencySmoothing) {
+
+		Assert.isTrue(latencySmoothing > 0 && latencySmoothing <= 1,
+				"Latency smoothing must be greater than zero and less or equal to one");
+
+		this.latencySmoothing = latencySmoothing;
+	}
+
+	/**
+	 * Set the {@link HedgingPolicy} to hedge read requests across two nodes. Hedging is
+	 * disabled by default.
+	 * @param hedgingPolicy the hedging policy, may be {@literal null} to disable
+	 * hedging.
+	 */
+	public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
+	}
+
+	/**
+	 * @return the {@link HedgingPolicy} or {@literal null} if hedging is disabled.
+	 */
+	public @Nullable HedgingPolicy getHedgingPolicy() {
+		return this.hedgingPolicy;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		this.healthCheck = this.taskScheduler.scheduleWithFixedDelay(this::checkHealth, Instant.now(),
+				this.healthCheckInterval);
+	}
+
+	@Override
+	public void destroy() {
+
+		ScheduledFuture<?> healthCheck = this.healthCheck;
+
+		if (healthCheck != null) {
+			healthCheck.cancel(false);
+			this.healthCheck = null;
+		}
+	}
+
+	/**
+	 * Probe {@code sys/health} of all nodes and update their health state.
+	 */
+	public void checkHealth() {
+
+		for (Node node : this.nodes) {
+
+			long start = System.nanoTime();
+
+			try {
+
+				ClientHttpRequest request = this.requestFactory.createRequest(node.endpoint.createUri("sys/health"),
+						HttpMethod.GET);
+
+				try (ClientHttpResponse response = request.execute()) {
+					node.role = NodeRole.fromHealthStatus(response.getStatusCode().value());
+				}
+
+				recordLatency(node, System.nanoTime() - start);
+			}
+			catch (IOException | RuntimeException e) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Health check for %s failed".formatted(node.endpoint), e);
+				}
+
+				node.role = NodeRole.UNHEALTHY;
+			}
+		}
+	}
+
+	/**
+	 * Return the active node. Falls back to the first node with an unknown state if no
+	 * active node is known.
+	 * @return the {@link VaultEndpoint} to use for writes.
+	 */
+	@Override
+	public VaultEndpoint getVaultEndpoint() {
+		return getCandidates(false).get(0).endpoint;
+	}
+
+	/**
+	 * Return the healthy node with the lowest latency that can serve reads.
+	 * @return the {@link VaultEndpoint} to use for reads.
+	 */
+	public VaultEndpoint getReadEndpoint() {
+		return getCandidates(true).get(0).endpoint;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		URI uri = request.getURI();
+
+		if (findNode(uri) == null) {
+			return execution.execute(request, body);
+		}
+
+		HedgingPolicy hedgingPolicy = this.hedgingPolicy;
+
+		if (hedgingPolicy != null && hedgingPolicy.isHedgeable(request.getMethod(), uri)) {
+
+			List<Node> candidates = getCandidates(true);
+
+			if (candidates.size() > 1) {
+				return hedge(request, body, execution, candidates.get(0), candidates.get(1), hedgingPolicy);
+			}
+		}
+
+		boolean read = isRead(request.getMethod());
+		IOException lastError = null;
+
+		for (Node node : getCandidates(read)) {
+
+			URI target = rewrite(uri, node);
+			HttpRequest requestToUse = new HttpRequestWrapper(request) {
+
+				@Override
+				public URI getURI() {
+					return target;
+				}
+			};
+
+			long start = System.nanoTime();
+
+			try {
+				ClientHttpResponse response = execution.execute(requestToUse, body);
+				recordLatency(node, System.nanoTime() - start);
+				return response;
+			}
+			catch (IOException e) {
+
+				if (!shouldFailover(e, read)) {
+					throw e;
+				}
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("Request to %s failed, failing over to next node".formatted(node.endpoint), e);
+				}
+
+				node.role = NodeRole.UNHEALTHY;
+				lastError = e;
+			}
+		}
+
+		Assert.state(lastError != null, "No candidate nodes");
+		throw lastError;
+	}
+
+	void recordLatency(Node node, long nanos) {
+		node.recordLatency(nanos, this.latencySmoothing);
+	}
+
+	/**
+	 * Send {@code request} to {@code primary} on the calling thread and hedge it to
+	 * {@code secondary} on the {@link HedgingPolicy#getExecutor() executor} if the
+	 * primary request does not complete within the hedging delay. If the hedged request
+	 * wins, the calling thread is interrupted to abort the primary request. Request
+	 * factories that do not respond to interruption complete the primary request before
+	 * the hedged response is returned.
+	 */
+	private ClientHttpResponse hedge(HttpRequest request, byte[] body, ClientHttpRequestExecution execution,
+			Node primary, Node secondary, HedgingPolicy hedgingPolicy) throws IOException {
+
+		if (Thread.currentThread().isInterrupted()) {
+			return send(request, body, execution, primary);
+		}
+
+		long start = System.nanoTime();
+		Hedge hedge = new Hedge(request, body, execution, secondary, hedgingPolicy);
+
+		try {
+			CompletableFuture
+				.delayedExecutor(hedgingPolicy.getDelay().toNanos(), TimeUnit.NANOSECONDS, hedgingPolicy.getExecutor())
+				.execute(hedge::run);
+		}
+		catch (RejectedExecutionException e) {
+			// send the primary request only
+		}
+
+		ClientHttpResponse response = null;
+		IOException error = null;
+		boolean completed = false;
+
+		try {
+			response = send(request, body, execution, primary);
+			completed = true;
+		}
+		catch (IOException e) {
+			error = e;
+			completed = true;
+		}
+		finally {
+			if (!completed) {
+				hedge.discard();
+			}
+		}
+
+		int state = hedge.completePrimary();
+
+		if (state == Hedge.ABORTED) {
+			close(response);
+			hedgingPolicy.onHedgeWin();
+			hedgingPolicy.recordLatency(System.nanoTime() - start);
+			return hedge.result.join();
+		}
+
+		if (isSuccessful(response)) {
+			hedge.result.thenAccept(ClientHttpResponse::close);
+			hedgingPolicy.recordLatency(System.nanoTime() - start);
+			return response;
+		}
+
+		ClientHttpResponse hedged = state == Hedge.PENDING ? hedge.sendNow() : hedge.await(response);
+
+		if (isSuccessful(hedged)) {
+			close(response);
+			hedgingPolicy.onHedgeWin();
+			hedgingPolicy.recordLatency(System.nanoTime() - start);
+			return hedged;
+		}
+
+		close(hedged);
+
+		if (error != null) {
+			throw error;
+		}
+
+		Assert.state(response != null, "Response must not be null");
+		return response;
+	}
+
+	private ClientHttpResponse send(HttpRequest request, byte[] body, ClientHttpRequestExecution execution, Node node)
+			throws IOException {
+
+		URI target = rewrite(request.getURI(), node);
+		HttpHeaders headers = new HttpHeaders();
+		headers.addAll(request.getHeaders());
+
+		HttpRequest requestToUse = new HttpRequestWrapper(request) {
+
+			@Override
+			public URI getURI() {
+				return target;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+		};
+
+		long start = System.nanoTime();
+
+		try {
+			ClientHttpResponse response = execution.execute(requestToUse, body);
+			recordLatency(node, System.nanoTime() - start);
+			return response;
+		}
+		catch (IOException e) {
+
+			if (shouldFailover(e, true)) {
+				node.role = NodeRole.UNHEALTHY;
+			}
+
+			throw e;
+		}
+	}
+
+	private static boolean isSuccessful(@Nullable ClientHttpResponse response) {
+
+		if (response == null) {
+			return false;
+		}
+
+		try {
+			return !response.getStatusCode().isError();
+		}
+		catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static void close(@Nullable ClientHttpResponse response) {
+
+		if (response != null) {
+			response.close();
+		}
+	}
+
+	/**
+	 * Hedged request to the secondary node. The hedged request is sent at most once,
+	 * either by the {@link HedgingPolicy#getExecutor() executor} once the hedging delay
+	 * has elapsed or by the calling thread if the primary request failed before.
+	 */
+	private class Hedge {
+
+		static final int PENDING = 0;
+
+		static final int SENT = 1;
+
+		static final int PRIMARY_COMPLETED = 2;
+
+		static final int ABORTED = 3;
+
+		final CompletableFuture<ClientHttpResponse> result = new CompletableFuture<>();
+
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+
+		private final Thread caller = Thread.currentThread();
+
+		private final HttpRequest request;
+
+		private final byte[] body;
+
+		private final ClientHttpRequestExecution execution;
+
+		private final Node node;
+
+		private final HedgingPolicy hedgingPolicy;
+
+		private final @Nullable String namespace = VaultNamespaceContextHolder.getNamespace();
+
+		private final @Nullable String identity = VaultIdentityContextHolder.getIdentity();
+
+		private volatile boolean interrupted;
+
+		Hedge(HttpRequest request, byte[] body, ClientHttpRequestExecution execution, Node node,
+				HedgingPolicy hedgingPolicy) {
+			this.request = request;
+			this.body = body;
+			this.execution = execution;
+			this.node = node;
+			this.hedgingPolicy = hedgingPolicy;
+		}
+
+		/**
+		 * Send the hedged request from the executor unless the primary request has
+		 * completed. Interrupts the calling thread if the hedged request wins. The
+		 * namespace and identity bound to the calling thread are bound while sending the
+		 * hedged request.
+		 */
+		void run() {
+
+			if (!this.state.compareAndSet(PENDING, SENT)) {
+				return;
+			}
+
+			this.hedgingPolicy.onHedge();
+
+			String previousNamespace = VaultNamespaceContextHolder.getNamespace();
+			String previousIdentity = VaultIdentityContextHolder.getIdentity();
+
+			VaultNamespaceContextHolder.setNamespace(this.namespace);
+			VaultIdentityContextHolder.setIdentity(this.identity);
+
+			try {
+
+				ClientHttpResponse response = send(this.request, this.body, this.execution, this.node);
+				this.result.complete(response);
+
+				if (isSuccessful(response) && this.state.compareAndSet(SENT, ABORTED)) {
+					this.caller.interrupt();
+					this.interrupted = true;
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				this.result.completeExceptionally(e);
+			}
+			finally {
+				VaultNamespaceContextHolder.setNamespace(previousNamespace);
+				VaultIdentityContextHolder.setIdentity(previousIdentity);
+			}
+		}
+
+		/**
+		 * Signal completion of the primary request.
+		 * @return the state of the hedged request: {@link #PENDING} if it was not sent,
+		 * {@link #SENT} if it is in flight or failed, {@link #ABORTED} if it won.
+		 */
+		int completePrimary() {
+
+			if (this.state.compareAndSet(PENDING, PRIMARY_COMPLETED)) {
+				return PENDING;
+			}
+
+			if (this.state.compareAndSet(SENT, PRIMARY_COMPLETED)) {
+				return SENT;
+			}
+
+			while (!this.interrupted) {
+				Thread.onSpinWait();
+			}
+
+			// clear the interrupt used to abort the primary request
+			Thread.interrupted();
+			return ABORTED;
+		}
+
+		/**
+		 * Disarm the hedged request after the primary request failed unexpectedly. A
+		 * hedged request that is in flight or has completed is closed once it arrives.
+		 */
+		void discard() {
+			completePrimary();
+			this.result.thenAccept(ClientHttpResponse::close);
+		}
+
+		/**
+		 * Send the hedged request from the calling thread after the primary request
+		 * failed before the hedging delay elapsed.
+		 * @return the response or {@literal null} if the request failed.
+		 */
+		@Nullable
+		ClientHttpResponse sendNow() {
+
+			this.hedgingPolicy.onHedge();
+
+			try {
+				return send(this.request, this.body, this.execution, this.node);
+			}
+			catch (IOException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * Await the in-flight hedged request after the primary request failed.
+		 * @param primary the primary response to close if the calling thread is
+		 * interrupted.
+		 * @return the response or {@literal null} if the request failed.
+		 */
+		@Nullable
+		ClientHttpResponse await(@Nullable ClientHttpResponse primary) throws InterruptedIOException {
+
+			try {
+				return this.result.get();
+			}
+			catch (ExecutionException e) {
+				return null;
+			}
+			catch (InterruptedException e) {
+
+				close(primary);
+				this.result.thenAccept(ClientHttpResponse::close);
+				Thread.currentThread().interrupt();
+
+				InterruptedIOException exception = new InterruptedIOException(
+						"Interrupted while awaiting hedged request");
+				exception.initCause(e);
+				throw exception;
+			}
+		}
+
+	}
+
+	/**
+	 * Return candidate nodes ordered by preference.
+	 * @param read whether the request is a read request.
+	 * @return candidate nodes ordered by preference.
+	 */
+	List<Node> getCandidates(boolean read) {
+
+		List<Node> candidates = new ArrayList<>(this.nodes);
+
+		if (read) {
+			candidates.sort(Comparator.comparingInt((Node node) -> node.role.readRank)
+				.thenComparingDouble(Node::getLatency));
+		}
+		else {
+			candidates.sort(Comparator.comparingInt(node -> node.role.writeRank));
+		}
+
+		return candidates;
+	}
+
+	/**
+	 * Find the cluster node matching scheme, host and port of {@code uri}.
+	 * @param uri the request URI.
+	 * @return the matching node or {@literal null} if the URI does not point to a cluster
+	 * node.
+	 */
+	@Nullable
+	Node findNode(URI uri) {
+
+		for (Node node : this.nodes) {
+
+			VaultEndpoint endpoint = node.endpoint;
+
+			if (endpoint.getScheme().equalsIgnoreCase(uri.getScheme())
+					&& endpoint.getHost().equalsIgnoreCase(uri.getHost()) && endpoint.getPort() == uri.getPort()) {
+				return node;
+			}
+		}
+
+		return null;
+	}
+
+	static URI rewrite(URI uri, Node node) {
+
+		VaultEndpoint endpoint = node.endpoint;
+
+		return UriComponentsBuilder.fromUri(uri)
+			.scheme(endpoint.getScheme())
+			.host(endpoint.getHost())
+			.port(endpoint.getPort())
+			.build(true)
+			.toUri();
+	}
+
+	static boolean isRead(HttpMethod method) {
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+	}
+
+	/**
+	 * Determine whether a failed request should fail over to the next node. Reads fail
+	 * over on any I/O error. Other requests fail over only if the connection could not
+	 * be established and the request was therefore not sent.
+	 * @param e the failure.
+	 * @param read whether the request is a read request.
+	 * @return {@literal true} to fail over to the next node.
+	 */
+	static boolean shouldFailover(Throwable e, boolean read) {
+
+		for (Throwable t = e; t != null; t = t.getCause()) {
+
+			if (t instanceof ConnectException || t instanceof NoRouteToHostException
+					|| t instanceof UnknownHostException || t instanceof HttpConnectTimeoutException) {
+				return true;
+			}
+
+			if (read && t instanceof IOException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Role of a Vault node derived from its {@code sys/health} status.
+	 */
+	enum NodeRole {
+
+		ACTIVE(0, 0), PERFORMANCE_STANDBY(0, 2), STANDBY(2, 2), UNKNOWN(1, 1), UNHEALTHY(3, 3);
+
+		final int readRank;
+
+		final int writeRank;
+
+		NodeRole(int readRank, int writeRank) {
+			this.readRank = readRank;
+			this.writeRank = writeRank;
+		}
+
+		static NodeRole fromHealthStatus(int status) {
+
+			return switch (status) {
+				case 200 -> ACTIVE;
+				case 429 -> STANDBY;
+				case 473 -> PERFORMANCE_STANDBY;
+				default -> UNHEALTHY;
+			};
+		}
+
+	}
+
+	/**
+	 * Cluster node along with its health state and latency.
+	 */
+	static class Node {
+
+		final VaultEndpoint endpoint;
+
+		volatile NodeRole role = NodeRole.UNKNOWN;
+
+		private final AtomicLong latency = new AtomicLong(Double.doubleToLongBits(0));
+
+		Node(VaultEndpoint endpoint) {
+			this.endpoint = endpoint;
+		}
+
+		/**
+		 * @return the latency EWMA in nanoseconds. Zero if not measured yet.
+		 */
+		double getLatency() {
+			return Double.longBitsToDouble(this.latency.get());
+		}
+
+		void recordLatency(long nanos, double smoothing) {
+
+			long current;
+			double next;
+
+			do {
+				current = this.latency.get();
+				double average = Double.longBitsToDouble(current);
+				next = average == 0 ? nanos : average + smoothing * (nanos - average);
+			}
+			while (!this.latency.compareAndSet(current, Double.doubleToLongBits(next)));
+		}
+
+		@Override
+		public String toString() {
+			return "%s [%s, %.1f ms]".formatted(this.endpoint, this.role, getLatency() / 1_000_000);
+		}
+
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.vault.client.ConcurrencyLimiter.Limit;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} applying a {@link ConcurrencyLimiter}. Reactive
+ * variant of {@link ConcurrencyLimitInterceptor}. Queued requests wait without blocking
+ * a thread.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ConcurrencyLimitExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final ConcurrencyLimiter limiter;
+
+	ConcurrencyLimitExchangeFilterFunction(ConcurrencyLimiter limiter) {
+		this.limiter = limiter;
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		return Mono.defer(() -> {
+
+			Limit limit = this.limiter.forRequest(request.method(), request.url());
+
+			return Mono.usingWhen(acquire(limit), permit -> {
+
+				permit.start = System.nanoTime();
+
+				return next.exchange(request).doOnNext(response -> permit.status = response.statusCode().value());
+			}, permit -> Mono.fromRunnable(permit::complete), (permit, e) -> Mono.fromRunnable(permit::fail),
+					permit -> Mono.fromRunnable(permit::release));
+		});
+	}
+
+	private Mono<Permit> acquire(Limit limit) {
+
+		CompletableFuture<Boolean> admission = limit.acquire();
+
+		if (admission == null) {
+			return Mono.error(limit.rejected());
+		}
+
+		Permit permit = new Permit(limit);
+
+		if (admission.isDone()) {
+			return Mono.just(permit);
+		}
+
+		return Mono.fromFuture(admission, true)
+			.timeout(this.limiter.getMaxQueueTime())
+			.onErrorResume(TimeoutException.class,
+					e -> limit.cancel(admission) ? Mono.error(limit.rejected()) : Mono.just(true))
+			.doOnCancel(() -> {
+				if (!limit.cancel(admission)) {
+					permit.release();
+				}
+			})
+			.thenReturn(permit);
+	}
+
+	/**
+	 * Permit that is released at most once.
+	 */
+	static class Permit {
+
+		private final Limit limit;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		volatile long start;
+
+		volatile int status;
+
+		Permit(Limit limit) {
+			this.limit = limit;
+		}
+
+		void complete() {
+			if (this.released.compareAndSet(false, true)) {
+				this.limit.release(System.nanoTime() - this.start,
+						ConcurrencyLimitInterceptor.isOverload(this.status));
+			}
+		}
+
+		void fail() {
+			if (this.released.compareAndSet(false, true)) {
+				this.limit.release(0, true);
+			}
+		}
+
+		void release() {
+			if (this.released.compareAndSet(false, true)) {
+				this.limit.release();
+			}
+		}
+
+	}
+
+}
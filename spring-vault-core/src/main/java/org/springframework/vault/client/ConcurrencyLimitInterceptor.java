@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.vault.client.ConcurrencyLimiter.Limit;
+
+/**
+ * {@link ClientHttpRequestInterceptor} applying a {@link ConcurrencyLimiter}. Queued
+ * requests block the calling thread until they are admitted or the queueing deadline
+ * expires.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+	private final ConcurrencyLimiter limiter;
+
+	ConcurrencyLimitInterceptor(ConcurrencyLimiter limiter) {
+		this.limiter = limiter;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		Limit limit = this.limiter.forRequest(request.getMethod(), request.getURI());
+
+		awaitAdmission(limit);
+
+		long start = System.nanoTime();
+		ClientHttpResponse response;
+
+		try {
+			response = execution.execute(request, body);
+		}
+		catch (IOException e) {
+			limit.release(0, true);
+			throw e;
+		}
+		catch (RuntimeException e) {
+			limit.release();
+			throw e;
+		}
+
+		int status = response.getStatusCode().value();
+		limit.release(System.nanoTime() - start, isOverload(status));
+
+		return response;
+	}
+
+	private void awaitAdmission(Limit limit) throws InterruptedIOException {
+
+		CompletableFuture<Boolean> admission = limit.acquire();
+
+		if (admission == null) {
+			throw limit.rejected();
+		}
+
+		if (admission.isDone()) {
+			return;
+		}
+
+		try {
+			admission.get(this.limiter.getMaxQueueTime().toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+
+			if (limit.cancel(admission)) {
+				throw limit.rejected();
+			}
+		}
+		catch (InterruptedException e) {
+
+			if (!limit.cancel(admission)) {
+				limit.release();
+			}
+
+			Thread.currentThread().interrupt();
+
+			InterruptedIOException exception = new InterruptedIOException("Interrupted while awaiting admission");
+			exception.initCause(e);
+			throw exception;
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	static boolean isOverload(int status) {
+		return status == 429 || status >= 500;
+	}
+
+}
@@ -0,0 +1,578 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Adaptive client-side concurrency limiter for Vault requests. The limiter bounds the
+ * number of in-flight requests per operation class and adjusts the limit using
+ * additive-increase/multiplicative-decrease (AIMD):
+ * <ul>
+ * <li>The limit grows by one when a request completes successfully while the limit was
+ * fully used.</li>
+ * <li>The limit shrinks by the backoff ratio when Vault responds with {@code 429} or
+ * {@code 5xx}, the request fails with an I/O error, or the latency exceeds the latency
+ * tolerance relative to the lowest observed latency.</li>
+ * </ul>
+ * Requests exceeding the limit are queued up to the maximum queue size and wait at most
+ * for the maximum queue time before they are rejected with
+ * {@link ConcurrencyLimitExceededException}.
+ * <p>
+ * Operation classes are determined by an {@link OperationClassifier}. The default
+ * classifier distinguishes {@link #AUTH authentication}, {@link #TRANSIT transit},
+ * {@link #READ read} and {@link #WRITE write} requests so that, for example, a login
+ * storm does not starve secret reads.
+ * <p>
+ * A limiter holds the limit state and should be shared by all clients that talk to the
+ * same Vault. Register the limiter using
+ * {@link RestTemplateBuilder#concurrencyLimiter(ConcurrencyLimiter)},
+ * {@link WebClientBuilder#concurrencyLimiter(ConcurrencyLimiter)},
+ * {@link VaultClients#createConcurrencyLimitInterceptor(ConcurrencyLimiter)} or
+ * {@link ReactiveVaultClients#concurrencyLimit(ConcurrencyLimiter)}. This class is
+ * thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see #builder()
+ */
+public class ConcurrencyLimiter {
+
+	/**
+	 * Operation class of authentication requests ({@code auth/…}).
+	 */
+	public static final String AUTH = "auth";
+
+	/**
+	 * Operation class of cryptographic requests (encrypt, decrypt, sign, …).
+	 */
+	public static final String TRANSIT = "transit";
+
+	/**
+	 * Operation class of other {@code GET} and {@code HEAD} requests.
+	 */
+	public static final String READ = "read";
+
+	/**
+	 * Operation class of other requests.
+	 */
+	public static final String WRITE = "write";
+
+	public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+	public static final int DEFAULT_MIN_LIMIT = 1;
+
+	public static final int DEFAULT_MAX_LIMIT = 200;
+
+	public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+	public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+	public static final int DEFAULT_MAX_QUEUE_SIZE = 100;
+
+	public static final Duration DEFAULT_MAX_QUEUE_TIME = Duration.ofSeconds(1);
+
+	/**
+	 * Factor by which the latency baseline decays towards recent samples.
+	 */
+	private static final double BASELINE_DECAY = 1.001;
+
+	private final int initialLimit;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final Map<String, Integer> maxLimits;
+
+	private final double backoffRatio;
+
+	private final double latencyTolerance;
+
+	private final int maxQueueSize;
+
+	private final Duration maxQueueTime;
+
+	private final OperationClassifier classifier;
+
+	private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+	private ConcurrencyLimiter(ConcurrencyLimiterBuilder builder) {
+		this.initialLimit = builder.initialLimit;
+		this.minLimit = builder.minLimit;
+		this.maxLimit = builder.maxLimit;
+		this.maxLimits = Map.copyOf(builder.maxLimits);
+		this.backoffRatio = builder.backoffRatio;
+		this.latencyTolerance = builder.latencyTolerance;
+		this.maxQueueSize = builder.maxQueueSize;
+		this.maxQueueTime = builder.maxQueueTime;
+		this.classifier = builder.classifier;
+	}
+
+	/**
+	 * @return a new {@link ConcurrencyLimiterBuilder}.
+	 */
+	public static ConcurrencyLimiterBuilder builder() {
+		return new ConcurrencyLimiterBuilder();
+	}
+
+	/**
+	 * Return the current limit of an operation class.
+	 * @param operationClass the operation class.
+	 * @return the current limit.
+	 */
+	public int getLimit(String operationClass) {
+		return (int) getOrCreate(operationClass).limit;
+	}
+
+	/**
+	 * Return the number of in-flight requests of an operation class.
+	 * @param operationClass the operation class.
+	 * @return the number of in-flight requests.
+	 */
+	public int getInFlight(String operationClass) {
+		return getOrCreate(operationClass).inFlight;
+	}
+
+	/**
+	 * @return the maximum time a request waits for admission.
+	 */
+	public Duration getMaxQueueTime() {
+		return this.maxQueueTime;
+	}
+
+	/**
+	 * Determine the {@link Limit} for a request.
+	 * @param method the request method.
+	 * @param uri the request URI.
+	 * @return the {@link Limit}.
+	 */
+	Limit forRequest(HttpMethod method, URI uri) {
+		return getOrCreate(this.classifier.classify(method, uri));
+	}
+
+	private Limit getOrCreate(String operationClass) {
+		return this.limits.computeIfAbsent(operationClass, key -> {
+
+			int max = this.maxLimits.getOrDefault(key, this.maxLimit);
+
+			return new Limit(key, Math.min(this.initialLimit, max), max);
+		});
+	}
+
+	/**
+	 * Default {@link OperationClassifier}.
+	 * @param method the request method.
+	 * @param uri the request URI.
+	 * @return the operation class.
+	 */
+	static String classify(HttpMethod method, URI uri) {
+
+		String template = VaultPathTemplates.fromPath(uri.getPath() != null ? uri.getPath() : "");
+
+		if (template.startsWith("auth/")) {
+			return AUTH;
+		}
+
+		String[] segments = StringUtils.delimitedListToStringArray(template, "/");
+
+		if (segments.length > 1) {
+			switch (segments[1]) {
+				case "encrypt", "decrypt", "rewrap", "datakey", "hmac", "sign", "verify" -> {
+					return TRANSIT;
+				}
+				default -> {
+				}
+			}
+		}
+
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ? READ : WRITE;
+	}
+
+	/**
+	 * Strategy to assign requests to operation classes. Each operation class is limited
+	 * independently.
+	 */
+	@FunctionalInterface
+	public interface OperationClassifier {
+
+		/**
+		 * Determine the operation class of a request.
+		 * @param method the request method.
+		 * @param uri the request URI.
+		 * @return the operation class.
+		 */
+		String classify(HttpMethod method, URI uri);
+
+	}
+
+	/**
+	 * Adaptive limit of a single operation class. Admission and limit updates are
+	 * guarded by a lock.
+	 */
+	class Limit {
+
+		private final String operationClass;
+
+		private final int max;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Deque<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+
+		volatile double limit;
+
+		volatile int inFlight;
+
+		private double baseline;
+
+		Limit(String operationClass, int limit, int max) {
+			this.operationClass = operationClass;
+			this.limit = limit;
+			this.max = max;
+		}
+
+		/**
+		 * Try to acquire a permit. Returns a completed future if a permit is available,
+		 * a pending future if the request was queued or {@literal null} if the queue is
+		 * full. A future completing with {@literal true} grants a permit, callers that
+		 * give up waiting must complete the future with {@literal false}.
+		 * @return the admission future or {@literal null} if the request is rejected.
+		 */
+		@Nullable
+		CompletableFuture<Boolean> acquire() {
+
+			this.lock.lock();
+			try {
+
+				if (this.inFlight < (int) this.limit) {
+					this.inFlight++;
+					return CompletableFuture.completedFuture(true);
+				}
+
+				if (this.waiters.size() >= ConcurrencyLimiter.this.maxQueueSize) {
+					return null;
+				}
+
+				CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+				this.waiters.add(waiter);
+
+				return waiter;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Release a permit and record the request outcome.
+		 * @param latencyNanos the request latency.
+		 * @param dropped whether the request indicated overload.
+		 */
+		void release(long latencyNanos, boolean dropped) {
+
+			List<CompletableFuture<Boolean>> granted;
+
+			this.lock.lock();
+			try {
+
+				boolean saturated = this.inFlight >= (int) this.limit;
+				this.inFlight--;
+
+				if (latencyNanos > 0) {
+					this.baseline = this.baseline == 0 ? latencyNanos
+							: Math.min(latencyNanos, this.baseline * BASELINE_DECAY);
+				}
+
+				boolean slow = latencyNanos > 0
+						&& latencyNanos > this.baseline * ConcurrencyLimiter.this.latencyTolerance;
+
+				if (dropped || slow) {
+					this.limit = Math.max(Math.min(ConcurrencyLimiter.this.minLimit, this.max),
+							this.limit * ConcurrencyLimiter.this.backoffRatio);
+				}
+				else if (saturated) {
+					this.limit = Math.min(this.max, this.limit + 1);
+				}
+
+				granted = reserveWaiters();
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			admit(granted);
+		}
+
+		/**
+		 * Release a permit without recording an outcome, for example when the request
+		 * was cancelled.
+		 */
+		void release() {
+
+			List<CompletableFuture<Boolean>> granted;
+
+			this.lock.lock();
+			try {
+				this.inFlight--;
+				granted = reserveWaiters();
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			admit(granted);
+		}
+
+		/**
+		 * Cancel a pending admission.
+		 * @param admission the admission future returned by {@link #acquire()}.
+		 * @return {@literal true} if the admission was cancelled, {@literal false} if a
+		 * permit was granted concurrently.
+		 */
+		boolean cancel(CompletableFuture<Boolean> admission) {
+
+			this.lock.lock();
+			try {
+
+				if (admission.complete(false)) {
+					this.waiters.remove(admission);
+					return true;
+				}
+
+				return false;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		ConcurrencyLimitExceededException rejected() {
+			return new ConcurrencyLimitExceededException(
+					"Concurrency limit of %d for '%s' requests exceeded".formatted((int) this.limit,
+							this.operationClass));
+		}
+
+		/**
+		 * Reserve permits for queued waiters while holding the lock. Waiters must be
+		 * completed through {@link #admit(List)} after releasing the lock because their
+		 * continuations may run synchronously and re-enter this limit.
+		 * @return the waiters that were granted a permit.
+		 */
+		private List<CompletableFuture<Boolean>> reserveWaiters() {
+
+			List<CompletableFuture<Boolean>> granted = List.of();
+
+			while (this.inFlight < (int) this.limit) {
+
+				CompletableFuture<Boolean> waiter = this.waiters.poll();
+
+				if (waiter == null) {
+					break;
+				}
+
+				if (granted.isEmpty()) {
+					granted = new ArrayList<>();
+				}
+
+				this.inFlight++;
+				granted.add(waiter);
+			}
+
+			return granted;
+		}
+
+		private void admit(List<CompletableFuture<Boolean>> granted) {
+
+			for (CompletableFuture<Boolean> waiter : granted) {
+
+				// waiter gave up concurrently, return its reserved permit
+				if (!waiter.complete(true)) {
+					release();
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Builder for {@link ConcurrencyLimiter}.
+	 */
+	public static class ConcurrencyLimiterBuilder {
+
+		private int initialLimit = DEFAULT_INITIAL_LIMIT;
+
+		private int minLimit = DEFAULT_MIN_LIMIT;
+
+		private int maxLimit = DEFAULT_MAX_LIMIT;
+
+		private final Map<String, Integer> maxLimits = new HashMap<>();
+
+		private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+
+		private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+
+		private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+
+		private Duration maxQueueTime = DEFAULT_MAX_QUEUE_TIME;
+
+		private OperationClassifier classifier = ConcurrencyLimiter::classify;
+
+		ConcurrencyLimiterBuilder() {
+		}
+
+		/**
+		 * Configure the initial limit of each operation class.
+		 * @param initialLimit must be greater than zero.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 * @see #DEFAULT_INITIAL_LIMIT
+		 */
+		public ConcurrencyLimiterBuilder initialLimit(int initialLimit) {
+
+			Assert.isTrue(initialLimit > 0, "Initial limit must be greater than zero");
+
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * Configure the bounds of the adaptive limit.
+		 * @param minLimit minimum limit, must be greater than zero.
+		 * @param maxLimit maximum limit, must not be less than {@code minLimit}.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 * @see #DEFAULT_MIN_LIMIT
+		 * @see #DEFAULT_MAX_LIMIT
+		 */
+		public ConcurrencyLimiterBuilder limits(int minLimit, int maxLimit) {
+
+			Assert.isTrue(minLimit > 0, "Min limit must be greater than zero");
+			Assert.isTrue(maxLimit >= minLimit, "Max limit must not be less than min limit");
+
+			this.minLimit = minLimit;
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum limit of an operation class, for example to cap
+		 * concurrent logins.
+		 * @param operationClass the operation class, must not be {@literal null} or
+		 * empty.
+		 * @param maxLimit maximum limit, must be greater than zero.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder maxLimit(String operationClass, int maxLimit) {
+
+			Assert.hasText(operationClass, "Operation class must not be null or empty");
+			Assert.isTrue(maxLimit > 0, "Max limit must be greater than zero");
+
+			this.maxLimits.put(operationClass, maxLimit);
+			return this;
+		}
+
+		/**
+		 * Configure the ratio by which the limit shrinks when Vault signals overload.
+		 * @param backoffRatio must be greater than zero and less than one.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 * @see #DEFAULT_BACKOFF_RATIO
+		 */
+		public ConcurrencyLimiterBuilder backoffRatio(double backoffRatio) {
+
+			Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "Backoff ratio must be between zero and one");
+
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+
+		/**
+		 * Configure the latency tolerance. Requests slower than the lowest observed
+		 * latency multiplied by the tolerance shrink the limit.
+		 * @param latencyTolerance must be greater than one.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 * @see #DEFAULT_LATENCY_TOLERANCE
+		 */
+		public ConcurrencyLimiterBuilder latencyTolerance(double latencyTolerance) {
+
+			Assert.isTrue(latencyTolerance > 1, "Latency tolerance must be greater than one");
+
+			this.latencyTolerance = latencyTolerance;
+			return this;
+		}
+
+		/**
+		 * Configure queueing of requests that exceed the limit.
+		 * @param maxQueueSize maximum number of waiting requests per operation class,
+		 * {@literal 0} to reject requests immediately.
+		 * @param maxQueueTime maximum time to wait for admission, must not be
+		 * {@literal null} or negative.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 * @see #DEFAULT_MAX_QUEUE_SIZE
+		 * @see #DEFAULT_MAX_QUEUE_TIME
+		 */
+		public ConcurrencyLimiterBuilder queue(int maxQueueSize, Duration maxQueueTime) {
+
+			Assert.isTrue(maxQueueSize >= 0, "Max queue size must not be negative");
+			Assert.notNull(maxQueueTime, "Max queue time must not be null");
+			Assert.isTrue(!maxQueueTime.isNegative(), "Max queue time must not be negative");
+
+			this.maxQueueSize = maxQueueSize;
+			this.maxQueueTime = maxQueueTime;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link OperationClassifier}.
+		 * @param classifier must not be {@literal null}.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder classifier(OperationClassifier classifier) {
+
+			Assert.notNull(classifier, "OperationClassifier must not be null");
+
+			this.classifier = classifier;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link ConcurrencyLimiter} instance.
+		 * @return a new {@link ConcurrencyLimiter}.
+		 */
+		public ConcurrencyLimiter build() {
+
+			Assert.state(this.initialLimit >= this.minLimit, "Initial limit must not be less than min limit");
+
+			return new ConcurrencyLimiter(this);
+		}
+
+	}
+
+}
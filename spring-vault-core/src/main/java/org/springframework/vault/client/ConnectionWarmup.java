@@ -0,0 +1,444 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Pre-warms pooled connections to Vault endpoints, typically during application startup.
+ * Warm-up opens a configurable number of connections to each endpoint by issuing
+ * concurrent unauthenticated {@code sys/health} requests so that DNS resolution, TCP
+ * connect and the TLS handshake are not paid by the first application requests.
+ * <p>
+ * The first connection to each endpoint performs a full TLS handshake. Remaining
+ * connections are opened in parallel once the TLS session is cached by the
+ * {@link javax.net.ssl.SSLContext} and can therefore resume the session using an
+ * abbreviated handshake. Responses are held until all connections are established to
+ * prevent the pool from reusing a single connection. Warm-up failures are reported but
+ * never propagated.
+ * <p>
+ * {@link ConnectionWarmup} can be constructed using {@link #builder()}. Instances of this
+ * class are immutable once constructed.
+ *
+ * @author agent
+ * @since 4.0
+ * @see #builder()
+ */
+public class ConnectionWarmup {
+
+	public static final int DEFAULT_CONNECTIONS = 4;
+
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+	public static final String DEFAULT_PATH = "sys/health?standbyok=true&perfstandbyok=true";
+
+	static final Log logger = LogFactory.getLog(ConnectionWarmup.class);
+
+	/**
+	 * Number of connections to open per endpoint.
+	 */
+	private final int connections;
+
+	/**
+	 * Maximum duration to wait for connections to a single endpoint.
+	 */
+	private final Duration timeout;
+
+	/**
+	 * Path relative to the endpoint used to open connections.
+	 */
+	private final String path;
+
+	private final Executor executor;
+
+	private ConnectionWarmup(int connections, Duration timeout, String path, Executor executor) {
+		this.connections = connections;
+		this.timeout = timeout;
+		this.path = path;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return a new {@link ConnectionWarmupBuilder}.
+	 */
+	public static ConnectionWarmupBuilder builder() {
+		return new ConnectionWarmupBuilder();
+	}
+
+	/**
+	 * @return the number of connections to open per endpoint.
+	 */
+	public int getConnections() {
+		return this.connections;
+	}
+
+	/**
+	 * @return the maximum duration to wait for connections to a single endpoint.
+	 */
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * @return the path used to open connections.
+	 */
+	public String getPath() {
+		return this.path;
+	}
+
+	/**
+	 * Warm up connections of the given {@link ClientHttpRequestFactory}. Endpoints are
+	 * warmed up in parallel. This method blocks until all endpoints are warmed up or the
+	 * {@link #getTimeout() timeout} is exceeded.
+	 * @param requestFactory the request factory to warm up, must not be {@literal null}.
+	 * @param endpoints the endpoints to connect to, must not be {@literal null}.
+	 * @return the {@link WarmupReport}.
+	 */
+	public WarmupReport warmUp(ClientHttpRequestFactory requestFactory, Collection<VaultEndpoint> endpoints) {
+
+		Assert.notNull(requestFactory, "ClientHttpRequestFactory must not be null");
+		Assert.notNull(endpoints, "VaultEndpoints must not be null");
+
+		long start = System.nanoTime();
+
+		// Tasks never wait for other tasks so that a bounded executor cannot starve.
+		// The calling thread awaits the full handshakes first and then the remaining
+		// connections of all endpoints.
+		Map<VaultEndpoint, CompletableFuture<Boolean>> handshakes = new LinkedHashMap<>();
+
+		for (VaultEndpoint endpoint : endpoints) {
+			handshakes.put(endpoint,
+					CompletableFuture.supplyAsync(() -> handshake(requestFactory, endpoint), this.executor));
+		}
+
+		List<VaultEndpoint> reachable = new ArrayList<>();
+
+		handshakes.forEach((endpoint, handshake) -> {
+			if (handshake.join()) {
+				reachable.add(endpoint);
+			}
+		});
+
+		long deadline = System.nanoTime() + this.timeout.toNanos();
+		CountDownLatch arrived = new CountDownLatch(reachable.size() * (this.connections - 1));
+		Map<VaultEndpoint, List<CompletableFuture<ClientHttpResponse>>> connections = new LinkedHashMap<>();
+
+		for (VaultEndpoint endpoint : reachable) {
+
+			URI uri = endpoint.createUri(this.path);
+			List<CompletableFuture<ClientHttpResponse>> futures = new ArrayList<>();
+
+			for (int i = 1; i < this.connections; i++) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return open(requestFactory, uri);
+					}
+					catch (IOException e) {
+						throw new CompletionException(e);
+					}
+					finally {
+						arrived.countDown();
+					}
+				}, this.executor));
+			}
+
+			connections.put(endpoint, futures);
+		}
+
+		try {
+			arrived.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		int opened = 0;
+
+		for (Map.Entry<VaultEndpoint, List<CompletableFuture<ClientHttpResponse>>> entry : connections.entrySet()) {
+			opened += count(entry.getKey(), entry.getValue());
+		}
+
+		return report(endpoints.size(), opened, System.nanoTime() - start);
+	}
+
+	/**
+	 * Warm up connections of the given {@link ClientHttpConnector}. Endpoints are warmed
+	 * up in parallel.
+	 * @param connector the connector to warm up, must not be {@literal null}.
+	 * @param endpoints the endpoints to connect to, must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link WarmupReport}.
+	 */
+	public Mono<WarmupReport> warmUp(ClientHttpConnector connector, Collection<VaultEndpoint> endpoints) {
+
+		Assert.notNull(connector, "ClientHttpConnector must not be null");
+		Assert.notNull(endpoints, "VaultEndpoints must not be null");
+
+		return ReactiveConnectionWarmup.warmUp(this, connector, endpoints)
+			.elapsed()
+			.map(it -> report(endpoints.size(), it.getT2(), TimeUnit.MILLISECONDS.toNanos(it.getT1())));
+	}
+
+	/**
+	 * Open the first connection to {@code endpoint} using a full TLS handshake that seeds
+	 * the TLS session cache.
+	 * @return {@literal true} if the connection was opened.
+	 */
+	private boolean handshake(ClientHttpRequestFactory requestFactory, VaultEndpoint endpoint) {
+
+		try {
+			release(open(requestFactory, endpoint.createUri(this.path)));
+			return true;
+		}
+		catch (IOException e) {
+
+			logger.warn("Cannot warm up connections to %s: %s".formatted(endpoint, e.getMessage()));
+			return false;
+		}
+	}
+
+	/**
+	 * Count the connections opened to {@code endpoint} including the initial one and
+	 * release the responses once they arrive.
+	 */
+	private int count(VaultEndpoint endpoint, List<CompletableFuture<ClientHttpResponse>> futures) {
+
+		int opened = 1;
+
+		for (CompletableFuture<ClientHttpResponse> future : futures) {
+
+			if (future.isDone() && !future.isCompletedExceptionally()) {
+				opened++;
+			}
+
+			future.thenAccept(ConnectionWarmup::release);
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Opened %d of %d connection(s) to %s".formatted(opened, this.connections, endpoint));
+		}
+
+		return opened;
+	}
+
+	private static ClientHttpResponse open(ClientHttpRequestFactory requestFactory, URI uri) throws IOException {
+
+		ClientHttpResponse response = requestFactory.createRequest(uri, HttpMethod.GET).execute();
+		response.getStatusCode();
+
+		return response;
+	}
+
+	private static void release(ClientHttpResponse response) {
+
+		try (response) {
+			StreamUtils.drain(response.getBody());
+		}
+		catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private WarmupReport report(int endpoints, int opened, long nanos) {
+
+		WarmupReport report = new WarmupReport(endpoints, opened, endpoints * this.connections - opened,
+				Duration.ofNanos(nanos));
+
+		if (logger.isInfoEnabled()) {
+			logger.info(report.toString());
+		}
+
+		return report;
+	}
+
+	/**
+	 * Outcome of a connection warm-up.
+	 */
+	public static class WarmupReport {
+
+		private final int endpoints;
+
+		private final int connections;
+
+		private final int failedConnections;
+
+		private final Duration duration;
+
+		WarmupReport(int endpoints, int connections, int failedConnections, Duration duration) {
+			this.endpoints = endpoints;
+			this.connections = connections;
+			this.failedConnections = failedConnections;
+			this.duration = duration;
+		}
+
+		/**
+		 * @return the number of warmed up endpoints.
+		 */
+		public int getEndpoints() {
+			return this.endpoints;
+		}
+
+		/**
+		 * @return the number of opened connections.
+		 */
+		public int getConnections() {
+			return this.connections;
+		}
+
+		/**
+		 * @return the number of connections that could not be opened in time.
+		 */
+		public int getFailedConnections() {
+			return this.failedConnections;
+		}
+
+		/**
+		 * @return the duration of the warm-up.
+		 */
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		@Override
+		public String toString() {
+			return "Warmed up %d connection(s) to %d Vault endpoint(s) in %d ms (%d failed)".formatted(
+					this.connections, this.endpoints, this.duration.toMillis(), this.failedConnections);
+		}
+
+	}
+
+	/**
+	 * Builder for {@link ConnectionWarmup}.
+	 */
+	public static class ConnectionWarmupBuilder {
+
+		private int connections = DEFAULT_CONNECTIONS;
+
+		private Duration timeout = DEFAULT_TIMEOUT;
+
+		private String path = DEFAULT_PATH;
+
+		private @Nullable Executor executor;
+
+		ConnectionWarmupBuilder() {
+		}
+
+		/**
+		 * Configure the number of connections to open per endpoint. Should not exceed
+		 * the maximum number of connections per route of the connection pool.
+		 * @param connections must be greater than zero.
+		 * @return {@code this} {@link ConnectionWarmupBuilder}.
+		 * @see #DEFAULT_CONNECTIONS
+		 */
+		public ConnectionWarmupBuilder connections(int connections) {
+
+			Assert.isTrue(connections > 0, "Connections must be greater than zero");
+
+			this.connections = connections;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum duration to wait for connections to a single endpoint.
+		 * @param timeout must not be {@literal null}, must be positive.
+		 * @return {@code this} {@link ConnectionWarmupBuilder}.
+		 * @see #DEFAULT_TIMEOUT
+		 */
+		public ConnectionWarmupBuilder timeout(Duration timeout) {
+
+			Assert.notNull(timeout, "Timeout must not be null");
+			Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Configure the path relative to the endpoint to open connections. The path
+		 * should not require authentication.
+		 * @param path must not be {@literal null} or empty.
+		 * @return {@code this} {@link ConnectionWarmupBuilder}.
+		 * @see #DEFAULT_PATH
+		 */
+		public ConnectionWarmupBuilder path(String path) {
+
+			Assert.hasText(path, "Path must not be null or empty");
+
+			this.path = path;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Executor} to open connections with the blocking client.
+		 * Defaults to a {@link SimpleAsyncTaskExecutor} using daemon threads that exit
+		 * once their connection is opened.
+		 * @param executor must not be {@literal null}.
+		 * @return {@code this} {@link ConnectionWarmupBuilder}.
+		 */
+		public ConnectionWarmupBuilder executor(Executor executor) {
+
+			Assert.notNull(executor, "Executor must not be null");
+
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link ConnectionWarmup} instance.
+		 * @return a new {@link ConnectionWarmup}.
+		 */
+		public ConnectionWarmup build() {
+
+			Executor executor = this.executor;
+
+			return new ConnectionWarmup(this.connections, this.timeout, this.path,
+					executor != null ? executor : defaultExecutor());
+		}
+
+		private static Executor defaultExecutor() {
+
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-vault-warmup-");
+			executor.setDaemon(true);
+			return executor;
+		}
+
+	}
+
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * Policy for hedged read requests across the nodes of a
+ * {@link ClusterVaultEndpointProvider}. If a hedgeable request does not complete within
+ * the hedging delay, a second request is sent to the next candidate node. The first
+ * successful response wins. A response is successful if its status is below
+ * {@code 400}. The other request is cancelled.
+ * <p>
+ * The hedging delay is a percentile of recently observed latencies of hedgeable
+ * requests, bounded by a minimum and maximum delay. The maximum delay is used until
+ * enough samples have been collected.
+ * <p>
+ * Only requests to explicitly configured mounts are hedged: {@code GET} and
+ * {@code HEAD} requests to {@code data}, {@code metadata} and {@code subkeys} paths
+ * (get and list) of {@link HedgingPolicyBuilder#keyValueMounts(String...) Key-Value
+ * version 2 mounts} and {@code decrypt} and {@code verify} requests to
+ * {@link HedgingPolicyBuilder#transitMounts(String...) transit mounts}. These requests
+ * do not change state in Vault, so sending them twice is safe. Paths are not matched
+ * across mounts because operations of other secrets engines with the same name are not
+ * necessarily idempotent ({@code ssh/verify} consumes a one-time password) and reads of
+ * secrets engines such as {@code database/creds}, {@code aws/creds} or
+ * {@code pki/issue} create leases or credentials. Additional read paths, such as
+ * Key-Value version 1 mounts, can be registered through
+ * {@link HedgingPolicyBuilder#hedgeablePaths(String...)}.
+ * <p>
+ * The blocking client sends the primary request on the calling thread and only the
+ * hedged request on the configured {@link Executor}, so requests that complete within
+ * the hedging delay do not switch threads. The hedged request is sent with the
+ * {@link VaultNamespaceContextHolder namespace} and {@link VaultIdentityContextHolder
+ * identity} bound to the calling thread. If the hedged request wins, the calling thread
+ * is interrupted to abort the primary request. Request factories that do not
+ * respond to interruption (the JDK {@code HttpClient} does) return the hedged response
+ * once the primary request completes. Losing responses are closed once they arrive. The
+ * reactive client cancels the losing exchange. This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see ClusterVaultEndpointProvider#setHedgingPolicy(HedgingPolicy)
+ * @see #builder()
+ */
+public class HedgingPolicy {
+
+	public static final double DEFAULT_PERCENTILE = 0.95;
+
+	public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(5);
+
+	public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+
+	/**
+	 * Number of latency samples retained to calculate the percentile.
+	 */
+	private static final int WINDOW = 1024;
+
+	/**
+	 * Number of samples after which the percentile is recalculated.
+	 */
+	private static final int RECALCULATION_INTERVAL = 64;
+
+	private static final String API_VERSION_PREFIX = "v1/";
+
+	private static final Set<String> HEDGEABLE_READS = Set.of("data", "metadata", "subkeys");
+
+	private static final Set<String> HEDGEABLE_OPERATIONS = Set.of("decrypt", "verify");
+
+	private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final double percentile;
+
+	private final Duration minDelay;
+
+	private final Duration maxDelay;
+
+	private final Executor executor;
+
+	private final List<String> keyValueMounts;
+
+	private final List<String> transitMounts;
+
+	private final List<String> hedgeablePaths;
+
+	private final long[] samples = new long[WINDOW];
+
+	private long sampleCount;
+
+	private volatile long delayNanos;
+
+	private final AtomicLong hedges = new AtomicLong();
+
+	private final AtomicLong hedgeWins = new AtomicLong();
+
+	private HedgingPolicy(double percentile, Duration minDelay, Duration maxDelay, Executor executor,
+			List<String> keyValueMounts, List<String> transitMounts, List<String> hedgeablePaths) {
+		this.percentile = percentile;
+		this.minDelay = minDelay;
+		this.maxDelay = maxDelay;
+		this.executor = executor;
+		this.keyValueMounts = keyValueMounts;
+		this.transitMounts = transitMounts;
+		this.hedgeablePaths = hedgeablePaths;
+		this.delayNanos = maxDelay.toNanos();
+	}
+
+	/**
+	 * @return a new {@link HedgingPolicyBuilder}.
+	 */
+	public static HedgingPolicyBuilder builder() {
+		return new HedgingPolicyBuilder();
+	}
+
+	/**
+	 * @return the latency percentile used as hedging delay.
+	 */
+	public double getPercentile() {
+		return this.percentile;
+	}
+
+	/**
+	 * @return the current hedging delay.
+	 */
+	public Duration getDelay() {
+		return Duration.ofNanos(this.delayNanos);
+	}
+
+	/**
+	 * @return the number of hedged requests sent.
+	 */
+	public long getHedgeCount() {
+		return this.hedges.get();
+	}
+
+	/**
+	 * @return the number of times the hedged request won.
+	 */
+	public long getHedgeWins() {
+		return this.hedgeWins.get();
+	}
+
+	Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Determine whether a request is hedgeable.
+	 * @param method the request method.
+	 * @param uri the request URI.
+	 * @return {@literal true} if the request may be hedged.
+	 */
+	boolean isHedgeable(HttpMethod method, URI uri) {
+
+		String path = StringUtils.trimLeadingCharacter(uri.getPath() != null ? uri.getPath() : "", '/');
+
+		if (path.startsWith(API_VERSION_PREFIX)) {
+			path = path.substring(API_VERSION_PREFIX.length());
+		}
+
+		if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) {
+
+			if (matches(path, this.keyValueMounts, HEDGEABLE_READS)) {
+				return true;
+			}
+
+			for (String pattern : this.hedgeablePaths) {
+				if (PATH_MATCHER.match(pattern, path)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		if (HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)) {
+			return matches(path, this.transitMounts, HEDGEABLE_OPERATIONS);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determine whether {@code path} points to one of the {@code operations} of one of
+	 * the given {@code mounts}.
+	 */
+	private static boolean matches(String path, List<String> mounts, Set<String> operations) {
+
+		for (String mount : mounts) {
+
+			if (!path.startsWith(mount) || path.length() <= mount.length() || path.charAt(mount.length()) != '/') {
+				continue;
+			}
+
+			String operation = path.substring(mount.length() + 1);
+			int slash = operation.indexOf('/');
+
+			if (operations.contains(slash != -1 ? operation.substring(0, slash) : operation)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	void onHedge() {
+		this.hedges.incrementAndGet();
+	}
+
+	void onHedgeWin() {
+		this.hedgeWins.incrementAndGet();
+	}
+
+	/**
+	 * Record the latency of a hedgeable request.
+	 * @param nanos the latency in nanoseconds.
+	 */
+	void recordLatency(long nanos) {
+
+		long[] snapshot = null;
+
+		synchronized (this.samples) {
+
+			this.samples[(int) (this.sampleCount % WINDOW)] = nanos;
+			this.sampleCount++;
+
+			if (this.sampleCount >= RECALCULATION_INTERVAL && this.sampleCount % RECALCULATION_INTERVAL == 0) {
+				snapshot = Arrays.copyOf(this.samples, (int) Math.min(this.sampleCount, WINDOW));
+			}
+		}
+
+		if (snapshot != null) {
+
+			Arrays.sort(snapshot);
+
+			int index = (int) Math.ceil(this.percentile * snapshot.length) - 1;
+			long value = snapshot[Math.max(0, Math.min(snapshot.length - 1, index))];
+			this.delayNanos = Math.max(this.minDelay.toNanos(), Math.min(this.maxDelay.toNanos(), value));
+		}
+	}
+
+	/**
+	 * Builder for {@link HedgingPolicy}.
+	 */
+	public static class HedgingPolicyBuilder {
+
+		private double percentile = DEFAULT_PERCENTILE;
+
+		private Duration minDelay = DEFAULT_MIN_DELAY;
+
+		private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+		private @Nullable Executor executor;
+
+		private List<String> keyValueMounts = List.of();
+
+		private List<String> transitMounts = List.of();
+
+		private List<String> hedgeablePaths = List.of();
+
+		HedgingPolicyBuilder() {
+		}
+
+		private static Executor defaultExecutor() {
+
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-vault-hedge-");
+			executor.setDaemon(true);
+			return executor;
+		}
+
+		/**
+		 * Configure the latency percentile used as hedging delay.
+		 * @param percentile must be greater than zero and less than one.
+		 * @return {@code this} {@link HedgingPolicyBuilder}.
+		 * @see #DEFAULT_PERCENTILE
+		 */
+		public HedgingPolicyBuilder percentile(double percentile) {
+
+			Assert.isTrue(percentile > 0 && percentile < 1, "Percentile must be between zero and one");
+
+			this.percentile = percentile;
+			return this;
+		}
+
+		/**
+		 * Configure the bounds of the hedging delay.
+		 * @param minDelay minimum delay, must not be {@literal null} or negative.
+		 * @param maxDelay maximum delay, must not be {@literal null}, must not be less
+		 * than {@code minDelay}.
+		 * @return {@code this} {@link HedgingPolicyBuilder}.
+		 * @see #DEFAULT_MIN_DELAY
+		 * @see #DEFAULT_MAX_DELAY
+		 */
+		public HedgingPolicyBuilder delay(Duration minDelay, Duration maxDelay) {
+
+			Assert.notNull(minDelay, "Min delay must not be null");
+			Assert.notNull(maxDelay, "Max delay must not be null");
+			Assert.isTrue(!minDelay.isNegative(), "Min delay must not be negative");
+			Assert.isTrue(maxDelay.compareTo(minDelay) >= 0, "Max delay must not be less than min delay");
+
+			this.minDelay = minDelay;
+			this.maxDelay = maxDelay;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Executor} to send hedged requests with the blocking client.
+		 * Defaults to a {@link SimpleAsyncTaskExecutor} using daemon threads that exit
+		 * once the hedged request completes.
+		 * @param executor must not be {@literal null}.
+		 * @return {@code this} {@link HedgingPolicyBuilder}.
+		 */
+		public HedgingPolicyBuilder executor(Executor executor) {
+
+			Assert.notNull(executor, "Executor must not be null");
+
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Configure the paths of Key-Value version 2 mounts (e.g. {@code secret}) whose
+		 * {@code data}, {@code metadata} and {@code subkeys} reads may be hedged.
+		 * @param mounts must not be {@literal null}.
+		 * @return {@code this} {@link HedgingPolicyBuilder}.
+		 */
+		public HedgingPolicyBuilder keyValueMounts(String... mounts) {
+
+			this.keyValueMounts = toMounts(mounts);
+			return this;
+		}
+
+		/**
+		 * Configure the paths of transit mounts (e.g. {@code transit}) whose
+		 * {@code decrypt} and {@code verify} requests may be hedged.
+		 * @param mounts must not be {@literal null}.
+		 * @return {@code this} {@link HedgingPolicyBuilder}.
+		 */
+		public HedgingPolicyBuilder transitMounts(String... mounts) {
+
+			this.transitMounts = toMounts(mounts);
+			return this;
+		}
+
+		private static List<String> toMounts(String[] mounts) {
+
+			Assert.notNull(mounts, "Mounts must not be null");
+
+			List<String> result = new ArrayList<>(mounts.length);
+
+			for (String mount : mounts) {
+
+				Assert.hasText(mount, "Mounts must not contain empty elements");
+
+				result.add(StringUtils.trimTrailingCharacter(StringUtils.trimLeadingCharacter(mount, '/'), '/'));
+			}
+
+			return List.copyOf(result);
+		}
+
+		/**
+		 * Configure additional Ant-style path patterns relative to the Vault API (e.g.
+		 * {@code secret/**} for a Key-Value version 1 mount) whose {@code GET} and
+		 * {@code HEAD} requests may be hedged. Only register paths whose reads do not
+		 * create leases or otherwise change state in Vault.
+		 * @param pathPatterns must not be {@literal null}.
+		 * @return {@code this} {@link HedgingPolicyBuilder}.
+		 */
+		public HedgingPolicyBuilder hedgeablePaths(String... pathPatterns) {
+
+			Assert.notNull(pathPatterns, "Path patterns must not be null");
+			Assert.noNullElements(pathPatterns, "Path patterns must not contain null elements");
+
+			this.hedgeablePaths = List.of(pathPatterns);
+			return this;
+		}
+
+		/**
+		 * Build a new {@link HedgingPolicy} instance.
+		 * @return a new {@link HedgingPolicy}.
+		 */
+		public HedgingPolicy build() {
+
+			Executor executor = this.executor;
+
+			return new HedgingPolicy(this.percentile, this.minDelay, this.maxDelay,
+					executor != null ? executor : defaultExecutor(), this.keyValueMounts, this.transitMounts,
+					this.hedgeablePaths);
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.util.Collection;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+
+/**
+ * Reactive variant of {@link ConnectionWarmup} using a {@link ClientHttpConnector}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ReactiveConnectionWarmup {
+
+	/**
+	 * Warm up connections to all {@code endpoints}.
+	 * @return a {@link Mono} emitting the number of opened connections.
+	 */
+	static Mono<Integer> warmUp(ConnectionWarmup warmup, ClientHttpConnector connector,
+			Collection<VaultEndpoint> endpoints) {
+
+		return Flux.fromIterable(endpoints)
+			.flatMap(endpoint -> warmUp(warmup, connector, endpoint))
+			.reduce(0, Integer::sum);
+	}
+
+	private static Mono<Integer> warmUp(ConnectionWarmup warmup, ClientHttpConnector connector,
+			VaultEndpoint endpoint) {
+
+		URI uri = endpoint.createUri(warmup.getPath());
+		Mono<ClientHttpResponse> open = Mono
+			.defer(() -> connector.connect(HttpMethod.GET, uri, ClientHttpRequest::setComplete));
+
+		// the first connection seeds the TLS session cache, remaining responses are held
+		// until all connections are open to prevent connection reuse
+		return open.flatMap(ReactiveConnectionWarmup::release)
+			.then(Flux.range(1, warmup.getConnections() - 1)
+				.flatMap(i -> open.onErrorResume(e -> Mono.empty()))
+				.collectList())
+			.flatMap(responses -> Flux.fromIterable(responses)
+				.concatMap(ReactiveConnectionWarmup::release)
+				.then(Mono.just(responses.size() + 1)))
+			.timeout(warmup.getTimeout())
+			.onErrorResume(e -> {
+
+				ConnectionWarmup.logger
+					.warn("Cannot warm up connections to %s: %s".formatted(endpoint, e.getMessage()));
+
+				return Mono.just(0);
+			});
+	}
+
+	private static Mono<Void> release(ClientHttpResponse response) {
+		return response.getBody().map(DataBufferUtils::release).onErrorComplete().then();
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * {@link org.springframework.web.reactive.function.client.ClientRequestObservationConvention}
+ * for Vault requests issued through {@link WebClient}. Tags observations with a
+ * low-cardinality {@link VaultPathTemplates path template} (mount and operation)
+ * instead of the full secret path and records request and response payload sizes as
+ * high-cardinality key values when the {@code Content-Length} is known.
+ *
+ * @author agent
+ * @since 4.0
+ * @see WebClientBuilder#observationRegistry(io.micrometer.observation.ObservationRegistry)
+ * @see VaultPathTemplates
+ */
+public class ReactiveVaultClientRequestObservationConvention extends DefaultClientRequestObservationConvention {
+
+	/**
+	 * Create a new {@link ReactiveVaultClientRequestObservationConvention} using
+	 * {@link VaultClientRequestObservationConvention#DEFAULT_NAME}.
+	 */
+	public ReactiveVaultClientRequestObservationConvention() {
+		this(VaultClientRequestObservationConvention.DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a new {@link ReactiveVaultClientRequestObservationConvention} given the
+	 * observation {@code name}.
+	 * @param name the observation name.
+	 */
+	public ReactiveVaultClientRequestObservationConvention(String name) {
+		super(name);
+	}
+
+	@Override
+	protected KeyValue uri(ClientRequestObservationContext context) {
+
+		ClientRequest request = context.getRequest();
+
+		if (request != null) {
+			return KeyValue.of("uri", getPathTemplate(request.url()));
+		}
+
+		return super.uri(context);
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ClientRequestObservationContext context) {
+
+		KeyValues keyValues = super.getHighCardinalityKeyValues(context);
+
+		ClientRequest request = context.getRequest();
+		if (request != null) {
+			keyValues = VaultClientRequestObservationConvention.withContentLength(keyValues,
+					VaultClientRequestObservationConvention.REQUEST_SIZE, request.headers());
+		}
+
+		ClientResponse response = context.getResponse();
+		if (response != null) {
+			keyValues = VaultClientRequestObservationConvention.withContentLength(keyValues,
+					VaultClientRequestObservationConvention.RESPONSE_SIZE, response.headers().asHttpHeaders());
+		}
+
+		return keyValues;
+	}
+
+	/**
+	 * Derive the path template for a request {@link URI}. Subclasses may override this
+	 * method to customize path templating.
+	 * @param uri the request URI.
+	 * @return the path template.
+	 * @see VaultPathTemplates#fromPath(String)
+	 */
+	protected String getPathTemplate(URI uri) {
+
+		String path = uri.getRawPath();
+		return VaultPathTemplates.fromPath(path != null ? path : "");
+	}
+
+}
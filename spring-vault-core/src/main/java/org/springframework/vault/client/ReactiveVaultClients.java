@@ -16,6 +16,8 @@
 package org.springframework.vault.client;
 
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
@@ -161,6 +163,11 @@ public class ReactiveVaultClients {
 			});
 		}
 
+		if (endpointProvider instanceof VaultEndpointProviderAdapter adapter
+				&& adapter.source instanceof ClusterVaultEndpointProvider cluster) {
+			builder.filter(new ClusterExchangeFilterFunction(cluster));
+		}
+
 		return builder;
 	}
 
@@ -190,6 +197,80 @@ public class ReactiveVaultClients {
 		});
 	}
 
+	/**
+	 * Create a {@link ExchangeFilterFunction} that forwards replication states tracked
+	 * by {@link VaultIndexTracker} with each request and records replication states
+	 * returned by Vault. Requests that cannot be served consistently by a standby node
+	 * are forwarded to the active node.
+	 * @param tracker the tracker to use. Must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with {@link WebClient}.
+	 * @see VaultHttpHeaders#VAULT_INDEX
+	 * @since 4.0
+	 */
+	public static ExchangeFilterFunction consistency(VaultIndexTracker tracker) {
+		return consistency(tracker, VaultIndexTracker.Inconsistency.FORWARD_ACTIVE_NODE);
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that forwards replication states tracked
+	 * by {@link VaultIndexTracker} with each request and records replication states
+	 * returned by Vault. Thread-local states are bound on subscription.
+	 * @param tracker the tracker to use. Must not be {@literal null}.
+	 * @param inconsistency handling of requests that cannot be served consistently. Must
+	 * not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with {@link WebClient}.
+	 * @see VaultHttpHeaders#VAULT_INDEX
+	 * @since 4.0
+	 */
+	public static ExchangeFilterFunction consistency(VaultIndexTracker tracker,
+			VaultIndexTracker.Inconsistency inconsistency) {
+
+		Assert.notNull(tracker, "VaultIndexTracker must not be null");
+		Assert.notNull(inconsistency, "Inconsistency must not be null");
+
+		return (request, next) -> Mono.defer(() -> {
+
+			AtomicReference<List<String>> states = tracker.getStateHolder();
+
+			ClientRequest requestToSend = ClientRequest.from(request)
+				.headers(headers -> VaultIndexTracker.applyHeaders(states, inconsistency, headers))
+				.build();
+
+			return next.exchange(requestToSend)
+				.doOnNext(response -> VaultIndexTracker.recordHeaders(states, response.headers().asHttpHeaders()));
+		});
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that applies retries and circuit breaking
+	 * according to {@link ResiliencePolicy}. Register the filter as first filter so
+	 * that retries pass through all other filters.
+	 * @param policy the resilience policy to use. Must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with {@link WebClient}.
+	 * @since 4.0
+	 */
+	public static ExchangeFilterFunction resilience(ResiliencePolicy policy) {
+
+		Assert.notNull(policy, "ResiliencePolicy must not be null");
+
+		return new ResilienceExchangeFilterFunction(policy);
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that limits concurrent requests according
+	 * to {@link ConcurrencyLimiter}. Requests that cannot be admitted within the queueing
+	 * deadline fail with {@link ConcurrencyLimitExceededException}.
+	 * @param limiter the concurrency limiter to use. Must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with {@link WebClient}.
+	 * @since 4.0
+	 */
+	public static ExchangeFilterFunction concurrencyLimit(ConcurrencyLimiter limiter) {
+
+		Assert.notNull(limiter, "ConcurrencyLimiter must not be null");
+
+		return new ConcurrencyLimitExchangeFilterFunction(limiter);
+	}
+
 	/**
 	 * Wrap a {@link VaultEndpointProvider} into a {@link ReactiveVaultEndpointProvider}
 	 * to invoke {@link VaultEndpointProvider#getVaultEndpoint()} on a dedicated
@@ -0,0 +1,568 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.KeyManagerFactorySpi;
+import javax.net.ssl.ManagerFactoryParameters;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.TrustManagerFactorySpi;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.vault.support.SslConfiguration;
+
+/**
+ * Key or trust material that is reloaded when the contents of its key store resource
+ * change. The resource is checked at most once per reload interval. The check is
+ * triggered by TLS handshakes but runs on an {@link Executor} so that handshakes do not
+ * perform file I/O. Changed material is swapped atomically and applies to new handshakes
+ * only. Pooled connections are not affected. If a changed resource cannot be loaded, the
+ * previously loaded material is retained.
+ * <p>
+ * Aliases returned by {@link ReloadingX509KeyManager} are tagged with the generation of
+ * the material they were chosen from, so that the certificate chain and private key of a
+ * handshake are obtained from the same material even if it is reloaded during the
+ * handshake.
+ * <p>
+ * Changes are detected by comparing a digest of the resource contents instead of
+ * modification timestamps as mounted secrets are typically replaced through symlink
+ * swaps that do not update the modification time of the resolved file.
+ *
+ * @author agent
+ * @since 4.0
+ * @see SslConfiguration#withReloadInterval(Duration)
+ */
+class ReloadingSslMaterial<T> {
+
+	private static final Log logger = LogFactory.getLog(ReloadingSslMaterial.class);
+
+	private final Resource resource;
+
+	private final long intervalNanos;
+
+	private final MaterialLoader<T> loader;
+
+	private final Executor executor;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final AtomicBoolean checkScheduled = new AtomicBoolean();
+
+	private volatile Snapshot<T> current;
+
+	private volatile @Nullable Snapshot<T> previous;
+
+	private volatile long nextCheck;
+
+	private byte[] digest;
+
+	ReloadingSslMaterial(Resource resource, Duration interval, MaterialLoader<T> loader, Executor executor)
+			throws GeneralSecurityException, IOException {
+
+		Assert.notNull(resource, "Resource must not be null");
+		Assert.notNull(interval, "Reload interval must not be null");
+		Assert.notNull(loader, "MaterialLoader must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.resource = resource;
+		this.intervalNanos = interval.toNanos();
+		this.loader = loader;
+		this.executor = executor;
+		this.digest = digest(resource);
+		this.current = new Snapshot<>(0, loader.load());
+		this.nextCheck = System.nanoTime() + this.intervalNanos;
+	}
+
+	/**
+	 * Create a reloading {@link X509ExtendedKeyManager} for the key store of the given
+	 * {@link SslConfiguration}.
+	 * @param sslConfiguration must not be {@literal null}.
+	 * @return the reloading key manager.
+	 */
+	static ReloadingX509KeyManager keyManager(SslConfiguration sslConfiguration)
+			throws GeneralSecurityException, IOException {
+		return keyManager(sslConfiguration, createExecutor());
+	}
+
+	static ReloadingX509KeyManager keyManager(SslConfiguration sslConfiguration, Executor executor)
+			throws GeneralSecurityException, IOException {
+
+		SslConfiguration.KeyStoreConfiguration keyStore = sslConfiguration.getKeyStoreConfiguration();
+		SslConfiguration.KeyConfiguration keyConfiguration = sslConfiguration.getKeyConfiguration();
+
+		return new ReloadingX509KeyManager(new ReloadingSslMaterial<>(keyStore.getResource(),
+				getRequiredReloadInterval(sslConfiguration), () -> getRequiredManager(
+						ClientConfiguration.createKeyManagerFactory(keyStore, keyConfiguration).getKeyManagers(),
+						X509ExtendedKeyManager.class), executor));
+	}
+
+	/**
+	 * Create a reloading {@link X509ExtendedTrustManager} for the trust store of the
+	 * given {@link SslConfiguration}.
+	 * @param sslConfiguration must not be {@literal null}.
+	 * @return the reloading trust manager.
+	 */
+	static ReloadingX509TrustManager trustManager(SslConfiguration sslConfiguration)
+			throws GeneralSecurityException, IOException {
+		return trustManager(sslConfiguration, createExecutor());
+	}
+
+	static ReloadingX509TrustManager trustManager(SslConfiguration sslConfiguration, Executor executor)
+			throws GeneralSecurityException, IOException {
+
+		SslConfiguration.KeyStoreConfiguration trustStore = sslConfiguration.getTrustStoreConfiguration();
+
+		return new ReloadingX509TrustManager(new ReloadingSslMaterial<>(trustStore.getResource(),
+				getRequiredReloadInterval(sslConfiguration), () -> getRequiredManager(
+						ClientConfiguration.createTrustManagerFactory(trustStore).getTrustManagers(),
+						X509ExtendedTrustManager.class), executor));
+	}
+
+	/**
+	 * Create the default {@link Executor} to check the resource for changes. At most one
+	 * check is in progress at a time, so each check runs on its own short-lived daemon
+	 * thread and no pool needs to be shut down.
+	 */
+	private static Executor createExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-vault-ssl-reload-");
+		executor.setDaemon(true);
+		return executor;
+	}
+
+	/**
+	 * Create a {@link KeyManagerFactory} that returns the given {@link KeyManager}. Used
+	 * for clients that accept only factories.
+	 */
+	static KeyManagerFactory keyManagerFactory(KeyManager keyManager) throws NoSuchAlgorithmException {
+
+		KeyManagerFactory factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		return new FixedKeyManagerFactory(keyManager, factory.getProvider(), factory.getAlgorithm());
+	}
+
+	/**
+	 * Create a {@link TrustManagerFactory} that returns the given {@link TrustManager}.
+	 * Used for clients that accept only factories.
+	 */
+	static TrustManagerFactory trustManagerFactory(TrustManager trustManager) throws NoSuchAlgorithmException {
+
+		TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		return new FixedTrustManagerFactory(trustManager, factory.getProvider(), factory.getAlgorithm());
+	}
+
+	/**
+	 * Return the current material. Schedules a check of the resource for changes if the
+	 * reload interval has elapsed. The calling thread continues using the current
+	 * material.
+	 * @return the current material.
+	 */
+	T get() {
+		return getSnapshot().material();
+	}
+
+	/**
+	 * Return the current {@link Snapshot}. Schedules a check of the resource for
+	 * changes if the reload interval has elapsed.
+	 * @return the current snapshot.
+	 */
+	Snapshot<T> getSnapshot() {
+
+		if (System.nanoTime() - this.nextCheck >= 0 && this.checkScheduled.compareAndSet(false, true)) {
+
+			try {
+				this.executor.execute(this::check);
+			}
+			catch (RejectedExecutionException e) {
+				this.checkScheduled.set(false);
+			}
+		}
+
+		return this.current;
+	}
+
+	/**
+	 * Return the {@link Snapshot} for {@code generation}.
+	 * @param generation the material generation.
+	 * @return the snapshot for {@code generation} or the current snapshot if the
+	 * generation is no longer retained.
+	 */
+	Snapshot<T> getSnapshot(long generation) {
+
+		Snapshot<T> previous = this.previous;
+
+		if (previous != null && previous.generation() == generation) {
+			return previous;
+		}
+
+		return this.current;
+	}
+
+	private void check() {
+
+		try {
+			reload();
+		}
+		finally {
+			this.nextCheck = System.nanoTime() + this.intervalNanos;
+			this.checkScheduled.set(false);
+		}
+	}
+
+	/**
+	 * Check the resource for changes and reload the material if the resource contents
+	 * have changed.
+	 * @return {@literal true} if the material was reloaded.
+	 */
+	boolean reload() {
+
+		this.lock.lock();
+		try {
+			return doReload();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean doReload() {
+
+		try {
+
+			byte[] digest = digest(this.resource);
+
+			if (MessageDigest.isEqual(digest, this.digest)) {
+				return false;
+			}
+
+			Snapshot<T> current = this.current;
+			Snapshot<T> reloaded = new Snapshot<>(current.generation() + 1, this.loader.load());
+
+			this.previous = current;
+			this.current = reloaded;
+			this.digest = digest;
+
+			if (logger.isInfoEnabled()) {
+				logger.info("Reloaded TLS material from %s".formatted(this.resource));
+			}
+
+			return true;
+		}
+		catch (GeneralSecurityException | IOException | RuntimeException e) {
+
+			logger.warn("Cannot reload TLS material from %s, retaining previously loaded material: %s"
+				.formatted(this.resource, e.getMessage()));
+
+			return false;
+		}
+	}
+
+	private static byte[] digest(Resource resource) throws GeneralSecurityException, IOException {
+
+		try (InputStream inputStream = resource.getInputStream()) {
+			return MessageDigest.getInstance("SHA-256").digest(StreamUtils.copyToByteArray(inputStream));
+		}
+	}
+
+	private static Duration getRequiredReloadInterval(SslConfiguration sslConfiguration) {
+
+		Duration reloadInterval = sslConfiguration.getReloadInterval();
+		Assert.state(reloadInterval != null, "Reloading is not enabled");
+		return reloadInterval;
+	}
+
+	private static <M> M getRequiredManager(Object[] managers, Class<M> type) throws KeyStoreException {
+
+		for (Object manager : managers) {
+			if (type.isInstance(manager)) {
+				return type.cast(manager);
+			}
+		}
+
+		throw new KeyStoreException("No %s available".formatted(type.getSimpleName()));
+	}
+
+	/**
+	 * Loaded material along with its generation.
+	 *
+	 * @param generation the generation, incremented with each reload.
+	 * @param material the loaded material.
+	 */
+	record Snapshot<T>(long generation, T material) {
+	}
+
+	/**
+	 * Callback to load key or trust material.
+	 */
+	@FunctionalInterface
+	interface MaterialLoader<T> {
+
+		T load() throws GeneralSecurityException, IOException;
+
+	}
+
+	/**
+	 * {@link X509ExtendedKeyManager} delegating to the current key manager. Aliases are
+	 * tagged with the material generation so that {@link #getCertificateChain(String)}
+	 * and {@link #getPrivateKey(String)} resolve the material the alias was chosen from.
+	 */
+	static class ReloadingX509KeyManager extends X509ExtendedKeyManager {
+
+		private static final String GENERATION_SEPARATOR = "::";
+
+		private final ReloadingSslMaterial<X509ExtendedKeyManager> material;
+
+		ReloadingX509KeyManager(ReloadingSslMaterial<X509ExtendedKeyManager> material) {
+			this.material = material;
+		}
+
+		ReloadingSslMaterial<X509ExtendedKeyManager> getMaterial() {
+			return this.material;
+		}
+
+		@Override
+		public String @Nullable [] getClientAliases(String keyType, Principal[] issuers) {
+
+			Snapshot<X509ExtendedKeyManager> snapshot = this.material.getSnapshot();
+			return tag(snapshot, snapshot.material().getClientAliases(keyType, issuers));
+		}
+
+		@Override
+		public @Nullable String chooseClientAlias(String[] keyType, Principal[] issuers, Socket socket) {
+
+			Snapshot<X509ExtendedKeyManager> snapshot = this.material.getSnapshot();
+			return tag(snapshot, snapshot.material().chooseClientAlias(keyType, issuers, socket));
+		}
+
+		@Override
+		public @Nullable String chooseEngineClientAlias(String[] keyType, Principal[] issuers, SSLEngine engine) {
+
+			Snapshot<X509ExtendedKeyManager> snapshot = this.material.getSnapshot();
+			return tag(snapshot, snapshot.material().chooseEngineClientAlias(keyType, issuers, engine));
+		}
+
+		@Override
+		public String @Nullable [] getServerAliases(String keyType, Principal[] issuers) {
+
+			Snapshot<X509ExtendedKeyManager> snapshot = this.material.getSnapshot();
+			return tag(snapshot, snapshot.material().getServerAliases(keyType, issuers));
+		}
+
+		@Override
+		public @Nullable String chooseServerAlias(String keyType, Principal[] issuers, Socket socket) {
+
+			Snapshot<X509ExtendedKeyManager> snapshot = this.material.getSnapshot();
+			return tag(snapshot, snapshot.material().chooseServerAlias(keyType, issuers, socket));
+		}
+
+		@Override
+		public @Nullable String chooseEngineServerAlias(String keyType, Principal[] issuers, SSLEngine engine) {
+
+			Snapshot<X509ExtendedKeyManager> snapshot = this.material.getSnapshot();
+			return tag(snapshot, snapshot.material().chooseEngineServerAlias(keyType, issuers, engine));
+		}
+
+		@Override
+		public X509Certificate[] getCertificateChain(String alias) {
+			return getKeyManager(alias).getCertificateChain(untag(alias));
+		}
+
+		@Override
+		public PrivateKey getPrivateKey(String alias) {
+			return getKeyManager(alias).getPrivateKey(untag(alias));
+		}
+
+		private X509ExtendedKeyManager getKeyManager(String alias) {
+
+			Long generation = getGeneration(alias);
+
+			return generation != null ? this.material.getSnapshot(generation).material() : this.material.get();
+		}
+
+		private static @Nullable String tag(Snapshot<?> snapshot, @Nullable String alias) {
+			return alias != null ? snapshot.generation() + GENERATION_SEPARATOR + alias : null;
+		}
+
+		private static String @Nullable [] tag(Snapshot<?> snapshot, String @Nullable [] aliases) {
+
+			if (aliases == null) {
+				return null;
+			}
+
+			String[] tagged = new String[aliases.length];
+			for (int i = 0; i < aliases.length; i++) {
+				tagged[i] = snapshot.generation() + GENERATION_SEPARATOR + aliases[i];
+			}
+
+			return tagged;
+		}
+
+		private static String untag(String alias) {
+			return getGeneration(alias) != null
+					? alias.substring(alias.indexOf(GENERATION_SEPARATOR) + GENERATION_SEPARATOR.length()) : alias;
+		}
+
+		private static @Nullable Long getGeneration(String alias) {
+
+			int separator = alias.indexOf(GENERATION_SEPARATOR);
+
+			if (separator <= 0) {
+				return null;
+			}
+
+			try {
+				return Long.parseLong(alias.substring(0, separator));
+			}
+			catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+	}
+
+	/**
+	 * {@link X509ExtendedTrustManager} delegating to the current trust manager.
+	 */
+	static class ReloadingX509TrustManager extends X509ExtendedTrustManager {
+
+		private final ReloadingSslMaterial<X509ExtendedTrustManager> material;
+
+		ReloadingX509TrustManager(ReloadingSslMaterial<X509ExtendedTrustManager> material) {
+			this.material = material;
+		}
+
+		ReloadingSslMaterial<X509ExtendedTrustManager> getMaterial() {
+			return this.material;
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			this.material.get().checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+				throws CertificateException {
+			this.material.get().checkClientTrusted(chain, authType, socket);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+				throws CertificateException {
+			this.material.get().checkClientTrusted(chain, authType, engine);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			this.material.get().checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+				throws CertificateException {
+			this.material.get().checkServerTrusted(chain, authType, socket);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+				throws CertificateException {
+			this.material.get().checkServerTrusted(chain, authType, engine);
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return this.material.get().getAcceptedIssuers();
+		}
+
+	}
+
+	static class FixedKeyManagerFactory extends KeyManagerFactory {
+
+		FixedKeyManagerFactory(KeyManager keyManager, Provider provider, String algorithm) {
+			super(new KeyManagerFactorySpi() {
+
+				@Override
+				protected void engineInit(@Nullable KeyStore keyStore, char @Nullable [] password) {
+				}
+
+				@Override
+				protected void engineInit(ManagerFactoryParameters parameters) {
+				}
+
+				@Override
+				protected KeyManager[] engineGetKeyManagers() {
+					return new KeyManager[] { keyManager };
+				}
+
+			}, provider, algorithm);
+		}
+
+	}
+
+	static class FixedTrustManagerFactory extends TrustManagerFactory {
+
+		FixedTrustManagerFactory(TrustManager trustManager, Provider provider, String algorithm) {
+			super(new TrustManagerFactorySpi() {
+
+				@Override
+				protected void engineInit(@Nullable KeyStore keyStore) {
+				}
+
+				@Override
+				protected void engineInit(ManagerFactoryParameters parameters) {
+				}
+
+				@Override
+				protected TrustManager[] engineGetTrustManagers() {
+					return new TrustManager[] { trustManager };
+				}
+
+			}, provider, algorithm);
+		}
+
+	}
+
+}
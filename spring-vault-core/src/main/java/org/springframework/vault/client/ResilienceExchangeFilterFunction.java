@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} applying a {@link ResiliencePolicy}. Reactive variant
+ * of {@link ResilienceInterceptor}.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ResilienceExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final ResiliencePolicy policy;
+
+	ResilienceExchangeFilterFunction(ResiliencePolicy policy) {
+		this.policy = policy;
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		return Mono.defer(() -> {
+
+			this.policy.onRequest();
+
+			return exchange(request, next, 1);
+		});
+	}
+
+	private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+
+		return Mono.defer(() -> {
+
+			this.policy.acquirePermission();
+
+			AtomicBoolean completed = new AtomicBoolean();
+
+			// release the permission of cancelled attempts to not leave a half-open trial pending
+			return next.exchange(request).doOnEach(signal -> completed.set(true)).doOnCancel(() -> {
+				if (!completed.get()) {
+					this.policy.releasePermission();
+				}
+			});
+		})
+			.map(response -> onResponse(request, next, attempt, response))
+			.onErrorResume(e -> Mono.just(onError(request, next, attempt, e)))
+			.flatMap(it -> it);
+	}
+
+	private Mono<ClientResponse> onResponse(ClientRequest request, ExchangeFunction next, int attempt,
+			ClientResponse response) {
+
+		int status = response.statusCode().value();
+		this.policy.onResponse(status);
+
+		Duration delay = this.policy.getRetryDelay(request.method(), attempt, status,
+				response.headers().asHttpHeaders());
+
+		if (delay == null) {
+			return Mono.just(response);
+		}
+
+		return response.releaseBody().then(Mono.delay(delay)).then(exchange(request, next, attempt + 1));
+	}
+
+	private Mono<ClientResponse> onError(ClientRequest request, ExchangeFunction next, int attempt, Throwable e) {
+
+		if (e instanceof CircuitBreakerOpenException) {
+			return Mono.error(e);
+		}
+
+		this.policy.onFailure();
+
+		Duration delay = this.policy.getRetryDelay(request.method(), attempt, e);
+
+		if (delay == null) {
+			return Mono.error(e);
+		}
+
+		return Mono.delay(delay).then(exchange(request, next, attempt + 1));
+	}
+
+}
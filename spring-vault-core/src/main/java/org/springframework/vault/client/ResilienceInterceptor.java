@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestInterceptor} applying a {@link ResiliencePolicy}. Backoff
+ * blocks the calling thread.
+ *
+ * @author agent
+ * @since 4.0
+ */
+class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+	private final ResiliencePolicy policy;
+
+	ResilienceInterceptor(ResiliencePolicy policy) {
+		this.policy = policy;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		this.policy.onRequest();
+
+		for (int attempt = 1;; attempt++) {
+
+			this.policy.acquirePermission();
+
+			ClientHttpResponse response;
+			int status;
+			boolean completed = false;
+
+			try {
+				response = execution.execute(request, body);
+				completed = true;
+			}
+			catch (IOException e) {
+
+				completed = true;
+				this.policy.onFailure();
+
+				Duration delay = this.policy.getRetryDelay(request.getMethod(), attempt, e);
+
+				if (delay == null) {
+					throw e;
+				}
+
+				sleep(delay);
+				continue;
+			}
+			finally {
+				// record unexpected exceptions as failure to not leave a half-open trial pending
+				if (!completed) {
+					this.policy.onFailure();
+				}
+			}
+
+			try {
+				status = response.getStatusCode().value();
+			}
+			catch (IOException | RuntimeException e) {
+				response.close();
+				this.policy.onFailure();
+				throw e;
+			}
+
+			this.policy.onResponse(status);
+
+			Duration delay = this.policy.getRetryDelay(request.getMethod(), attempt, status, response.getHeaders());
+
+			if (delay == null) {
+				return response;
+			}
+
+			response.close();
+			sleep(delay);
+		}
+	}
+
+	private static void sleep(Duration delay) throws InterruptedIOException {
+
+		try {
+			Thread.sleep(delay.toMillis());
+		}
+		catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+
+			InterruptedIOException exception = new InterruptedIOException("Interrupted during retry backoff");
+			exception.initCause(e);
+			throw exception;
+		}
+	}
+
+}
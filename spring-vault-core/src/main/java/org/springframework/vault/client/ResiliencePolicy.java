@@ -0,0 +1,631 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+
+/**
+ * Resilience policy for Vault requests combining retries, a retry budget and a circuit
+ * breaker.
+ * <p>
+ * Requests are retried with jittered exponential backoff. A {@code Retry-After} response
+ * header extends the backoff; responses asking to wait longer than the maximum backoff
+ * are not retried. Retries consider whether a request may have been processed by Vault:
+ * <ul>
+ * <li>Connection failures and {@code 412}, {@code 429} and {@code 503} responses are
+ * retried for all requests as Vault did not process the request.</li>
+ * <li>Other I/O errors and {@code 502} and {@code 504} responses are retried for
+ * idempotent requests ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code DELETE})
+ * only.</li>
+ * </ul>
+ * Each request adds a fraction of a token to the retry budget and each retry consumes a
+ * token so that retries cannot amplify load beyond the configured ratio while Vault is
+ * degraded.
+ * <p>
+ * The circuit breaker opens after a number of consecutive failures (I/O errors,
+ * {@code 502}, {@code 503}, {@code 504}) and rejects requests with
+ * {@link CircuitBreakerOpenException} until the open duration has elapsed. It then lets
+ * a single trial request pass and closes once the trial succeeds.
+ * <p>
+ * Retries and circuit breaker state transitions are recorded as
+ * {@code vault.client.retries} and {@code vault.client.circuit-breaker} observations
+ * if an {@link ObservationRegistry} is configured.
+ * <p>
+ * A policy holds the retry budget and circuit breaker state and should be shared by all
+ * clients that talk to the same Vault. Register the policy using
+ * {@link RestTemplateBuilder#resiliencePolicy(ResiliencePolicy)},
+ * {@link WebClientBuilder#resiliencePolicy(ResiliencePolicy)},
+ * {@link VaultClients#createResilienceInterceptor(ResiliencePolicy)} or
+ * {@link ReactiveVaultClients#resilience(ResiliencePolicy)}. This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see #builder()
+ */
+public class ResiliencePolicy {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+
+	public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+
+	public static final double DEFAULT_RETRY_BUDGET_RATIO = 0.2;
+
+	public static final int DEFAULT_RETRY_BUDGET_CAPACITY = 10;
+
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+	public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final int maxAttempts;
+
+	private final Duration initialBackoff;
+
+	private final Duration maxBackoff;
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	private final ObservationRegistry observationRegistry;
+
+	private final Clock clock;
+
+	private final RetryBudget retryBudget;
+
+	private final AtomicReference<CircuitBreakerState> state = new AtomicReference<>(CircuitBreakerState.CLOSED);
+
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+	private volatile long openedAt;
+
+	private final AtomicLong retries = new AtomicLong();
+
+	private final AtomicLong trips = new AtomicLong();
+
+	private ResiliencePolicy(ResiliencePolicyBuilder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.initialBackoff = builder.initialBackoff;
+		this.maxBackoff = builder.maxBackoff;
+		this.failureThreshold = builder.failureThreshold;
+		this.openDuration = builder.openDuration;
+		this.observationRegistry = builder.observationRegistry;
+		this.clock = builder.clock;
+		this.retryBudget = new RetryBudget(builder.retryBudgetRatio, builder.retryBudgetCapacity);
+	}
+
+	/**
+	 * @return a new {@link ResiliencePolicyBuilder}.
+	 */
+	public static ResiliencePolicyBuilder builder() {
+		return new ResiliencePolicyBuilder();
+	}
+
+	/**
+	 * @return the maximum number of attempts per request including the initial attempt.
+	 */
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * @return the initial backoff.
+	 */
+	public Duration getInitialBackoff() {
+		return this.initialBackoff;
+	}
+
+	/**
+	 * @return the maximum backoff.
+	 */
+	public Duration getMaxBackoff() {
+		return this.maxBackoff;
+	}
+
+	/**
+	 * @return the number of consecutive failures that open the circuit breaker. Zero if
+	 * the circuit breaker is disabled.
+	 */
+	public int getFailureThreshold() {
+		return this.failureThreshold;
+	}
+
+	/**
+	 * @return the duration the circuit breaker stays open before allowing a trial
+	 * request.
+	 */
+	public Duration getOpenDuration() {
+		return this.openDuration;
+	}
+
+	/**
+	 * @return the current {@link CircuitBreakerState}.
+	 */
+	public CircuitBreakerState getCircuitBreakerState() {
+		return this.state.get();
+	}
+
+	/**
+	 * @return the total number of retries.
+	 */
+	public long getRetryCount() {
+		return this.retries.get();
+	}
+
+	/**
+	 * @return the number of times the circuit breaker opened.
+	 */
+	public long getCircuitBreakerTrips() {
+		return this.trips.get();
+	}
+
+	/**
+	 * Register a new request with the retry budget.
+	 */
+	void onRequest() {
+		this.retryBudget.deposit();
+	}
+
+	/**
+	 * Acquire permission to send a request attempt.
+	 * @throws CircuitBreakerOpenException if the circuit breaker is open.
+	 */
+	void acquirePermission() {
+
+		if (this.failureThreshold == 0) {
+			return;
+		}
+
+		CircuitBreakerState current = this.state.get();
+
+		if (current == CircuitBreakerState.CLOSED) {
+			return;
+		}
+
+		if (current == CircuitBreakerState.OPEN
+				&& this.clock.millis() - this.openedAt >= this.openDuration.toMillis()
+				&& this.state.compareAndSet(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN)) {
+			recordTransition(CircuitBreakerState.HALF_OPEN);
+			return;
+		}
+
+		throw new CircuitBreakerOpenException("Circuit breaker is open; Vault is considered unavailable");
+	}
+
+	/**
+	 * Record the outcome of a request attempt that received a response.
+	 * @param status the HTTP status code.
+	 */
+	void onResponse(int status) {
+
+		if (isFailure(status)) {
+			onFailure();
+		}
+		else {
+			onSuccess();
+		}
+	}
+
+	/**
+	 * Record a failed request attempt.
+	 */
+	void onFailure() {
+
+		if (this.failureThreshold == 0) {
+			return;
+		}
+
+		CircuitBreakerState current = this.state.get();
+
+		if (current == CircuitBreakerState.HALF_OPEN) {
+			open(CircuitBreakerState.HALF_OPEN);
+			return;
+		}
+
+		if (current == CircuitBreakerState.CLOSED
+				&& this.consecutiveFailures.incrementAndGet() >= this.failureThreshold) {
+			open(CircuitBreakerState.CLOSED);
+		}
+	}
+
+	/**
+	 * Release the permission of a request attempt that was cancelled before it
+	 * completed. A cancelled trial request reopens the circuit breaker without extending
+	 * the open duration so that the next request is let through as trial request.
+	 */
+	void releasePermission() {
+
+		if (this.state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.OPEN)) {
+			recordTransition(CircuitBreakerState.OPEN);
+		}
+	}
+
+	private void onSuccess() {
+
+		this.consecutiveFailures.set(0);
+
+		if (this.state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.CLOSED)) {
+			recordTransition(CircuitBreakerState.CLOSED);
+		}
+	}
+
+	private void open(CircuitBreakerState expected) {
+
+		this.openedAt = this.clock.millis();
+
+		if (this.state.compareAndSet(expected, CircuitBreakerState.OPEN)) {
+			this.consecutiveFailures.set(0);
+			this.trips.incrementAndGet();
+			recordTransition(CircuitBreakerState.OPEN);
+		}
+	}
+
+	/**
+	 * Determine the delay before retrying a request that received a response.
+	 * @param method the request method.
+	 * @param attempt the number of attempts made so far.
+	 * @param status the HTTP status code.
+	 * @param headers the response headers.
+	 * @return the delay or {@literal null} if the request should not be retried.
+	 */
+	@Nullable
+	Duration getRetryDelay(HttpMethod method, int attempt, int status, HttpHeaders headers) {
+
+		boolean retryable = switch (status) {
+			case 412, 429, 503 -> true;
+			case 502, 504 -> isIdempotent(method);
+			default -> false;
+		};
+
+		if (!retryable) {
+			return null;
+		}
+
+		Duration delay = getBackoff(attempt);
+		Duration retryAfter = getRetryAfter(headers);
+
+		if (retryAfter != null) {
+
+			if (retryAfter.compareTo(this.maxBackoff) > 0) {
+				return null;
+			}
+
+			if (retryAfter.compareTo(delay) > 0) {
+				delay = retryAfter;
+			}
+		}
+
+		return retry(method, attempt, Integer.toString(status), delay);
+	}
+
+	/**
+	 * Determine the delay before retrying a request that failed with {@code error}.
+	 * @param method the request method.
+	 * @param attempt the number of attempts made so far.
+	 * @param error the failure.
+	 * @return the delay or {@literal null} if the request should not be retried.
+	 */
+	@Nullable
+	Duration getRetryDelay(HttpMethod method, int attempt, Throwable error) {
+
+		if (!ClusterVaultEndpointProvider.shouldFailover(error, isIdempotent(method))) {
+			return null;
+		}
+
+		return retry(method, attempt, error.getClass().getSimpleName(), getBackoff(attempt));
+	}
+
+	@Nullable
+	private Duration retry(HttpMethod method, int attempt, String reason, Duration delay) {
+
+		if (attempt >= this.maxAttempts || !this.retryBudget.tryWithdraw()) {
+			return null;
+		}
+
+		this.retries.incrementAndGet();
+
+		Observation.createNotStarted("vault.client.retries", this.observationRegistry)
+			.contextualName("vault retry")
+			.lowCardinalityKeyValue("method", method.name())
+			.lowCardinalityKeyValue("reason", reason)
+			.highCardinalityKeyValue("attempt", Integer.toString(attempt + 1))
+			.start()
+			.stop();
+
+		return delay;
+	}
+
+	/**
+	 * Calculate the jittered exponential backoff for the next attempt. The delay is
+	 * chosen randomly between half and the full exponential backoff.
+	 * @param attempt the number of attempts made so far.
+	 * @return the backoff.
+	 */
+	Duration getBackoff(int attempt) {
+
+		long cap = this.initialBackoff.toMillis() << Math.min(attempt - 1, 30);
+
+		if (cap <= 0 || cap > this.maxBackoff.toMillis()) {
+			cap = this.maxBackoff.toMillis();
+		}
+
+		long half = cap / 2;
+
+		return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(cap - half + 1));
+	}
+
+	@Nullable
+	private Duration getRetryAfter(HttpHeaders headers) {
+
+		String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+
+		if (value == null) {
+			return null;
+		}
+
+		try {
+			return Duration.ofSeconds(Long.parseLong(value.trim()));
+		}
+		catch (NumberFormatException e) {
+			// HTTP-date
+		}
+
+		try {
+			ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+			Duration delay = Duration.ofMillis(date.toInstant().toEpochMilli() - this.clock.millis());
+
+			return delay.isNegative() ? Duration.ZERO : delay;
+		}
+		catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private void recordTransition(CircuitBreakerState state) {
+
+		Observation.createNotStarted("vault.client.circuit-breaker", this.observationRegistry)
+			.contextualName("vault circuit-breaker")
+			.lowCardinalityKeyValue("state", state.name().toLowerCase())
+			.start()
+			.stop();
+	}
+
+	private static boolean isFailure(int status) {
+		return status == 502 || status == 503 || status == 504;
+	}
+
+	private static boolean isIdempotent(HttpMethod method) {
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)
+				|| HttpMethod.DELETE.equals(method);
+	}
+
+	/**
+	 * State of the circuit breaker.
+	 */
+	public enum CircuitBreakerState {
+
+		/**
+		 * Requests pass.
+		 */
+		CLOSED,
+
+		/**
+		 * Requests are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A single trial request passes to determine whether Vault has recovered.
+		 */
+		HALF_OPEN
+
+	}
+
+	/**
+	 * Token bucket limiting retries to a fraction of requests.
+	 */
+	static class RetryBudget {
+
+		private final double ratio;
+
+		private final int capacity;
+
+		private double tokens;
+
+		RetryBudget(double ratio, int capacity) {
+			this.ratio = ratio;
+			this.capacity = capacity;
+			this.tokens = capacity;
+		}
+
+		synchronized void deposit() {
+			this.tokens = Math.min(this.capacity, this.tokens + this.ratio);
+		}
+
+		synchronized boolean tryWithdraw() {
+
+			if (this.tokens < 1) {
+				return false;
+			}
+
+			this.tokens--;
+			return true;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link ResiliencePolicy}.
+	 */
+	public static class ResiliencePolicyBuilder {
+
+		private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+		private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+
+		private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+		private double retryBudgetRatio = DEFAULT_RETRY_BUDGET_RATIO;
+
+		private int retryBudgetCapacity = DEFAULT_RETRY_BUDGET_CAPACITY;
+
+		private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+
+		private Duration openDuration = DEFAULT_OPEN_DURATION;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private Clock clock = Clock.systemUTC();
+
+		ResiliencePolicyBuilder() {
+		}
+
+		/**
+		 * Configure the maximum number of attempts per request including the initial
+		 * attempt. Use {@literal 1} to disable retries.
+		 * @param maxAttempts must be greater than zero.
+		 * @return {@code this} {@link ResiliencePolicyBuilder}.
+		 * @see #DEFAULT_MAX_ATTEMPTS
+		 */
+		public ResiliencePolicyBuilder maxAttempts(int maxAttempts) {
+
+			Assert.isTrue(maxAttempts > 0, "Max attempts must be greater than zero");
+
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Configure the exponential backoff between attempts.
+		 * @param initialBackoff backoff before the first retry, must not be
+		 * {@literal null}, must be positive.
+		 * @param maxBackoff maximum backoff, must not be {@literal null}, must not be
+		 * less than {@code initialBackoff}.
+		 * @return {@code this} {@link ResiliencePolicyBuilder}.
+		 * @see #DEFAULT_INITIAL_BACKOFF
+		 * @see #DEFAULT_MAX_BACKOFF
+		 */
+		public ResiliencePolicyBuilder backoff(Duration initialBackoff, Duration maxBackoff) {
+
+			Assert.notNull(initialBackoff, "Initial backoff must not be null");
+			Assert.notNull(maxBackoff, "Max backoff must not be null");
+			Assert.isTrue(!initialBackoff.isNegative() && !initialBackoff.isZero(),
+					"Initial backoff must be positive");
+			Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0,
+					"Max backoff must not be less than initial backoff");
+
+			this.initialBackoff = initialBackoff;
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+
+		/**
+		 * Configure the retry budget. Each request adds {@code ratio} tokens to the
+		 * budget, each retry consumes one token.
+		 * @param ratio fraction of requests that may be retried, must be between zero
+		 * and one.
+		 * @param capacity maximum number of tokens to permit retry bursts, must be
+		 * greater than zero.
+		 * @return {@code this} {@link ResiliencePolicyBuilder}.
+		 * @see #DEFAULT_RETRY_BUDGET_RATIO
+		 * @see #DEFAULT_RETRY_BUDGET_CAPACITY
+		 */
+		public ResiliencePolicyBuilder retryBudget(double ratio, int capacity) {
+
+			Assert.isTrue(ratio >= 0 && ratio <= 1, "Retry budget ratio must be between zero and one");
+			Assert.isTrue(capacity > 0, "Retry budget capacity must be greater than zero");
+
+			this.retryBudgetRatio = ratio;
+			this.retryBudgetCapacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Configure the circuit breaker.
+		 * @param failureThreshold number of consecutive failures to open the circuit
+		 * breaker, {@literal 0} to disable the circuit breaker.
+		 * @param openDuration duration to reject requests before allowing a trial
+		 * request, must not be {@literal null}, must be positive.
+		 * @return {@code this} {@link ResiliencePolicyBuilder}.
+		 * @see #DEFAULT_FAILURE_THRESHOLD
+		 * @see #DEFAULT_OPEN_DURATION
+		 */
+		public ResiliencePolicyBuilder circuitBreaker(int failureThreshold, Duration openDuration) {
+
+			Assert.isTrue(failureThreshold >= 0, "Failure threshold must not be negative");
+			Assert.notNull(openDuration, "Open duration must not be null");
+			Assert.isTrue(!openDuration.isNegative() && !openDuration.isZero(), "Open duration must be positive");
+
+			this.failureThreshold = failureThreshold;
+			this.openDuration = openDuration;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link ObservationRegistry} to record retries and circuit
+		 * breaker state transitions.
+		 * @param observationRegistry must not be {@literal null}.
+		 * @return {@code this} {@link ResiliencePolicyBuilder}.
+		 */
+		public ResiliencePolicyBuilder observationRegistry(ObservationRegistry observationRegistry) {
+
+			Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Clock}.
+		 * @param clock must not be {@literal null}.
+		 * @return {@code this} {@link ResiliencePolicyBuilder}.
+		 */
+		public ResiliencePolicyBuilder clock(Clock clock) {
+
+			Assert.notNull(clock, "Clock must not be null");
+
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link ResiliencePolicy} instance.
+		 * @return a new {@link ResiliencePolicy}.
+		 */
+		public ResiliencePolicy build() {
+			return new ResiliencePolicy(this);
+		}
+
+	}
+
+}
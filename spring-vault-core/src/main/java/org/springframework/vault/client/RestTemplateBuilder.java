@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -34,6 +35,7 @@ import org.springframework.http.HttpRequest;
 import org.springframework.http.client.AbstractClientHttpRequestFactoryWrapper;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
 import org.springframework.util.Assert;
 import org.springframework.vault.support.ClientOptions;
 import org.springframework.vault.support.SslConfiguration;
@@ -63,6 +65,14 @@ public class RestTemplateBuilder {
 
 	private @Nullable ResponseErrorHandler errorHandler;
 
+	private @Nullable ObservationRegistry observationRegistry;
+
+	private ClientRequestObservationConvention observationConvention = new VaultClientRequestObservationConvention();
+
+	private @Nullable ResiliencePolicy resiliencePolicy;
+
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
 	private final Map<String, String> defaultHeaders = new LinkedHashMap<>();
 
 	private final List<RestTemplateCustomizer> customizers = new ArrayList<>();
@@ -145,6 +155,71 @@ public class RestTemplateBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} to record observations for Vault requests.
+	 * Observations use {@link VaultClientRequestObservationConvention} by default that
+	 * tags requests with low-cardinality path templates.
+	 * @param observationRegistry the observation registry to use.
+	 * @return {@code this} {@link RestTemplateBuilder}.
+	 * @since 4.0
+	 * @see #observationConvention(ClientRequestObservationConvention)
+	 */
+	public RestTemplateBuilder observationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+		return this;
+	}
+
+	/**
+	 * Set the {@link ClientRequestObservationConvention} to use when recording
+	 * observations. Only applied if an {@link #observationRegistry(ObservationRegistry)
+	 * ObservationRegistry} is configured.
+	 * @param observationConvention the observation convention to use.
+	 * @return {@code this} {@link RestTemplateBuilder}.
+	 * @since 4.0
+	 */
+	public RestTemplateBuilder observationConvention(ClientRequestObservationConvention observationConvention) {
+
+		Assert.notNull(observationConvention, "ClientRequestObservationConvention must not be null");
+
+		this.observationConvention = observationConvention;
+		return this;
+	}
+
+	/**
+	 * Set the {@link ResiliencePolicy} to apply retries and circuit breaking to Vault
+	 * requests. The policy is applied as the first interceptor so that retries pass through
+	 * all other interceptors.
+	 * @param resiliencePolicy the resilience policy to use.
+	 * @return {@code this} {@link RestTemplateBuilder}.
+	 * @since 4.0
+	 */
+	public RestTemplateBuilder resiliencePolicy(ResiliencePolicy resiliencePolicy) {
+
+		Assert.notNull(resiliencePolicy, "ResiliencePolicy must not be null");
+
+		this.resiliencePolicy = resiliencePolicy;
+		return this;
+	}
+
+	/**
+	 * Set the {@link ConcurrencyLimiter} to limit concurrent Vault requests. The limiter
+	 * is applied inside the {@link #resiliencePolicy(ResiliencePolicy) resilience
+	 * policy} so that backoff does not hold a permit.
+	 * @param concurrencyLimiter the concurrency limiter to use.
+	 * @return {@code this} {@link RestTemplateBuilder}.
+	 * @since 4.0
+	 */
+	public RestTemplateBuilder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+
+		Assert.notNull(concurrencyLimiter, "ConcurrencyLimiter must not be null");
+
+		this.concurrencyLimiter = concurrencyLimiter;
+		return this;
+	}
+
 	/**
 	 * Add a default header that will be set if not already present on the outgoing
 	 * {@link HttpRequest}.
@@ -194,8 +269,9 @@ public class RestTemplateBuilder {
 	/**
 	 * Build a new {@link RestTemplate}. {@link VaultEndpoint} must be set.
 	 *
-	 * Applies also {@link ResponseErrorHandler} and {@link RestTemplateCustomizer} if
-	 * configured.
+	 * Applies also {@link ResponseErrorHandler}, {@link ResiliencePolicy},
+	 * {@link ConcurrencyLimiter}, {@link ObservationRegistry} and
+	 * {@link RestTemplateCustomizer} if configured.
 	 * @return a new {@link RestTemplate}.
 	 */
 	public RestTemplate build() {
@@ -208,6 +284,21 @@ public class RestTemplateBuilder {
 			restTemplate.setErrorHandler(this.errorHandler);
 		}
 
+		ConcurrencyLimiter concurrencyLimiter = this.concurrencyLimiter;
+		if (concurrencyLimiter != null) {
+			restTemplate.getInterceptors().add(0, VaultClients.createConcurrencyLimitInterceptor(concurrencyLimiter));
+		}
+
+		ResiliencePolicy resiliencePolicy = this.resiliencePolicy;
+		if (resiliencePolicy != null) {
+			restTemplate.getInterceptors().add(0, VaultClients.createResilienceInterceptor(resiliencePolicy));
+		}
+
+		if (this.observationRegistry != null) {
+			restTemplate.setObservationRegistry(this.observationRegistry);
+			restTemplate.setObservationConvention(this.observationConvention);
+		}
+
 		this.customizers.forEach(customizer -> customizer.customize(restTemplate));
 
 		return restTemplate;
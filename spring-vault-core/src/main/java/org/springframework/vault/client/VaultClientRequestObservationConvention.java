@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link org.springframework.http.client.observation.ClientRequestObservationConvention}
+ * for Vault requests issued through {@link RestTemplate}. Tags observations with a
+ * low-cardinality {@link VaultPathTemplates path template} (mount and operation)
+ * instead of the full secret path and records request and response payload sizes as
+ * high-cardinality key values when the {@code Content-Length} is known.
+ *
+ * @author agent
+ * @since 4.0
+ * @see RestTemplateBuilder#observationRegistry(io.micrometer.observation.ObservationRegistry)
+ * @see VaultPathTemplates
+ */
+public class VaultClientRequestObservationConvention extends DefaultClientRequestObservationConvention {
+
+	/**
+	 * Default observation name.
+	 */
+	public static final String DEFAULT_NAME = "vault.client.requests";
+
+	static final String REQUEST_SIZE = "vault.request.size";
+
+	static final String RESPONSE_SIZE = "vault.response.size";
+
+	/**
+	 * Create a new {@link VaultClientRequestObservationConvention} using
+	 * {@link #DEFAULT_NAME}.
+	 */
+	public VaultClientRequestObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a new {@link VaultClientRequestObservationConvention} given the observation
+	 * {@code name}.
+	 * @param name the observation name.
+	 */
+	public VaultClientRequestObservationConvention(String name) {
+		super(name);
+	}
+
+	@Override
+	protected KeyValue uri(ClientRequestObservationContext context) {
+
+		ClientHttpRequest request = context.getCarrier();
+
+		if (request != null) {
+			return KeyValue.of("uri", getPathTemplate(request.getURI()));
+		}
+
+		return super.uri(context);
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ClientRequestObservationContext context) {
+
+		KeyValues keyValues = super.getHighCardinalityKeyValues(context);
+
+		ClientHttpRequest request = context.getCarrier();
+		if (request != null) {
+			keyValues = withContentLength(keyValues, REQUEST_SIZE, request.getHeaders());
+		}
+
+		ClientHttpResponse response = context.getResponse();
+		if (response != null) {
+			keyValues = withContentLength(keyValues, RESPONSE_SIZE, response.getHeaders());
+		}
+
+		return keyValues;
+	}
+
+	/**
+	 * Derive the path template for a request {@link URI}. Subclasses may override this
+	 * method to customize path templating.
+	 * @param uri the request URI.
+	 * @return the path template.
+	 * @see VaultPathTemplates#fromPath(String)
+	 */
+	protected String getPathTemplate(URI uri) {
+
+		String path = uri.getRawPath();
+		return VaultPathTemplates.fromPath(path != null ? path : "");
+	}
+
+	static KeyValues withContentLength(KeyValues keyValues, String key, @Nullable HttpHeaders headers) {
+
+		if (headers == null) {
+			return keyValues;
+		}
+
+		long contentLength = headers.getContentLength();
+		return contentLength >= 0 ? keyValues.and(key, Long.toString(contentLength)) : keyValues;
+	}
+
+}
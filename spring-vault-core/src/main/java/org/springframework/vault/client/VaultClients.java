@@ -18,12 +18,14 @@ package org.springframework.vault.client;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -91,6 +93,10 @@ public class VaultClients {
 		restTemplate.setRequestFactory(requestFactory);
 		restTemplate.setUriTemplateHandler(createUriBuilderFactory(endpointProvider));
 
+		if (endpointProvider instanceof ClusterVaultEndpointProvider cluster) {
+			restTemplate.getInterceptors().add(cluster);
+		}
+
 		return restTemplate;
 	}
 
@@ -145,6 +151,111 @@ public class VaultClients {
 		};
 	}
 
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that sets the {@code X-Vault-Namespace}
+	 * header to the namespace bound to the calling thread through
+	 * {@link VaultNamespaceContextHolder}. The bound namespace takes precedence over a
+	 * namespace configured through {@link #createNamespaceInterceptor(String)} when
+	 * registered after that interceptor. Requests are left unchanged if no namespace is
+	 * bound.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @see VaultNamespaceContextHolder
+	 * @since 4.0
+	 */
+	public static ClientHttpRequestInterceptor createNamespaceRoutingInterceptor() {
+
+		return (request, body, execution) -> {
+
+			String namespace = VaultNamespaceContextHolder.getNamespace();
+
+			if (namespace != null) {
+				request.getHeaders().set(VaultHttpHeaders.VAULT_NAMESPACE, namespace);
+			}
+
+			return execution.execute(request, body);
+		};
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that forwards replication states
+	 * tracked by {@link VaultIndexTracker} with each request and records replication
+	 * states returned by Vault. Requests that cannot be served consistently by a standby
+	 * node are forwarded to the active node.
+	 * @param tracker the tracker to use. Must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @see VaultHttpHeaders#VAULT_INDEX
+	 * @since 4.0
+	 */
+	public static ClientHttpRequestInterceptor createConsistencyInterceptor(VaultIndexTracker tracker) {
+		return createConsistencyInterceptor(tracker, VaultIndexTracker.Inconsistency.FORWARD_ACTIVE_NODE);
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that forwards replication states
+	 * tracked by {@link VaultIndexTracker} with each request and records replication
+	 * states returned by Vault.
+	 * @param tracker the tracker to use. Must not be {@literal null}.
+	 * @param inconsistency handling of requests that cannot be served consistently. Must
+	 * not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @see VaultHttpHeaders#VAULT_INDEX
+	 * @since 4.0
+	 */
+	public static ClientHttpRequestInterceptor createConsistencyInterceptor(VaultIndexTracker tracker,
+			VaultIndexTracker.Inconsistency inconsistency) {
+
+		Assert.notNull(tracker, "VaultIndexTracker must not be null");
+		Assert.notNull(inconsistency, "Inconsistency must not be null");
+
+		return (request, body, execution) -> {
+
+			AtomicReference<List<String>> states = tracker.getStateHolder();
+
+			VaultIndexTracker.applyHeaders(states, inconsistency, request.getHeaders());
+
+			ClientHttpResponse response = execution.execute(request, body);
+
+			VaultIndexTracker.recordHeaders(states, response.getHeaders());
+
+			return response;
+		};
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that applies retries and circuit
+	 * breaking according to {@link ResiliencePolicy}. Register the interceptor as first
+	 * interceptor so that retries pass through all other interceptors.
+	 * @param policy the resilience policy to use. Must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.0
+	 */
+	public static ClientHttpRequestInterceptor createResilienceInterceptor(ResiliencePolicy policy) {
+
+		Assert.notNull(policy, "ResiliencePolicy must not be null");
+
+		return new ResilienceInterceptor(policy);
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that limits concurrent requests
+	 * according to {@link ConcurrencyLimiter}. Requests that cannot be admitted within
+	 * the queueing deadline fail with {@link ConcurrencyLimitExceededException}.
+	 * @param limiter the concurrency limiter to use. Must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.0
+	 */
+	public static ClientHttpRequestInterceptor createConcurrencyLimitInterceptor(ConcurrencyLimiter limiter) {
+
+		Assert.notNull(limiter, "ConcurrencyLimiter must not be null");
+
+		return new ConcurrencyLimitInterceptor(limiter);
+	}
+
 	public static UriBuilderFactory createUriBuilderFactory(VaultEndpointProvider endpointProvider) {
 		return new PrefixAwareUriBuilderFactory(endpointProvider);
 	}
@@ -18,6 +18,7 @@ package org.springframework.vault.client;
 import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
@@ -30,6 +31,9 @@ import org.springframework.util.StringUtils;
  * <p>
  * A {@link VaultEndpoint} defines the hostname, TCP port, the protocol scheme (HTTP or
  * HTTPS), and the context path prefix. The path defaults to {@link #API_VERSION}.
+ * Alternatively, a {@link VaultEndpoint} can point to a Unix domain socket, typically
+ * exposed by a co-located Vault Agent or Vault Proxy. Requests to a Unix domain socket
+ * use {@code http://localhost} as request URI.
  *
  * @author Mark Paluch
  */
@@ -57,6 +61,11 @@ public class VaultEndpoint implements Serializable {
 	 */
 	private String path = API_VERSION;
 
+	/**
+	 * Path to the Unix domain socket of the Vault server.
+	 */
+	private @Nullable String unixDomainSocket;
+
 	/**
 	 * Create a secure {@link VaultEndpoint} given a {@code host} and {@code port} using
 	 * {@code https}.
@@ -76,6 +85,25 @@ public class VaultEndpoint implements Serializable {
 		return vaultEndpoint;
 	}
 
+	/**
+	 * Create a {@link VaultEndpoint} connecting to a Unix domain socket using
+	 * {@code http}.
+	 * @param socket path to the Unix domain socket, must not be {@literal null}.
+	 * @return a new {@link VaultEndpoint}.
+	 * @since 4.0
+	 */
+	public static VaultEndpoint unixDomainSocket(Path socket) {
+
+		Assert.notNull(socket, "Socket path must not be null");
+
+		VaultEndpoint vaultEndpoint = new VaultEndpoint();
+
+		vaultEndpoint.setScheme("http");
+		vaultEndpoint.setUnixDomainSocket(socket);
+
+		return vaultEndpoint;
+	}
+
 	/**
 	 * Create a {@link VaultEndpoint} given a {@link String URI}.
 	 * @param uri must contain hostname, port and scheme, must not be empty or
@@ -89,15 +117,26 @@ public class VaultEndpoint implements Serializable {
 	}
 
 	/**
-	 * Create a {@link VaultEndpoint} given a {@link URI}.
+	 * Create a {@link VaultEndpoint} given a {@link URI}. {@code unix} URIs (e.g.
+	 * {@code unix:///var/run/vault/agent.sock}) create a {@link VaultEndpoint} connecting
+	 * to a Unix domain socket.
 	 * @param uri must contain hostname, port and scheme, must not be empty or
 	 * {@literal null}.
 	 * @return a new {@link VaultEndpoint}.
+	 * @see #unixDomainSocket(Path)
 	 */
 	public static VaultEndpoint from(URI uri) {
 
 		Assert.notNull(uri, "URI must not be null");
 		Assert.hasText(uri.getScheme(), "Scheme must not be empty");
+
+		if ("unix".equals(uri.getScheme())) {
+
+			Assert.hasText(uri.getPath(), "Socket path must not be empty");
+
+			return unixDomainSocket(Path.of(uri.getPath()));
+		}
+
 		Assert.hasText(uri.getHost(), "Host must not be empty");
 
 		VaultEndpoint vaultEndpoint = new VaultEndpoint();
@@ -197,6 +236,34 @@ public class VaultEndpoint implements Serializable {
 		this.path = path;
 	}
 
+	/**
+	 * @return the path to the Unix domain socket or {@literal null} if this endpoint
+	 * uses TCP.
+	 * @since 4.0
+	 */
+	public @Nullable Path getUnixDomainSocket() {
+
+		String unixDomainSocket = this.unixDomainSocket;
+		return unixDomainSocket != null ? Path.of(unixDomainSocket) : null;
+	}
+
+	/**
+	 * @param unixDomainSocket path to the Unix domain socket, may be {@literal null} to
+	 * use TCP.
+	 * @since 4.0
+	 */
+	public void setUnixDomainSocket(@Nullable Path unixDomainSocket) {
+		this.unixDomainSocket = unixDomainSocket != null ? unixDomainSocket.toString() : null;
+	}
+
+	/**
+	 * @return {@literal true} if this endpoint connects to a Unix domain socket.
+	 * @since 4.0
+	 */
+	public boolean isUnixDomainSocket() {
+		return this.unixDomainSocket != null;
+	}
+
 	/**
 	 * Build the Vault {@link URI} based on the given {@code path}.
 	 * @param path must not be empty or {@literal null}.
@@ -225,16 +292,21 @@ public class VaultEndpoint implements Serializable {
 		if (!(o instanceof VaultEndpoint that))
 			return false;
 		return this.port == that.port && this.host.equals(that.host) && this.scheme.equals(that.scheme)
-				&& this.path.equals(that.path);
+				&& this.path.equals(that.path) && Objects.equals(this.unixDomainSocket, that.unixDomainSocket);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.host, this.port, this.scheme, this.path);
+		return Objects.hash(this.host, this.port, this.scheme, this.path, this.unixDomainSocket);
 	}
 
 	@Override
 	public String toString() {
+
+		if (this.unixDomainSocket != null) {
+			return "unix://%s".formatted(this.unixDomainSocket);
+		}
+
 		return "%s://%s:%d".formatted(this.scheme, this.host, this.port);
 	}
 
@@ -38,6 +38,24 @@ public abstract class VaultHttpHeaders {
 	 */
 	public static final String VAULT_NAMESPACE = "X-Vault-Namespace";
 
+	/**
+	 * The HTTP {@code X-Vault-Index} header field name carrying the replication state of
+	 * a Vault node.
+	 *
+	 * @since 4.0
+	 * @see VaultIndexTracker
+	 */
+	public static final String VAULT_INDEX = "X-Vault-Index";
+
+	/**
+	 * The HTTP {@code X-Vault-Inconsistent} header field name that controls how a Vault
+	 * node handles requests it cannot serve consistently.
+	 *
+	 * @since 4.0
+	 * @see VaultIndexTracker
+	 */
+	public static final String VAULT_INCONSISTENT = "X-Vault-Inconsistent";
+
 	private VaultHttpHeaders() {
 	}
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.util.Assert;
+
+/**
+ * Holder associating an identity with the current thread. An identity is an
+ * application-defined key (e.g. the name of an AppRole or a Kubernetes role) that
+ * {@link org.springframework.vault.authentication.IdentityRoutingSessionManager} uses to
+ * select the {@link org.springframework.vault.authentication.SessionManager} and
+ * therefore the token for requests issued by the calling thread. This allows a single
+ * {@link org.springframework.vault.core.VaultTemplate} to act on behalf of multiple
+ * identities.
+ * <p>
+ * Identity binding is scoped to the calling thread and does not propagate to threads
+ * that are used to run asynchronous or background tasks. Reactive callers bind the
+ * identity to the subscriber {@link reactor.util.context.Context} under
+ * {@link #CONTEXT_KEY} instead.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultNamespaceContextHolder
+ * @see org.springframework.vault.authentication.IdentityRoutingSessionManager
+ */
+public abstract class VaultIdentityContextHolder {
+
+	/**
+	 * Key under which the identity is bound to a Reactor
+	 * {@link reactor.util.context.Context}.
+	 */
+	public static final String CONTEXT_KEY = VaultIdentityContextHolder.class.getName() + ".identity";
+
+	private static final ThreadLocal<@Nullable String> identityHolder = new NamedThreadLocal<>("Vault identity");
+
+	private VaultIdentityContextHolder() {
+	}
+
+	/**
+	 * Return the identity bound to the current thread.
+	 * @return the identity bound to the current thread or {@literal null} if none is
+	 * bound.
+	 */
+	public static @Nullable String getIdentity() {
+		return identityHolder.get();
+	}
+
+	/**
+	 * Bind the given {@code identity} to the current thread.
+	 * @param identity the identity to bind. Can be {@literal null} to reset the identity
+	 * binding.
+	 */
+	public static void setIdentity(@Nullable String identity) {
+
+		if (identity == null) {
+			resetIdentity();
+			return;
+		}
+
+		Assert.hasText(identity, "Identity must not be empty");
+
+		identityHolder.set(identity);
+	}
+
+	/**
+	 * Reset the identity binding for the current thread.
+	 */
+	public static void resetIdentity() {
+		identityHolder.remove();
+	}
+
+	/**
+	 * Invoke {@code callback} with {@code identity} bound to the current thread and
+	 * restore the previous binding afterwards.
+	 * @param identity the identity to bind. Must not be {@literal null} or empty.
+	 * @param callback the callback to invoke. Must not be {@literal null}.
+	 * @return the result of {@code callback}.
+	 */
+	public static <T extends @Nullable Object> T withIdentity(String identity, Supplier<T> callback) {
+
+		Assert.hasText(identity, "Identity must not be empty");
+		Assert.notNull(callback, "Callback must not be null");
+
+		String previous = identityHolder.get();
+		identityHolder.set(identity);
+
+		try {
+			return callback.get();
+		}
+		finally {
+			setIdentity(previous);
+		}
+	}
+
+}
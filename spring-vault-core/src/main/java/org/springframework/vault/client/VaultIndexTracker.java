@@ -0,0 +1,288 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Tracker for Vault replication states ({@code X-Vault-Index}) to provide
+ * read-your-writes consistency when reading from Vault performance standby nodes.
+ * <p>
+ * Vault returns the replication state of a node with the {@code X-Vault-Index} response
+ * header. Forwarding the latest state with subsequent requests instructs a standby node
+ * to serve the request only if it has caught up with the state, otherwise the request
+ * is {@link Inconsistency handled} according to {@code X-Vault-Inconsistent}. The tracker
+ * merges states so that it retains the most recent state per cluster.
+ * <p>
+ * Trackers have a scope that determines which requests share states:
+ * <ul>
+ * <li>{@link #global()}: states are shared by all clients using the global tracker.</li>
+ * <li>{@link #create()}: states are shared by all clients using the same tracker
+ * instance, for example a session.</li>
+ * <li>{@link #threadLocal()}: states are tracked per thread. Reactive clients bind the
+ * state of the subscribing thread to the request.</li>
+ * </ul>
+ * Register the tracker using {@link VaultClients#createConsistencyInterceptor} or
+ * {@link ReactiveVaultClients#consistency}. This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultHttpHeaders#VAULT_INDEX
+ * @see VaultHttpHeaders#VAULT_INCONSISTENT
+ */
+public class VaultIndexTracker {
+
+	private static final VaultIndexTracker GLOBAL = create();
+
+	private final Supplier<AtomicReference<List<String>>> states;
+
+	private VaultIndexTracker(Supplier<AtomicReference<List<String>>> states) {
+		this.states = states;
+	}
+
+	/**
+	 * @return the shared global {@link VaultIndexTracker}.
+	 */
+	public static VaultIndexTracker global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Create a new {@link VaultIndexTracker} that retains states for all requests using
+	 * this tracker instance.
+	 * @return a new {@link VaultIndexTracker}.
+	 */
+	public static VaultIndexTracker create() {
+
+		AtomicReference<List<String>> states = new AtomicReference<>(List.of());
+
+		return new VaultIndexTracker(() -> states);
+	}
+
+	/**
+	 * Create a new {@link VaultIndexTracker} that retains states per thread.
+	 * @return a new thread-bound {@link VaultIndexTracker}.
+	 */
+	public static VaultIndexTracker threadLocal() {
+
+		ThreadLocal<AtomicReference<List<String>>> states = ThreadLocal
+			.withInitial(() -> new AtomicReference<>(List.of()));
+
+		return new VaultIndexTracker(states::get);
+	}
+
+	/**
+	 * @return the current replication states.
+	 */
+	public List<String> getStates() {
+		return this.states.get().get();
+	}
+
+	/**
+	 * Record a replication state. The state replaces older states of the same cluster.
+	 * @param state the {@code X-Vault-Index} header value, must not be {@literal null}.
+	 */
+	public void record(String state) {
+
+		Assert.notNull(state, "State must not be null");
+
+		record(this.states.get(), state);
+	}
+
+	/**
+	 * Clear all replication states.
+	 */
+	public void reset() {
+		this.states.get().set(List.of());
+	}
+
+	/**
+	 * Return the state holder of the current scope to bind it to a request.
+	 * @return the state holder of the current scope.
+	 */
+	AtomicReference<List<String>> getStateHolder() {
+		return this.states.get();
+	}
+
+	/**
+	 * Apply replication states to the request headers. Existing
+	 * {@code X-Vault-Index} headers are retained.
+	 * @param states the state holder.
+	 * @param inconsistency the inconsistency handling.
+	 * @param headers the request headers.
+	 */
+	static void applyHeaders(AtomicReference<List<String>> states, Inconsistency inconsistency, HttpHeaders headers) {
+
+		List<String> current = states.get();
+
+		if (current.isEmpty() || headers.containsHeader(VaultHttpHeaders.VAULT_INDEX)) {
+			return;
+		}
+
+		current.forEach(state -> headers.add(VaultHttpHeaders.VAULT_INDEX, state));
+
+		if (!headers.containsHeader(VaultHttpHeaders.VAULT_INCONSISTENT)) {
+			headers.add(VaultHttpHeaders.VAULT_INCONSISTENT, inconsistency.getHeaderValue());
+		}
+	}
+
+	/**
+	 * Record replication states from response headers.
+	 * @param states the state holder.
+	 * @param headers the response headers.
+	 */
+	static void recordHeaders(AtomicReference<List<String>> states, HttpHeaders headers) {
+
+		List<String> values = headers.get(VaultHttpHeaders.VAULT_INDEX);
+
+		if (values != null) {
+			values.forEach(value -> record(states, value));
+		}
+	}
+
+	private static void record(AtomicReference<List<String>> states, String state) {
+
+		if (!StringUtils.hasText(state)) {
+			return;
+		}
+
+		states.updateAndGet(current -> merge(current, state));
+	}
+
+	/**
+	 * Merge {@code state} into {@code states}. Retains the dominating state per cluster.
+	 * States that cannot be compared are both retained.
+	 * @param states the current states.
+	 * @param state the new state.
+	 * @return the merged states.
+	 */
+	static List<String> merge(List<String> states, String state) {
+
+		ReplicationState candidate = ReplicationState.parse(state);
+		List<String> merged = new ArrayList<>(states.size() + 1);
+
+		for (String existing : states) {
+
+			if (existing.equals(state)) {
+				return states;
+			}
+
+			ReplicationState other = ReplicationState.parse(existing);
+
+			if (candidate == null || other == null || !candidate.clusterId.equals(other.clusterId)) {
+				merged.add(existing);
+				continue;
+			}
+
+			if (other.dominates(candidate)) {
+				return states;
+			}
+
+			if (!candidate.dominates(other)) {
+				merged.add(existing);
+			}
+		}
+
+		merged.add(state);
+
+		return List.copyOf(merged);
+	}
+
+	/**
+	 * Handling of requests that cannot be served consistently by a standby node.
+	 */
+	public enum Inconsistency {
+
+		/**
+		 * Forward the request to the active node.
+		 */
+		FORWARD_ACTIVE_NODE("forward-active-node"),
+
+		/**
+		 * Fail the request with {@code 412 Precondition Failed} so that it can be retried.
+		 */
+		FAIL("fail");
+
+		private final String headerValue;
+
+		Inconsistency(String headerValue) {
+			this.headerValue = headerValue;
+		}
+
+		/**
+		 * @return the {@code X-Vault-Inconsistent} header value.
+		 */
+		public String getHeaderValue() {
+			return this.headerValue;
+		}
+
+	}
+
+	/**
+	 * Decoded replication state
+	 * ({@code v1:<cluster-id>:<local-index>:<replicated-index>:<hmac>}).
+	 */
+	static class ReplicationState {
+
+		final String clusterId;
+
+		final long localIndex;
+
+		final long replicatedIndex;
+
+		ReplicationState(String clusterId, long localIndex, long replicatedIndex) {
+			this.clusterId = clusterId;
+			this.localIndex = localIndex;
+			this.replicatedIndex = replicatedIndex;
+		}
+
+		@Nullable
+		static ReplicationState parse(String state) {
+
+			try {
+
+				String decoded = new String(Base64.getDecoder().decode(state), StandardCharsets.UTF_8);
+				String[] parts = decoded.split(":");
+
+				if (parts.length != 5 || !"v1".equals(parts[0])) {
+					return null;
+				}
+
+				return new ReplicationState(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+			}
+			catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+
+		boolean dominates(ReplicationState other) {
+			return this.localIndex >= other.localIndex && this.replicatedIndex >= other.replicatedIndex;
+		}
+
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.util.Assert;
+
+/**
+ * Holder associating a Vault Enterprise namespace with the current thread. Requests
+ * issued through a {@link org.springframework.web.client.RestTemplate} that uses
+ * {@link VaultClients#createNamespaceRoutingInterceptor()} are routed to the namespace
+ * bound to the calling thread. This allows multiple tenants to share a single
+ * {@link org.springframework.web.client.RestTemplate} and its connection pool while
+ * selecting the namespace per call or per scope (e.g. per inbound request).
+ * <p>
+ * Namespace binding is scoped to the calling thread and does not propagate to threads
+ * that are used to run asynchronous or background tasks. Reactive callers bind the
+ * namespace to the subscriber {@link reactor.util.context.Context} under
+ * {@link #CONTEXT_KEY} instead.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultClients#createNamespaceRoutingInterceptor()
+ */
+public abstract class VaultNamespaceContextHolder {
+
+	/**
+	 * Key under which the namespace is bound to a Reactor
+	 * {@link reactor.util.context.Context}.
+	 */
+	public static final String CONTEXT_KEY = VaultNamespaceContextHolder.class.getName() + ".namespace";
+
+	private static final ThreadLocal<@Nullable String> namespaceHolder = new NamedThreadLocal<>("Vault namespace");
+
+	private VaultNamespaceContextHolder() {
+	}
+
+	/**
+	 * Return the namespace bound to the current thread.
+	 * @return the namespace bound to the current thread or {@literal null} if none is
+	 * bound.
+	 */
+	public static @Nullable String getNamespace() {
+		return namespaceHolder.get();
+	}
+
+	/**
+	 * Bind the given {@code namespace} to the current thread.
+	 * @param namespace the namespace to bind. Can be {@literal null} to reset the
+	 * namespace binding.
+	 */
+	public static void setNamespace(@Nullable String namespace) {
+
+		if (namespace == null) {
+			resetNamespace();
+			return;
+		}
+
+		Assert.hasText(namespace, "Vault Namespace must not be empty");
+
+		namespaceHolder.set(namespace);
+	}
+
+	/**
+	 * Reset the namespace binding for the current thread.
+	 */
+	public static void resetNamespace() {
+		namespaceHolder.remove();
+	}
+
+	/**
+	 * Invoke {@code callback} with {@code namespace} bound to the current thread and
+	 * restore the previous binding afterwards.
+	 * @param namespace the namespace to bind. Must not be {@literal null} or empty.
+	 * @param callback the callback to invoke. Must not be {@literal null}.
+	 * @return the result of {@code callback}.
+	 */
+	public static <T extends @Nullable Object> T withNamespace(String namespace, Supplier<T> callback) {
+
+		Assert.hasText(namespace, "Vault Namespace must not be empty");
+		Assert.notNull(callback, "Callback must not be null");
+
+		String previous = namespaceHolder.get();
+		namespaceHolder.set(namespace);
+
+		try {
+			return callback.get();
+		}
+		finally {
+			setNamespace(previous);
+		}
+	}
+
+}
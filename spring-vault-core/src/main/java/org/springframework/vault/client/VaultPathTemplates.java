@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Utility to derive low-cardinality path templates from Vault request paths. Templates
+ * retain the mount and the operation and replace secret names, roles and other
+ * request-specific segments with {@code {path}}. Examples:
+ * <ul>
+ * <li>{@code /v1/secret/data/my-app/db} becomes {@code secret/data/{path}}</li>
+ * <li>{@code transit/encrypt/my-key} becomes {@code transit/encrypt/{path}}</li>
+ * <li>{@code auth/approle/login} stays {@code auth/approle/login}</li>
+ * <li>{@code sys/leases/renew} stays {@code sys/leases/renew}</li>
+ * <li>{@code secret/my-app} (Key-Value version 1) becomes {@code secret/{path}}</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 4.0
+ */
+public abstract class VaultPathTemplates {
+
+	/**
+	 * Placeholder for request-specific path segments.
+	 */
+	public static final String PLACEHOLDER = "{path}";
+
+	private static final String API_VERSION_PREFIX = "v1/";
+
+	/**
+	 * {@code sys} paths that use a nested operation segment.
+	 */
+	private static final Set<String> NESTED_SYSTEM_PATHS = Set.of("leases", "wrapping", "tools", "policies",
+			"internal", "replication", "storage");
+
+	/**
+	 * Well-known operation segments of secrets engines.
+	 */
+	private static final Set<String> OPERATIONS = Set.of("data", "metadata", "delete", "undelete", "destroy",
+			"subkeys", "config", "encrypt", "decrypt", "rewrap", "datakey", "hmac", "sign", "verify", "keys", "export",
+			"backup", "restore", "random", "hash", "creds", "static-creds", "issue", "issuer", "issuers", "roles",
+			"role", "cert", "certs", "ca", "ca_chain", "crl", "revoke", "sign-verbatim", "tidy", "rotate-root",
+			"rotate-role");
+
+	private VaultPathTemplates() {
+	}
+
+	/**
+	 * Derive a low-cardinality path template from a Vault request path. The path may
+	 * be absolute ({@code /v1/…}) or relative to the Vault API.
+	 * @param path the request path, must not be {@literal null}.
+	 * @return the path template.
+	 */
+	public static String fromPath(String path) {
+
+		Assert.notNull(path, "Path must not be null");
+
+		String relative = StringUtils.trimLeadingCharacter(path, '/');
+
+		if (relative.startsWith(API_VERSION_PREFIX)) {
+			relative = relative.substring(API_VERSION_PREFIX.length());
+		}
+
+		List<String> segments = new ArrayList<>();
+		for (String segment : StringUtils.delimitedListToStringArray(relative, "/")) {
+			if (StringUtils.hasText(segment)) {
+				segments.add(segment);
+			}
+		}
+
+		if (segments.isEmpty()) {
+			return "";
+		}
+
+		int retain = getRetainedSegments(segments);
+
+		StringBuilder template = new StringBuilder();
+		for (int i = 0; i < Math.min(retain, segments.size()); i++) {
+			if (i > 0) {
+				template.append('/');
+			}
+			template.append(segments.get(i));
+		}
+
+		if (segments.size() > retain) {
+			template.append('/').append(PLACEHOLDER);
+		}
+
+		return template.toString();
+	}
+
+	private static int getRetainedSegments(List<String> segments) {
+
+		String mount = segments.get(0);
+
+		if (segments.size() == 1) {
+			return 1;
+		}
+
+		if (mount.equals("sys")) {
+			return NESTED_SYSTEM_PATHS.contains(segments.get(1)) ? 3 : 2;
+		}
+
+		if (mount.equals("auth")) {
+			return 3;
+		}
+
+		return OPERATIONS.contains(segments.get(1)) ? 2 : 1;
+	}
+
+}
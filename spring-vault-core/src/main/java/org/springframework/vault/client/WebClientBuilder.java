@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpRequest;
@@ -32,6 +33,7 @@ import org.springframework.util.Assert;
 import org.springframework.vault.support.ClientOptions;
 import org.springframework.vault.support.SslConfiguration;
 import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationConvention;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -55,6 +57,15 @@ public class WebClientBuilder {
 	private Supplier<ClientHttpConnector> httpConnector = () -> ClientHttpConnectorFactory.create(new ClientOptions(),
 			SslConfiguration.unconfigured());
 
+	private @Nullable ObservationRegistry observationRegistry;
+
+	private ClientRequestObservationConvention observationConvention =
+			new ReactiveVaultClientRequestObservationConvention();
+
+	private @Nullable ResiliencePolicy resiliencePolicy;
+
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
 	private final Map<String, String> defaultHeaders = new LinkedHashMap<>();
 
 	private final List<WebClientCustomizer> customizers = new ArrayList<>();
@@ -135,6 +146,71 @@ public class WebClientBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} to record observations for Vault requests.
+	 * Observations use {@link ReactiveVaultClientRequestObservationConvention} by default
+	 * that tags requests with low-cardinality path templates.
+	 * @param observationRegistry the observation registry to use.
+	 * @return {@code this} {@link WebClientBuilder}.
+	 * @since 4.0
+	 * @see #observationConvention(ClientRequestObservationConvention)
+	 */
+	public WebClientBuilder observationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+		return this;
+	}
+
+	/**
+	 * Set the {@link ClientRequestObservationConvention} to use when recording
+	 * observations. Only applied if an {@link #observationRegistry(ObservationRegistry)
+	 * ObservationRegistry} is configured.
+	 * @param observationConvention the observation convention to use.
+	 * @return {@code this} {@link WebClientBuilder}.
+	 * @since 4.0
+	 */
+	public WebClientBuilder observationConvention(ClientRequestObservationConvention observationConvention) {
+
+		Assert.notNull(observationConvention, "ClientRequestObservationConvention must not be null");
+
+		this.observationConvention = observationConvention;
+		return this;
+	}
+
+	/**
+	 * Set the {@link ResiliencePolicy} to apply retries and circuit breaking to Vault
+	 * requests. The policy is applied as the first filter so that retries pass through
+	 * all other filters.
+	 * @param resiliencePolicy the resilience policy to use.
+	 * @return {@code this} {@link WebClientBuilder}.
+	 * @since 4.0
+	 */
+	public WebClientBuilder resiliencePolicy(ResiliencePolicy resiliencePolicy) {
+
+		Assert.notNull(resiliencePolicy, "ResiliencePolicy must not be null");
+
+		this.resiliencePolicy = resiliencePolicy;
+		return this;
+	}
+
+	/**
+	 * Set the {@link ConcurrencyLimiter} to limit concurrent Vault requests. The limiter
+	 * is applied inside the {@link #resiliencePolicy(ResiliencePolicy) resilience
+	 * policy} so that backoff does not hold a permit.
+	 * @param concurrencyLimiter the concurrency limiter to use.
+	 * @return {@code this} {@link WebClientBuilder}.
+	 * @since 4.0
+	 */
+	public WebClientBuilder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+
+		Assert.notNull(concurrencyLimiter, "ConcurrencyLimiter must not be null");
+
+		this.concurrencyLimiter = concurrencyLimiter;
+		return this;
+	}
+
 	/**
 	 * Add a default header that will be set if not already present on the outgoing
 	 * {@link HttpRequest}.
@@ -182,8 +258,9 @@ public class WebClientBuilder {
 	/**
 	 * Build a new {@link WebClient}. {@link VaultEndpoint} must be set.
 	 *
-	 * Applies also {@link ExchangeFilterFunction} and {@link WebClientCustomizer} if
-	 * configured.
+	 * Applies also {@link ExchangeFilterFunction}, {@link ResiliencePolicy},
+	 * {@link ConcurrencyLimiter}, {@link ObservationRegistry} and
+	 * {@link WebClientCustomizer} if configured.
 	 * @return a new {@link WebClient}.
 	 */
 	public WebClient build() {
@@ -206,6 +283,22 @@ public class WebClientBuilder {
 
 		builder.filters(exchangeFilterFunctions -> exchangeFilterFunctions.addAll(this.filterFunctions));
 
+		ConcurrencyLimiter concurrencyLimiter = this.concurrencyLimiter;
+		if (concurrencyLimiter != null) {
+			builder.filters(exchangeFilterFunctions -> exchangeFilterFunctions.add(0,
+					ReactiveVaultClients.concurrencyLimit(concurrencyLimiter)));
+		}
+
+		ResiliencePolicy resiliencePolicy = this.resiliencePolicy;
+		if (resiliencePolicy != null) {
+			builder.filters(exchangeFilterFunctions -> exchangeFilterFunctions.add(0,
+					ReactiveVaultClients.resilience(resiliencePolicy)));
+		}
+
+		if (this.observationRegistry != null) {
+			builder.observationRegistry(this.observationRegistry).observationConvention(this.observationConvention);
+		}
+
 		this.customizers.forEach(customizer -> customizer.customize(builder));
 
 		return builder.build();
@@ -17,6 +17,7 @@ package org.springframework.vault.config;
 
 import java.time.Duration;
 
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.ObjectProvider;
@@ -40,8 +41,11 @@ import org.springframework.vault.authentication.event.AuthenticationEvent;
 import org.springframework.vault.authentication.event.AuthenticationEventMulticaster;
 import org.springframework.vault.authentication.event.AuthenticationListener;
 import org.springframework.vault.client.ClientHttpConnectorFactory;
+import org.springframework.vault.client.ConcurrencyLimiter;
+import org.springframework.vault.client.ConnectionWarmup;
 import org.springframework.vault.client.ReactiveVaultClients;
 import org.springframework.vault.client.ReactiveVaultEndpointProvider;
+import org.springframework.vault.client.ResiliencePolicy;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.client.WebClientBuilder;
 import org.springframework.vault.client.WebClientCustomizer;
@@ -86,7 +90,9 @@ public abstract class AbstractReactiveVaultConfiguration extends AbstractVaultCo
 
 	/**
 	 * Create a {@link WebClientBuilder} initialized with {@link VaultEndpointProvider}
-	 * and {@link ClientHttpConnector}. May be overridden by subclasses.
+	 * and {@link ClientHttpConnector}. Applies an {@link ObservationRegistry}, a
+	 * {@link ResiliencePolicy} and a {@link ConcurrencyLimiter} if available as bean. May be
+	 * overridden by subclasses.
 	 * @return the {@link WebClientBuilder}.
 	 * @see #reactiveVaultEndpointProvider()
 	 * @see #clientHttpConnector()
@@ -114,6 +120,9 @@ public abstract class AbstractReactiveVaultConfiguration extends AbstractVaultCo
 			.endpointProvider(endpointProvider)
 			.httpConnector(httpConnector);
 
+		getBeanFactory().getBeanProvider(ObservationRegistry.class).ifAvailable(builder::observationRegistry);
+		getBeanFactory().getBeanProvider(ResiliencePolicy.class).ifAvailable(builder::resiliencePolicy);
+		getBeanFactory().getBeanProvider(ConcurrencyLimiter.class).ifAvailable(builder::concurrencyLimiter);
 		builder.customizers(customizers.stream().toArray(WebClientCustomizer[]::new));
 
 		return builder;
@@ -142,11 +151,19 @@ public abstract class AbstractReactiveVaultConfiguration extends AbstractVaultCo
 	 * @see #reactiveVaultEndpointProvider()
 	 * @see #clientHttpConnector()
 	 * @see #reactiveSessionManager()
+	 * @see #connectionWarmup()
 	 */
 	@Bean
 	public ReactiveVaultTemplate reactiveVaultTemplate() {
 
-		return new ReactiveVaultTemplate(webClientBuilder(reactiveVaultEndpointProvider(), clientHttpConnector()),
+		ClientHttpConnector httpConnector = clientHttpConnector();
+
+		ConnectionWarmup connectionWarmup = connectionWarmup();
+		if (connectionWarmup != null) {
+			connectionWarmup.warmUp(httpConnector, getWarmupEndpoints()).block();
+		}
+
+		return new ReactiveVaultTemplate(webClientBuilder(reactiveVaultEndpointProvider(), httpConnector),
 				getReactiveSessionManager());
 	}
 
@@ -176,8 +193,7 @@ public abstract class AbstractReactiveVaultConfiguration extends AbstractVaultCo
 
 		WebClient webClient = getWebClientFactory().create();
 
-		return new ReactiveLifecycleAwareSessionManager(vaultTokenSupplier(), getVaultThreadPoolTaskScheduler(),
-				webClient);
+		return new ReactiveLifecycleAwareSessionManager(vaultTokenSupplier(), getVaultTaskScheduler(), webClient);
 	}
 
 	/**
@@ -219,7 +235,7 @@ public abstract class AbstractReactiveVaultConfiguration extends AbstractVaultCo
 	 * @see #sslConfiguration()
 	 */
 	protected ClientHttpConnector clientHttpConnector() {
-		return ClientHttpConnectorFactory.create(clientOptions(), sslConfiguration());
+		return ClientHttpConnectorFactory.create(vaultEndpoint(), clientOptions(), sslConfiguration());
 	}
 
 	/**
@@ -15,6 +15,9 @@
  */
 package org.springframework.vault.config;
 
+import java.util.List;
+
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
@@ -28,13 +31,20 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.vault.authentication.ClientAuthentication;
 import org.springframework.vault.authentication.LifecycleAwareSessionManager;
+import org.springframework.vault.authentication.PersistentTokenAuthentication;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.event.AuthenticationEventMulticaster;
 import org.springframework.vault.client.ClientHttpRequestFactoryFactory;
+import org.springframework.vault.client.ClusterVaultEndpointProvider;
+import org.springframework.vault.client.ConcurrencyLimiter;
+import org.springframework.vault.client.ConnectionWarmup;
+import org.springframework.vault.client.ResiliencePolicy;
 import org.springframework.vault.client.RestTemplateBuilder;
 import org.springframework.vault.client.RestTemplateCustomizer;
 import org.springframework.vault.client.RestTemplateFactory;
@@ -84,7 +94,9 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 
 	/**
 	 * Create a {@link RestTemplateBuilder} initialized with {@link VaultEndpointProvider}
-	 * and {@link ClientHttpRequestFactory}. May be overridden by subclasses.
+	 * and {@link ClientHttpRequestFactory}. Applies an {@link ObservationRegistry}, a
+	 * {@link ResiliencePolicy} and a {@link ConcurrencyLimiter} if available as bean. May be
+	 * overridden by subclasses.
 	 * @return the {@link RestTemplateBuilder}.
 	 * @see #vaultEndpointProvider()
 	 * @see #clientHttpRequestFactoryWrapper()
@@ -100,6 +112,9 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 			.endpointProvider(endpointProvider)
 			.requestFactory(requestFactory);
 
+		getBeanFactory().getBeanProvider(ObservationRegistry.class).ifAvailable(builder::observationRegistry);
+		getBeanFactory().getBeanProvider(ResiliencePolicy.class).ifAvailable(builder::resiliencePolicy);
+		getBeanFactory().getBeanProvider(ConcurrencyLimiter.class).ifAvailable(builder::concurrencyLimiter);
 		builder.customizers(customizers.stream().toArray(RestTemplateCustomizer[]::new));
 
 		return builder;
@@ -127,18 +142,51 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 	 * @see #vaultEndpointProvider()
 	 * @see #clientHttpRequestFactoryWrapper()
 	 * @see #sessionManager()
+	 * @see #connectionWarmup()
 	 */
 	@Bean
 	public VaultTemplate vaultTemplate() {
-		return new VaultTemplate(
-				restTemplateBuilder(vaultEndpointProvider(), getClientFactoryWrapper().getClientHttpRequestFactory()),
+
+		ClientHttpRequestFactory requestFactory = getClientFactoryWrapper().getClientHttpRequestFactory();
+
+		ConnectionWarmup connectionWarmup = connectionWarmup();
+		if (connectionWarmup != null) {
+			connectionWarmup.warmUp(requestFactory, getWarmupEndpoints());
+		}
+
+		return new VaultTemplate(restTemplateBuilder(vaultEndpointProvider(), requestFactory),
 				getBeanFactory().getBean("sessionManager", SessionManager.class));
 	}
 
+	/**
+	 * Return the {@link ConnectionWarmup} to pre-warm connections to Vault before the
+	 * {@link VaultTemplate} is created. Defaults to a {@link ConnectionWarmup} bean if
+	 * available. Warm-up connects to all nodes of a {@link ClusterVaultEndpointProvider}
+	 * or to the endpoint of {@link #vaultEndpointProvider()}.
+	 * @return the {@link ConnectionWarmup} or {@literal null} to skip warm-up.
+	 * @since 4.0
+	 */
+	protected @Nullable ConnectionWarmup connectionWarmup() {
+		return getBeanFactory().getBeanProvider(ConnectionWarmup.class).getIfAvailable();
+	}
+
+	List<VaultEndpoint> getWarmupEndpoints() {
+
+		VaultEndpointProvider endpointProvider = vaultEndpointProvider();
+
+		if (endpointProvider instanceof ClusterVaultEndpointProvider cluster) {
+			return cluster.getEndpoints();
+		}
+
+		return List.of(endpointProvider.getVaultEndpoint());
+	}
+
 	/**
 	 * Construct a {@link LifecycleAwareSessionManager} using
 	 * {@link #clientAuthentication()}. This {@link SessionManager} uses
-	 * {@link #threadPoolTaskScheduler()}.
+	 * {@link #threadPoolTaskScheduler()}. A {@link PersistentTokenAuthentication} is
+	 * registered as authentication listener and disables token revocation on shutdown
+	 * to retain the token across restarts.
 	 * @return the {@link SessionManager} for Vault session management.
 	 * @see SessionManager
 	 * @see LifecycleAwareSessionManager
@@ -153,8 +201,15 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 
 		Assert.notNull(clientAuthentication, "ClientAuthentication must not be null");
 
-		return new LifecycleAwareSessionManager(clientAuthentication, getVaultThreadPoolTaskScheduler(),
-				restOperations());
+		LifecycleAwareSessionManager sessionManager = new LifecycleAwareSessionManager(clientAuthentication,
+				getVaultTaskScheduler(), restOperations());
+
+		if (clientAuthentication instanceof PersistentTokenAuthentication persistent) {
+			sessionManager.addAuthenticationListener(persistent);
+			sessionManager.setTokenRevocationEnabled(false);
+		}
+
+		return sessionManager;
 	}
 
 	/**
@@ -169,7 +224,7 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 	public SecretLeaseContainer secretLeaseContainer() throws Exception {
 
 		SecretLeaseContainer secretLeaseContainer = new SecretLeaseContainer(
-				getBeanFactory().getBean("vaultTemplate", VaultTemplate.class), getVaultThreadPoolTaskScheduler());
+				getBeanFactory().getBean("vaultTemplate", VaultTemplate.class), getVaultTaskScheduler());
 		SessionManager sessionManager = getBeanFactory().getBean("sessionManager", SessionManager.class);
 
 		secretLeaseContainer.afterPropertiesSet();
@@ -189,12 +244,29 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 	 * and {@link org.springframework.vault.core.lease.SecretLeaseContainer} wrapping
 	 * {@link ThreadPoolTaskScheduler}. Subclasses may override this method to reuse a
 	 * different/existing scheduler.
+	 * <p>
+	 * If {@link #isVirtualThreadsEnabled() virtual threads are enabled}, the wrapper uses
+	 * a {@link SimpleAsyncTaskScheduler} that triggers tasks from a single scheduler
+	 * thread and runs each lease renewal, rotation and token renewal on its own virtual
+	 * thread. A slow Vault response then does not delay other renewals and the scheduler
+	 * requires no pool sizing.
 	 * @return the {@link TaskSchedulerWrapper} to use. Must not be {@literal null}.
 	 * @see TaskSchedulerWrapper#fromInstance(ThreadPoolTaskScheduler)
+	 * @see #isVirtualThreadsEnabled()
 	 */
 	@Bean("vaultThreadPoolTaskScheduler")
 	public TaskSchedulerWrapper threadPoolTaskScheduler() {
 
+		if (isVirtualThreadsEnabled()) {
+
+			SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+
+			taskScheduler.setThreadNamePrefix("spring-vault-");
+			taskScheduler.setVirtualThreads(true);
+
+			return new TaskSchedulerWrapper(taskScheduler);
+		}
+
 		ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
 
 		threadPoolTaskScheduler.setThreadNamePrefix("spring-vault-ThreadPoolTaskScheduler-");
@@ -203,6 +275,19 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 		return new TaskSchedulerWrapper(threadPoolTaskScheduler);
 	}
 
+	/**
+	 * Return whether to run scheduled Vault tasks (lease renewal and rotation, token
+	 * renewal) on virtual threads. Requires Java 21 or newer. Subclasses may override
+	 * this method to enable virtual threads.
+	 * @return {@literal true} to use virtual threads; {@literal false} (default) to use a
+	 * {@link ThreadPoolTaskScheduler}.
+	 * @since 4.0
+	 * @see #threadPoolTaskScheduler()
+	 */
+	protected boolean isVirtualThreadsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Construct a {@link RestOperations} object configured for Vault session management
 	 * and authentication usage. Can be customized by providing a
@@ -227,7 +312,8 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 	 */
 	@Bean
 	public ClientFactoryWrapper clientHttpRequestFactoryWrapper() {
-		return new ClientFactoryWrapper(ClientHttpRequestFactoryFactory.create(clientOptions(), sslConfiguration()));
+		return new ClientFactoryWrapper(
+				ClientHttpRequestFactoryFactory.create(vaultEndpoint(), clientOptions(), sslConfiguration()));
 	}
 
 	/**
@@ -277,7 +363,28 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 		return getBeanFactory().getBean(RestTemplateFactory.class);
 	}
 
+	/**
+	 * @return the {@link ThreadPoolTaskScheduler} used by Spring Vault.
+	 * @throws IllegalStateException if the Vault task scheduler is not a
+	 * {@link ThreadPoolTaskScheduler}.
+	 * @deprecated since 4.0, use {@link #getVaultTaskScheduler()} instead.
+	 */
+	@Deprecated(since = "4.0")
 	protected ThreadPoolTaskScheduler getVaultThreadPoolTaskScheduler() {
+
+		TaskScheduler taskScheduler = getVaultTaskScheduler();
+
+		Assert.state(taskScheduler instanceof ThreadPoolTaskScheduler,
+				"Vault TaskScheduler is not a ThreadPoolTaskScheduler");
+
+		return (ThreadPoolTaskScheduler) taskScheduler;
+	}
+
+	/**
+	 * @return the {@link TaskScheduler} used by Spring Vault.
+	 * @since 4.0
+	 */
+	protected TaskScheduler getVaultTaskScheduler() {
 		return getBeanFactory().getBean("vaultThreadPoolTaskScheduler", TaskSchedulerWrapper.class).getTaskScheduler();
 	}
 
@@ -326,14 +433,15 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 	}
 
 	/**
-	 * Wrapper to keep {@link ThreadPoolTaskScheduler} local to Spring Vault and to not
-	 * expose the bean globally.
+	 * Wrapper to keep {@link ThreadPoolTaskScheduler} (or
+	 * {@link SimpleAsyncTaskScheduler}) local to Spring Vault and to not expose the bean
+	 * globally.
 	 *
 	 * @since 2.3.1
 	 */
 	public static class TaskSchedulerWrapper implements InitializingBean, DisposableBean {
 
-		private final ThreadPoolTaskScheduler taskScheduler;
+		private final TaskScheduler taskScheduler;
 
 		private final boolean acceptAfterPropertiesSet;
 
@@ -343,10 +451,20 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 			this(taskScheduler, true, true);
 		}
 
-		protected TaskSchedulerWrapper(ThreadPoolTaskScheduler taskScheduler, boolean acceptAfterPropertiesSet,
+		/**
+		 * Create a new {@link TaskSchedulerWrapper} for a {@link SimpleAsyncTaskScheduler}
+		 * that is closed when this wrapper is destroyed.
+		 * @param taskScheduler the task scheduler.
+		 * @since 4.0
+		 */
+		public TaskSchedulerWrapper(SimpleAsyncTaskScheduler taskScheduler) {
+			this(taskScheduler, false, true);
+		}
+
+		protected TaskSchedulerWrapper(TaskScheduler taskScheduler, boolean acceptAfterPropertiesSet,
 				boolean acceptDestroy) {
 
-			Assert.notNull(taskScheduler, "ThreadPoolTaskScheduler must not be null");
+			Assert.notNull(taskScheduler, "TaskScheduler must not be null");
 
 			this.taskScheduler = taskScheduler;
 			this.acceptAfterPropertiesSet = acceptAfterPropertiesSet;
@@ -365,22 +483,32 @@ public abstract class AbstractVaultConfiguration implements ApplicationContextAw
 			return new TaskSchedulerWrapper(scheduler, false, false);
 		}
 
-		ThreadPoolTaskScheduler getTaskScheduler() {
+		TaskScheduler getTaskScheduler() {
 			return this.taskScheduler;
 		}
 
 		@Override
 		public void destroy() {
-			if (acceptDestroy) {
-				this.taskScheduler.destroy();
+
+			if (!this.acceptDestroy) {
+				return;
+			}
+
+			if (this.taskScheduler instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+				threadPoolTaskScheduler.destroy();
+			}
+
+			if (this.taskScheduler instanceof SimpleAsyncTaskScheduler simpleAsyncTaskScheduler) {
+				simpleAsyncTaskScheduler.close();
 			}
 		}
 
 		@Override
 		public void afterPropertiesSet() {
 
-			if (this.acceptAfterPropertiesSet) {
-				this.taskScheduler.afterPropertiesSet();
+			if (this.acceptAfterPropertiesSet
+					&& this.taskScheduler instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+				threadPoolTaskScheduler.afterPropertiesSet();
 			}
 		}
 
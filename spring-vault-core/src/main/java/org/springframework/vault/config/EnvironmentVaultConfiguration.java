@@ -80,6 +80,8 @@ import org.springframework.web.client.RestOperations;
  * method.
  * <ul>
  * <li>Vault URI: {@code vault.uri}</li>
+ * <li>Virtual threads for lease and token renewal: {@code vault.threads.virtual.enabled}
+ * (since 4.0, optional, defaults to {@literal false}, requires Java 21)</li>
  * <li>SSL Configuration
  * <ul>
  * <li>Keystore resource: {@code vault.ssl.key-store} (optional)</li>
@@ -207,6 +209,11 @@ public class EnvironmentVaultConfiguration extends AbstractVaultConfiguration im
 		throw new IllegalStateException("Vault URI (vault.uri) is null");
 	}
 
+	@Override
+	protected boolean isVirtualThreadsEnabled() {
+		return getEnvironment().getProperty("vault.threads.virtual.enabled", Boolean.class, false);
+	}
+
 	@Override
 	public SslConfiguration sslConfiguration() {
 
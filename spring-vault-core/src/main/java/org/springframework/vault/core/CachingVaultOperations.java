@@ -0,0 +1,252 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.core.SecretCache.CacheKey;
+import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * {@link VaultOperations} decorator that caches read responses in memory. Reads through
+ * {@link #read(String)}, {@link #read(String, Class)}, {@link #list(String)} and the
+ * Key/Value templates obtained from {@link #opsForKeyValue(String, KeyValueBackend)} and
+ * {@link #opsForVersionedKeyValue(String)} are served from the cache until the entry
+ * expires. Writes and deletes through this object invalidate cached entries of the
+ * affected path.
+ * <p>
+ * Entries are cached per namespace and identity bound through
+ * {@link VaultNamespaceContextHolder} and {@link VaultIdentityContextHolder}, so reads of
+ * the same path in different namespaces or by different identities do not share cached
+ * responses.
+ * <p>
+ * Cached responses are shared between callers and must not be modified. Entries expire
+ * after the configured time to live or after their {@code lease_duration}, whichever
+ * comes first. Absent secrets are cached if negative caching is enabled. All other
+ * operations are delegated without caching.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see SecretCacheOptions
+ * @see SecretCacheStatistics
+ */
+public class CachingVaultOperations implements VaultOperations {
+
+	private final VaultOperations delegate;
+
+	private final SecretCache cache;
+
+	/**
+	 * Create a new {@link CachingVaultOperations} using default {@link SecretCacheOptions}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingVaultOperations(VaultOperations delegate) {
+		this(delegate, SecretCacheOptions.builder().build());
+	}
+
+	/**
+	 * Create a new {@link CachingVaultOperations} given {@link VaultOperations} and
+	 * {@link SecretCacheOptions}.
+	 * @param delegate must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 */
+	public CachingVaultOperations(VaultOperations delegate, SecretCacheOptions options) {
+
+		Assert.notNull(delegate, "VaultOperations must not be null");
+		Assert.notNull(options, "SecretCacheOptions must not be null");
+
+		this.delegate = delegate;
+		this.cache = new SecretCache(options);
+	}
+
+	@Override
+	public VaultKeyValueOperations opsForKeyValue(String path, KeyValueBackend apiVersion) {
+
+		return switch (apiVersion) {
+			case KV_1 -> new VaultKeyValue1Template(this, path);
+			case KV_2 -> new VaultKeyValue2Template(this, path);
+		};
+	}
+
+	@Override
+	public VaultVersionedKeyValueOperations opsForVersionedKeyValue(String path) {
+		return new VaultVersionedKeyValueTemplate(this, path);
+	}
+
+	@Override
+	public VaultPkiOperations opsForPki() {
+		return this.delegate.opsForPki();
+	}
+
+	@Override
+	public VaultPkiOperations opsForPki(String path) {
+		return this.delegate.opsForPki(path);
+	}
+
+	@Override
+	public VaultSysOperations opsForSys() {
+		return this.delegate.opsForSys();
+	}
+
+	@Override
+	public VaultTokenOperations opsForToken() {
+		return this.delegate.opsForToken();
+	}
+
+	@Override
+	public VaultTransformOperations opsForTransform() {
+		return this.delegate.opsForTransform();
+	}
+
+	@Override
+	public VaultTransformOperations opsForTransform(String path) {
+		return this.delegate.opsForTransform(path);
+	}
+
+	@Override
+	public VaultTransitOperations opsForTransit() {
+		return this.delegate.opsForTransit();
+	}
+
+	@Override
+	public VaultTransitOperations opsForTransit(String path) {
+		return this.delegate.opsForTransit(path);
+	}
+
+	@Override
+	public VaultWrappingOperations opsForWrapping() {
+		return this.delegate.opsForWrapping();
+	}
+
+	@Override
+	public @Nullable VaultResponse read(String path) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		return this.cache.get(cacheKey(path, VaultResponse.class), () -> this.delegate.read(path));
+	}
+
+	@Override
+	@SuppressWarnings("NullAway")
+	public <T extends @Nullable Object> VaultResponseSupport<T> read(String path, Class<T> responseType) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		return this.cache.get(cacheKey(path, responseType), () -> this.delegate.read(path, responseType));
+	}
+
+	@Override
+	public @Nullable List<String> list(String path) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		return this.cache.get(cacheKey(path, List.class), () -> this.delegate.list(path));
+	}
+
+	@Override
+	public @Nullable VaultResponse write(String path, @Nullable Object body) {
+
+		try {
+			return this.delegate.write(path, body);
+		}
+		finally {
+			evict(path);
+		}
+	}
+
+	@Override
+	public void delete(String path) {
+
+		try {
+			this.delegate.delete(path);
+		}
+		finally {
+			evict(path);
+		}
+	}
+
+	@Override
+	public <T extends @Nullable Object> T doWithVault(RestOperationsCallback<T> clientCallback)
+			throws VaultException, RestClientException {
+		return this.delegate.doWithVault(clientCallback);
+	}
+
+	@Override
+	public <T extends @Nullable Object> T doWithSession(RestOperationsCallback<T> sessionCallback)
+			throws VaultException, RestClientException {
+		return this.delegate.doWithSession(sessionCallback);
+	}
+
+	/**
+	 * Remove all cached entries for {@code path}.
+	 * @param path must not be {@literal null} or empty.
+	 */
+	public void evict(String path) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		this.cache.evict(path);
+	}
+
+	/**
+	 * Remove all cached entries.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+	/**
+	 * @return a snapshot of the cache hit, miss and eviction counters.
+	 */
+	public SecretCacheStatistics getStatistics() {
+		return this.cache.getStatistics();
+	}
+
+	/**
+	 * Read through the cache. Used by Key/Value accessors that read with a specific
+	 * response type.
+	 * @param path the Vault path.
+	 * @param type the response type.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the cached or loaded value.
+	 */
+	<T> @Nullable T readCached(String path, Object type, Supplier<@Nullable T> loader) {
+
+		if (this.delegate instanceof VaultTemplate template) {
+			return this.cache.get(cacheKey(path, type), () -> template.readShared(path, type, loader));
+		}
+
+		return this.cache.get(cacheKey(path, type), loader);
+	}
+
+	private static CacheKey cacheKey(String path, Object type) {
+		return new CacheKey(path, VaultNamespaceContextHolder.getNamespace(), VaultIdentityContextHolder.getIdentity(),
+				type);
+	}
+
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+
+/**
+ * Chunked AES-GCM envelope format used by {@link VaultEnvelopeEncryptor} and
+ * {@link ReactiveVaultEnvelopeEncryptor}.
+ * <p>
+ * The format consists of a header followed by a sequence of encrypted chunks:
+ *
+ * <pre class="code">
+ * header := magic (4 bytes) | version (1 byte) | chunk size (4 bytes) | nonce prefix (12 bytes)
+ *           | wrapped key length (2 bytes) | wrapped key (UTF-8)
+ * chunk  := AES-GCM(chunk plaintext) | tag (16 bytes)
+ * </pre>
+ *
+ * Each chunk is encrypted with a nonce derived from the nonce prefix and the chunk
+ * index. The header, the chunk index and whether the chunk is the final one are used as
+ * additional authenticated data so that chunks cannot be reordered, truncated or moved
+ * between envelopes. All chunks except the final one carry exactly {@code chunk size}
+ * plaintext bytes. The final chunk carries less than {@code chunk size} bytes and may be
+ * empty.
+ * <p>
+ * {@link Encryptor} and {@link Decryptor} are stateful and not thread-safe. Memory
+ * usage is bounded by the chunk size.
+ *
+ * @author agent
+ * @since 4.0
+ */
+final class EnvelopeFormat {
+
+	static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+	private static final byte[] MAGIC = { 'V', 'E', 'N', 'C' };
+
+	private static final byte VERSION = 1;
+
+	private static final int NONCE_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 16;
+
+	private static final int FIXED_HEADER_LENGTH = MAGIC.length + 1 + 4 + NONCE_LENGTH + 2;
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private EnvelopeFormat() {
+	}
+
+	static void validateChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize > 0 && chunkSize <= MAX_CHUNK_SIZE,
+				"Chunk size must be greater than zero and not exceed %d".formatted(MAX_CHUNK_SIZE));
+	}
+
+	private static Cipher createCipher() {
+
+		try {
+			return Cipher.getInstance(TRANSFORMATION);
+		}
+		catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Cannot create %s cipher".formatted(TRANSFORMATION), e);
+		}
+	}
+
+	private static EnvelopeKey createKey(byte[] key) {
+
+		Assert.isTrue(key.length == 16 || key.length == 24 || key.length == 32,
+				"Data key must be 128, 192 or 256 bits long");
+
+		return new EnvelopeKey(key.clone());
+	}
+
+	private static byte[] transform(Cipher cipher, int mode, SecretKey key, byte[] header, byte[] noncePrefix,
+			long index, boolean last, byte[] input, int offset, int length) throws GeneralSecurityException {
+
+		byte[] nonce = noncePrefix.clone();
+
+		for (int i = 0; i < 8; i++) {
+			nonce[NONCE_LENGTH - 1 - i] ^= (byte) (index >>> (8 * i));
+		}
+
+		cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+		cipher.updateAAD(header);
+		cipher.updateAAD(ByteBuffer.allocate(9).putLong(index).put((byte) (last ? 1 : 0)).array());
+
+		return cipher.doFinal(input, offset, length);
+	}
+
+	/**
+	 * Stateful encryptor emitting the header and encrypted chunks.
+	 */
+	static final class Encryptor {
+
+		private final Cipher cipher = createCipher();
+
+		private final EnvelopeKey key;
+
+		private final byte[] header;
+
+		private final byte[] noncePrefix = new byte[NONCE_LENGTH];
+
+		private final byte[] buffer;
+
+		private int position;
+
+		private long index;
+
+		private boolean headerWritten;
+
+		/**
+		 * Create a new {@link Encryptor}. The {@code key} array is copied and can be
+		 * cleared after construction.
+		 * @param key the plaintext data key.
+		 * @param wrappedKey the wrapped data key to store in the header.
+		 * @param chunkSize the plaintext chunk size.
+		 */
+		Encryptor(byte[] key, String wrappedKey, int chunkSize) {
+
+			validateChunkSize(chunkSize);
+
+			byte[] wrapped = wrappedKey.getBytes(StandardCharsets.UTF_8);
+			Assert.isTrue(wrapped.length <= 0xFFFF, "Wrapped key exceeds maximum length");
+
+			RANDOM.nextBytes(this.noncePrefix);
+
+			this.key = createKey(key);
+			this.buffer = new byte[chunkSize];
+			this.header = ByteBuffer.allocate(FIXED_HEADER_LENGTH + wrapped.length)
+				.put(MAGIC)
+				.put(VERSION)
+				.putInt(chunkSize)
+				.put(this.noncePrefix)
+				.putShort((short) wrapped.length)
+				.put(wrapped)
+				.array();
+		}
+
+		/**
+		 * Consume plaintext and return the header and chunks that are complete.
+		 */
+		List<byte[]> update(byte[] input, int offset, int length) {
+
+			List<byte[]> result = new ArrayList<>(2);
+
+			if (!this.headerWritten) {
+				result.add(this.header);
+				this.headerWritten = true;
+			}
+
+			while (length > 0) {
+
+				int n = Math.min(this.buffer.length - this.position, length);
+				System.arraycopy(input, offset, this.buffer, this.position, n);
+
+				this.position += n;
+				offset += n;
+				length -= n;
+
+				if (this.position == this.buffer.length) {
+					result.add(seal(false));
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Complete encryption and return the remaining output including the final chunk.
+		 */
+		byte[] finish() {
+
+			byte[] last;
+
+			try {
+				last = seal(true);
+			}
+			finally {
+				destroy();
+			}
+
+			if (this.headerWritten) {
+				return last;
+			}
+
+			this.headerWritten = true;
+
+			return ByteBuffer.allocate(this.header.length + last.length).put(this.header).put(last).array();
+		}
+
+		/**
+		 * Zero the data key and the buffered plaintext. Encryption cannot continue
+		 * afterwards.
+		 */
+		void destroy() {
+			this.key.destroy();
+			Arrays.fill(this.buffer, (byte) 0);
+		}
+
+		private byte[] seal(boolean last) {
+
+			try {
+				return transform(this.cipher, Cipher.ENCRYPT_MODE, this.key, this.header, this.noncePrefix,
+						this.index++, last, this.buffer, 0, this.position);
+			}
+			catch (GeneralSecurityException e) {
+				throw new VaultException("Cannot encrypt chunk", e);
+			}
+			finally {
+				this.position = 0;
+			}
+		}
+
+	}
+
+	/**
+	 * Stateful decryptor consuming the header and encrypted chunks. Once the header is
+	 * read, {@link #isKeyRequired()} indicates that the wrapped key must be unwrapped and
+	 * supplied through {@link #setKey(byte[])} before decryption can continue.
+	 */
+	static final class Decryptor {
+
+		private static final byte[] EMPTY = new byte[0];
+
+		private final Cipher cipher = createCipher();
+
+		private byte[] pending = new byte[FIXED_HEADER_LENGTH];
+
+		private int count;
+
+		private byte @Nullable [] header;
+
+		private byte @Nullable [] noncePrefix;
+
+		private @Nullable String wrappedKey;
+
+		private @Nullable EnvelopeKey key;
+
+		private int segmentSize;
+
+		private long index;
+
+		/**
+		 * Consume ciphertext and return decrypted chunks that are complete. Returns an
+		 * empty list while the header is incomplete or the key is not yet provided.
+		 */
+		List<byte[]> update(byte[] input, int offset, int length) {
+
+			append(input, offset, length);
+
+			if (this.header == null && !readHeader()) {
+				return Collections.emptyList();
+			}
+
+			if (this.key == null) {
+				return Collections.emptyList();
+			}
+
+			List<byte[]> result = new ArrayList<>(2);
+			int consumed = 0;
+
+			// a full segment is only known to be non-final once more data follows
+			while (this.count - consumed > this.segmentSize) {
+				result.add(open(consumed, this.segmentSize, false));
+				consumed += this.segmentSize;
+			}
+
+			consume(consumed);
+
+			return result;
+		}
+
+		/**
+		 * Continue decryption after the key has been provided.
+		 */
+		List<byte[]> update() {
+			return update(EMPTY, 0, 0);
+		}
+
+		/**
+		 * Complete decryption and return the final chunk.
+		 */
+		byte[] finish() {
+
+			if (this.header == null || this.key == null) {
+				throw new VaultException("Envelope is truncated");
+			}
+
+			if (this.count < TAG_LENGTH || this.count >= this.segmentSize) {
+				throw new VaultException("Envelope is truncated");
+			}
+
+			try {
+
+				byte[] last = open(0, this.count, true);
+				consume(this.count);
+
+				return last;
+			}
+			finally {
+				destroy();
+			}
+		}
+
+		/**
+		 * Zero the data key if it was provided. Decryption cannot continue afterwards.
+		 */
+		void destroy() {
+
+			EnvelopeKey key = this.key;
+
+			if (key != null) {
+				key.destroy();
+			}
+		}
+
+		boolean isKeyRequired() {
+			return this.header != null && this.key == null;
+		}
+
+		@SuppressWarnings("NullAway")
+		String getWrappedKey() {
+
+			Assert.state(this.header != null, "Envelope header not yet read");
+
+			return this.wrappedKey;
+		}
+
+		/**
+		 * Provide the unwrapped data key. The {@code key} array is copied and can be
+		 * cleared after this call.
+		 */
+		void setKey(byte[] key) {
+			this.key = createKey(key);
+		}
+
+		private boolean readHeader() {
+
+			if (this.count < FIXED_HEADER_LENGTH) {
+				return false;
+			}
+
+			ByteBuffer buffer = ByteBuffer.wrap(this.pending, 0, this.count);
+			byte[] magic = new byte[MAGIC.length];
+			buffer.get(magic);
+
+			if (!Arrays.equals(MAGIC, magic) || buffer.get() != VERSION) {
+				throw new VaultException("Unsupported envelope format");
+			}
+
+			int chunkSize = buffer.getInt();
+
+			if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+				throw new VaultException("Invalid envelope chunk size: %d".formatted(chunkSize));
+			}
+
+			byte[] noncePrefix = new byte[NONCE_LENGTH];
+			buffer.get(noncePrefix);
+
+			int wrappedKeyLength = Short.toUnsignedInt(buffer.getShort());
+
+			if (this.count < FIXED_HEADER_LENGTH + wrappedKeyLength) {
+				return false;
+			}
+
+			this.wrappedKey = new String(this.pending, FIXED_HEADER_LENGTH, wrappedKeyLength, StandardCharsets.UTF_8);
+			this.header = Arrays.copyOf(this.pending, FIXED_HEADER_LENGTH + wrappedKeyLength);
+			this.noncePrefix = noncePrefix;
+			this.segmentSize = chunkSize + TAG_LENGTH;
+
+			consume(this.header.length);
+
+			return true;
+		}
+
+		@SuppressWarnings("NullAway")
+		private byte[] open(int offset, int length, boolean last) {
+
+			try {
+				return transform(this.cipher, Cipher.DECRYPT_MODE, this.key, this.header, this.noncePrefix,
+						this.index++, last, this.pending, offset, length);
+			}
+			catch (GeneralSecurityException e) {
+				throw new VaultException("Cannot decrypt chunk #%d".formatted(this.index - 1), e);
+			}
+		}
+
+		private void append(byte[] input, int offset, int length) {
+
+			if (this.count + length > this.pending.length) {
+				this.pending = Arrays.copyOf(this.pending, Math.max(this.pending.length * 2, this.count + length));
+			}
+
+			System.arraycopy(input, offset, this.pending, this.count, length);
+			this.count += length;
+		}
+
+		private void consume(int length) {
+
+			if (length == 0) {
+				return;
+			}
+
+			System.arraycopy(this.pending, length, this.pending, 0, this.count - length);
+			this.count -= length;
+		}
+
+	}
+
+	/**
+	 * AES key that owns its key material so that it can be zeroed through
+	 * {@link #destroy()}. {@link javax.crypto.spec.SecretKeySpec} keeps a copy that
+	 * cannot be cleared.
+	 */
+	static final class EnvelopeKey implements SecretKey {
+
+		private static final long serialVersionUID = 1L;
+
+		private final byte[] key;
+
+		private volatile boolean destroyed;
+
+		EnvelopeKey(byte[] key) {
+			this.key = key;
+		}
+
+		@Override
+		public String getAlgorithm() {
+			return "AES";
+		}
+
+		@Override
+		public String getFormat() {
+			return "RAW";
+		}
+
+		@Override
+		public byte[] getEncoded() {
+
+			Assert.state(!this.destroyed, "Data key is destroyed");
+
+			return this.key.clone();
+		}
+
+		@Override
+		public void destroy() {
+			Arrays.fill(this.key, (byte) 0);
+			this.destroyed = true;
+		}
+
+		@Override
+		public boolean isDestroyed() {
+			return this.destroyed;
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.SecretCache.CacheEntry;
+import org.springframework.vault.core.SecretCache.CacheKey;
+import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+/**
+ * {@link ReactiveVaultOperations} decorator that caches read responses in memory. Reads
+ * through {@link #read(String)}, {@link #read(String, Class)}, {@link #list(String)} and
+ * the Key/Value templates obtained from
+ * {@link #opsForKeyValue(String, KeyValueBackend)} and
+ * {@link #opsForVersionedKeyValue(String)} are served from the cache until the entry
+ * expires. Writes and deletes through this object invalidate cached entries of the
+ * affected path.
+ * <p>
+ * Cached responses are shared between subscribers and must not be modified. Entries
+ * expire after the configured time to live or after their {@code lease_duration},
+ * whichever comes first. Absent secrets (empty {@link Mono}) are cached if negative
+ * caching is enabled. All other operations are delegated without caching. Entries are
+ * kept separately per namespace and identity bound to the subscriber context under
+ * {@link org.springframework.vault.client.VaultNamespaceContextHolder#CONTEXT_KEY} and
+ * {@link org.springframework.vault.client.VaultIdentityContextHolder#CONTEXT_KEY}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see SecretCacheOptions
+ * @see SecretCacheStatistics
+ */
+public class ReactiveCachingVaultOperations implements ReactiveVaultOperations {
+
+	private final ReactiveVaultOperations delegate;
+
+	private final SecretCache cache;
+
+	/**
+	 * Create a new {@link ReactiveCachingVaultOperations} using default
+	 * {@link SecretCacheOptions}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	public ReactiveCachingVaultOperations(ReactiveVaultOperations delegate) {
+		this(delegate, SecretCacheOptions.builder().build());
+	}
+
+	/**
+	 * Create a new {@link ReactiveCachingVaultOperations} given
+	 * {@link ReactiveVaultOperations} and {@link SecretCacheOptions}.
+	 * @param delegate must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 */
+	public ReactiveCachingVaultOperations(ReactiveVaultOperations delegate, SecretCacheOptions options) {
+
+		Assert.notNull(delegate, "ReactiveVaultOperations must not be null");
+		Assert.notNull(options, "SecretCacheOptions must not be null");
+
+		this.delegate = delegate;
+		this.cache = new SecretCache(options);
+	}
+
+	@Override
+	public ReactiveVaultKeyValueOperations opsForKeyValue(String path, KeyValueBackend apiVersion) {
+
+		return switch (apiVersion) {
+			case KV_1 -> new ReactiveVaultKeyValue1Template(this, path);
+			case KV_2 -> new ReactiveVaultKeyValue2Template(this, path);
+		};
+	}
+
+	@Override
+	public ReactiveVaultVersionedKeyValueOperations opsForVersionedKeyValue(String path) {
+		return new ReactiveVaultVersionedKeyValueTemplate(this, path);
+	}
+
+	@Override
+	public ReactiveVaultTransitOperations opsForTransit() {
+		return this.delegate.opsForTransit();
+	}
+
+	@Override
+	public ReactiveVaultTransitOperations opsForTransit(String path) {
+		return this.delegate.opsForTransit(path);
+	}
+
+	@Override
+	public ReactiveVaultSysOperations opsForSys() {
+		return this.delegate.opsForSys();
+	}
+
+	@Override
+	public Mono<VaultResponse> read(String path) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		return readCached(path, VaultResponse.class, this.delegate.read(path));
+	}
+
+	@Override
+	public <T> Mono<VaultResponseSupport<T>> read(String path, Class<T> responseType) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		return readCached(path, responseType, this.delegate.read(path, responseType));
+	}
+
+	@Override
+	public Flux<String> list(String path) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		return readCached(path, List.class, this.delegate.list(path).collectList()).flatMapIterable(it -> it);
+	}
+
+	@Override
+	public Mono<VaultResponse> write(String path, @Nullable Object body) {
+		return this.delegate.write(path, body).doFinally(signal -> evict(path));
+	}
+
+	@Override
+	public Mono<Void> delete(String path) {
+		return this.delegate.delete(path).doFinally(signal -> evict(path));
+	}
+
+	@Override
+	public <V, T extends Publisher<V>> T doWithVault(Function<WebClient, ? extends T> clientCallback)
+			throws VaultException, WebClientException {
+		return this.delegate.doWithVault(clientCallback);
+	}
+
+	@Override
+	public <V, T extends Publisher<V>> T doWithSession(Function<WebClient, ? extends T> sessionCallback)
+			throws VaultException, WebClientException {
+		return this.delegate.doWithSession(sessionCallback);
+	}
+
+	/**
+	 * Remove all cached entries for {@code path}.
+	 * @param path must not be {@literal null} or empty.
+	 */
+	public void evict(String path) {
+
+		Assert.hasText(path, "Path must not be empty");
+
+		this.cache.evict(path);
+	}
+
+	/**
+	 * Remove all cached entries.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+	/**
+	 * @return a snapshot of the cache hit, miss and eviction counters.
+	 */
+	public SecretCacheStatistics getStatistics() {
+		return this.cache.getStatistics();
+	}
+
+	/**
+	 * Read through the cache. The {@code loader} is subscribed to only if the cache does
+	 * not hold a non-expired entry upon subscription.
+	 * @param path the Vault path.
+	 * @param type the response type.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the cached or loaded value.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<T> readCached(String path, Object type, Mono<T> loader) {
+
+		Mono<T> source = this.delegate instanceof ReactiveVaultTemplate template
+				? template.readShared(path, type, loader) : loader;
+
+		return Mono.deferContextual(context -> {
+
+			CacheKey key = new CacheKey(path, ReactiveSingleFlight.getNamespace(context),
+					ReactiveSingleFlight.getIdentity(context), type);
+			CacheEntry entry = this.cache.lookup(key);
+
+			if (entry != null) {
+				return Mono.justOrEmpty((T) entry.value());
+			}
+
+			long generation = this.cache.beginLoad(path);
+
+			return source.map(Optional::of)
+				.defaultIfEmpty(Optional.empty())
+				.doOnNext(it -> this.cache.put(key, it.orElse(null), generation))
+				.doFinally(signal -> this.cache.endLoad(path))
+				.flatMap(Mono::justOrEmpty);
+		});
+	}
+
+}
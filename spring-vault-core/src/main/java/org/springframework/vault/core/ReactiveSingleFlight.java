@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.core.SingleFlight.FlightKey;
+
+/**
+ * Reactive variant of {@link SingleFlight}. Concurrent subscriptions for the same path,
+ * namespace, identity and response type share a single subscription to the first
+ * {@link Mono}. Namespace and identity are obtained from the subscriber context (see
+ * {@link VaultNamespaceContextHolder#CONTEXT_KEY} and
+ * {@link VaultIdentityContextHolder#CONTEXT_KEY}). The shared {@link Mono} is
+ * unregistered once it terminates so subsequent subscriptions subscribe to the source
+ * again.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see SingleFlight
+ */
+final class ReactiveSingleFlight {
+
+	private final Map<FlightKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Subscribe to {@code source} or join an in-flight subscription for the same
+	 * {@code path}, namespace, identity and {@code type}.
+	 * @param path the Vault path including query parameters such as the version.
+	 * @param type the response type.
+	 * @param source the source to obtain the value from Vault.
+	 * @return the shared {@link Mono}.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<T> execute(String path, Object type, Mono<T> source) {
+
+		return Mono.deferContextual(context -> {
+
+			FlightKey key = new FlightKey(path, getNamespace(context), getIdentity(context), type);
+
+			return (Mono<T>) this.inFlight.computeIfAbsent(key,
+					k -> source.doFinally(signal -> this.inFlight.remove(k)).cache());
+		});
+	}
+
+	static @Nullable String getNamespace(ContextView context) {
+		return context.getOrDefault(VaultNamespaceContextHolder.CONTEXT_KEY, null);
+	}
+
+	static @Nullable String getIdentity(ContextView context) {
+		return context.getOrDefault(VaultIdentityContextHolder.CONTEXT_KEY, null);
+	}
+
+	/**
+	 * @return the number of in-flight subscriptions.
+	 */
+	int size() {
+		return this.inFlight.size();
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.Assert;
+import org.springframework.vault.support.Ciphertext;
+
+/**
+ * Reactive streaming envelope encryption using data keys generated by Vault's
+ * {@literal transit} backend. Encryption obtains a single data key per stream through
+ * {@link ReactiveVaultTransitOperations#generateDataKey(String)} and encrypts the
+ * {@link DataBuffer} stream locally in AES-GCM chunks. The wrapped data key is stored
+ * in the envelope header. The envelope format is compatible with
+ * {@link VaultEnvelopeEncryptor}.
+ * <p>
+ * Consumed {@link DataBuffer data buffers} are released. Memory usage is bounded by the
+ * chunk size and the size of the incoming buffers. This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultEnvelopeEncryptor
+ */
+public class ReactiveVaultEnvelopeEncryptor {
+
+	private final ReactiveVaultTransitOperations transitOperations;
+
+	private final String keyName;
+
+	private final int chunkSize;
+
+	private final DataBufferFactory bufferFactory;
+
+	/**
+	 * Create a new {@link ReactiveVaultEnvelopeEncryptor} given
+	 * {@link ReactiveVaultTransitOperations} and {@code keyName} using
+	 * {@link VaultEnvelopeEncryptor#DEFAULT_CHUNK_SIZE}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 */
+	public ReactiveVaultEnvelopeEncryptor(ReactiveVaultTransitOperations transitOperations, String keyName) {
+		this(transitOperations, keyName, VaultEnvelopeEncryptor.DEFAULT_CHUNK_SIZE,
+				DefaultDataBufferFactory.sharedInstance);
+	}
+
+	/**
+	 * Create a new {@link ReactiveVaultEnvelopeEncryptor} given
+	 * {@link ReactiveVaultTransitOperations}, {@code keyName}, {@code chunkSize} and
+	 * {@link DataBufferFactory}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 * @param chunkSize plaintext chunk size in bytes, must be greater than zero.
+	 * @param bufferFactory must not be {@literal null}.
+	 */
+	public ReactiveVaultEnvelopeEncryptor(ReactiveVaultTransitOperations transitOperations, String keyName,
+			int chunkSize, DataBufferFactory bufferFactory) {
+
+		Assert.notNull(transitOperations, "ReactiveVaultTransitOperations must not be null");
+		Assert.hasText(keyName, "Key name must not be null or empty");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		EnvelopeFormat.validateChunkSize(chunkSize);
+
+		this.transitOperations = transitOperations;
+		this.keyName = keyName;
+		this.chunkSize = chunkSize;
+		this.bufferFactory = bufferFactory;
+	}
+
+	/**
+	 * Encrypt the {@code plaintext} stream into an envelope.
+	 * @param plaintext must not be {@literal null}.
+	 * @return the envelope stream.
+	 */
+	public Flux<DataBuffer> encrypt(Publisher<DataBuffer> plaintext) {
+
+		Assert.notNull(plaintext, "Plaintext must not be null");
+
+		return this.transitOperations.generateDataKey(this.keyName).flatMapMany(dataKey -> {
+
+			EnvelopeFormat.Encryptor encryptor;
+
+			try {
+				encryptor = new EnvelopeFormat.Encryptor(dataKey.getPlaintext(),
+						dataKey.getCiphertext().getCiphertext(), this.chunkSize);
+			}
+			finally {
+				dataKey.destroy();
+			}
+
+			return Flux.from(plaintext)
+				.concatMapIterable(buffer -> consume(buffer, encryptor::update))
+				.concatWith(Mono.fromCallable(encryptor::finish))
+				.map(this.bufferFactory::wrap)
+				.doFinally(signal -> encryptor.destroy());
+		}).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	/**
+	 * Decrypt the {@code ciphertext} envelope stream. Decrypted chunks are emitted as
+	 * soon as they are authenticated; subscribers must discard emitted plaintext if the
+	 * stream terminates with an error.
+	 * @param ciphertext must not be {@literal null}.
+	 * @return the plaintext stream.
+	 */
+	public Flux<DataBuffer> decrypt(Publisher<DataBuffer> ciphertext) {
+
+		Assert.notNull(ciphertext, "Ciphertext must not be null");
+
+		return Flux.defer(() -> {
+
+			EnvelopeFormat.Decryptor decryptor = new EnvelopeFormat.Decryptor();
+
+			Flux<byte[]> chunks = Flux.from(ciphertext).concatMap(buffer -> {
+
+				List<byte[]> decrypted = consume(buffer, decryptor::update);
+
+				if (decryptor.isKeyRequired()) {
+					return unwrap(decryptor).flatMapIterable(it -> it);
+				}
+
+				return Flux.fromIterable(decrypted);
+			});
+
+			return chunks.concatWith(Mono.fromCallable(decryptor::finish))
+				.filter(it -> it.length > 0)
+				.map(this.bufferFactory::wrap)
+				.doFinally(signal -> decryptor.destroy());
+		}).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	private Mono<List<byte[]>> unwrap(EnvelopeFormat.Decryptor decryptor) {
+
+		return this.transitOperations.decrypt(this.keyName, Ciphertext.of(decryptor.getWrappedKey()))
+			.map(plaintext -> {
+
+				byte[] key = plaintext.getPlaintext();
+
+				try {
+					decryptor.setKey(key);
+				}
+				finally {
+					Arrays.fill(key, (byte) 0);
+				}
+
+				return decryptor.update();
+			});
+	}
+
+	private static List<byte[]> consume(DataBuffer buffer, ChunkFunction function) {
+
+		try {
+
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+
+			return function.apply(bytes, 0, bytes.length);
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	interface ChunkFunction {
+
+		List<byte[]> apply(byte[] input, int offset, int length);
+
+	}
+
+}
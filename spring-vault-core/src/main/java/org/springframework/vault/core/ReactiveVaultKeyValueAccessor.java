@@ -86,7 +86,8 @@ abstract class ReactiveVaultKeyValueAccessor implements ReactiveVaultKeyValueOpe
 			.doWithSession(webClient -> webClient.delete()
 				.uri(dataPath)
 				.exchangeToMono(mapResponse(String.class, path, HttpMethod.DELETE)))
-			.then();
+			.then()
+			.doFinally(signal -> evict(dataPath));
 	}
 
 	/**
@@ -108,7 +109,13 @@ abstract class ReactiveVaultKeyValueAccessor implements ReactiveVaultKeyValueOpe
 
 		Mono<VaultResponseSupport<JsonNode>> response = doRead(createDataPath(path), ref);
 
-		return response.map(it -> {
+		return response.map(source -> {
+
+			// copy as responses may be cached and the mapping function may mutate the
+			// response
+			VaultResponseSupport<JsonNode> it = new VaultResponseSupport<>();
+			it.applyMetadata(source);
+			it.setData(source.getData());
 
 			JsonNode jsonNode = getJsonNode(it);
 			JsonNode jsonMeta = it.getRequiredData().at("/metadata");
@@ -127,8 +134,34 @@ abstract class ReactiveVaultKeyValueAccessor implements ReactiveVaultKeyValueOpe
 	 * @return mapped value.
 	 */
 	<T> Mono<T> doRead(String path, ParameterizedTypeReference<T> typeReference) {
-		return doRead((webClient) -> webClient.get().uri(path),
+
+		Mono<T> response = doRead((webClient) -> webClient.get().uri(path),
 				new ResponseFunction<>(cr -> cr.toEntity(typeReference)));
+
+		return readThrough(path, typeReference.getType(), response);
+	}
+
+	/**
+	 * Subscribe to {@code source} applying response caching and request coalescing if
+	 * enabled on the underlying {@link ReactiveVaultOperations}.
+	 * @param path the Vault path including query parameters.
+	 * @param type the response type.
+	 * @param source the source to obtain the value from Vault.
+	 * @return the resulting {@link Mono}.
+	 * @see ReactiveCachingVaultOperations
+	 * @see ReactiveVaultTemplate#setRequestCoalescingEnabled(boolean)
+	 */
+	<T> Mono<T> readThrough(String path, Object type, Mono<T> source) {
+
+		if (this.reactiveVaultOperations instanceof ReactiveCachingVaultOperations caching) {
+			return caching.readCached(path, type, source);
+		}
+
+		if (this.reactiveVaultOperations instanceof ReactiveVaultTemplate template) {
+			return template.readShared(path, type, source);
+		}
+
+		return source;
 	}
 
 	/**
@@ -184,6 +217,17 @@ abstract class ReactiveVaultKeyValueAccessor implements ReactiveVaultKeyValueOpe
 		return reactiveVaultOperations.write(path, body);
 	}
 
+	/**
+	 * Invalidate cached responses for {@code path} if reads are cached.
+	 * @param path the Vault path.
+	 */
+	void evict(String path) {
+
+		if (this.reactiveVaultOperations instanceof ReactiveCachingVaultOperations caching) {
+			caching.evict(path);
+		}
+	}
+
 	/**
 	 * Return the {@link JsonNode} that contains the actual response body.
 	 * @param response the response to extract the appropriate node from.
@@ -71,6 +71,9 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 
 	private final VaultTokenSupplier vaultTokenSupplier;
 
+	@Nullable
+	private ReactiveSingleFlight singleFlight;
+
 	/**
 	 * Create a new {@link ReactiveVaultTemplate} with a {@link VaultEndpoint},
 	 * {@link ClientHttpConnector}. This constructor does not use a
@@ -230,6 +233,32 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 		}));
 	}
 
+	/**
+	 * Enable or disable request coalescing. If enabled, concurrent subscriptions to
+	 * reads for the same path (and version) that are in flight at the same time share a
+	 * single HTTP request and all subscribers receive the same response object.
+	 * Coalescing applies to {@link #read(String)}, {@link #read(String, Class)},
+	 * {@link #list(String)} and reads through Key/Value templates obtained from this
+	 * template. Coalescing is scoped to this template and to the namespace and identity
+	 * bound to the subscriber context. Disabled by default.
+	 * <p>
+	 * Responses are shared between subscribers and must not be modified when coalescing
+	 * is enabled.
+	 * @param requestCoalescingEnabled {@literal true} to enable request coalescing.
+	 * @since 4.0
+	 */
+	public void setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+		this.singleFlight = requestCoalescingEnabled ? new ReactiveSingleFlight() : null;
+	}
+
+	/**
+	 * @return {@literal true} if request coalescing is enabled.
+	 * @since 4.0
+	 */
+	public boolean isRequestCoalescingEnabled() {
+		return this.singleFlight != null;
+	}
+
 	@Override
 	public ReactiveVaultSysOperations opsForSys() {
 		return new ReactiveVaultSysTemplate(this);
@@ -263,14 +292,14 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 
 		Assert.hasText(path, "Path must not be empty");
 
-		return doRead(path, VaultResponse.class).onErrorResume(WebClientResponseException.NotFound.class,
-				e -> Mono.empty());
+		return readShared(path, VaultResponse.class, doRead(path, VaultResponse.class)
+			.onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()));
 	}
 
 	@Override
 	public <T> Mono<VaultResponseSupport<T>> read(String path, Class<T> responseType) {
 
-		return doWithSession(webClient -> {
+		return readShared(path, responseType, doWithSession(webClient -> {
 
 			ParameterizedTypeReference<VaultResponseSupport<T>> ref = VaultResponses.getTypeReference(responseType);
 
@@ -278,7 +307,7 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 				.uri(path)
 				.exchangeToMono(mapResponse(ref, path, HttpMethod.GET))
 				.onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
-		});
+		}));
 	}
 
 	@Override
@@ -287,8 +316,10 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 
 		Assert.hasText(path, "Path must not be empty");
 
-		return doRead("%s?list=true".formatted(path.endsWith("/") ? path : (path + "/")), VaultListResponse.class)
-			.onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+		String listPath = "%s?list=true".formatted(path.endsWith("/") ? path : (path + "/"));
+
+		return readShared(listPath, VaultListResponse.class, doRead(listPath, VaultListResponse.class)
+			.onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()))
 			.filter(response -> response.getData() != null && response.getData().containsKey("keys"))
 			.flatMapIterable(response -> (List<String>) response.getRequiredData().get("keys"));
 	}
@@ -348,6 +379,22 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 		}
 	}
 
+	/**
+	 * Subscribe to {@code source} sharing the subscription with concurrent subscribers
+	 * for the same {@code path} and {@code type} if request coalescing is enabled.
+	 * @param path the Vault path including query parameters.
+	 * @param type the response type.
+	 * @param source the source to obtain the value from Vault.
+	 * @return the (shared) {@link Mono}.
+	 * @see #setRequestCoalescingEnabled(boolean)
+	 */
+	<T> Mono<T> readShared(String path, Object type, Mono<T> source) {
+
+		ReactiveSingleFlight singleFlight = this.singleFlight;
+
+		return singleFlight != null ? singleFlight.execute(path, type, source) : source;
+	}
+
 	private <T> Mono<T> doRead(String path, Class<T> responseType) {
 
 		return doWithSession(client -> client.get() //
@@ -209,6 +209,21 @@ public interface ReactiveVaultTransitOperations {
 	 */
 	Flux<VaultEncryptionResult> rewrap(String keyName, List<Ciphertext> batchRequest);
 
+	/**
+	 * Generate a new high-entropy data key using {@code keyName}. The returned
+	 * {@link VaultDataKey} contains the plaintext key material for local (envelope)
+	 * encryption and the key wrapped by the named key. The wrapped key can be decrypted
+	 * using {@link #decrypt(String, Ciphertext)}.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @return the generated 256-bit data key. Emits {@link UnsupportedOperationException}
+	 * if the implementation does not support data key generation.
+	 * @since 4.0
+	 */
+	default Mono<VaultDataKey> generateDataKey(String keyName) {
+		return Mono.error(new UnsupportedOperationException(
+				"Data key generation is not supported by %s".formatted(getClass().getName())));
+	}
+
 	/**
 	 * Create a HMAC using {@code keyName} of given {@link Plaintext} using the default
 	 * hash algorithm. The key can be of any type supported by transit; the raw key will
@@ -262,6 +262,15 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 			.flatMapIterable(vaultResponse -> toDecryptionResults(vaultResponse, batchRequest));
 	}
 
+	@Override
+	public Mono<VaultDataKey> generateDataKey(String keyName) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+
+		return this.reactiveVaultOperations.write("%s/datakey/plaintext/%s".formatted(this.path, keyName), null)
+			.map(vaultResponse -> toDataKey(vaultResponse.getRequiredData()));
+	}
+
 	@Override
 	public Mono<Hmac> getHmac(String keyName, Plaintext plaintext) {
 
@@ -87,10 +87,11 @@ public class ReactiveVaultVersionedKeyValueTemplate extends ReactiveVaultKeyValu
 
 	private <T> Mono<Versioned<T>> doRead(String path, Version version, Class<T> responseType) {
 
-		String secretPath = version.isVersioned()
-				? "%s?version=%d".formatted(createDataPath(path), version.getVersion()) : createDataPath(path);
+		String dataPath = createDataPath(path);
+		String secretPath = version.isVersioned() ? "%s?version=%d".formatted(dataPath, version.getVersion())
+				: dataPath;
 
-		Mono<VersionedResponse> versionedResponseMono = doReadVersioned(secretPath);
+		Mono<VersionedResponse> versionedResponseMono = readThrough(dataPath, version, doReadVersioned(secretPath));
 
 		return versionedResponseMono.map(response -> {
 
@@ -140,7 +141,9 @@ public class ReactiveVaultVersionedKeyValueTemplate extends ReactiveVaultKeyValu
 
 		List<Integer> versions = toVersionList(versionsToDelete);
 
-		return doWrite(createBackendPath("delete", path), Collections.singletonMap("versions", versions)).then().log();
+		return doWrite(createBackendPath("delete", path), Collections.singletonMap("versions", versions)).then()
+			.log()
+			.doFinally(signal -> evict(createDataPath(path)));
 	}
 
 	@Override
@@ -151,7 +154,8 @@ public class ReactiveVaultVersionedKeyValueTemplate extends ReactiveVaultKeyValu
 
 		List<Integer> versions = toVersionList(versionsToDelete);
 
-		return doWrite(createBackendPath("undelete", path), Collections.singletonMap("versions", versions)).then();
+		return doWrite(createBackendPath("undelete", path), Collections.singletonMap("versions", versions)).then()
+			.doFinally(signal -> evict(createDataPath(path)));
 	}
 
 	@Override
@@ -162,7 +166,8 @@ public class ReactiveVaultVersionedKeyValueTemplate extends ReactiveVaultKeyValu
 
 		List<Integer> versions = toVersionList(versionsToDelete);
 
-		return doWrite(createBackendPath("destroy", path), Collections.singletonMap("versions", versions)).then();
+		return doWrite(createBackendPath("destroy", path), Collections.singletonMap("versions", versions)).then()
+			.doFinally(signal -> evict(createDataPath(path)));
 	}
 
 	@Override
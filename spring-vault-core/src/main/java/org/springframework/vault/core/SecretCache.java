@@ -0,0 +1,339 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.support.VaultResponseSupport;
+
+/**
+ * Bounded, expiring cache for Vault read responses. Entries are keyed by path, Vault
+ * namespace, identity and response type and held in least-recently-used order. Absent
+ * secrets are cached as {@literal null} values if negative caching is enabled.
+ * <p>
+ * Each path that is being loaded has a generation that is advanced by
+ * {@link #evict(String)} and {@link #clear()}. A load that started before an eviction
+ * does not store its result so that a read racing with a write cannot cache the value
+ * that was read before the write.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see SecretCacheOptions
+ */
+final class SecretCache {
+
+	private final SecretCacheOptions options;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final LinkedHashMap<CacheKey, CacheEntry> entries;
+
+	private final Map<String, Load> loads = new HashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	SecretCache(SecretCacheOptions options) {
+
+		Assert.notNull(options, "SecretCacheOptions must not be null");
+
+		this.options = options;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+
+				if (size() > SecretCache.this.options.getMaxSize()) {
+					SecretCache.this.evictions.increment();
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Obtain a value from the cache or load it through {@code loader} if absent or
+	 * expired.
+	 * @param key the cache key.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the cached or loaded value. Can be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> @Nullable T get(CacheKey key, Supplier<@Nullable T> loader) {
+
+		CacheEntry entry = lookup(key);
+
+		if (entry != null) {
+			return (T) entry.value();
+		}
+
+		long generation = beginLoad(key.path());
+
+		try {
+
+			T value = loader.get();
+			put(key, value, generation);
+
+			return value;
+		}
+		finally {
+			endLoad(key.path());
+		}
+	}
+
+	/**
+	 * Look up a non-expired {@link CacheEntry} and record a hit or miss.
+	 * @param key the cache key.
+	 * @return the {@link CacheEntry} or {@literal null} if absent or expired.
+	 */
+	@Nullable
+	CacheEntry lookup(CacheKey key) {
+
+		long now = this.options.getClock().millis();
+
+		this.lock.lock();
+		try {
+
+			CacheEntry entry = this.entries.get(key);
+
+			if (entry != null && entry.isExpired(now)) {
+				this.entries.remove(key);
+				this.evictions.increment();
+				entry = null;
+			}
+
+			if (entry == null) {
+				this.misses.increment();
+				return null;
+			}
+
+			this.hits.increment();
+			return entry;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Register a load of {@code path}. Each call must be followed by
+	 * {@link #endLoad(String)} once the load has completed.
+	 * @param path the Vault path.
+	 * @return the current generation of {@code path} to pass to
+	 * {@link #put(CacheKey, Object, long)}.
+	 */
+	long beginLoad(String path) {
+
+		this.lock.lock();
+		try {
+
+			Load load = this.loads.computeIfAbsent(path, it -> new Load());
+			load.count++;
+
+			return load.generation;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Complete a load of {@code path} that was registered through
+	 * {@link #beginLoad(String)}.
+	 * @param path the Vault path.
+	 */
+	void endLoad(String path) {
+
+		this.lock.lock();
+		try {
+
+			Load load = this.loads.get(path);
+
+			if (load != null && --load.count == 0) {
+				this.loads.remove(path);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Store a loaded value in the cache unless {@code path} was evicted since the load
+	 * started. {@literal null} values are only retained if negative caching is enabled.
+	 * @param key the cache key.
+	 * @param value the value, can be {@literal null}.
+	 * @param generation the generation returned by {@link #beginLoad(String)}.
+	 */
+	void put(CacheKey key, @Nullable Object value, long generation) {
+
+		Duration timeToLive = getTimeToLive(value);
+
+		if (timeToLive.isZero()) {
+			return;
+		}
+
+		CacheEntry entry = new CacheEntry(value, this.options.getClock().millis() + timeToLive.toMillis());
+
+		this.lock.lock();
+		try {
+
+			Load load = this.loads.get(key.path());
+
+			if (load != null && load.generation == generation) {
+				this.entries.put(key, entry);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove all entries cached for {@code path} regardless of their namespace, identity
+	 * and response type.
+	 * @param path the Vault path.
+	 */
+	void evict(String path) {
+
+		this.lock.lock();
+		try {
+
+			Load load = this.loads.get(path);
+
+			if (load != null) {
+				load.generation++;
+			}
+
+			for (Iterator<CacheKey> iterator = this.entries.keySet().iterator(); iterator.hasNext();) {
+
+				if (iterator.next().path().equals(path)) {
+					iterator.remove();
+					this.evictions.increment();
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove all cached entries.
+	 */
+	void clear() {
+
+		this.lock.lock();
+		try {
+			this.loads.values().forEach(load -> load.generation++);
+			this.evictions.add(this.entries.size());
+			this.entries.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return a snapshot of the cache counters.
+	 */
+	SecretCacheStatistics getStatistics() {
+
+		int size;
+
+		this.lock.lock();
+		try {
+			size = this.entries.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		return new SecretCacheStatistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size);
+	}
+
+	private Duration getTimeToLive(@Nullable Object value) {
+
+		if (value == null) {
+			return this.options.getNegativeTimeToLive();
+		}
+
+		Duration timeToLive = this.options.getTimeToLive();
+
+		if (this.options.isLeaseAware() && value instanceof VaultResponseSupport<?> response
+				&& response.getLeaseDuration() > 0) {
+
+			Duration leaseDuration = Duration.ofSeconds(response.getLeaseDuration());
+
+			if (leaseDuration.compareTo(timeToLive) < 0) {
+				return leaseDuration;
+			}
+		}
+
+		return timeToLive;
+	}
+
+	/**
+	 * Cache key.
+	 *
+	 * @param path the Vault path.
+	 * @param namespace the Vault namespace the path was read from, {@literal null} if
+	 * none is bound.
+	 * @param identity the identity the path was read with, {@literal null} if none is
+	 * bound.
+	 * @param type the response type used to distinguish representations of the same
+	 * path.
+	 */
+	record CacheKey(String path, @Nullable String namespace, @Nullable String identity, Object type) {
+	}
+
+	record CacheEntry(@Nullable Object value, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now >= this.expiresAt;
+		}
+
+	}
+
+	/**
+	 * In-flight loads of a path. Guarded by the cache lock.
+	 */
+	static class Load {
+
+		long generation;
+
+		int count;
+
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for the secret cache used by {@link CachingVaultOperations} and
+ * {@link ReactiveCachingVaultOperations}.
+ * <p>
+ * Options define the maximum number of cached entries, the time to live of cached
+ * responses, whether to honor {@code lease_duration} and the time to live of negative
+ * ({@code 404 Not Found}) lookups. {@link SecretCacheOptions} can be constructed using
+ * {@link #builder()}. Instances of this class are immutable once constructed.
+ *
+ * @author agent
+ * @since 4.0
+ * @see #builder()
+ */
+public class SecretCacheOptions {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	/**
+	 * Maximum number of cached entries.
+	 */
+	private final int maxSize;
+
+	/**
+	 * Time to live for cached responses.
+	 */
+	private final Duration timeToLive;
+
+	/**
+	 * Time to live for absent secrets. {@link Duration#ZERO} disables negative caching.
+	 */
+	private final Duration negativeTimeToLive;
+
+	/**
+	 * Whether to expire cached responses along with their {@code lease_duration}.
+	 */
+	private final boolean leaseAware;
+
+	private final Clock clock;
+
+	private SecretCacheOptions(int maxSize, Duration timeToLive, Duration negativeTimeToLive, boolean leaseAware,
+			Clock clock) {
+		this.maxSize = maxSize;
+		this.timeToLive = timeToLive;
+		this.negativeTimeToLive = negativeTimeToLive;
+		this.leaseAware = leaseAware;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return a new {@link SecretCacheOptionsBuilder}.
+	 */
+	public static SecretCacheOptionsBuilder builder() {
+		return new SecretCacheOptionsBuilder();
+	}
+
+	/**
+	 * @return the maximum number of cached entries.
+	 */
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	/**
+	 * @return the time to live for cached responses.
+	 */
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * @return the time to live for absent secrets. {@link Duration#ZERO} if negative
+	 * caching is disabled.
+	 */
+	public Duration getNegativeTimeToLive() {
+		return this.negativeTimeToLive;
+	}
+
+	/**
+	 * @return {@literal true} if cached responses expire no later than their
+	 * {@code lease_duration}.
+	 */
+	public boolean isLeaseAware() {
+		return this.leaseAware;
+	}
+
+	/**
+	 * @return the {@link Clock}.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Builder for {@link SecretCacheOptions}.
+	 */
+	public static class SecretCacheOptionsBuilder {
+
+		private int maxSize = DEFAULT_MAX_SIZE;
+
+		private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+		private Duration negativeTimeToLive = Duration.ZERO;
+
+		private boolean leaseAware = true;
+
+		private Clock clock = Clock.systemUTC();
+
+		SecretCacheOptionsBuilder() {
+		}
+
+		/**
+		 * Configure the maximum number of cached entries. Least recently used entries are
+		 * evicted once the cache exceeds its maximum size.
+		 * @param maxSize must be greater than zero.
+		 * @return {@code this} {@link SecretCacheOptionsBuilder}.
+		 * @see #DEFAULT_MAX_SIZE
+		 */
+		public SecretCacheOptionsBuilder maxSize(int maxSize) {
+
+			Assert.isTrue(maxSize > 0, "Max size must be greater than zero");
+
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Configure the time to live for cached responses.
+		 * @param timeToLive must not be {@literal null} or negative.
+		 * @return {@code this} {@link SecretCacheOptionsBuilder}.
+		 * @see #DEFAULT_TIME_TO_LIVE
+		 */
+		public SecretCacheOptionsBuilder timeToLive(Duration timeToLive) {
+
+			Assert.notNull(timeToLive, "Time to live must not be null");
+			Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+			this.timeToLive = timeToLive;
+			return this;
+		}
+
+		/**
+		 * Configure the time to live for absent secrets ({@code 404 Not Found}).
+		 * {@link Duration#ZERO} disables negative caching which is the default.
+		 * @param negativeTimeToLive must not be {@literal null} or negative.
+		 * @return {@code this} {@link SecretCacheOptionsBuilder}.
+		 */
+		public SecretCacheOptionsBuilder negativeTimeToLive(Duration negativeTimeToLive) {
+
+			Assert.notNull(negativeTimeToLive, "Negative time to live must not be null");
+			Assert.isTrue(!negativeTimeToLive.isNegative(), "Negative time to live must not be negative");
+
+			this.negativeTimeToLive = negativeTimeToLive;
+			return this;
+		}
+
+		/**
+		 * Configure whether cached responses should expire no later than their
+		 * {@code lease_duration}. Enabled by default.
+		 * @param leaseAware {@literal true} to honor the lease duration.
+		 * @return {@code this} {@link SecretCacheOptionsBuilder}.
+		 */
+		public SecretCacheOptionsBuilder leaseAware(boolean leaseAware) {
+
+			this.leaseAware = leaseAware;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Clock}.
+		 * @param clock must not be {@literal null}.
+		 * @return {@code this} {@link SecretCacheOptionsBuilder}.
+		 */
+		public SecretCacheOptionsBuilder clock(Clock clock) {
+
+			Assert.notNull(clock, "Clock must not be null");
+
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link SecretCacheOptions} instance.
+		 * @return a new {@link SecretCacheOptions}.
+		 */
+		public SecretCacheOptions build() {
+			return new SecretCacheOptions(this.maxSize, this.timeToLive, this.negativeTimeToLive, this.leaseAware,
+					this.clock);
+		}
+
+	}
+
+}
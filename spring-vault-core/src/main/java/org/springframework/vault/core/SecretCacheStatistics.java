@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+/**
+ * Point-in-time snapshot of secret cache counters.
+ *
+ * @author agent
+ * @since 4.0
+ * @see CachingVaultOperations#getStatistics()
+ * @see ReactiveCachingVaultOperations#getStatistics()
+ */
+public final class SecretCacheStatistics {
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long evictionCount;
+
+	private final int size;
+
+	SecretCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return number of lookups served from the cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * @return number of lookups that required a call to Vault.
+	 */
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * @return number of entries removed due to expiry, size constraints or explicit
+	 * invalidation.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount;
+	}
+
+	/**
+	 * @return number of entries currently held by the cache.
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [hits=" + this.hitCount + ", misses=" + this.missCount + ", evictions="
+				+ this.evictionCount + ", size=" + this.size + "]";
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Collapses concurrent invocations for the same path, namespace, identity and response
+ * type into a single invocation. The first caller (leader) invokes the loader while subsequent callers
+ * arriving before the leader completes wait for and share the leader's outcome. The
+ * in-flight registration is removed once the leader completes so subsequent calls
+ * invoke the loader again.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see ReactiveSingleFlight
+ */
+final class SingleFlight {
+
+	private final Map<FlightKey, CompletableFuture<@Nullable Object>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Invoke {@code loader} or join an in-flight invocation for the same {@code path}
+	 * and {@code type} without namespace and identity.
+	 * @param path the Vault path including query parameters such as the version.
+	 * @param type the response type.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the loaded value. Can be {@literal null}.
+	 */
+	<T> @Nullable T execute(String path, Object type, Supplier<@Nullable T> loader) {
+		return execute(path, null, null, type, loader);
+	}
+
+	/**
+	 * Invoke {@code loader} or join an in-flight invocation for the same {@code path},
+	 * {@code namespace}, {@code identity} and {@code type}.
+	 * @param path the Vault path including query parameters such as the version.
+	 * @param namespace the Vault namespace, can be {@literal null}.
+	 * @param identity the identity, can be {@literal null}.
+	 * @param type the response type.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the loaded value. Can be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> @Nullable T execute(String path, @Nullable String namespace, @Nullable String identity, Object type,
+			Supplier<@Nullable T> loader) {
+
+		FlightKey key = new FlightKey(path, namespace, identity, type);
+		CompletableFuture<@Nullable Object> flight = new CompletableFuture<>();
+		CompletableFuture<@Nullable Object> leader = this.inFlight.putIfAbsent(key, flight);
+
+		if (leader != null) {
+			return (T) join(leader);
+		}
+
+		try {
+			T value = loader.get();
+			flight.complete(value);
+			return value;
+		}
+		catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			this.inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * @return the number of in-flight invocations.
+	 */
+	int size() {
+		return this.inFlight.size();
+	}
+
+	private static @Nullable Object join(CompletableFuture<@Nullable Object> leader) {
+
+		try {
+			return leader.join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw e;
+		}
+	}
+
+	record FlightKey(String path, @Nullable String namespace, @Nullable String identity, Object type) {
+	}
+
+}
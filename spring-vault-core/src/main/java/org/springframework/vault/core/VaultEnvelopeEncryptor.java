@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.VaultDataKey;
+
+/**
+ * Streaming envelope encryption using data keys generated by Vault's {@literal transit}
+ * backend. Encryption obtains a single data key per stream through
+ * {@link VaultTransitOperations#generateDataKey(String)} and encrypts the stream
+ * locally in AES-GCM chunks. The wrapped data key is stored in the envelope header so
+ * that decryption requires a single {@link VaultTransitOperations#decrypt(String, Ciphertext)
+ * decrypt} call to unwrap the data key. Memory usage is bounded by the chunk size
+ * regardless of the stream size.
+ * <p>
+ * Streams are neither closed nor flushed beyond the written envelope. This class is
+ * thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see ReactiveVaultEnvelopeEncryptor
+ */
+public class VaultEnvelopeEncryptor {
+
+	/**
+	 * Default plaintext chunk size (64 kB).
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = EnvelopeFormat.DEFAULT_CHUNK_SIZE;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final VaultTransitOperations transitOperations;
+
+	private final String keyName;
+
+	private final int chunkSize;
+
+	/**
+	 * Create a new {@link VaultEnvelopeEncryptor} given {@link VaultTransitOperations}
+	 * and {@code keyName} using {@link #DEFAULT_CHUNK_SIZE}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 */
+	public VaultEnvelopeEncryptor(VaultTransitOperations transitOperations, String keyName) {
+		this(transitOperations, keyName, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Create a new {@link VaultEnvelopeEncryptor} given {@link VaultTransitOperations},
+	 * {@code keyName} and {@code chunkSize}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 * @param chunkSize plaintext chunk size in bytes, must be greater than zero.
+	 */
+	public VaultEnvelopeEncryptor(VaultTransitOperations transitOperations, String keyName, int chunkSize) {
+
+		Assert.notNull(transitOperations, "VaultTransitOperations must not be null");
+		Assert.hasText(keyName, "Key name must not be null or empty");
+		EnvelopeFormat.validateChunkSize(chunkSize);
+
+		this.transitOperations = transitOperations;
+		this.keyName = keyName;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Encrypt {@code plaintext} and write the envelope to {@code ciphertext}.
+	 * @param plaintext must not be {@literal null}.
+	 * @param ciphertext must not be {@literal null}.
+	 * @throws IOException if reading or writing fails.
+	 */
+	public void encrypt(InputStream plaintext, OutputStream ciphertext) throws IOException {
+
+		Assert.notNull(plaintext, "Plaintext InputStream must not be null");
+		Assert.notNull(ciphertext, "Ciphertext OutputStream must not be null");
+
+		EnvelopeFormat.Encryptor encryptor = createEncryptor();
+
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+
+		try {
+
+			while ((read = plaintext.read(buffer)) != -1) {
+				write(encryptor.update(buffer, 0, read), ciphertext);
+			}
+
+			ciphertext.write(encryptor.finish());
+		}
+		finally {
+			encryptor.destroy();
+			Arrays.fill(buffer, (byte) 0);
+		}
+	}
+
+	/**
+	 * Encrypt {@code plaintext} and write the envelope to {@code ciphertext}.
+	 * @param plaintext must not be {@literal null}.
+	 * @param ciphertext must not be {@literal null}.
+	 * @throws IOException if reading or writing fails.
+	 */
+	public void encrypt(ReadableByteChannel plaintext, WritableByteChannel ciphertext) throws IOException {
+
+		Assert.notNull(plaintext, "Plaintext channel must not be null");
+		Assert.notNull(ciphertext, "Ciphertext channel must not be null");
+
+		encrypt(Channels.newInputStream(plaintext), Channels.newOutputStream(ciphertext));
+	}
+
+	/**
+	 * Decrypt the envelope read from {@code ciphertext} and write the plaintext to
+	 * {@code plaintext}. Decrypted chunks are written as soon as they are authenticated;
+	 * callers must discard the written plaintext if decryption fails.
+	 * @param ciphertext must not be {@literal null}.
+	 * @param plaintext must not be {@literal null}.
+	 * @throws IOException if reading or writing fails.
+	 */
+	public void decrypt(InputStream ciphertext, OutputStream plaintext) throws IOException {
+
+		Assert.notNull(ciphertext, "Ciphertext InputStream must not be null");
+		Assert.notNull(plaintext, "Plaintext OutputStream must not be null");
+
+		EnvelopeFormat.Decryptor decryptor = new EnvelopeFormat.Decryptor();
+
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+
+		try {
+
+			while ((read = ciphertext.read(buffer)) != -1) {
+
+				write(decryptor.update(buffer, 0, read), plaintext);
+
+				if (decryptor.isKeyRequired()) {
+					unwrap(decryptor);
+					write(decryptor.update(), plaintext);
+				}
+			}
+
+			plaintext.write(decryptor.finish());
+		}
+		finally {
+			decryptor.destroy();
+		}
+	}
+
+	/**
+	 * Decrypt the envelope read from {@code ciphertext} and write the plaintext to
+	 * {@code plaintext}. Decrypted chunks are written as soon as they are authenticated;
+	 * callers must discard the written plaintext if decryption fails.
+	 * @param ciphertext must not be {@literal null}.
+	 * @param plaintext must not be {@literal null}.
+	 * @throws IOException if reading or writing fails.
+	 */
+	public void decrypt(ReadableByteChannel ciphertext, WritableByteChannel plaintext) throws IOException {
+
+		Assert.notNull(ciphertext, "Ciphertext channel must not be null");
+		Assert.notNull(plaintext, "Plaintext channel must not be null");
+
+		decrypt(Channels.newInputStream(ciphertext), Channels.newOutputStream(plaintext));
+	}
+
+	private EnvelopeFormat.Encryptor createEncryptor() {
+
+		VaultDataKey dataKey = this.transitOperations.generateDataKey(this.keyName);
+
+		try {
+			return new EnvelopeFormat.Encryptor(dataKey.getPlaintext(), dataKey.getCiphertext().getCiphertext(),
+					this.chunkSize);
+		}
+		finally {
+			dataKey.destroy();
+		}
+	}
+
+	private void unwrap(EnvelopeFormat.Decryptor decryptor) {
+
+		byte[] key = this.transitOperations.decrypt(this.keyName, Ciphertext.of(decryptor.getWrappedKey()))
+			.getPlaintext();
+
+		try {
+			decryptor.setKey(key);
+		}
+		finally {
+			Arrays.fill(key, (byte) 0);
+		}
+	}
+
+	private static void write(List<byte[]> chunks, OutputStream out) throws IOException {
+
+		for (byte[] chunk : chunks) {
+			out.write(chunk);
+		}
+	}
+
+}
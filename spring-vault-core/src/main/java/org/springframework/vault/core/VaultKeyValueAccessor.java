@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -81,11 +82,18 @@ abstract class VaultKeyValueAccessor implements VaultKeyValueOperationsSupport {
 
 		Assert.hasText(path, "Path must not be empty");
 
-		this.vaultOperations.doWithSession((RestOperationsCallback<@Nullable Void>) (restOperations -> {
-			restOperations.exchange(createDataPath(path), HttpMethod.DELETE, null, Void.class);
+		String dataPath = createDataPath(path);
 
-			return null;
-		}));
+		try {
+			this.vaultOperations.doWithSession((RestOperationsCallback<@Nullable Void>) (restOperations -> {
+				restOperations.exchange(dataPath, HttpMethod.DELETE, null, Void.class);
+
+				return null;
+			}));
+		}
+		finally {
+			evict(dataPath);
+		}
 	}
 
 	/**
@@ -105,9 +113,14 @@ abstract class VaultKeyValueAccessor implements VaultKeyValueOperationsSupport {
 		ParameterizedTypeReference<VaultResponseSupport<JsonNode>> ref = VaultResponses
 			.getTypeReference(JsonNode.class);
 
-		VaultResponseSupport<JsonNode> response = doRead(createDataPath(path), ref);
+		VaultResponseSupport<JsonNode> source = doRead(createDataPath(path), ref);
+
+		if (source != null) {
 
-		if (response != null) {
+			// copy as responses may be cached and the mapping function may mutate the response
+			VaultResponseSupport<JsonNode> response = new VaultResponseSupport<>();
+			response.applyMetadata(source);
+			response.setData(source.getData());
 
 			JsonNode jsonNode = getJsonNode(response);
 			JsonNode jsonMeta = response.getRequiredData().at("/metadata");
@@ -129,9 +142,32 @@ abstract class VaultKeyValueAccessor implements VaultKeyValueOperationsSupport {
 	 */
 	<T> @Nullable T doRead(String path, ParameterizedTypeReference<T> typeReference) {
 
-		return doRead((restOperations) -> {
+		return readThrough(path, typeReference.getType(), () -> doRead((restOperations) -> {
 			return restOperations.exchange(path, HttpMethod.GET, null, typeReference);
-		});
+		}));
+	}
+
+	/**
+	 * Perform a read through {@code loader} applying response caching and request
+	 * coalescing if enabled on the underlying {@link VaultOperations}.
+	 * @param path the Vault path including query parameters.
+	 * @param type the response type.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the loaded value. Can be {@literal null}.
+	 * @see CachingVaultOperations
+	 * @see VaultTemplate#setRequestCoalescingEnabled(boolean)
+	 */
+	<T> @Nullable T readThrough(String path, Object type, Supplier<@Nullable T> loader) {
+
+		if (this.vaultOperations instanceof CachingVaultOperations caching) {
+			return caching.readCached(path, type, loader);
+		}
+
+		if (this.vaultOperations instanceof VaultTemplate template) {
+			return template.readShared(path, type, loader);
+		}
+
+		return loader.get();
 	}
 
 	/**
@@ -199,6 +235,20 @@ abstract class VaultKeyValueAccessor implements VaultKeyValueOperationsSupport {
 		catch (HttpStatusCodeException e) {
 			throw VaultResponses.buildException(e, path);
 		}
+		finally {
+			evict(path);
+		}
+	}
+
+	/**
+	 * Invalidate cached responses for {@code path} if reads are cached.
+	 * @param path the Vault path.
+	 */
+	void evict(String path) {
+
+		if (this.vaultOperations instanceof CachingVaultOperations caching) {
+			caching.evict(path);
+		}
 	}
 
 	/**
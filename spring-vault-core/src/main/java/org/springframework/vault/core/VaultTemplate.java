@@ -17,6 +17,9 @@ package org.springframework.vault.core;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
@@ -30,13 +33,17 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.util.Assert;
 import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.IdentityRoutingSessionManager;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.SimpleSessionManager;
 import org.springframework.vault.client.RestTemplateBuilder;
 import org.springframework.vault.client.SimpleVaultEndpointProvider;
+import org.springframework.vault.client.VaultClients;
 import org.springframework.vault.client.VaultEndpoint;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
 import org.springframework.vault.client.VaultResponses;
 import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
 import org.springframework.vault.support.VaultResponse;
@@ -64,6 +71,20 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 	private final boolean dedicatedSessionManager;
 
+	@Nullable
+	private SingleFlight singleFlight;
+
+	@Nullable
+	private VaultTemplate parent;
+
+	@Nullable
+	private String namespace;
+
+	@Nullable
+	private String identity;
+
+	private final Map<String, VaultTemplate> namespaceTemplates = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@link VaultTemplate} with a {@link VaultEndpoint}. This constructor
 	 * does not use a {@link ClientAuthentication} mechanism. It is intended for usage
@@ -182,6 +203,7 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		Assert.notNull(restTemplateBuilder, "RestTemplateBuilder must not be null");
 
 		RestTemplate restTemplate = restTemplateBuilder.build();
+		restTemplate.getInterceptors().add(VaultClients.createNamespaceRoutingInterceptor());
 
 		this.sessionManager = NoSessionManager.INSTANCE;
 		this.dedicatedSessionManager = false;
@@ -205,10 +227,27 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		this.dedicatedSessionManager = false;
 
 		this.statelessTemplate = restTemplateBuilder.build();
+		this.statelessTemplate.getInterceptors().add(VaultClients.createNamespaceRoutingInterceptor());
 		this.sessionTemplate = restTemplateBuilder.build();
+		this.sessionTemplate.getInterceptors().add(VaultClients.createNamespaceRoutingInterceptor());
 		this.sessionTemplate.getInterceptors().add(getSessionInterceptor());
 	}
 
+	/**
+	 * Create a namespace- and identity-bound {@link VaultTemplate} sharing
+	 * {@link RestTemplate}s and the {@link SessionManager} with {@code parent}.
+	 */
+	private VaultTemplate(VaultTemplate parent, @Nullable String namespace, @Nullable String identity) {
+
+		this.statelessTemplate = parent.statelessTemplate;
+		this.sessionTemplate = parent.sessionTemplate;
+		this.sessionManager = parent.sessionManager;
+		this.dedicatedSessionManager = false;
+		this.parent = parent;
+		this.namespace = namespace;
+		this.identity = identity;
+	}
+
 	/**
 	 * Create a {@link RestTemplate} to be used by {@link VaultTemplate} for Vault
 	 * communication given {@link VaultEndpointProvider} and
@@ -223,7 +262,12 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 	protected RestTemplate doCreateRestTemplate(VaultEndpointProvider endpointProvider,
 			ClientHttpRequestFactory requestFactory) {
 
-		return RestTemplateBuilder.builder().endpointProvider(endpointProvider).requestFactory(requestFactory).build();
+		return RestTemplateBuilder.builder()
+			.endpointProvider(endpointProvider)
+			.requestFactory(requestFactory)
+			.customizers(restTemplate -> restTemplate.getInterceptors()
+				.add(VaultClients.createNamespaceRoutingInterceptor()))
+			.build();
 	}
 
 	/**
@@ -244,7 +288,10 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		return RestTemplateBuilder.builder()
 			.endpointProvider(endpointProvider)
 			.requestFactory(requestFactory)
-			.customizers(restTemplate -> restTemplate.getInterceptors().add(getSessionInterceptor()))
+			.customizers(restTemplate -> {
+				restTemplate.getInterceptors().add(VaultClients.createNamespaceRoutingInterceptor());
+				restTemplate.getInterceptors().add(getSessionInterceptor());
+			})
 			.build();
 	}
 
@@ -271,6 +318,110 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		this.sessionManager = sessionManager;
 	}
 
+	/**
+	 * Enable or disable request coalescing. If enabled, concurrent reads for the same
+	 * path (and version) that are in flight at the same time are collapsed into a single
+	 * HTTP request and all callers receive the same response object. Coalescing applies
+	 * to {@link #read(String)}, {@link #read(String, Class)}, {@link #list(String)} and
+	 * reads through Key/Value templates obtained from this template. Coalescing is
+	 * scoped to this template and to the namespace of each read. Templates obtained
+	 * through {@link #withNamespace(String)} share the setting of this template.
+	 * Disabled by default.
+	 * <p>
+	 * Responses are shared between callers and must not be modified when coalescing is
+	 * enabled.
+	 * @param requestCoalescingEnabled {@literal true} to enable request coalescing.
+	 * @since 4.0
+	 */
+	public void setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+
+		Assert.state(this.parent == null, "Request coalescing must be configured on the root template");
+
+		this.singleFlight = requestCoalescingEnabled ? new SingleFlight() : null;
+	}
+
+	/**
+	 * @return {@literal true} if request coalescing is enabled.
+	 * @since 4.0
+	 */
+	public boolean isRequestCoalescingEnabled() {
+		return getSingleFlight() != null;
+	}
+
+	/**
+	 * Return a {@link VaultOperations} view bound to the Vault Enterprise
+	 * {@code namespace}. The returned template shares {@link RestTemplate}s (and
+	 * therefore the connection pool) and the {@link SessionManager} with this template.
+	 * Calls through the returned template bind {@code namespace} to the calling thread
+	 * using {@link VaultNamespaceContextHolder} so that requests are routed to the
+	 * namespace and a
+	 * {@link org.springframework.vault.authentication.NamespaceRoutingSessionManager}
+	 * can obtain the token for the namespace. Templates are cached per namespace.
+	 * <p>
+	 * Alternatively, namespaces can be bound for a scope of calls through
+	 * {@link VaultNamespaceContextHolder#withNamespace(String, Supplier)}.
+	 * @param namespace the namespace, must not be {@literal null} or empty.
+	 * @return the {@link VaultOperations} bound to {@code namespace}.
+	 * @since 4.0
+	 */
+	public VaultOperations withNamespace(String namespace) {
+
+		Assert.hasText(namespace, "Vault Namespace must not be empty");
+
+		VaultTemplate root = this.parent != null ? this.parent : this;
+
+		if (this.identity != null) {
+			return new VaultTemplate(root, namespace, this.identity);
+		}
+
+		return root.namespaceTemplates.computeIfAbsent(namespace, key -> new VaultTemplate(root, key, null));
+	}
+
+	/**
+	 * @return the namespace this template is bound to or {@literal null} if the template
+	 * is not bound to a namespace.
+	 * @since 4.0
+	 */
+	public @Nullable String getNamespace() {
+		return this.namespace;
+	}
+
+	/**
+	 * Return a {@link VaultOperations} view acting on behalf of {@code identity}. The
+	 * returned template shares {@link RestTemplate}s (and therefore the connection pool)
+	 * and the {@link IdentityRoutingSessionManager} with this template. Calls through the
+	 * returned template bind {@code identity} to the calling thread using
+	 * {@link VaultIdentityContextHolder} so that session calls such as
+	 * {@link #doWithSession(RestOperationsCallback)} use the token of {@code identity}.
+	 * The returned view retains the namespace of this template. Views are lightweight and
+	 * not cached.
+	 * <p>
+	 * Alternatively, identities can be bound for a scope of calls through
+	 * {@link VaultIdentityContextHolder#withIdentity(String, Supplier)}.
+	 * @param identity the identity, must not be {@literal null} or empty.
+	 * @return the {@link VaultOperations} acting on behalf of {@code identity}.
+	 * @throws IllegalStateException if this template does not use an
+	 * {@link IdentityRoutingSessionManager}.
+	 * @since 4.0
+	 */
+	public VaultOperations withIdentity(String identity) {
+
+		Assert.hasText(identity, "Identity must not be empty");
+		Assert.state(this.sessionManager instanceof IdentityRoutingSessionManager,
+				"Identity routing requires an IdentityRoutingSessionManager");
+
+		return new VaultTemplate(this.parent != null ? this.parent : this, this.namespace, identity);
+	}
+
+	/**
+	 * @return the identity this template is bound to or {@literal null} if the template
+	 * is not bound to an identity.
+	 * @since 4.0
+	 */
+	public @Nullable String getIdentity() {
+		return this.identity;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		Assert.notNull(this.sessionManager, "SessionManager must not be null");
@@ -349,7 +500,7 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 		Assert.hasText(path, "Path must not be empty");
 
-		return doRead(path, VaultResponse.class);
+		return readShared(path, VaultResponse.class, () -> doRead(path, VaultResponse.class));
 	}
 
 	@Override
@@ -358,7 +509,7 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 		ParameterizedTypeReference<VaultResponseSupport<T>> ref = VaultResponses.getTypeReference(responseType);
 
-		return doWithSession(restOperations -> {
+		return readShared(path, responseType, () -> doWithSession(restOperations -> {
 
 			try {
 				ResponseEntity<VaultResponseSupport<T>> exchange = restOperations.exchange(path, HttpMethod.GET, null,
@@ -374,7 +525,7 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 				throw VaultResponses.buildException(e, path);
 			}
-		});
+		}));
 	}
 
 	@Override
@@ -383,8 +534,9 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 
 		Assert.hasText(path, "Path must not be empty");
 
-		VaultListResponse read = doRead("%s?list=true".formatted(path.endsWith("/") ? path : (path + "/")),
-				VaultListResponse.class);
+		String listPath = "%s?list=true".formatted(path.endsWith("/") ? path : (path + "/"));
+		VaultListResponse read = readShared(listPath, VaultListResponse.class,
+				() -> doRead(listPath, VaultListResponse.class));
 
 		if (read == null) {
 			return Collections.emptyList();
@@ -432,7 +584,7 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		Assert.notNull(clientCallback, "Client callback must not be null");
 
 		try {
-			return clientCallback.doWithRestOperations(this.statelessTemplate);
+			return doWithContext(() -> clientCallback.doWithRestOperations(this.statelessTemplate));
 		}
 		catch (HttpStatusCodeException e) {
 			throw VaultResponses.buildException(e);
@@ -445,13 +597,50 @@ public class VaultTemplate implements InitializingBean, VaultOperations, Disposa
 		Assert.notNull(sessionCallback, "Session callback must not be null");
 
 		try {
-			return sessionCallback.doWithRestOperations(this.sessionTemplate);
+			return doWithContext(() -> sessionCallback.doWithRestOperations(this.sessionTemplate));
 		}
 		catch (HttpStatusCodeException e) {
 			throw VaultResponses.buildException(e);
 		}
 	}
 
+	/**
+	 * Perform a read through {@code loader} collapsing concurrent reads for the same
+	 * {@code path} and {@code type} if request coalescing is enabled.
+	 * @param path the Vault path including query parameters.
+	 * @param type the response type.
+	 * @param loader the loader to obtain the value from Vault.
+	 * @return the loaded value. Can be {@literal null}.
+	 * @see #setRequestCoalescingEnabled(boolean)
+	 */
+	<T> @Nullable T readShared(String path, Object type, Supplier<@Nullable T> loader) {
+
+		SingleFlight singleFlight = getSingleFlight();
+
+		if (singleFlight == null) {
+			return loader.get();
+		}
+
+		String namespace = this.namespace != null ? this.namespace : VaultNamespaceContextHolder.getNamespace();
+		String identity = this.identity != null ? this.identity : VaultIdentityContextHolder.getIdentity();
+
+		return singleFlight.execute(path, namespace, identity, type, loader);
+	}
+
+	private @Nullable SingleFlight getSingleFlight() {
+		return this.parent != null ? this.parent.singleFlight : this.singleFlight;
+	}
+
+	private <T extends @Nullable Object> T doWithContext(Supplier<T> callback) {
+
+		String identity = this.identity;
+		Supplier<T> bound = identity != null ? () -> VaultIdentityContextHolder.withIdentity(identity, callback)
+				: callback;
+		String namespace = this.namespace;
+
+		return namespace != null ? VaultNamespaceContextHolder.withNamespace(namespace, bound) : bound.get();
+	}
+
 	@SuppressWarnings("NullAway")
 	private <T extends @Nullable Object> T doRead(String path, Class<T> responseType) {
 
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.support.AbstractResult;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Hmac;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultHmacRequest;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Micro-batching executor for Vault's {@literal transit} backend. Individual
+ * {@code encrypt}, {@code decrypt}, {@code rewrap} and {@code hmac} calls are
+ * accumulated per operation and key and sent as a single {@code batch_input} request
+ * once either the batch reaches {@link #setMaxBatchSize(int) its maximum size} or the
+ * {@link #setMaxDelay(Duration) maximum delay} since the first pending call elapses.
+ * Each caller receives a {@link CompletableFuture} that is completed individually with
+ * the corresponding batch result or the per-item error reported by Vault.
+ * <p>
+ * Calls are only batched together if they were issued with the same
+ * {@link VaultNamespaceContextHolder namespace} and {@link VaultIdentityContextHolder
+ * identity} bound to the calling thread. Both are bound to the thread that sends the
+ * batch so that the batch request is routed like the individual calls.
+ * <p>
+ * Batches are sent on {@link TaskScheduler} threads. The scheduler should provide
+ * enough threads to send multiple batches concurrently. Pending batches are flushed
+ * when this executor is {@link #destroy() destroyed}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see VaultTransitOperations#encrypt(String, List)
+ * @see VaultTransitOperations#decrypt(String, List)
+ * @see VaultTransitOperations#rewrap(String, List)
+ */
+public class VaultTransitBatchExecutor implements DisposableBean {
+
+	public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
+	public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(5);
+
+	private static final Log logger = LogFactory.getLog(VaultTransitBatchExecutor.class);
+
+	private final VaultOperations vaultOperations;
+
+	private final VaultTransitTemplate transitTemplate;
+
+	private final String path;
+
+	private final TaskScheduler taskScheduler;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Map<BatchKey, PendingBatch> pending = new HashMap<>();
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+	private volatile boolean running = true;
+
+	/**
+	 * Create a new {@link VaultTransitBatchExecutor} given {@link VaultOperations}, the
+	 * transit mount {@code path} and {@link TaskScheduler}.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param path must not be empty or {@literal null}.
+	 * @param taskScheduler must not be {@literal null}.
+	 */
+	public VaultTransitBatchExecutor(VaultOperations vaultOperations, String path, TaskScheduler taskScheduler) {
+
+		Assert.notNull(vaultOperations, "VaultOperations must not be null");
+		Assert.hasText(path, "Path must not be empty");
+		Assert.notNull(taskScheduler, "TaskScheduler must not be null");
+
+		this.vaultOperations = vaultOperations;
+		this.transitTemplate = new VaultTransitTemplate(vaultOperations, path);
+		this.path = path;
+		this.taskScheduler = taskScheduler;
+	}
+
+	/**
+	 * Set the maximum number of items per batch request. A batch is sent immediately
+	 * once it reaches this size.
+	 * @param maxBatchSize must be greater than zero.
+	 * @see #DEFAULT_MAX_BATCH_SIZE
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for additional items after the first item of a batch
+	 * was submitted.
+	 * @param maxDelay must not be {@literal null} or negative.
+	 * @see #DEFAULT_MAX_DELAY
+	 */
+	public void setMaxDelay(Duration maxDelay) {
+
+		Assert.notNull(maxDelay, "Max delay must not be null");
+		Assert.isTrue(!maxDelay.isNegative(), "Max delay must not be negative");
+
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * @return the maximum number of items per batch request.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * @return the maximum time to wait for additional items.
+	 */
+	public Duration getMaxDelay() {
+		return this.maxDelay;
+	}
+
+	/**
+	 * Encrypt {@code plaintext} using the named key as part of a batch.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param plaintext must not be {@literal null}.
+	 * @return the future completed with the {@link Ciphertext}.
+	 */
+	public CompletableFuture<Ciphertext> encrypt(String keyName, Plaintext plaintext) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(plaintext, "Plaintext must not be null");
+
+		return submit(BatchKey.of(Operation.ENCRYPT, keyName, null, null), plaintext);
+	}
+
+	/**
+	 * Decrypt {@code ciphertext} using the named key as part of a batch.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param ciphertext must not be {@literal null}.
+	 * @return the future completed with the {@link Plaintext}.
+	 */
+	public CompletableFuture<Plaintext> decrypt(String keyName, Ciphertext ciphertext) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(ciphertext, "Ciphertext must not be null");
+
+		return submit(BatchKey.of(Operation.DECRYPT, keyName, null, null), ciphertext);
+	}
+
+	/**
+	 * Rewrap {@code ciphertext} using the latest version of the named key as part of a
+	 * batch.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param ciphertext must not be {@literal null}.
+	 * @return the future completed with the rewrapped {@link Ciphertext}.
+	 */
+	public CompletableFuture<Ciphertext> rewrap(String keyName, Ciphertext ciphertext) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(ciphertext, "Ciphertext must not be null");
+
+		return submit(BatchKey.of(Operation.REWRAP, keyName, null, null), ciphertext);
+	}
+
+	/**
+	 * Create a HMAC using the named key as part of a batch. Requests are batched per
+	 * algorithm and key version.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param hmacRequest must not be {@literal null}.
+	 * @return the future completed with the {@link Hmac}.
+	 */
+	public CompletableFuture<Hmac> getHmac(String keyName, VaultHmacRequest hmacRequest) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(hmacRequest, "HMAC request must not be null");
+
+		return submit(BatchKey.of(Operation.HMAC, keyName, hmacRequest.getAlgorithm(), hmacRequest.getKeyVersion()),
+				hmacRequest.getPlaintext());
+	}
+
+	/**
+	 * Stop accepting new items and send all pending batches.
+	 */
+	@Override
+	public void destroy() {
+
+		this.running = false;
+
+		Map<BatchKey, PendingBatch> batches;
+
+		this.lock.lock();
+		try {
+			batches = new HashMap<>(this.pending);
+			this.pending.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		batches.forEach((key, batch) -> {
+			batch.cancelTimer();
+			flush(key, batch);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<T> submit(BatchKey key, Object request) {
+
+		CompletableFuture<@Nullable Object> future = new CompletableFuture<>();
+		PendingBatch full = null;
+
+		this.lock.lock();
+		try {
+
+			Assert.state(this.running, "VaultTransitBatchExecutor is destroyed");
+
+			PendingBatch batch = this.pending.get(key);
+
+			if (batch == null) {
+				batch = new PendingBatch();
+				this.pending.put(key, batch);
+				batch.timer = scheduleFlush(key, batch);
+			}
+
+			batch.entries.add(new BatchEntry(request, future));
+
+			if (batch.entries.size() >= this.maxBatchSize) {
+				this.pending.remove(key);
+				full = batch;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (full != null) {
+
+			PendingBatch batch = full;
+			batch.cancelTimer();
+			this.taskScheduler.schedule(() -> flush(key, batch), Instant.now());
+		}
+
+		return (CompletableFuture<T>) future;
+	}
+
+	private ScheduledFuture<?> scheduleFlush(BatchKey key, PendingBatch batch) {
+
+		return this.taskScheduler.schedule(() -> {
+
+			boolean due;
+
+			this.lock.lock();
+			try {
+				due = this.pending.remove(key, batch);
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			if (due) {
+				flush(key, batch);
+			}
+		}, Instant.now().plus(this.maxDelay));
+	}
+
+	private void flush(BatchKey key, PendingBatch batch) {
+
+		String previousNamespace = VaultNamespaceContextHolder.getNamespace();
+		String previousIdentity = VaultIdentityContextHolder.getIdentity();
+
+		VaultNamespaceContextHolder.setNamespace(key.namespace());
+		VaultIdentityContextHolder.setIdentity(key.identity());
+
+		try {
+			doFlush(key, batch);
+		}
+		finally {
+			VaultNamespaceContextHolder.setNamespace(previousNamespace);
+			VaultIdentityContextHolder.setIdentity(previousIdentity);
+		}
+	}
+
+	private void doFlush(BatchKey key, PendingBatch batch) {
+
+		List<BatchEntry> entries = batch.entries;
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Sending %s batch for key %s with %d item(s)".formatted(key.operation(), key.keyName(),
+					entries.size()));
+		}
+
+		try {
+
+			List<? extends AbstractResult<?>> results = switch (key.operation()) {
+				case ENCRYPT -> this.transitTemplate.encrypt(key.keyName(), getRequests(entries));
+				case DECRYPT -> this.transitTemplate.decrypt(key.keyName(), getRequests(entries));
+				case REWRAP -> this.transitTemplate.rewrap(key.keyName(), getRequests(entries));
+				case HMAC -> getHmac(key, getRequests(entries));
+			};
+
+			for (int i = 0; i < entries.size(); i++) {
+
+				CompletableFuture<@Nullable Object> future = entries.get(i).future();
+
+				if (results.size() <= i) {
+					future.completeExceptionally(new VaultException("No result for request #" + i));
+					continue;
+				}
+
+				AbstractResult<?> result = results.get(i);
+
+				if (result.isSuccessful()) {
+					future.complete(result.get());
+				}
+				else {
+					future.completeExceptionally(result.getCause() instanceof VaultException e ? e
+							: new VaultException("Batch item #%d failed".formatted(i), result.getCause()));
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			entries.forEach(entry -> entry.future().completeExceptionally(e));
+		}
+	}
+
+	private List<HmacResult> getHmac(BatchKey key, List<Plaintext> plaintexts) {
+
+		List<Map<String, String>> batch = new ArrayList<>(plaintexts.size());
+
+		for (Plaintext plaintext : plaintexts) {
+			batch.add(Map.of("input", Base64.getEncoder().encodeToString(plaintext.getPlaintext())));
+		}
+
+		Map<String, Object> request = new LinkedHashMap<>(3);
+		request.put("batch_input", batch);
+
+		if (StringUtils.hasText(key.algorithm())) {
+			request.put("algorithm", key.algorithm());
+		}
+
+		if (key.keyVersion() != null) {
+			request.put("key_version", key.keyVersion());
+		}
+
+		String hmacPath = "%s/hmac/%s".formatted(this.path, key.keyName());
+		VaultResponse response = this.vaultOperations.write(hmacPath, request);
+
+		if (response == null) {
+			throw new IllegalStateException("Write to '%s' did not return a response".formatted(hmacPath));
+		}
+
+		List<Map<String, String>> batchData = VaultTransitTemplate.getBatchData(response);
+		List<HmacResult> results = new ArrayList<>(batchData.size());
+
+		for (Map<String, String> data : batchData) {
+
+			String error = data.get("error");
+			String hmac = data.get("hmac");
+
+			if (StringUtils.hasText(error)) {
+				results.add(new HmacResult(new VaultException(error)));
+			}
+			else if (hmac == null) {
+				results.add(new HmacResult(new VaultException("No HMAC returned")));
+			}
+			else {
+				results.add(new HmacResult(Hmac.of(hmac)));
+			}
+		}
+
+		return results;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> getRequests(List<BatchEntry> entries) {
+
+		List<T> requests = new ArrayList<>(entries.size());
+
+		for (BatchEntry entry : entries) {
+			requests.add((T) entry.request());
+		}
+
+		return requests;
+	}
+
+	enum Operation {
+
+		ENCRYPT, DECRYPT, REWRAP, HMAC
+
+	}
+
+	record BatchKey(Operation operation, String keyName, @Nullable String algorithm, @Nullable Integer keyVersion,
+			@Nullable String namespace, @Nullable String identity) {
+
+		static BatchKey of(Operation operation, String keyName, @Nullable String algorithm,
+				@Nullable Integer keyVersion) {
+			return new BatchKey(operation, keyName, algorithm, keyVersion, VaultNamespaceContextHolder.getNamespace(),
+					VaultIdentityContextHolder.getIdentity());
+		}
+
+	}
+
+	record BatchEntry(Object request, CompletableFuture<@Nullable Object> future) {
+	}
+
+	static class PendingBatch {
+
+		final List<BatchEntry> entries = new ArrayList<>();
+
+		@Nullable
+		ScheduledFuture<?> timer;
+
+		void cancelTimer() {
+
+			ScheduledFuture<?> timer = this.timer;
+
+			if (timer != null) {
+				timer.cancel(false);
+			}
+		}
+
+	}
+
+	static class HmacResult extends AbstractResult<Hmac> {
+
+		private final @Nullable Hmac hmac;
+
+		HmacResult(Hmac hmac) {
+			this.hmac = hmac;
+		}
+
+		HmacResult(VaultException exception) {
+			super(exception);
+			this.hmac = null;
+		}
+
+		@Override
+		protected @Nullable Hmac get0() {
+			return this.hmac;
+		}
+
+	}
+
+}
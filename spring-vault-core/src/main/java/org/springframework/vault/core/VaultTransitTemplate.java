@@ -328,6 +328,14 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		return toBatchResults(vaultResponse, batchRequest, Ciphertext::getContext);
 	}
 
+	@Override
+	public VaultDataKey generateDataKey(String keyName) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+
+		return toDataKey(writeForData("%s/datakey/plaintext/%s".formatted(this.path, keyName), null));
+	}
+
 	@Override
 	public Hmac getHmac(String keyName, Plaintext plaintext) {
 
@@ -555,6 +563,14 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		return new VaultDecryptionResult(Plaintext.empty().with(ciphertext.getContext()));
 	}
 
+	@SuppressWarnings("NullAway")
+	static VaultDataKey toDataKey(Map<String, Object> data) {
+
+		byte[] plaintext = Base64.getDecoder().decode((String) data.get("plaintext"));
+
+		return VaultDataKey.of(plaintext, Ciphertext.of((String) data.get("ciphertext")));
+	}
+
 	static Map<String, String> createRewrapRequest(Ciphertext request) {
 
 		Map<String, String> vaultRequest = new LinkedHashMap<>(2);
@@ -89,10 +89,28 @@ public class VaultVersionedKeyValueTemplate extends VaultKeyValue2Accessor imple
 	@SuppressWarnings("NullAway")
 	private <T> Versioned<T> doRead(String path, Version version, Class<T> responseType) {
 
-		String secretPath = version.isVersioned()
-				? "%s?version=%d".formatted(createDataPath(path), version.getVersion()) : createDataPath(path);
+		String dataPath = createDataPath(path);
+		String secretPath = version.isVersioned() ? "%s?version=%d".formatted(dataPath, version.getVersion())
+				: dataPath;
 
-		VersionedResponse response = this.vaultOperations
+		VersionedResponse response = readThrough(dataPath, version, () -> doReadVersioned(path, secretPath));
+
+		if (response == null) {
+			return null;
+		}
+
+		VaultResponseSupport<JsonNode> data = response.getRequiredData();
+		Metadata metadata = KeyValueUtilities.getMetadata(data.getMetadata());
+
+		T body = deserialize(data.getRequiredData(), responseType);
+
+		return Versioned.create(body, metadata);
+	}
+
+	@SuppressWarnings("NullAway")
+	private @Nullable VersionedResponse doReadVersioned(String path, String secretPath) {
+
+		return this.vaultOperations
 			.doWithSession((RestOperationsCallback<@Nullable VersionedResponse>) restOperations -> {
 
 				try {
@@ -111,17 +129,6 @@ public class VaultVersionedKeyValueTemplate extends VaultKeyValue2Accessor imple
 					throw VaultResponses.buildException(e, path);
 				}
 			});
-
-		if (response == null) {
-			return null;
-		}
-
-		VaultResponseSupport<JsonNode> data = response.getRequiredData();
-		Metadata metadata = KeyValueUtilities.getMetadata(data.getMetadata());
-
-		T body = deserialize(data.getRequiredData(), responseType);
-
-		return Versioned.create(body, metadata);
 	}
 
 	@Override
@@ -167,6 +174,7 @@ public class VaultVersionedKeyValueTemplate extends VaultKeyValue2Accessor imple
 		List<Integer> versions = toVersionList(versionsToDelete);
 
 		doWrite(createBackendPath("delete", path), Collections.singletonMap("versions", versions));
+		evict(createDataPath(path));
 	}
 
 	private static List<Integer> toVersionList(Version[] versionsToDelete) {
@@ -185,6 +193,7 @@ public class VaultVersionedKeyValueTemplate extends VaultKeyValue2Accessor imple
 		List<Integer> versions = toVersionList(versionsToDelete);
 
 		doWrite(createBackendPath("undelete", path), Collections.singletonMap("versions", versions));
+		evict(createDataPath(path));
 	}
 
 	@Override
@@ -196,6 +205,7 @@ public class VaultVersionedKeyValueTemplate extends VaultKeyValue2Accessor imple
 		List<Integer> versions = toVersionList(versionsToDelete);
 
 		doWrite(createBackendPath("destroy", path), Collections.singletonMap("versions", versions));
+		evict(createDataPath(path));
 	}
 
 	@Override
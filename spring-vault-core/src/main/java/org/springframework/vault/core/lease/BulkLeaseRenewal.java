@@ -0,0 +1,402 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.core.lease.BulkRenewalOutcome.Type;
+
+/**
+ * Bulk renewal pipeline. Collects renewal tasks that become due within a window and runs
+ * them in parallel applying a concurrency limit and a token bucket rate limit. Each task
+ * reports whether it succeeded.
+ * <p>
+ * A batch is coordinated by the thread that runs it. The coordinator dispatches helpers
+ * to the {@link Executor} and runs tasks itself until no task is left, so a batch
+ * completes even if the {@link Executor} is saturated or does not start the helpers.
+ * Threads never wait for tasks that have not been started.
+ *
+ * @author agent
+ * @since 4.0
+ * @see BulkRenewalOptions
+ */
+class BulkLeaseRenewal {
+
+	private static final Log logger = LogFactory.getLog(BulkLeaseRenewal.class);
+
+	private final BulkRenewalOptions options;
+
+	private final TaskScheduler taskScheduler;
+
+	private final Executor executor;
+
+	private final @Nullable SimpleAsyncTaskExecutor defaultExecutor;
+
+	private final Semaphore concurrency;
+
+	private final @Nullable TokenBucket rateLimiter;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private List<BooleanSupplier> pending = new ArrayList<>();
+
+	BulkLeaseRenewal(BulkRenewalOptions options, TaskScheduler taskScheduler) {
+
+		Executor executor = options.getExecutor();
+
+		this.options = options;
+		this.taskScheduler = taskScheduler;
+
+		if (executor != null) {
+			this.executor = executor;
+			this.defaultExecutor = null;
+		}
+		else {
+			SimpleAsyncTaskExecutor defaultExecutor = createDefaultExecutor();
+			this.executor = defaultExecutor;
+			this.defaultExecutor = defaultExecutor;
+		}
+
+		this.concurrency = new Semaphore(options.getMaxConcurrency());
+		this.rateLimiter = options.getRequestsPerSecond() > 0 ? new TokenBucket(options.getRequestsPerSecond())
+				: null;
+	}
+
+	private static SimpleAsyncTaskExecutor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-vault-renewal-");
+		executor.setDaemon(true);
+		return executor;
+	}
+
+	/**
+	 * Submit a renewal task. The task is run with the next batch once the window of the
+	 * first pending task has elapsed.
+	 * @param task the renewal task.
+	 */
+	void submit(BooleanSupplier task) {
+		enqueue(List.of(task));
+	}
+
+	private void enqueue(List<BooleanSupplier> tasks) {
+
+		boolean first;
+
+		this.lock.lock();
+		try {
+			first = this.pending.isEmpty();
+			this.pending.addAll(tasks);
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (first) {
+			this.taskScheduler.schedule(this::dispatchFlush, Instant.now().plus(this.options.getWindow()));
+		}
+	}
+
+	private void dispatchFlush() {
+
+		try {
+			this.executor.execute(this::flush);
+		}
+		catch (RejectedExecutionException e) {
+			flush();
+		}
+	}
+
+	/**
+	 * Run all pending renewal tasks. Tasks that were not run because the coordinating
+	 * thread was interrupted are queued for the next batch.
+	 */
+	void flush() {
+
+		List<BooleanSupplier> tasks;
+
+		this.lock.lock();
+		try {
+			tasks = this.pending;
+			this.pending = new ArrayList<>();
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (tasks.isEmpty()) {
+			return;
+		}
+
+		List<BooleanSupplier> remaining = new ArrayList<>();
+		run(Type.RENEWAL, tasks, remaining);
+
+		if (!remaining.isEmpty()) {
+
+			try {
+				enqueue(remaining);
+			}
+			catch (RejectedExecutionException e) {
+				logger.warn("Cannot requeue %d renewal task(s)".formatted(remaining.size()), e);
+			}
+		}
+	}
+
+	/**
+	 * Run {@code tasks} in parallel and await completion. Tasks that were not run because
+	 * the calling thread was interrupted are reported as failed.
+	 * @param type the batch type.
+	 * @param tasks the tasks to run.
+	 * @return the batch outcome.
+	 */
+	BulkRenewalOutcome run(Type type, List<BooleanSupplier> tasks) {
+
+		List<BooleanSupplier> remaining = new ArrayList<>();
+		BulkRenewalOutcome outcome = run(type, tasks, remaining);
+
+		if (!remaining.isEmpty()) {
+			logger.warn("Interrupted before running %d %s task(s)".formatted(remaining.size(), type));
+		}
+
+		return outcome;
+	}
+
+	private BulkRenewalOutcome run(Type type, List<BooleanSupplier> tasks, List<BooleanSupplier> remaining) {
+
+		long start = System.nanoTime();
+		Batch batch = new Batch(type, tasks);
+		int helpers = Math.min(this.options.getMaxConcurrency(), tasks.size()) - 1;
+
+		for (int i = 0; i < helpers; i++) {
+
+			try {
+				this.executor.execute(batch::work);
+			}
+			catch (RejectedExecutionException e) {
+				break; // the coordinating thread runs the remaining tasks
+			}
+		}
+
+		batch.work();
+		batch.drainTo(remaining);
+
+		try {
+			batch.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		BulkRenewalOutcome outcome = new BulkRenewalOutcome(type, tasks.size(), batch.succeeded.get(),
+				Duration.ofNanos(System.nanoTime() - start));
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(outcome.toString());
+		}
+
+		try {
+			this.options.getOutcomeListener().accept(outcome);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Bulk renewal outcome listener failed", e);
+		}
+
+		return outcome;
+	}
+
+	/**
+	 * Release the default {@link Executor} if no {@link Executor} was configured.
+	 */
+	void destroy() {
+
+		SimpleAsyncTaskExecutor defaultExecutor = this.defaultExecutor;
+
+		if (defaultExecutor != null) {
+			defaultExecutor.close();
+		}
+	}
+
+	/**
+	 * Tasks of a single batch. Tasks are taken from a queue by the coordinating thread
+	 * and by helpers so that a task is run by whichever thread takes it first.
+	 */
+	private class Batch {
+
+		private final Type type;
+
+		private final Queue<BooleanSupplier> tasks;
+
+		private final CountDownLatch completed;
+
+		final AtomicInteger succeeded = new AtomicInteger();
+
+		Batch(Type type, List<BooleanSupplier> tasks) {
+			this.type = type;
+			this.tasks = new ConcurrentLinkedQueue<>(tasks);
+			this.completed = new CountDownLatch(tasks.size());
+		}
+
+		/**
+		 * Run tasks until no task is left or the current thread is interrupted.
+		 */
+		void work() {
+
+			try {
+
+				while (!this.tasks.isEmpty()) {
+
+					TokenBucket rateLimiter = BulkLeaseRenewal.this.rateLimiter;
+
+					if (rateLimiter != null) {
+						rateLimiter.acquire();
+					}
+
+					BulkLeaseRenewal.this.concurrency.acquire();
+
+					try {
+
+						BooleanSupplier task = this.tasks.poll();
+
+						if (task != null) {
+							run(task);
+						}
+					}
+					finally {
+						BulkLeaseRenewal.this.concurrency.release();
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void run(BooleanSupplier task) {
+
+			try {
+				if (task.getAsBoolean()) {
+					this.succeeded.incrementAndGet();
+				}
+			}
+			catch (RuntimeException e) {
+				logger.error("Cannot run %s task".formatted(this.type), e);
+			}
+			finally {
+				this.completed.countDown();
+			}
+		}
+
+		/**
+		 * Remove tasks that were not taken by any thread.
+		 */
+		void drainTo(List<BooleanSupplier> remaining) {
+
+			BooleanSupplier task;
+
+			while ((task = this.tasks.poll()) != null) {
+				remaining.add(task);
+				this.completed.countDown();
+			}
+		}
+
+		/**
+		 * Await completion of tasks that were taken by helpers. These tasks are running
+		 * so awaiting them cannot starve.
+		 */
+		void await() throws InterruptedException {
+			this.completed.await();
+		}
+
+	}
+
+	/**
+	 * Token bucket refilling at a constant rate with a capacity of one second worth of
+	 * tokens.
+	 */
+	static class TokenBucket {
+
+		private final double tokensPerNanosecond;
+
+		private final double capacity;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private double tokens;
+
+		private long lastRefill;
+
+		TokenBucket(double tokensPerSecond) {
+
+			this.tokensPerNanosecond = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+			this.capacity = Math.max(1, tokensPerSecond);
+			this.tokens = this.capacity;
+			this.lastRefill = System.nanoTime();
+		}
+
+		/**
+		 * Acquire a single token, blocking until a token becomes available.
+		 * @throws InterruptedException if interrupted while waiting.
+		 */
+		void acquire() throws InterruptedException {
+
+			for (;;) {
+
+				long waitNanos;
+
+				this.lock.lock();
+				try {
+
+					long now = System.nanoTime();
+					this.tokens = Math.min(this.capacity,
+							this.tokens + (now - this.lastRefill) * this.tokensPerNanosecond);
+					this.lastRefill = now;
+
+					if (this.tokens >= 1) {
+						this.tokens -= 1;
+						return;
+					}
+
+					waitNanos = (long) Math.ceil((1 - this.tokens) / this.tokensPerNanosecond);
+				}
+				finally {
+					this.lock.unlock();
+				}
+
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			}
+		}
+
+	}
+
+}
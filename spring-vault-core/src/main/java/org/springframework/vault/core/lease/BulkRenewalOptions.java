@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for bulk lease renewal used by {@link SecretLeaseContainer}.
+ * <p>
+ * Bulk renewal collects leases that become due for renewal within a
+ * {@link #getWindow() window} and renews them in parallel. The number of concurrent
+ * renewal requests is limited by {@link #getMaxConcurrency()} and the rate of requests
+ * against Vault is limited by a token bucket allowing {@link #getRequestsPerSecond()}.
+ * The same limits apply to restarting secrets after a login token change.
+ * {@link BulkRenewalOptions} can be constructed using {@link #builder()}. Instances of
+ * this class are immutable once constructed.
+ *
+ * @author agent
+ * @since 4.0
+ * @see #builder()
+ * @see SecretLeaseContainer#setBulkRenewalOptions(BulkRenewalOptions)
+ */
+public class BulkRenewalOptions {
+
+	public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+
+	public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+	/**
+	 * Time window to collect leases that are due for renewal.
+	 */
+	private final Duration window;
+
+	/**
+	 * Maximum number of concurrent renewal requests.
+	 */
+	private final int maxConcurrency;
+
+	/**
+	 * Maximum number of requests per second. Zero disables rate limiting.
+	 */
+	private final double requestsPerSecond;
+
+	private final @Nullable Executor executor;
+
+	private final Consumer<BulkRenewalOutcome> outcomeListener;
+
+	private BulkRenewalOptions(Duration window, int maxConcurrency, double requestsPerSecond,
+			@Nullable Executor executor, Consumer<BulkRenewalOutcome> outcomeListener) {
+		this.window = window;
+		this.maxConcurrency = maxConcurrency;
+		this.requestsPerSecond = requestsPerSecond;
+		this.executor = executor;
+		this.outcomeListener = outcomeListener;
+	}
+
+	/**
+	 * @return a new {@link BulkRenewalOptionsBuilder}.
+	 */
+	public static BulkRenewalOptionsBuilder builder() {
+		return new BulkRenewalOptionsBuilder();
+	}
+
+	/**
+	 * @return the time window to collect leases that are due for renewal.
+	 */
+	public Duration getWindow() {
+		return this.window;
+	}
+
+	/**
+	 * @return the maximum number of concurrent renewal requests.
+	 */
+	public int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+	/**
+	 * @return the maximum number of requests per second. Zero if rate limiting is
+	 * disabled.
+	 */
+	public double getRequestsPerSecond() {
+		return this.requestsPerSecond;
+	}
+
+	/**
+	 * @return the {@link Executor} to run renewal requests. Can be {@literal null} to use
+	 * a default executor.
+	 */
+	public @Nullable Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * @return the listener to notify with the outcome of each batch.
+	 */
+	public Consumer<BulkRenewalOutcome> getOutcomeListener() {
+		return this.outcomeListener;
+	}
+
+	/**
+	 * Builder for {@link BulkRenewalOptions}.
+	 */
+	public static class BulkRenewalOptionsBuilder {
+
+		private Duration window = DEFAULT_WINDOW;
+
+		private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+		private double requestsPerSecond;
+
+		private @Nullable Executor executor;
+
+		private Consumer<BulkRenewalOutcome> outcomeListener = outcome -> {
+		};
+
+		BulkRenewalOptionsBuilder() {
+		}
+
+		/**
+		 * Configure the time window to collect leases that are due for renewal. Leases
+		 * are renewed at most {@code window} after their scheduled renewal time, so the
+		 * window must be less than and should be considerably smaller than the
+		 * {@link SecretLeaseContainer#getExpiryThreshold() expiry threshold}.
+		 * {@link SecretLeaseContainer} rejects options whose window is not.
+		 * @param window must not be {@literal null} or negative.
+		 * @return {@code this} {@link BulkRenewalOptionsBuilder}.
+		 * @see #DEFAULT_WINDOW
+		 */
+		public BulkRenewalOptionsBuilder window(Duration window) {
+
+			Assert.notNull(window, "Window must not be null");
+			Assert.isTrue(!window.isNegative(), "Window must not be negative");
+
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of concurrent renewal requests.
+		 * @param maxConcurrency must be greater than zero.
+		 * @return {@code this} {@link BulkRenewalOptionsBuilder}.
+		 * @see #DEFAULT_MAX_CONCURRENCY
+		 */
+		public BulkRenewalOptionsBuilder maxConcurrency(int maxConcurrency) {
+
+			Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+
+			this.maxConcurrency = maxConcurrency;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of requests per second using a token bucket that
+		 * allows bursts of up to one second worth of requests. Zero disables rate
+		 * limiting which is the default.
+		 * @param requestsPerSecond must not be negative.
+		 * @return {@code this} {@link BulkRenewalOptionsBuilder}.
+		 */
+		public BulkRenewalOptionsBuilder requestsPerSecond(double requestsPerSecond) {
+
+			Assert.isTrue(requestsPerSecond >= 0, "Requests per second must not be negative");
+
+			this.requestsPerSecond = requestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Executor} to run renewal requests. The thread running a
+		 * batch takes part in renewing leases, so the batch completes even if the
+		 * executor provides fewer than {@link #maxConcurrency(int) maxConcurrency}
+		 * threads. Defaults to a {@link org.springframework.core.task.SimpleAsyncTaskExecutor}
+		 * owned by the {@link SecretLeaseContainer} that is closed when the container is
+		 * destroyed.
+		 * @param executor must not be {@literal null}.
+		 * @return {@code this} {@link BulkRenewalOptionsBuilder}.
+		 */
+		public BulkRenewalOptionsBuilder executor(Executor executor) {
+
+			Assert.notNull(executor, "Executor must not be null");
+
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Configure a listener to notify with the {@link BulkRenewalOutcome outcome} of
+		 * each batch.
+		 * @param outcomeListener must not be {@literal null}.
+		 * @return {@code this} {@link BulkRenewalOptionsBuilder}.
+		 */
+		public BulkRenewalOptionsBuilder outcomeListener(Consumer<BulkRenewalOutcome> outcomeListener) {
+
+			Assert.notNull(outcomeListener, "Outcome listener must not be null");
+
+			this.outcomeListener = outcomeListener;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link BulkRenewalOptions} instance.
+		 * @return a new {@link BulkRenewalOptions}.
+		 */
+		public BulkRenewalOptions build() {
+			return new BulkRenewalOptions(this.window, this.maxConcurrency, this.requestsPerSecond, this.executor,
+					this.outcomeListener);
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a batch of lease renewals or secret restarts performed by
+ * {@link SecretLeaseContainer} using {@link BulkRenewalOptions bulk renewal}. Individual
+ * failures are reported to
+ * {@link org.springframework.vault.core.lease.event.LeaseErrorListener}s.
+ *
+ * @author agent
+ * @since 4.0
+ */
+public class BulkRenewalOutcome {
+
+	private final Type type;
+
+	private final int total;
+
+	private final int succeeded;
+
+	private final Duration duration;
+
+	BulkRenewalOutcome(Type type, int total, int succeeded, Duration duration) {
+		this.type = type;
+		this.total = total;
+		this.succeeded = succeeded;
+		this.duration = duration;
+	}
+
+	/**
+	 * @return the type of batch.
+	 */
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * @return the number of leases or secrets in the batch.
+	 */
+	public int getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * @return the number of leases that remain active after renewal or secrets that were
+	 * obtained.
+	 */
+	public int getSucceeded() {
+		return this.succeeded;
+	}
+
+	/**
+	 * @return the number of leases that expired or were dropped or secrets that could not
+	 * be obtained.
+	 */
+	public int getFailed() {
+		return this.total - this.succeeded;
+	}
+
+	/**
+	 * @return the duration to process the batch.
+	 */
+	public Duration getDuration() {
+		return this.duration;
+	}
+
+	@Override
+	public String toString() {
+		return "%s batch: %d total, %d succeeded, %d failed in %d ms".formatted(this.type, this.total,
+				this.succeeded, getFailed(), this.duration.toMillis());
+	}
+
+	/**
+	 * Type of batch.
+	 */
+	public enum Type {
+
+		/**
+		 * Renewal of leases that became due within the batch window.
+		 */
+		RENEWAL,
+
+		/**
+		 * Restart of all secrets after a login token change.
+		 */
+		RESTART
+
+	}
+
+}
@@ -0,0 +1,767 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TaskScheduler} based on a hashed timing wheel. Scheduling and canceling a task
+ * are {@literal O(1)} operations that do not require a heap-backed delay queue which
+ * makes this scheduler suitable for {@link SecretLeaseContainer} managing a large number
+ * of leases that are renewed and rescheduled frequently.
+ * <p>
+ * A single timer thread advances the wheel by one tick per {@link #getTickDuration()
+ * tick duration}. Tasks are scheduled with tick granularity and are dispatched to an
+ * {@link Executor} once they are due, so long-running tasks (such as blocking lease
+ * renewals) do not delay the timer. The timer thread is started on the first scheduled
+ * task and stopped on {@link #destroy()}.
+ * <p>
+ * New tasks and cancellations are queued and applied to the wheel by the timer thread
+ * on its next tick. Canceled tasks are therefore released with a delay of up to one
+ * tick.
+ *
+ * @author agent
+ * @since 4.0
+ * @see SecretLeaseContainer#setTaskScheduler(TaskScheduler)
+ */
+public class HashedWheelTaskScheduler implements TaskScheduler, DisposableBean {
+
+	/**
+	 * Default tick duration.
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+
+	/**
+	 * Default number of wheel buckets.
+	 */
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	/**
+	 * Number of threads of the default executor.
+	 */
+	public static final int DEFAULT_POOL_SIZE = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+	/**
+	 * Number of due tasks the default executor queues before the timer thread runs due
+	 * tasks itself.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+	private static final int STATE_INIT = 0;
+
+	private static final int STATE_STARTED = 1;
+
+	private static final int STATE_SHUTDOWN = 2;
+
+	private static final Log logger = LogFactory.getLog(HashedWheelTaskScheduler.class);
+
+	private final Clock clock = Clock.systemDefaultZone();
+
+	private final long tickNanos;
+
+	private final Bucket[] wheel;
+
+	private final int mask;
+
+	private final Executor executor;
+
+	private final boolean manageExecutor;
+
+	private final ThreadFactory threadFactory;
+
+	private final Queue<WheelTimeout> timeouts = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong pendingTasks = new AtomicLong();
+
+	private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+	private volatile int state = STATE_INIT;
+
+	private volatile long startTime;
+
+	private @Nullable Thread worker;
+
+	/**
+	 * Create a new {@link HashedWheelTaskScheduler} using default settings. Due tasks are
+	 * executed on a pool of {@link #DEFAULT_POOL_SIZE} daemon threads that is owned by
+	 * this scheduler and shut down on {@link #destroy()}. Due tasks that exceed the
+	 * {@link #DEFAULT_QUEUE_CAPACITY queue capacity} run on the timer thread which slows
+	 * down the wheel instead of dropping tasks.
+	 */
+	public HashedWheelTaskScheduler() {
+		this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE, createDefaultExecutor(), true);
+	}
+
+	/**
+	 * Create a new {@link HashedWheelTaskScheduler} using default tick settings and the
+	 * given {@link Executor} to run due tasks.
+	 * @param executor must not be {@literal null}.
+	 */
+	public HashedWheelTaskScheduler(Executor executor) {
+		this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE, executor);
+	}
+
+	/**
+	 * Create a new {@link HashedWheelTaskScheduler}.
+	 * @param tickDuration duration of a single tick, must not be {@literal null} and at
+	 * least one millisecond.
+	 * @param wheelSize number of wheel buckets, must be a power of two.
+	 * @param executor the {@link Executor} to run due tasks, must not be {@literal null}.
+	 * The {@link Executor} is not shut down by this scheduler.
+	 */
+	public HashedWheelTaskScheduler(Duration tickDuration, int wheelSize, Executor executor) {
+		this(tickDuration, wheelSize, executor, false);
+	}
+
+	private HashedWheelTaskScheduler(Duration tickDuration, int wheelSize, Executor executor,
+			boolean manageExecutor) {
+
+		Assert.notNull(tickDuration, "Tick duration must not be null");
+		Assert.isTrue(tickDuration.toMillis() >= 1, "Tick duration must be at least one millisecond");
+		Assert.isTrue(wheelSize > 0 && (wheelSize & (wheelSize - 1)) == 0, "Wheel size must be a power of two");
+		Assert.notNull(executor, "Executor must not be null");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("spring-vault-HashedWheelTimer-");
+		threadFactory.setDaemon(true);
+
+		this.tickNanos = tickDuration.toNanos();
+		this.wheel = new Bucket[wheelSize];
+		this.mask = wheelSize - 1;
+		this.executor = executor;
+		this.manageExecutor = manageExecutor;
+		this.threadFactory = threadFactory;
+
+		for (int i = 0; i < wheelSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+	}
+
+	private static ExecutorService createDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+				"spring-vault-HashedWheelTaskScheduler-");
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), threadFactory,
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * @return the tick duration.
+	 */
+	public Duration getTickDuration() {
+		return Duration.ofNanos(this.tickNanos);
+	}
+
+	/**
+	 * @return the number of scheduled tasks that are neither canceled nor dispatched for
+	 * execution.
+	 */
+	public long getPendingTasks() {
+		return this.pendingTasks.get();
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	@Override
+	public @Nullable ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+
+		Assert.notNull(task, "Task must not be null");
+		Assert.notNull(trigger, "Trigger must not be null");
+
+		return new ReschedulingTask(task, trigger).schedule();
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+
+		Assert.notNull(task, "Task must not be null");
+		Assert.notNull(startTime, "Start time must not be null");
+
+		return newTimeout(task, getDelayNanos(startTime));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		return schedulePeriodic(task, getDelay(startTime), period, true);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		return schedulePeriodic(task, Duration.ZERO, period, true);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		return schedulePeriodic(task, getDelay(startTime), delay, false);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		return schedulePeriodic(task, Duration.ZERO, delay, false);
+	}
+
+	/**
+	 * Stop the timer thread and discard all pending tasks. Shuts down the default
+	 * executor if this scheduler was created without an {@link Executor}.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+
+		Thread worker;
+
+		this.lifecycleLock.lock();
+		try {
+			this.state = STATE_SHUTDOWN;
+			worker = this.worker;
+			this.worker = null;
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+
+		if (worker != null) {
+			worker.interrupt();
+			worker.join(Math.max(1, 2 * this.tickNanos / 1_000_000));
+		}
+
+		for (Bucket bucket : this.wheel) {
+			bucket.clear();
+		}
+
+		WheelTimeout timeout;
+		while ((timeout = this.timeouts.poll()) != null) {
+			timeout.discard();
+		}
+
+		this.cancelledTimeouts.clear();
+		this.pendingTasks.set(0);
+
+		if (this.manageExecutor && this.executor instanceof ExecutorService executorService) {
+			executorService.shutdown();
+		}
+	}
+
+	private ScheduledFuture<?> schedulePeriodic(Runnable task, Duration initialDelay, Duration period,
+			boolean fixedRate) {
+
+		Assert.notNull(task, "Task must not be null");
+		Assert.notNull(period, "Period must not be null");
+
+		PeriodicTrigger trigger = new PeriodicTrigger(period);
+		trigger.setInitialDelay(initialDelay);
+		trigger.setFixedRate(fixedRate);
+
+		ScheduledFuture<?> future = schedule(task, trigger);
+
+		Assert.state(future != null, "PeriodicTrigger did not schedule an execution");
+		return future;
+	}
+
+	private Duration getDelay(Instant startTime) {
+
+		Assert.notNull(startTime, "Start time must not be null");
+
+		Duration delay = Duration.between(this.clock.instant(), startTime);
+		return delay.isNegative() ? Duration.ZERO : delay;
+	}
+
+	private long getDelayNanos(Instant startTime) {
+
+		Duration delay = getDelay(startTime);
+
+		try {
+			return delay.toNanos();
+		}
+		catch (ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	WheelTimeout newTimeout(Runnable task, long delayNanos) {
+
+		ensureStarted();
+
+		long deadline = System.nanoTime() + delayNanos - this.startTime;
+
+		// guard against overflow
+		if (delayNanos > 0 && deadline < 0) {
+			deadline = Long.MAX_VALUE;
+		}
+
+		WheelTimeout timeout = new WheelTimeout(task, deadline);
+
+		this.pendingTasks.incrementAndGet();
+		this.timeouts.add(timeout);
+
+		return timeout;
+	}
+
+	private void ensureStarted() {
+
+		if (this.state == STATE_STARTED) {
+			return;
+		}
+
+		this.lifecycleLock.lock();
+		try {
+
+			Assert.state(this.state != STATE_SHUTDOWN, "HashedWheelTaskScheduler is shut down");
+
+			if (this.state == STATE_INIT) {
+
+				Thread worker = this.threadFactory.newThread(this::runTimer);
+
+				this.startTime = System.nanoTime();
+				this.worker = worker;
+				this.state = STATE_STARTED;
+
+				worker.start();
+			}
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+	}
+
+	private void runTimer() {
+
+		long tick = 0;
+
+		while (this.state == STATE_STARTED) {
+
+			long deadline = waitForNextTick(tick);
+
+			if (deadline < 0) {
+				continue;
+			}
+
+			processCancelledTimeouts();
+			transferTimeoutsToBuckets(tick);
+			this.wheel[(int) (tick & this.mask)].expireTimeouts();
+
+			tick++;
+		}
+	}
+
+	private long waitForNextTick(long tick) {
+
+		long deadline = this.tickNanos * (tick + 1);
+
+		for (;;) {
+
+			long currentTime = System.nanoTime() - this.startTime;
+			long sleepNanos = deadline - currentTime;
+
+			if (sleepNanos <= 0) {
+				return currentTime;
+			}
+
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			}
+			catch (InterruptedException e) {
+				if (this.state != STATE_STARTED) {
+					return -1;
+				}
+			}
+		}
+	}
+
+	private void transferTimeoutsToBuckets(long tick) {
+
+		WheelTimeout timeout;
+		while ((timeout = this.timeouts.poll()) != null) {
+
+			if (timeout.state != WheelTimeout.ST_INIT) {
+				continue;
+			}
+
+			long calculated = timeout.deadline / this.tickNanos;
+			timeout.remainingRounds = (calculated - tick) / this.wheel.length;
+
+			long ticks = Math.max(calculated, tick);
+			this.wheel[(int) (ticks & this.mask)].add(timeout);
+		}
+	}
+
+	private void processCancelledTimeouts() {
+
+		WheelTimeout timeout;
+		while ((timeout = this.cancelledTimeouts.poll()) != null) {
+
+			Bucket bucket = timeout.bucket;
+			if (bucket != null) {
+				bucket.remove(timeout);
+			}
+		}
+	}
+
+	/**
+	 * A scheduled task. Implemented as {@link FutureTask} to provide
+	 * {@link ScheduledFuture} semantics. Bucket membership is accessed only by the timer
+	 * thread.
+	 */
+	final class WheelTimeout extends FutureTask<Void> implements ScheduledFuture<Void> {
+
+		private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE = AtomicIntegerFieldUpdater
+			.newUpdater(WheelTimeout.class, "state");
+
+		static final int ST_INIT = 0;
+
+		static final int ST_CANCELLED = 1;
+
+		static final int ST_EXPIRED = 2;
+
+		volatile int state = ST_INIT;
+
+		final long deadline;
+
+		long remainingRounds;
+
+		@Nullable
+		Bucket bucket;
+
+		@Nullable
+		WheelTimeout next;
+
+		@Nullable
+		WheelTimeout prev;
+
+		WheelTimeout(Runnable task, long deadline) {
+			super(task, null);
+			this.deadline = deadline;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadline - (System.nanoTime() - HashedWheelTaskScheduler.this.startTime),
+					TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+
+			if (STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+				HashedWheelTaskScheduler.this.pendingTasks.decrementAndGet();
+				HashedWheelTaskScheduler.this.cancelledTimeouts.add(this);
+			}
+
+			return super.cancel(mayInterruptIfRunning);
+		}
+
+		void expire() {
+
+			if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+				return;
+			}
+
+			HashedWheelTaskScheduler.this.pendingTasks.decrementAndGet();
+
+			try {
+				HashedWheelTaskScheduler.this.executor.execute(this);
+			}
+			catch (RejectedExecutionException e) {
+				setException(e);
+			}
+		}
+
+		void discard() {
+			STATE.set(this, ST_CANCELLED);
+			super.cancel(false);
+		}
+
+		@Override
+		protected void setException(Throwable t) {
+			logger.error("Unexpected error occurred in scheduled task", t);
+			super.setException(t);
+		}
+
+	}
+
+	/**
+	 * Doubly-linked list of {@link WheelTimeout}s. Accessed only by the timer thread.
+	 */
+	static final class Bucket {
+
+		private @Nullable WheelTimeout head;
+
+		private @Nullable WheelTimeout tail;
+
+		void add(WheelTimeout timeout) {
+
+			timeout.bucket = this;
+
+			if (this.tail == null) {
+				this.head = timeout;
+				this.tail = timeout;
+			}
+			else {
+				this.tail.next = timeout;
+				timeout.prev = this.tail;
+				this.tail = timeout;
+			}
+		}
+
+		void expireTimeouts() {
+
+			WheelTimeout timeout = this.head;
+
+			while (timeout != null) {
+
+				WheelTimeout next = timeout.next;
+
+				if (timeout.state == WheelTimeout.ST_CANCELLED) {
+					remove(timeout);
+				}
+				else if (timeout.remainingRounds <= 0) {
+					remove(timeout);
+					timeout.expire();
+				}
+				else {
+					timeout.remainingRounds--;
+				}
+
+				timeout = next;
+			}
+		}
+
+		void remove(WheelTimeout timeout) {
+
+			if (timeout.bucket != this) {
+				return;
+			}
+
+			WheelTimeout next = timeout.next;
+			WheelTimeout prev = timeout.prev;
+
+			if (prev != null) {
+				prev.next = next;
+			}
+			else {
+				this.head = next;
+			}
+
+			if (next != null) {
+				next.prev = prev;
+			}
+			else {
+				this.tail = prev;
+			}
+
+			timeout.next = null;
+			timeout.prev = null;
+			timeout.bucket = null;
+		}
+
+		void clear() {
+
+			WheelTimeout timeout = this.head;
+
+			while (timeout != null) {
+
+				WheelTimeout next = timeout.next;
+				remove(timeout);
+				timeout.discard();
+				timeout = next;
+			}
+		}
+
+	}
+
+	/**
+	 * {@link ScheduledFuture} rescheduling a task according to its {@link Trigger}.
+	 */
+	final class ReschedulingTask implements Runnable, ScheduledFuture<Void> {
+
+		private final Runnable delegate;
+
+		private final Trigger trigger;
+
+		private final SimpleTriggerContext triggerContext;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private @Nullable WheelTimeout current;
+
+		private @Nullable Instant scheduledExecution;
+
+		private volatile boolean cancelled;
+
+		ReschedulingTask(Runnable delegate, Trigger trigger) {
+			this.delegate = delegate;
+			this.trigger = trigger;
+			this.triggerContext = new SimpleTriggerContext(getClock());
+		}
+
+		@Nullable
+		ScheduledFuture<?> schedule() {
+
+			this.lock.lock();
+			try {
+
+				Instant nextExecution = this.trigger.nextExecution(this.triggerContext);
+
+				if (nextExecution == null) {
+					return null;
+				}
+
+				this.scheduledExecution = nextExecution;
+				this.current = newTimeout(this, getDelayNanos(nextExecution));
+
+				return this;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Override
+		public void run() {
+
+			Instant actualExecution = getClock().instant();
+
+			try {
+				this.delegate.run();
+			}
+			catch (RuntimeException e) {
+				logger.error("Unexpected error occurred in scheduled task", e);
+			}
+
+			Instant completion = getClock().instant();
+
+			this.lock.lock();
+			try {
+
+				this.triggerContext.update(this.scheduledExecution, actualExecution, completion);
+
+				if (!this.cancelled && HashedWheelTaskScheduler.this.state == STATE_STARTED) {
+					schedule();
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+
+			this.lock.lock();
+			try {
+
+				this.cancelled = true;
+				return this.current == null || this.current.cancel(mayInterruptIfRunning);
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		@Override
+		public boolean isDone() {
+
+			WheelTimeout current = obtainCurrent();
+			return current.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			return obtainCurrent().get();
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			return obtainCurrent().get(timeout, unit);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return obtainCurrent().getDelay(unit);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		private WheelTimeout obtainCurrent() {
+
+			this.lock.lock();
+			try {
+
+				WheelTimeout current = this.current;
+				Assert.state(current != null, "No scheduled execution");
+				return current;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.vault.core.lease;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -29,11 +30,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
@@ -100,7 +103,12 @@ import org.springframework.web.client.HttpStatusCodeException;
  * This container keeps track over {@link RequestedSecret}s and requests secrets upon
  * {@link #start()}. Leases qualified for {@link Lease#isRenewable() renewal} are renewed
  * by this container applying {@code minRenewalSeconds}/{@code expiryThresholdSeconds} on
- * a {@link TaskScheduler background thread}.
+ * a {@link TaskScheduler background thread}. Containers managing a large number of
+ * leases can use {@link HashedWheelTaskScheduler} to schedule renewals in constant time
+ * and apply {@link #setRenewalJitter(Duration) renewal jitter} to avoid synchronized
+ * renewal bursts. {@link #setBulkRenewalOptions(BulkRenewalOptions) Bulk renewal}
+ * renews leases that become due within a window and restarts secrets after a login token
+ * change in parallel while limiting concurrency and the request rate.
  * <p>
  * Requests for secrets can define either renewal or rotation. The container renews leases
  * until expiry. Rotating secrets renew their associated lease until expiry and request
@@ -172,8 +180,14 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 	private Duration expiryThreshold = Duration.ofSeconds(60);
 
+	private Duration renewalJitter = Duration.ZERO;
+
 	private LeaseStrategy leaseStrategy = LeaseStrategy.dropOnError();
 
+	private @Nullable BulkRenewalOptions bulkRenewalOptions;
+
+	private @Nullable BulkLeaseRenewal bulkRenewal;
+
 	@Nullable
 	private TaskScheduler taskScheduler;
 
@@ -277,7 +291,9 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 	 * Set the expiry threshold. A {@link Lease} is renewed the given time before it
 	 * expires.
 	 * @param expiryThreshold duration before {@link Lease} expiry, must not be
-	 * {@literal null} or negative.
+	 * {@literal null} or negative. Must be greater than the
+	 * {@link BulkRenewalOptions#getWindow() bulk renewal window} if bulk renewal is
+	 * configured.
 	 * @since 2.0
 	 */
 	public void setExpiryThreshold(Duration expiryThreshold) {
@@ -285,6 +301,12 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		Assert.notNull(expiryThreshold, "Expiry threshold must not be null");
 		Assert.isTrue(!expiryThreshold.isNegative(), "Expiry threshold must not be negative");
 
+		BulkRenewalOptions bulkRenewalOptions = this.bulkRenewalOptions;
+
+		if (bulkRenewalOptions != null) {
+			assertWindowLessThanExpiryThreshold(bulkRenewalOptions, expiryThreshold);
+		}
+
 		this.expiryThreshold = expiryThreshold;
 	}
 
@@ -312,6 +334,58 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		return this.expiryThreshold;
 	}
 
+	/**
+	 * Set the maximum jitter to apply to lease renewals. Renewals are scheduled earlier by
+	 * a random duration between zero and {@code renewalJitter} to spread renewals of
+	 * leases that were obtained at the same time and to avoid synchronized renewal
+	 * bursts. Jitter never schedules a renewal earlier than {@link #getMinRenewal()}.
+	 * Defaults to {@link Duration#ZERO} (no jitter).
+	 * @param renewalJitter maximum jitter, must not be {@literal null} or negative.
+	 * @since 4.0
+	 */
+	public void setRenewalJitter(Duration renewalJitter) {
+
+		Assert.notNull(renewalJitter, "Renewal jitter must not be null");
+		Assert.isTrue(!renewalJitter.isNegative(), "Renewal jitter must not be negative");
+
+		this.renewalJitter = renewalJitter;
+	}
+
+	/**
+	 * @return maximum renewal jitter.
+	 * @since 4.0
+	 */
+	public Duration getRenewalJitter() {
+		return this.renewalJitter;
+	}
+
+	/**
+	 * Enable bulk renewal using {@link BulkRenewalOptions}. Leases that become due for
+	 * renewal within the configured window are renewed in parallel applying the
+	 * configured concurrency and rate limits. Restarting secrets after a login token
+	 * change uses the same limits. Bulk renewal must be configured before
+	 * {@link #afterPropertiesSet() initialization}. Bulk renewal is disabled by default.
+	 * @param bulkRenewalOptions the bulk renewal options, must not be {@literal null}.
+	 * The window must be less than the {@link #getExpiryThreshold() expiry threshold}.
+	 * @since 4.0
+	 */
+	public void setBulkRenewalOptions(BulkRenewalOptions bulkRenewalOptions) {
+
+		Assert.notNull(bulkRenewalOptions, "BulkRenewalOptions must not be null");
+		Assert.state(!this.initialized, "Bulk renewal must be configured before initialization");
+		assertWindowLessThanExpiryThreshold(bulkRenewalOptions, this.expiryThreshold);
+
+		this.bulkRenewalOptions = bulkRenewalOptions;
+	}
+
+	private static void assertWindowLessThanExpiryThreshold(BulkRenewalOptions bulkRenewalOptions,
+			Duration expiryThreshold) {
+
+		Assert.isTrue(bulkRenewalOptions.getWindow().compareTo(expiryThreshold) < 0,
+				() -> "Bulk renewal window %s must be less than the expiry threshold %s"
+					.formatted(bulkRenewalOptions.getWindow(), expiryThreshold));
+	}
+
 	/**
 	 * Set the {@link LeaseStrategy} for lease renewal error handling.
 	 * @param leaseStrategy the {@link LeaseStrategy}, must not be {@literal null}.
@@ -510,6 +584,10 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			this.manageTaskScheduler = true;
 		}
 
+		if (this.bulkRenewalOptions != null) {
+			this.bulkRenewal = new BulkLeaseRenewal(this.bulkRenewalOptions, this.taskScheduler);
+		}
+
 		for (RequestedSecret requestedSecret : this.requestedSecrets) {
 			this.renewals.put(requestedSecret, new LeaseRenewalScheduler(this.taskScheduler));
 		}
@@ -548,6 +626,12 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 				}
 				this.renewals.clear();
 
+				BulkLeaseRenewal bulkRenewal = this.bulkRenewal;
+
+				if (bulkRenewal != null) {
+					bulkRenewal.destroy();
+				}
+
 				if (this.manageTaskScheduler) {
 
 					if (this.taskScheduler instanceof DisposableBean) {
@@ -574,22 +658,23 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 				this.renewals.clear();
 				previousLeases.values().forEach(LeaseRenewalScheduler::disableScheduleRenewal);
 
+				List<BooleanSupplier> restarts = new ArrayList<>(this.requestedSecrets.size());
+
 				for (RequestedSecret requestedSecret : this.requestedSecrets) {
 
 					LeaseRenewalScheduler renewalScheduler = new LeaseRenewalScheduler(this.taskScheduler);
 					Lease previousLease = getPreviousLease(previousLeases, requestedSecret);
 
-					try {
-						this.renewals.put(requestedSecret, renewalScheduler);
-						doStart(requestedSecret, renewalScheduler, (secrets, lease) -> {
-							onSecretsRotated(requestedSecret, previousLease, lease, secrets.getRequiredData());
-						}, () -> {
-						});
+					restarts.add(() -> restartSecret(requestedSecret, renewalScheduler, previousLease));
+				}
 
-					}
-					catch (Exception e) {
-						onError(requestedSecret, previousLease, e);
-					}
+				BulkLeaseRenewal bulkRenewal = this.bulkRenewal;
+
+				if (bulkRenewal != null) {
+					bulkRenewal.run(BulkRenewalOutcome.Type.RESTART, restarts);
+				}
+				else {
+					restarts.forEach(BooleanSupplier::getAsBoolean);
 				}
 			}
 			catch (Exception e) {
@@ -598,6 +683,28 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		}
 	}
 
+	private boolean restartSecret(RequestedSecret requestedSecret, LeaseRenewalScheduler renewalScheduler,
+			Lease previousLease) {
+
+		try {
+
+			AtomicReference<@Nullable Lease> obtained = new AtomicReference<>();
+
+			this.renewals.put(requestedSecret, renewalScheduler);
+			doStart(requestedSecret, renewalScheduler, (secrets, lease) -> {
+				obtained.set(lease);
+				onSecretsRotated(requestedSecret, previousLease, lease, secrets.getRequiredData());
+			}, () -> {
+			});
+
+			return obtained.get() != null;
+		}
+		catch (Exception e) {
+			onError(requestedSecret, previousLease, e);
+			return false;
+		}
+	}
+
 	private static Lease getPreviousLease(Map<RequestedSecret, LeaseRenewalScheduler> previousLeases,
 			RequestedSecret requestedSecret) {
 
@@ -665,11 +772,33 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 
 		leaseRenewal.scheduleRenewal(requestedSecret, leaseToRenew -> {
 
+			BulkLeaseRenewal bulkRenewal = this.bulkRenewal;
+
+			if (bulkRenewal != null) {
+
+				bulkRenewal.submit(() -> renewInBatch(requestedSecret, leaseRenewal, leaseToRenew));
+				return leaseToRenew; // renewal outcome is applied by the batch.
+			}
+
 			return renewAndSchedule(requestedSecret, leaseRenewal, leaseToRenew);
-		}, lease, getMinRenewal(), getExpiryThreshold());
+		}, lease, getMinRenewal(), getExpiryThreshold(), getRenewalJitter());
 
 	}
 
+	private boolean renewInBatch(RequestedSecret requestedSecret, LeaseRenewalScheduler leaseRenewal,
+			Lease leaseToRenew) {
+
+		if (!leaseRenewal.leaseEquals(leaseToRenew)) {
+			logger.debug("Current lease has changed. Skipping renewal");
+			return true;
+		}
+
+		Lease newLease = renewAndSchedule(requestedSecret, leaseRenewal, leaseToRenew);
+		leaseRenewal.compareAndSetLease(leaseToRenew, newLease);
+
+		return !Lease.none().equals(newLease);
+	}
+
 	private Lease renewAndSchedule(RequestedSecret requestedSecret, LeaseRenewalScheduler leaseRenewal,
 			Lease leaseToRenew) {
 
@@ -694,7 +823,7 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			onLeaseExpired(secret, lease);
 
 			return Lease.none(); // rotation creates a new lease.
-		}, lease, getMinRenewal(), getExpiryThreshold());
+		}, lease, getMinRenewal(), getExpiryThreshold(), getRenewalJitter());
 	}
 
 	private LeaseRenewalScheduler getRenewalSchedulder(RequestedSecret secret) {
@@ -944,9 +1073,10 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		 * @param minRenewal minimum duration before renewing a {@link Lease}. This is to
 		 * prevent too many renewals in a very short timeframe.
 		 * @param expiryThreshold duration to renew before {@link Lease}.
+		 * @param jitter maximum random duration to schedule renewal earlier.
 		 */
 		void scheduleRenewal(RequestedSecret requestedSecret, RenewLease renewLease, Lease lease, Duration minRenewal,
-				Duration expiryThreshold) {
+				Duration expiryThreshold, Duration jitter) {
 
 			if (logger.isDebugEnabled()) {
 				if (lease.hasLeaseId()) {
@@ -1002,7 +1132,7 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			};
 
 			ScheduledFuture<?> scheduledFuture = this.taskScheduler.schedule(task,
-					new OneShotTrigger(getRenewalSeconds(lease, minRenewal, expiryThreshold)));
+					new OneShotTrigger(getRenewalDelay(lease, minRenewal, expiryThreshold, jitter)));
 
 			this.schedules.put(lease, scheduledFuture);
 		}
@@ -1011,6 +1141,16 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			CURRENT_UPDATER.set(this, lease);
 		}
 
+		/**
+		 * Apply the outcome of an asynchronous renewal if {@code expected} is still the
+		 * current {@link Lease}.
+		 * @param expected the renewed lease.
+		 * @param lease the renewal outcome.
+		 */
+		void compareAndSetLease(Lease expected, Lease lease) {
+			CURRENT_UPDATER.compareAndSet(this, expected, lease);
+		}
+
 		private void cancelSchedule(Lease lease) {
 
 			ScheduledFuture<?> scheduledFuture = this.schedules.get(lease);
@@ -1039,9 +1179,20 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 			}
 		}
 
-		private long getRenewalSeconds(Lease lease, Duration minRenewal, Duration expiryThreshold) {
-			return Math.max(minRenewal.getSeconds(),
+		private Duration getRenewalDelay(Lease lease, Duration minRenewal, Duration expiryThreshold,
+				Duration jitter) {
+
+			long seconds = Math.max(minRenewal.getSeconds(),
 					lease.getLeaseDuration().getSeconds() - expiryThreshold.getSeconds());
+			Duration delay = Duration.ofSeconds(seconds);
+
+			long maxJitter = Math.min(jitter.toMillis(), delay.minus(minRenewal).toMillis());
+
+			if (maxJitter > 0) {
+				return delay.minusMillis(ThreadLocalRandom.current().nextLong(maxJitter + 1));
+			}
+
+			return delay;
 		}
 
 		private boolean isLeaseRenewable(@Nullable Lease lease, RequestedSecret requestedSecret) {
@@ -1171,16 +1322,20 @@ public class SecretLeaseContainer extends SecretLeaseEventPublisher
 		// see AtomicIntegerFieldUpdater UPDATER
 		private volatile int status = 0;
 
-		private final long seconds;
+		private final Duration delay;
 
 		OneShotTrigger(long seconds) {
-			this.seconds = seconds;
+			this(Duration.ofSeconds(seconds));
+		}
+
+		OneShotTrigger(Duration delay) {
+			this.delay = delay;
 		}
 
 		@Nullable
 		@Override
 		public Instant nextExecution(TriggerContext triggerContext) {
-			return UPDATER.compareAndSet(this, STATUS_ARMED, STATUS_FIRED) ? CLOCK.instant().plusSeconds(this.seconds)
+			return UPDATER.compareAndSet(this, STATUS_ARMED, STATUS_FIRED) ? CLOCK.instant().plus(this.delay)
 					: null;
 		}
 
@@ -0,0 +1,487 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.codec.Utf8;
+import org.springframework.security.crypto.encrypt.BytesEncryptor;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultTransitOperations;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.VaultDataKey;
+
+/**
+ * Vault-based {@link BytesEncryptor} using data keys generated by Vault's
+ * {@literal transit} backend. In contrast to {@link VaultBytesEncryptor}, messages are
+ * encrypted locally with AES-GCM using a data key that is reused for a configurable
+ * number of messages and time window. Each message carries the wrapped data key so that
+ * decryption requires a transit call only for data keys that are not cached.
+ * Unwrapped keys are cached by the fingerprint of their wrapped form.
+ * <p>
+ * New data keys are obtained from Vault without holding the cache lock. Concurrent
+ * callers that require a new data key share a single request to Vault.
+ * <p>
+ * Data keys are held in direct (off-heap) memory and overwritten with zeros when they
+ * are evicted or when this encryptor is {@link #destroy() destroyed}. Key material is
+ * copied into short-lived arrays for the duration of a single cipher operation. Note
+ * that JCE providers may retain internal copies of the key until they are garbage
+ * collected.
+ * <p>
+ * Messages produced by {@link VaultBytesEncryptor} for the same key can be decrypted
+ * by this encryptor. This class is thread-safe.
+ *
+ * @author agent
+ * @since 4.0
+ * @see DataKeyCacheOptions
+ */
+public class CachingVaultBytesEncryptor implements BytesEncryptor, DisposableBean {
+
+	private static final byte VERSION = 1;
+
+	private static final int NONCE_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 16;
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private final SecureRandom random = new SecureRandom();
+
+	private final VaultTransitOperations transitOperations;
+
+	private final String keyName;
+
+	private final DataKeyCacheOptions options;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Map<String, DataKey> decryptionKeys;
+
+	private @Nullable DataKey encryptionKey;
+
+	private @Nullable CompletableFuture<Void> rotation;
+
+	/**
+	 * Create a new {@link CachingVaultBytesEncryptor} given
+	 * {@link VaultTransitOperations} and {@code keyName} using default
+	 * {@link DataKeyCacheOptions}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 */
+	public CachingVaultBytesEncryptor(VaultTransitOperations transitOperations, String keyName) {
+		this(transitOperations, keyName, DataKeyCacheOptions.builder().build());
+	}
+
+	/**
+	 * Create a new {@link CachingVaultBytesEncryptor} given
+	 * {@link VaultTransitOperations}, {@code keyName} and {@link DataKeyCacheOptions}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 * @param options must not be {@literal null}.
+	 */
+	public CachingVaultBytesEncryptor(VaultTransitOperations transitOperations, String keyName,
+			DataKeyCacheOptions options) {
+
+		Assert.notNull(transitOperations, "VaultTransitOperations must not be null");
+		Assert.hasText(keyName, "Key name must not be null or empty");
+		Assert.notNull(options, "DataKeyCacheOptions must not be null");
+
+		this.transitOperations = transitOperations;
+		this.keyName = keyName;
+		this.options = options;
+		this.decryptionKeys = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, DataKey> eldest) {
+
+				if (size() > options.getMaxDecryptionKeys()) {
+					eldest.getValue().destroy();
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public byte[] encrypt(byte[] plaintext) {
+
+		Assert.notNull(plaintext, "Plaintext must not be null");
+		Assert.isTrue(!ObjectUtils.isEmpty(plaintext), "Plaintext must not be empty");
+
+		EncryptionKey encryptionKey = getEncryptionKey();
+		byte[] key = encryptionKey.key();
+		byte[] wrappedKey = encryptionKey.wrappedKey();
+
+		try {
+
+			byte[] header = ByteBuffer.allocate(3 + wrappedKey.length)
+				.put(VERSION)
+				.putShort((short) wrappedKey.length)
+				.put(wrappedKey)
+				.array();
+			byte[] nonce = new byte[NONCE_LENGTH];
+			this.random.nextBytes(nonce);
+
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"),
+					new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+			cipher.updateAAD(header);
+
+			byte[] ciphertext = cipher.doFinal(plaintext);
+
+			return ByteBuffer.allocate(header.length + nonce.length + ciphertext.length)
+				.put(header)
+				.put(nonce)
+				.put(ciphertext)
+				.array();
+		}
+		catch (GeneralSecurityException e) {
+			throw new VaultException("Cannot encrypt message", e);
+		}
+		finally {
+			Arrays.fill(key, (byte) 0);
+		}
+	}
+
+	@Override
+	public byte[] decrypt(byte[] ciphertext) {
+
+		Assert.notNull(ciphertext, "Ciphertext must not be null");
+		Assert.isTrue(!ObjectUtils.isEmpty(ciphertext), "Ciphertext must not be empty");
+
+		if (ciphertext[0] != VERSION) {
+
+			// fall back to VaultBytesEncryptor format
+			return this.transitOperations.decrypt(this.keyName, Ciphertext.of(Utf8.decode(ciphertext)))
+				.getPlaintext();
+		}
+
+		if (ciphertext.length < 3) {
+			throw new VaultException("Ciphertext is truncated");
+		}
+
+		int wrappedKeyLength = ((ciphertext[1] & 0xFF) << 8) | (ciphertext[2] & 0xFF);
+		int headerLength = 3 + wrappedKeyLength;
+
+		if (ciphertext.length < headerLength + NONCE_LENGTH + TAG_LENGTH) {
+			throw new VaultException("Ciphertext is truncated");
+		}
+
+		byte[] wrappedKey = Arrays.copyOfRange(ciphertext, 3, headerLength);
+		byte[] key = getDecryptionKey(wrappedKey);
+
+		try {
+
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"),
+					new GCMParameterSpec(TAG_LENGTH * 8, ciphertext, headerLength, NONCE_LENGTH));
+			cipher.updateAAD(ciphertext, 0, headerLength);
+
+			int offset = headerLength + NONCE_LENGTH;
+
+			return cipher.doFinal(ciphertext, offset, ciphertext.length - offset);
+		}
+		catch (GeneralSecurityException e) {
+			throw new VaultException("Cannot decrypt message", e);
+		}
+		finally {
+			Arrays.fill(key, (byte) 0);
+		}
+	}
+
+	/**
+	 * Evict and zero all cached data keys.
+	 */
+	@Override
+	public void destroy() {
+
+		this.lock.lock();
+		try {
+
+			if (this.encryptionKey != null) {
+				this.encryptionKey.destroy();
+				this.encryptionKey = null;
+			}
+
+			this.decryptionKeys.values().forEach(DataKey::destroy);
+			this.decryptionKeys.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of cached unwrapped data keys used for decryption.
+	 */
+	int getDecryptionKeyCount() {
+
+		this.lock.lock();
+		try {
+			return this.decryptionKeys.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private EncryptionKey getEncryptionKey() {
+
+		while (true) {
+
+			CompletableFuture<Void> rotation;
+			boolean rotate = false;
+
+			this.lock.lock();
+			try {
+
+				DataKey current = this.encryptionKey;
+
+				if (current != null && !current.isExpired(this.options.getClock().millis())
+						&& current.uses < this.options.getMaxMessagesPerKey()) {
+					current.uses++;
+					return new EncryptionKey(current.copyKey(), current.wrappedKey);
+				}
+
+				rotation = this.rotation;
+
+				if (rotation == null) {
+					rotation = new CompletableFuture<>();
+					this.rotation = rotation;
+					rotate = true;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			if (rotate) {
+				rotateEncryptionKey(rotation);
+			}
+			else {
+				await(rotation);
+			}
+		}
+	}
+
+	private void rotateEncryptionKey(CompletableFuture<Void> rotation) {
+
+		try {
+
+			VaultDataKey dataKey = this.transitOperations.generateDataKey(this.keyName);
+
+			try {
+
+				long expiresAt = this.options.getClock().millis() + this.options.getKeyTimeToLive().toMillis();
+				byte[] wrappedKey = dataKey.getCiphertext().getCiphertext().getBytes(StandardCharsets.UTF_8);
+
+				Assert.state(wrappedKey.length <= 0xFFFF, "Wrapped key exceeds maximum length");
+
+				DataKey encryptionKey = new DataKey(dataKey.getPlaintext(), wrappedKey, expiresAt);
+				DataKey decryptionKey = new DataKey(dataKey.getPlaintext(), wrappedKey, expiresAt);
+
+				this.lock.lock();
+				try {
+
+					DataKey current = this.encryptionKey;
+
+					if (current != null) {
+						current.destroy();
+					}
+
+					DataKey previous = this.decryptionKeys.put(fingerprint(wrappedKey), decryptionKey);
+
+					if (previous != null) {
+						previous.destroy();
+					}
+
+					this.encryptionKey = encryptionKey;
+					this.rotation = null;
+				}
+				finally {
+					this.lock.unlock();
+				}
+			}
+			finally {
+				dataKey.destroy();
+			}
+
+			rotation.complete(null);
+		}
+		catch (RuntimeException e) {
+
+			this.lock.lock();
+			try {
+				this.rotation = null;
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			rotation.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static void await(CompletableFuture<Void> rotation) {
+
+		try {
+			rotation.join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw e;
+		}
+	}
+
+	private byte[] getDecryptionKey(byte[] wrappedKey) {
+
+		String fingerprint = fingerprint(wrappedKey);
+		long now = this.options.getClock().millis();
+
+		this.lock.lock();
+		try {
+
+			DataKey cached = this.decryptionKeys.get(fingerprint);
+
+			if (cached != null) {
+
+				if (!cached.isExpired(now)) {
+					return cached.copyKey();
+				}
+
+				this.decryptionKeys.remove(fingerprint);
+				cached.destroy();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		byte[] unwrapped = this.transitOperations
+			.decrypt(this.keyName, Ciphertext.of(new String(wrappedKey, StandardCharsets.UTF_8)))
+			.getPlaintext();
+
+		try {
+
+			DataKey dataKey = new DataKey(unwrapped, wrappedKey, now + this.options.getKeyTimeToLive().toMillis());
+
+			this.lock.lock();
+			try {
+
+				DataKey previous = this.decryptionKeys.put(fingerprint, dataKey);
+
+				if (previous != null) {
+					previous.destroy();
+				}
+
+				return dataKey.copyKey();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+		finally {
+			Arrays.fill(unwrapped, (byte) 0);
+		}
+	}
+
+	private static String fingerprint(byte[] wrappedKey) {
+
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(wrappedKey));
+		}
+		catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Cannot create fingerprint", e);
+		}
+	}
+
+	/**
+	 * Copy of the current encryption key along with its wrapped form.
+	 */
+	record EncryptionKey(byte[] key, byte[] wrappedKey) {
+
+	}
+
+	/**
+	 * Data key held in direct memory. Must be accessed while holding the lock.
+	 */
+	static class DataKey {
+
+		private final ByteBuffer key;
+
+		final byte[] wrappedKey;
+
+		private final long expiresAt;
+
+		long uses;
+
+		DataKey(byte[] key, byte[] wrappedKey, long expiresAt) {
+
+			this.key = ByteBuffer.allocateDirect(key.length);
+			this.key.put(0, key);
+			this.wrappedKey = wrappedKey;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= this.expiresAt;
+		}
+
+		byte[] copyKey() {
+
+			byte[] copy = new byte[this.key.capacity()];
+			this.key.get(0, copy);
+
+			return copy;
+		}
+
+		void destroy() {
+
+			for (int i = 0; i < this.key.capacity(); i++) {
+				this.key.put(i, (byte) 0);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.security;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for the data key cache used by {@link CachingVaultBytesEncryptor}.
+ * <p>
+ * Options define how long and for how many messages a data key is used for encryption
+ * and how many unwrapped data keys are retained for decryption.
+ * {@link DataKeyCacheOptions} can be constructed using {@link #builder()}. Instances of
+ * this class are immutable once constructed.
+ *
+ * @author agent
+ * @since 4.0
+ * @see #builder()
+ */
+public class DataKeyCacheOptions {
+
+	public static final long DEFAULT_MAX_MESSAGES_PER_KEY = 10_000;
+
+	/**
+	 * Upper bound for {@link DataKeyCacheOptionsBuilder#maxMessagesPerKey(long)}. Each
+	 * message is encrypted with a random 96-bit AES-GCM nonce, which limits a key to
+	 * 2<sup>32</sup> invocations (NIST SP 800-38D, section 8.3).
+	 */
+	public static final long MAX_MESSAGES_PER_KEY = 1L << 32;
+
+	public static final Duration DEFAULT_KEY_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	public static final int DEFAULT_MAX_DECRYPTION_KEYS = 100;
+
+	/**
+	 * Maximum number of messages encrypted with a single data key.
+	 */
+	private final long maxMessagesPerKey;
+
+	/**
+	 * Time to live of a data key used for encryption and of cached unwrapped keys.
+	 */
+	private final Duration keyTimeToLive;
+
+	/**
+	 * Maximum number of unwrapped data keys retained for decryption.
+	 */
+	private final int maxDecryptionKeys;
+
+	private final Clock clock;
+
+	private DataKeyCacheOptions(long maxMessagesPerKey, Duration keyTimeToLive, int maxDecryptionKeys, Clock clock) {
+		this.maxMessagesPerKey = maxMessagesPerKey;
+		this.keyTimeToLive = keyTimeToLive;
+		this.maxDecryptionKeys = maxDecryptionKeys;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return a new {@link DataKeyCacheOptionsBuilder}.
+	 */
+	public static DataKeyCacheOptionsBuilder builder() {
+		return new DataKeyCacheOptionsBuilder();
+	}
+
+	/**
+	 * @return the maximum number of messages encrypted with a single data key.
+	 */
+	public long getMaxMessagesPerKey() {
+		return this.maxMessagesPerKey;
+	}
+
+	/**
+	 * @return the time to live of data keys.
+	 */
+	public Duration getKeyTimeToLive() {
+		return this.keyTimeToLive;
+	}
+
+	/**
+	 * @return the maximum number of unwrapped data keys retained for decryption.
+	 */
+	public int getMaxDecryptionKeys() {
+		return this.maxDecryptionKeys;
+	}
+
+	/**
+	 * @return the {@link Clock}.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Builder for {@link DataKeyCacheOptions}.
+	 */
+	public static class DataKeyCacheOptionsBuilder {
+
+		private long maxMessagesPerKey = DEFAULT_MAX_MESSAGES_PER_KEY;
+
+		private Duration keyTimeToLive = DEFAULT_KEY_TIME_TO_LIVE;
+
+		private int maxDecryptionKeys = DEFAULT_MAX_DECRYPTION_KEYS;
+
+		private Clock clock = Clock.systemUTC();
+
+		DataKeyCacheOptionsBuilder() {
+		}
+
+		/**
+		 * Configure the maximum number of messages to encrypt with a single data key
+		 * before obtaining a new data key.
+		 * @param maxMessagesPerKey must be greater than zero and must not exceed
+		 * {@link #MAX_MESSAGES_PER_KEY}.
+		 * @return {@code this} {@link DataKeyCacheOptionsBuilder}.
+		 * @see #DEFAULT_MAX_MESSAGES_PER_KEY
+		 */
+		public DataKeyCacheOptionsBuilder maxMessagesPerKey(long maxMessagesPerKey) {
+
+			Assert.isTrue(maxMessagesPerKey > 0, "Max messages per key must be greater than zero");
+			Assert.isTrue(maxMessagesPerKey <= MAX_MESSAGES_PER_KEY,
+					"Max messages per key must not exceed %d".formatted(MAX_MESSAGES_PER_KEY));
+
+			this.maxMessagesPerKey = maxMessagesPerKey;
+			return this;
+		}
+
+		/**
+		 * Configure the time to live of data keys. Encryption obtains a new data key once
+		 * the current key expires. Cached unwrapped keys are evicted after the time to
+		 * live.
+		 * @param keyTimeToLive must not be {@literal null}, must be positive.
+		 * @return {@code this} {@link DataKeyCacheOptionsBuilder}.
+		 * @see #DEFAULT_KEY_TIME_TO_LIVE
+		 */
+		public DataKeyCacheOptionsBuilder keyTimeToLive(Duration keyTimeToLive) {
+
+			Assert.notNull(keyTimeToLive, "Key time to live must not be null");
+			Assert.isTrue(!keyTimeToLive.isNegative() && !keyTimeToLive.isZero(), "Key time to live must be positive");
+
+			this.keyTimeToLive = keyTimeToLive;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of unwrapped data keys retained for decryption.
+		 * Least recently used keys are evicted once the cache exceeds its maximum size.
+		 * @param maxDecryptionKeys must be greater than zero.
+		 * @return {@code this} {@link DataKeyCacheOptionsBuilder}.
+		 * @see #DEFAULT_MAX_DECRYPTION_KEYS
+		 */
+		public DataKeyCacheOptionsBuilder maxDecryptionKeys(int maxDecryptionKeys) {
+
+			Assert.isTrue(maxDecryptionKeys > 0, "Max decryption keys must be greater than zero");
+
+			this.maxDecryptionKeys = maxDecryptionKeys;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Clock}.
+		 * @param clock must not be {@literal null}.
+		 * @return {@code this} {@link DataKeyCacheOptionsBuilder}.
+		 */
+		public DataKeyCacheOptionsBuilder clock(Clock clock) {
+
+			Assert.notNull(clock, "Clock must not be null");
+
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link DataKeyCacheOptions} instance.
+		 * @return a new {@link DataKeyCacheOptions}.
+		 */
+		public DataKeyCacheOptions build() {
+			return new DataKeyCacheOptions(this.maxMessagesPerKey, this.keyTimeToLive, this.maxDecryptionKeys,
+					this.clock);
+		}
+
+	}
+
+}
@@ -15,10 +15,15 @@
  */
 package org.springframework.vault.security;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
 import org.springframework.security.crypto.codec.Utf8;
 import org.springframework.security.crypto.encrypt.BytesEncryptor;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.vault.core.VaultTransitBatchExecutor;
 import org.springframework.vault.core.VaultTransitOperations;
 import org.springframework.vault.support.Ciphertext;
 import org.springframework.vault.support.Plaintext;
@@ -26,16 +31,17 @@ import org.springframework.vault.support.Plaintext;
 /**
  * Vault-based {@link BytesEncryptor} using Vault's {@literal transit} backend.
  * Encryption/decryption is bound to a particular key that must support encryption and
- * decryption.
+ * decryption. Using {@link VaultTransitBatchExecutor} combines concurrent
+ * encryption/decryption calls into batch requests.
  *
  * @author Mark Paluch
  * @since 2.0
  */
 public class VaultBytesEncryptor implements BytesEncryptor {
 
-	private final VaultTransitOperations transitOperations;
+	private final Function<Plaintext, Ciphertext> encryptFunction;
 
-	private final String keyName;
+	private final Function<Ciphertext, Plaintext> decryptFunction;
 
 	/**
 	 * Create a new {@link VaultBytesEncryptor} given {@link VaultTransitOperations} and
@@ -48,8 +54,25 @@ public class VaultBytesEncryptor implements BytesEncryptor {
 		Assert.notNull(transitOperations, "VaultTransitOperations must not be null");
 		Assert.hasText(keyName, "Key name must not be null or empty");
 
-		this.transitOperations = transitOperations;
-		this.keyName = keyName;
+		this.encryptFunction = plaintext -> transitOperations.encrypt(keyName, plaintext);
+		this.decryptFunction = ciphertext -> transitOperations.decrypt(keyName, ciphertext);
+	}
+
+	/**
+	 * Create a new {@link VaultBytesEncryptor} given {@link VaultTransitBatchExecutor}
+	 * and {@code keyName}. Concurrent encryption/decryption calls are sent as batch
+	 * requests.
+	 * @param batchExecutor must not be {@literal null}.
+	 * @param keyName must not be {@literal null} or empty.
+	 * @since 4.0
+	 */
+	public VaultBytesEncryptor(VaultTransitBatchExecutor batchExecutor, String keyName) {
+
+		Assert.notNull(batchExecutor, "VaultTransitBatchExecutor must not be null");
+		Assert.hasText(keyName, "Key name must not be null or empty");
+
+		this.encryptFunction = plaintext -> join(batchExecutor.encrypt(keyName, plaintext));
+		this.decryptFunction = ciphertext -> join(batchExecutor.decrypt(keyName, ciphertext));
 	}
 
 	@Override
@@ -58,7 +81,7 @@ public class VaultBytesEncryptor implements BytesEncryptor {
 		Assert.notNull(plaintext, "Plaintext must not be null");
 		Assert.isTrue(!ObjectUtils.isEmpty(plaintext), "Plaintext must not be empty");
 
-		Ciphertext ciphertext = this.transitOperations.encrypt(this.keyName, Plaintext.of(plaintext));
+		Ciphertext ciphertext = this.encryptFunction.apply(Plaintext.of(plaintext));
 
 		return Utf8.encode(ciphertext.getCiphertext());
 	}
@@ -69,9 +92,24 @@ public class VaultBytesEncryptor implements BytesEncryptor {
 		Assert.notNull(ciphertext, "Ciphertext must not be null");
 		Assert.isTrue(!ObjectUtils.isEmpty(ciphertext), "Ciphertext must not be empty");
 
-		Plaintext plaintext = this.transitOperations.decrypt(this.keyName, Ciphertext.of(Utf8.decode(ciphertext)));
+		Plaintext plaintext = this.decryptFunction.apply(Ciphertext.of(Utf8.decode(ciphertext)));
 
 		return plaintext.getPlaintext();
 	}
 
+	private static <T> T join(CompletableFuture<T> future) {
+
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+
+			throw e;
+		}
+	}
+
 }
@@ -18,10 +18,31 @@ package org.springframework.vault.support;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.util.Assert;
 
 /**
  * Client options for Vault.
+ * <p>
+ * Next to timeouts, {@link ClientOptions} configure connection pooling and HTTP/2 for
+ * the HTTP client that is created by
+ * {@link org.springframework.vault.client.ClientHttpRequestFactoryFactory} and
+ * {@link org.springframework.vault.client.ClientHttpConnectorFactory}. Options that are
+ * not configured retain the defaults of the underlying HTTP client. Not every HTTP client
+ * supports each option:
+ * <ul>
+ * <li>Apache HttpComponents applies all pool options. HTTP/2 is supported by the
+ * asynchronous client only. The number of pending acquires cannot be limited.</li>
+ * <li>Reactor Netty applies all options. Reactor Netty maintains a pool per remote
+ * address so {@link #getMaxConnectionsPerRoute()} takes precedence over
+ * {@link #getMaxConnections()}.</li>
+ * <li>Jetty applies per-route connection limits, idle timeout and pending acquire limits.
+ * HTTP/2 requires a custom transport using Jetty's HTTP/2 client.</li>
+ * <li>The JDK HTTP client configures its connection pool through system properties and
+ * applies only the HTTP/2 setting.</li>
+ * </ul>
+ * Use {@link #builder()} to configure pool and HTTP/2 options.
  *
  * @author Mark Paluch
  */
@@ -37,6 +58,41 @@ public class ClientOptions {
 	 */
 	private final Duration readTimeout;
 
+	/**
+	 * Maximum number of pooled connections.
+	 */
+	private final @Nullable Integer maxConnections;
+
+	/**
+	 * Maximum number of pooled connections per route (remote address).
+	 */
+	private final @Nullable Integer maxConnectionsPerRoute;
+
+	/**
+	 * Maximum time to keep a persistent connection alive for reuse.
+	 */
+	private final @Nullable Duration keepAlive;
+
+	/**
+	 * Time after which idle connections are evicted.
+	 */
+	private final @Nullable Duration idleTimeout;
+
+	/**
+	 * Maximum number of requests waiting for a pooled connection.
+	 */
+	private final @Nullable Integer maxPendingAcquires;
+
+	/**
+	 * Maximum time to wait for a pooled connection.
+	 */
+	private final @Nullable Duration pendingAcquireTimeout;
+
+	/**
+	 * Whether to negotiate HTTP/2.
+	 */
+	private final boolean http2;
+
 	/**
 	 * Create new {@link ClientOptions} with default timeouts of {@literal 5}
 	 * {@link TimeUnit#SECONDS} connection timeout and {@literal 15}
@@ -59,6 +115,34 @@ public class ClientOptions {
 
 		this.connectionTimeout = connectionTimeout;
 		this.readTimeout = readTimeout;
+		this.maxConnections = null;
+		this.maxConnectionsPerRoute = null;
+		this.keepAlive = null;
+		this.idleTimeout = null;
+		this.maxPendingAcquires = null;
+		this.pendingAcquireTimeout = null;
+		this.http2 = false;
+	}
+
+	private ClientOptions(ClientOptionsBuilder builder) {
+
+		this.connectionTimeout = builder.connectionTimeout;
+		this.readTimeout = builder.readTimeout;
+		this.maxConnections = builder.maxConnections;
+		this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+		this.keepAlive = builder.keepAlive;
+		this.idleTimeout = builder.idleTimeout;
+		this.maxPendingAcquires = builder.maxPendingAcquires;
+		this.pendingAcquireTimeout = builder.pendingAcquireTimeout;
+		this.http2 = builder.http2;
+	}
+
+	/**
+	 * @return a new {@link ClientOptionsBuilder}.
+	 * @since 4.0
+	 */
+	public static ClientOptionsBuilder builder() {
+		return new ClientOptionsBuilder();
 	}
 
 	/**
@@ -75,4 +159,229 @@ public class ClientOptions {
 		return this.readTimeout;
 	}
 
+	/**
+	 * @return the maximum number of pooled connections or {@literal null} to use the
+	 * client default.
+	 * @since 4.0
+	 */
+	public @Nullable Integer getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * @return the maximum number of pooled connections per route or {@literal null} to
+	 * use the client default.
+	 * @since 4.0
+	 */
+	public @Nullable Integer getMaxConnectionsPerRoute() {
+		return this.maxConnectionsPerRoute;
+	}
+
+	/**
+	 * @return the maximum time to keep a persistent connection alive or {@literal null}
+	 * to use the client default.
+	 * @since 4.0
+	 */
+	public @Nullable Duration getKeepAlive() {
+		return this.keepAlive;
+	}
+
+	/**
+	 * @return the time after which idle connections are evicted or {@literal null} to
+	 * use the client default.
+	 * @since 4.0
+	 */
+	public @Nullable Duration getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * @return the maximum number of requests waiting for a pooled connection or
+	 * {@literal null} to use the client default.
+	 * @since 4.0
+	 */
+	public @Nullable Integer getMaxPendingAcquires() {
+		return this.maxPendingAcquires;
+	}
+
+	/**
+	 * @return the maximum time to wait for a pooled connection or {@literal null} to use
+	 * the client default.
+	 * @since 4.0
+	 */
+	public @Nullable Duration getPendingAcquireTimeout() {
+		return this.pendingAcquireTimeout;
+	}
+
+	/**
+	 * @return {@literal true} to negotiate HTTP/2.
+	 * @since 4.0
+	 */
+	public boolean isHttp2() {
+		return this.http2;
+	}
+
+	/**
+	 * Builder for {@link ClientOptions}.
+	 *
+	 * @since 4.0
+	 */
+	public static class ClientOptionsBuilder {
+
+		private Duration connectionTimeout = Duration.ofSeconds(5);
+
+		private Duration readTimeout = Duration.ofSeconds(15);
+
+		private @Nullable Integer maxConnections;
+
+		private @Nullable Integer maxConnectionsPerRoute;
+
+		private @Nullable Duration keepAlive;
+
+		private @Nullable Duration idleTimeout;
+
+		private @Nullable Integer maxPendingAcquires;
+
+		private @Nullable Duration pendingAcquireTimeout;
+
+		private boolean http2;
+
+		ClientOptionsBuilder() {
+		}
+
+		/**
+		 * Configure the connection timeout. Defaults to {@literal 5} seconds.
+		 * @param connectionTimeout must not be {@literal null}.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder connectionTimeout(Duration connectionTimeout) {
+
+			Assert.notNull(connectionTimeout, "Connection timeout must not be null");
+
+			this.connectionTimeout = connectionTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the read timeout. Defaults to {@literal 15} seconds.
+		 * @param readTimeout must not be {@literal null}.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder readTimeout(Duration readTimeout) {
+
+			Assert.notNull(readTimeout, "Read timeout must not be null");
+
+			this.readTimeout = readTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of pooled connections across all routes. The
+		 * per-route limit defaults to {@code maxConnections} unless
+		 * {@link #maxConnectionsPerRoute(int) configured}.
+		 * @param maxConnections must be greater than zero.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder maxConnections(int maxConnections) {
+
+			Assert.isTrue(maxConnections > 0, "Max connections must be greater than zero");
+
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of pooled connections per route (remote address).
+		 * @param maxConnectionsPerRoute must be greater than zero.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+
+			Assert.isTrue(maxConnectionsPerRoute > 0, "Max connections per route must be greater than zero");
+
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum time to keep a persistent connection alive for reuse.
+		 * Connections are closed once they exceed their keep-alive time.
+		 * @param keepAlive must not be {@literal null}, must be positive.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder keepAlive(Duration keepAlive) {
+
+			Assert.notNull(keepAlive, "Keep-alive must not be null");
+			Assert.isTrue(!keepAlive.isNegative() && !keepAlive.isZero(), "Keep-alive must be positive");
+
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		/**
+		 * Configure the time after which idle connections are evicted from the pool.
+		 * @param idleTimeout must not be {@literal null}, must be positive.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder idleTimeout(Duration idleTimeout) {
+
+			Assert.notNull(idleTimeout, "Idle timeout must not be null");
+			Assert.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "Idle timeout must be positive");
+
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of requests waiting for a pooled connection.
+		 * Requests exceeding the limit fail immediately.
+		 * @param maxPendingAcquires must be greater than zero.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder maxPendingAcquires(int maxPendingAcquires) {
+
+			Assert.isTrue(maxPendingAcquires > 0, "Max pending acquires must be greater than zero");
+
+			this.maxPendingAcquires = maxPendingAcquires;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum time to wait for a pooled connection.
+		 * @param pendingAcquireTimeout must not be {@literal null}, must be positive.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder pendingAcquireTimeout(Duration pendingAcquireTimeout) {
+
+			Assert.notNull(pendingAcquireTimeout, "Pending acquire timeout must not be null");
+			Assert.isTrue(!pendingAcquireTimeout.isNegative() && !pendingAcquireTimeout.isZero(),
+					"Pending acquire timeout must be positive");
+
+			this.pendingAcquireTimeout = pendingAcquireTimeout;
+			return this;
+		}
+
+		/**
+		 * Enable HTTP/2. HTTP/2 is negotiated using ALPN over TLS and falls back to
+		 * HTTP/1.1 if the server does not support HTTP/2. HTTP/2 multiplexes concurrent
+		 * requests over a single connection per route.
+		 * @param http2 whether to negotiate HTTP/2.
+		 * @return {@code this} {@link ClientOptionsBuilder}.
+		 */
+		public ClientOptionsBuilder http2(boolean http2) {
+
+			this.http2 = http2;
+			return this;
+		}
+
+		/**
+		 * Build a new {@link ClientOptions} instance.
+		 * @return a new {@link ClientOptions}.
+		 */
+		public ClientOptions build() {
+			return new ClientOptions(this);
+		}
+
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.vault.support;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.KeyStore;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -69,6 +70,8 @@ public class SslConfiguration {
 
 	private final List<String> enabledCipherSuites;
 
+	private final @Nullable Duration reloadInterval;
+
 	/**
 	 * Create a new {@link SslConfiguration}.
 	 * @param keyStoreConfiguration the key store configuration, must not be
@@ -101,6 +104,13 @@ public class SslConfiguration {
 	public SslConfiguration(KeyStoreConfiguration keyStoreConfiguration, KeyConfiguration keyConfiguration,
 			KeyStoreConfiguration trustStoreConfiguration, List<String> enabledProtocols,
 			List<String> enabledCipherSuites) {
+		this(keyStoreConfiguration, keyConfiguration, trustStoreConfiguration, enabledProtocols, enabledCipherSuites,
+				null);
+	}
+
+	private SslConfiguration(KeyStoreConfiguration keyStoreConfiguration, KeyConfiguration keyConfiguration,
+			KeyStoreConfiguration trustStoreConfiguration, List<String> enabledProtocols,
+			List<String> enabledCipherSuites, @Nullable Duration reloadInterval) {
 
 		Assert.notNull(keyStoreConfiguration, "KeyStore configuration must not be null");
 		Assert.notNull(keyConfiguration, "KeyConfiguration must not be null");
@@ -111,6 +121,7 @@ public class SslConfiguration {
 		this.trustStoreConfiguration = trustStoreConfiguration;
 		this.enabledProtocols = Collections.unmodifiableList(new ArrayList<>(enabledProtocols));
 		this.enabledCipherSuites = Collections.unmodifiableList(new ArrayList<>(enabledCipherSuites));
+		this.reloadInterval = reloadInterval;
 	}
 
 	/**
@@ -318,7 +329,7 @@ public class SslConfiguration {
 
 		Assert.notNull(enabledProtocols, "Enabled protocols must not be null");
 		return new SslConfiguration(this.keyStoreConfiguration, this.keyConfiguration, this.trustStoreConfiguration,
-				enabledProtocols, this.enabledCipherSuites);
+				enabledProtocols, this.enabledCipherSuites, this.reloadInterval);
 	}
 
 	/**
@@ -358,7 +369,47 @@ public class SslConfiguration {
 		Assert.notNull(enabledProtocols, "Enabled cipher suites must not be null");
 
 		return new SslConfiguration(this.keyStoreConfiguration, this.keyConfiguration, this.trustStoreConfiguration,
-				this.enabledProtocols, enabledCipherSuites);
+				this.enabledProtocols, enabledCipherSuites, this.reloadInterval);
+	}
+
+	/**
+	 * Return the interval to check key store and trust store resources for changes.
+	 * @return the reload interval or {@literal null} if key and trust material is loaded
+	 * only once.
+	 * @since 4.0
+	 * @see #withReloadInterval(Duration)
+	 */
+	public @Nullable Duration getReloadInterval() {
+		return this.reloadInterval;
+	}
+
+	/**
+	 * @return {@literal true} if key store and trust store resources are checked for
+	 * changes.
+	 * @since 4.0
+	 */
+	public boolean isReloadEnabled() {
+		return this.reloadInterval != null;
+	}
+
+	/**
+	 * Create a new {@link SslConfiguration} that reloads key and trust material when the
+	 * contents of the configured key store or trust store resources change. TLS
+	 * handshakes trigger a check of the resources in the background at most once per
+	 * {@code reloadInterval}. Changed material applies to new handshakes only, existing
+	 * connections remain open. Clients retain the previously loaded material if a changed
+	 * resource cannot be loaded.
+	 * @param reloadInterval must not be {@literal null}, must be positive.
+	 * @return a new {@link SslConfiguration} with the reload interval applied.
+	 * @since 4.0
+	 */
+	public SslConfiguration withReloadInterval(Duration reloadInterval) {
+
+		Assert.notNull(reloadInterval, "Reload interval must not be null");
+		Assert.isTrue(!reloadInterval.isNegative() && !reloadInterval.isZero(), "Reload interval must be positive");
+
+		return new SslConfiguration(this.keyStoreConfiguration, this.keyConfiguration, this.trustStoreConfiguration,
+				this.enabledProtocols, this.enabledCipherSuites, reloadInterval);
 	}
 
 	/**
@@ -408,7 +459,8 @@ public class SslConfiguration {
 	 * @since 2.2
 	 */
 	public SslConfiguration withKeyStore(KeyStoreConfiguration configuration, KeyConfiguration keyConfiguration) {
-		return new SslConfiguration(configuration, keyConfiguration, this.trustStoreConfiguration);
+		return new SslConfiguration(configuration, keyConfiguration, this.trustStoreConfiguration,
+				Collections.emptyList(), Collections.emptyList(), this.reloadInterval);
 	}
 
 	/**
@@ -437,7 +489,8 @@ public class SslConfiguration {
 	 * @since 2.0
 	 */
 	public SslConfiguration withTrustStore(KeyStoreConfiguration configuration) {
-		return new SslConfiguration(this.keyStoreConfiguration, this.keyConfiguration, configuration);
+		return new SslConfiguration(this.keyStoreConfiguration, this.keyConfiguration, configuration,
+				Collections.emptyList(), Collections.emptyList(), this.reloadInterval);
 	}
 
 	@Nullable
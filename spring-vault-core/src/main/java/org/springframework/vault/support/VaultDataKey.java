@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object representing a data key generated by Vault's {@literal transit}
+ * backend. A data key consists of the plaintext key material to be used for local
+ * encryption and its {@link Ciphertext wrapped} form that is encrypted with the named
+ * transit key.
+ * <p>
+ * The plaintext key is sensitive. Callers should {@link #destroy() destroy} the key
+ * material once it is no longer required.
+ *
+ * @author agent
+ * @since 4.0
+ * @see org.springframework.vault.core.VaultTransitOperations#generateDataKey(String)
+ */
+public class VaultDataKey {
+
+	private final byte[] plaintext;
+
+	private final Ciphertext ciphertext;
+
+	private VaultDataKey(byte[] plaintext, Ciphertext ciphertext) {
+		this.plaintext = plaintext;
+		this.ciphertext = ciphertext;
+	}
+
+	/**
+	 * Factory method to create a {@link VaultDataKey} from the given {@code plaintext}
+	 * key and its wrapped {@code ciphertext}.
+	 * @param plaintext the plaintext key material, must not be {@literal null} or
+	 * empty.
+	 * @param ciphertext the wrapped key, must not be {@literal null}.
+	 * @return the {@link VaultDataKey} for {@code plaintext} and {@code ciphertext}.
+	 */
+	public static VaultDataKey of(byte[] plaintext, Ciphertext ciphertext) {
+
+		Assert.notNull(plaintext, "Plaintext must not be null");
+		Assert.isTrue(plaintext.length > 0, "Plaintext must not be empty");
+		Assert.notNull(ciphertext, "Ciphertext must not be null");
+
+		return new VaultDataKey(plaintext, ciphertext);
+	}
+
+	/**
+	 * @return the plaintext key material. The returned array is not copied and is
+	 * cleared by {@link #destroy()}.
+	 */
+	public byte[] getPlaintext() {
+		return this.plaintext;
+	}
+
+	/**
+	 * @return the wrapped key that can be decrypted using the transit key that was used
+	 * to generate this data key.
+	 */
+	public Ciphertext getCiphertext() {
+		return this.ciphertext;
+	}
+
+	/**
+	 * Overwrite the plaintext key material with zeros.
+	 */
+	public void destroy() {
+		Arrays.fill(this.plaintext, (byte) 0);
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sb = new StringBuffer();
+		sb.append(getClass().getSimpleName());
+		sb.append(" [ciphertext='").append(this.ciphertext.getCiphertext()).append('\'');
+		sb.append(']');
+		return sb.toString();
+	}
+
+}
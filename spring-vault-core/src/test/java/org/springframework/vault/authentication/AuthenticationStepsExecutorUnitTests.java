@@ -16,6 +16,10 @@
 package org.springframework.vault.authentication;
 
 import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +33,7 @@ import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.AuthenticationSteps.Node;
 import org.springframework.vault.client.VaultClients;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.client.RestTemplate;
@@ -177,11 +182,16 @@ class AuthenticationStepsExecutorUnitTests {
 	@Test
 	void zipWithShouldRequestTwoItems() {
 
-		this.mockRest.expect(requestTo("/auth/login/left"))
+		// branches are requested concurrently
+		MockRestServiceServer mockRest = MockRestServiceServer.bindTo(this.restTemplate)
+			.ignoreExpectOrder(true)
+			.build();
+
+		mockRest.expect(requestTo("/auth/login/left"))
 			.andExpect(method(HttpMethod.POST))
 			.andRespond(withSuccess().contentType(MediaType.APPLICATION_JSON).body("{" + "\"request_id\": \"left\"}"));
 
-		this.mockRest.expect(requestTo("/auth/login/right"))
+		mockRest.expect(requestTo("/auth/login/right"))
 			.andExpect(method(HttpMethod.POST))
 			.andRespond(withSuccess().contentType(MediaType.APPLICATION_JSON).body("{" + "\"request_id\": \"right\"}"));
 
@@ -197,6 +207,113 @@ class AuthenticationStepsExecutorUnitTests {
 		assertThat(login(steps)).isEqualTo(VaultToken.of("left-right"));
 	}
 
+	@Test
+	void zipWithShouldEvaluateBranchesConcurrently() {
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		Node<Boolean> left = AuthenticationSteps.fromSupplier(() -> await(latch));
+		Node<Boolean> right = AuthenticationSteps.fromSupplier(() -> await(latch));
+
+		AuthenticationSteps steps = left.zipWith(right)
+			.login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		assertThat(login(steps)).isEqualTo(VaultToken.of("true-true"));
+	}
+
+	@Test
+	void zipWithShouldPropagateNamespace() {
+
+		Node<String> left = AuthenticationSteps.fromSupplier(VaultNamespaceContextHolder::getNamespace);
+		Node<String> right = AuthenticationSteps.fromSupplier(VaultNamespaceContextHolder::getNamespace);
+
+		AuthenticationSteps steps = left.zipWith(right).login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		VaultToken token = VaultNamespaceContextHolder.withNamespace("my-namespace", () -> login(steps));
+
+		assertThat(token).isEqualTo(VaultToken.of("my-namespace-my-namespace"));
+	}
+
+	@Test
+	void zipWithShouldEvaluateBranchOnCallingThreadIfRejected() {
+
+		Thread caller = Thread.currentThread();
+
+		Node<Boolean> left = AuthenticationSteps.fromSupplier(() -> Thread.currentThread() == caller);
+		Node<Boolean> right = AuthenticationSteps.fromSupplier(() -> Thread.currentThread() == caller);
+
+		AuthenticationSteps steps = left.zipWith(right)
+			.login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		AuthenticationStepsExecutor executor = new AuthenticationStepsExecutor(steps, this.restTemplate);
+		executor.setExecutor(command -> {
+			throw new RejectedExecutionException();
+		});
+
+		assertThat(executor.login()).isEqualTo(VaultToken.of("true-true"));
+	}
+
+	@Test
+	void zipWithShouldEvaluateBranchOnCallingThreadIfNotStarted() {
+
+		Thread caller = Thread.currentThread();
+
+		Node<Boolean> left = AuthenticationSteps.fromSupplier(() -> Thread.currentThread() == caller);
+		Node<Boolean> right = AuthenticationSteps.fromSupplier(() -> Thread.currentThread() == caller);
+
+		AuthenticationSteps steps = left.zipWith(right)
+			.login(it -> VaultToken.of(it.getLeft() + "-" + it.getRight()));
+
+		AuthenticationStepsExecutor executor = new AuthenticationStepsExecutor(steps, this.restTemplate);
+		executor.setExecutor(command -> {
+		});
+
+		assertThat(executor.login()).isEqualTo(VaultToken.of("true-true"));
+	}
+
+	@Test
+	void zipWithShouldFailIfBranchFails() {
+
+		this.mockRest.expect(requestTo("/auth/login/right"))
+			.andExpect(method(HttpMethod.POST))
+			.andRespond(withBadRequest().body("foo"));
+
+		Node<VaultResponse> left = AuthenticationSteps.fromSupplier(VaultResponse::new);
+		Node<VaultResponse> right = AuthenticationSteps
+			.fromHttpRequest(post("/auth/login/right").as(VaultResponse.class));
+
+		AuthenticationSteps steps = left.zipWith(right).login(it -> VaultToken.of("my-token"));
+
+		assertThatExceptionOfType(VaultLoginException.class).isThrownBy(() -> login(steps))
+			.withMessageContaining("HTTP request");
+	}
+
+	@Test
+	void executorShouldBeReusable() {
+
+		AtomicInteger counter = new AtomicInteger();
+		AuthenticationSteps steps = AuthenticationSteps.fromSupplier(counter::incrementAndGet)
+			.login(it -> VaultToken.of("token-" + it));
+
+		AuthenticationStepsExecutor executor = new AuthenticationStepsExecutor(steps, this.restTemplate);
+
+		assertThat(executor.login()).isEqualTo(VaultToken.of("token-1"));
+		assertThat(executor.login()).isEqualTo(VaultToken.of("token-2"));
+	}
+
+	private static boolean await(CountDownLatch latch) {
+
+		latch.countDown();
+
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
 	private VaultToken login(AuthenticationSteps steps) {
 		return new AuthenticationStepsExecutor(steps, this.restTemplate).login();
 	}
@@ -17,6 +17,7 @@ package org.springframework.vault.authentication;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
@@ -227,6 +228,24 @@ class AuthenticationStepsOperatorUnitTests {
 			.verifyComplete();
 	}
 
+	@Test
+	void loginShouldBeReusable() {
+
+		AtomicInteger counter = new AtomicInteger();
+		AuthenticationSteps steps = AuthenticationSteps.fromSupplier(counter::incrementAndGet)
+			.login(it -> VaultToken.of("token-" + it));
+
+		Mono<VaultToken> login = login(steps);
+
+		login.as(StepVerifier::create) //
+			.expectNext(VaultToken.of("token-1")) //
+			.verifyComplete();
+
+		login.as(StepVerifier::create) //
+			.expectNext(VaultToken.of("token-2")) //
+			.verifyComplete();
+	}
+
 	private Mono<VaultToken> login(AuthenticationSteps steps) {
 
 		AuthenticationStepsOperator operator = new AuthenticationStepsOperator(steps, WebClient.create());
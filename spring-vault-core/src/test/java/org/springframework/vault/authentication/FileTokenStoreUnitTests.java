@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FileTokenStore}.
+ *
+ * @author agent
+ */
+class FileTokenStoreUnitTests {
+
+	static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+	@TempDir
+	Path directory;
+
+	LoginToken token = LoginToken.builder()
+		.token("hvs.my-token")
+		.accessor("my-accessor")
+		.type("service")
+		.renewable(true)
+		.leaseDuration(Duration.ofHours(1))
+		.build();
+
+	@Test
+	void shouldRoundtripEncryptedToken() throws Exception {
+
+		Path file = this.directory.resolve("token");
+		FileTokenStore store = FileTokenStore.encrypted(file, KEY);
+
+		store.save(this.token);
+
+		assertThat(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)).doesNotContain("hvs.my-token");
+
+		LoginToken loaded = store.load();
+
+		assertThat(loaded).isNotNull();
+		assertThat(loaded.getToken()).isEqualTo("hvs.my-token");
+		assertThat(loaded.getAccessor()).isEqualTo("my-accessor");
+		assertThat(loaded.getType()).isEqualTo("service");
+		assertThat(loaded.isRenewable()).isTrue();
+		assertThat(loaded.getLeaseDuration()).isLessThanOrEqualTo(Duration.ofHours(1));
+	}
+
+	@Test
+	void shouldRoundtripUnencryptedToken() {
+
+		FileTokenStore store = FileTokenStore.unencrypted(this.directory.resolve("token"));
+
+		store.save(LoginToken.of("hvs.my-token"));
+
+		LoginToken loaded = store.load();
+
+		assertThat(loaded).isNotNull();
+		assertThat(loaded.getToken()).isEqualTo("hvs.my-token");
+		assertThat(loaded.getAccessor()).isNull();
+		assertThat(loaded.getLeaseDuration()).isZero();
+	}
+
+	@Test
+	void shouldReturnRemainingLeaseDuration() {
+
+		Path file = this.directory.resolve("token");
+
+		store(file, NOW).save(this.token);
+
+		LoginToken loaded = store(file, NOW.plus(Duration.ofMinutes(20))).load();
+
+		assertThat(loaded).isNotNull();
+		assertThat(loaded.getLeaseDuration()).isEqualTo(Duration.ofMinutes(40));
+	}
+
+	@Test
+	void shouldNotLoadExpiredToken() {
+
+		Path file = this.directory.resolve("token");
+
+		store(file, NOW).save(this.token);
+
+		assertThat(store(file, NOW.plus(Duration.ofHours(2))).load()).isNull();
+	}
+
+	@Test
+	void shouldIgnoreTokenEncryptedWithDifferentKey() {
+
+		Path file = this.directory.resolve("token");
+		FileTokenStore.encrypted(file, KEY).save(this.token);
+
+		byte[] otherKey = KEY.clone();
+		otherKey[0] ^= 1;
+
+		assertThat(FileTokenStore.encrypted(file, otherKey).load()).isNull();
+		assertThat(FileTokenStore.unencrypted(file).load()).isNull();
+	}
+
+	@Test
+	void shouldIgnoreMissingFile() {
+		assertThat(FileTokenStore.encrypted(this.directory.resolve("missing"), KEY).load()).isNull();
+	}
+
+	@Test
+	void shouldClearToken() {
+
+		Path file = this.directory.resolve("token");
+		FileTokenStore store = FileTokenStore.encrypted(file, KEY);
+
+		store.save(this.token);
+		store.clear();
+
+		assertThat(file).doesNotExist();
+		assertThat(store.load()).isNull();
+	}
+
+	@Test
+	void shouldRejectInvalidKeyLength() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> FileTokenStore.encrypted(this.directory.resolve("token"), new byte[10]));
+	}
+
+	private static FileTokenStore store(Path file, Instant instant) {
+		return new FileTokenStore(file, new SecretKeySpec(KEY, "AES"), Clock.fixed(instant, ZoneOffset.UTC));
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link IdentityRoutingSessionManager}.
+ *
+ * @author agent
+ */
+class IdentityRoutingSessionManagerUnitTests {
+
+	@Test
+	void shouldUseDefaultSessionManagerWithoutIdentity() {
+
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(() -> VaultToken.of("root"),
+				identity -> () -> VaultToken.of(identity));
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(VaultToken.of("root"));
+	}
+
+	@Test
+	void shouldCreateSessionManagerPerIdentityOnce() {
+
+		AtomicInteger created = new AtomicInteger();
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(() -> VaultToken.of("root"),
+				identity -> {
+
+					if (!identity.equals("role-a")) {
+						return null;
+					}
+
+					created.incrementAndGet();
+					return () -> VaultToken.of("role-a");
+				});
+
+		VaultToken first = VaultIdentityContextHolder.withIdentity("role-a", sessionManager::getSessionToken);
+		VaultToken second = VaultIdentityContextHolder.withIdentity("role-a", sessionManager::getSessionToken);
+
+		assertThat(first).isEqualTo(second).isEqualTo(VaultToken.of("role-a"));
+		assertThat(created).hasValue(1);
+		assertThat(VaultIdentityContextHolder.getIdentity()).isNull();
+		assertThatIllegalStateException()
+			.isThrownBy(() -> VaultIdentityContextHolder.withIdentity("role-b", sessionManager::getSessionToken));
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedSessionManager() throws Exception {
+
+		DisposableSessionManager roleA = mock(DisposableSessionManager.class);
+		DisposableSessionManager roleB = mock(DisposableSessionManager.class);
+		DisposableSessionManager roleC = mock(DisposableSessionManager.class);
+
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(() -> VaultToken.of("root"),
+				identity -> switch (identity) {
+					case "role-a" -> roleA;
+					case "role-b" -> roleB;
+					default -> roleC;
+				});
+		sessionManager.setMaxIdentities(2);
+
+		sessionManager.getSessionManager("role-a");
+		sessionManager.getSessionManager("role-b");
+		sessionManager.getSessionManager("role-a");
+		sessionManager.getSessionManager("role-c");
+
+		assertThat(sessionManager.getIdentityCount()).isEqualTo(2);
+		verify(roleB, never()).destroy();
+		verify(roleA, never()).destroy();
+		assertThat(sessionManager.getSessionManager("role-a")).isSameAs(roleA);
+	}
+
+	@Test
+	void shouldReleaseEvictedSessionManagerWithoutRevokingItsToken() {
+
+		LifecycleAwareSessionManager roleA = mock(LifecycleAwareSessionManager.class);
+		LifecycleAwareSessionManager roleB = mock(LifecycleAwareSessionManager.class);
+
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(() -> VaultToken.of("root"),
+				identity -> identity.equals("role-a") ? roleA : roleB);
+		sessionManager.setMaxIdentities(1);
+
+		sessionManager.getSessionManager("role-a");
+		sessionManager.getSessionManager("role-b");
+
+		InOrder inOrder = inOrder(roleA);
+		inOrder.verify(roleA).setTokenRevocationEnabled(false);
+		inOrder.verify(roleA).destroy();
+		verify(roleA, never()).revoke();
+		verifyNoInteractions(roleB);
+	}
+
+	@Test
+	void shouldCreateSessionManagerOutsideOfLock() {
+
+		AtomicReference<IdentityRoutingSessionManager> ref = new AtomicReference<>();
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(() -> VaultToken.of("root"),
+				identity -> {
+
+					int identities = CompletableFuture.supplyAsync(() -> ref.get().getIdentityCount())
+						.orTimeout(1, TimeUnit.SECONDS)
+						.join();
+
+					return () -> VaultToken.of(identity + identities);
+				});
+		ref.set(sessionManager);
+
+		assertThat(sessionManager.getSessionManager("role-a").getSessionToken()).isEqualTo(VaultToken.of("role-a0"));
+	}
+
+	@Test
+	void shouldDestroySessionManagers() throws Exception {
+
+		DisposableSessionManager roleA = mock(DisposableSessionManager.class);
+
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(() -> VaultToken.of("root"),
+				identity -> roleA);
+
+		VaultIdentityContextHolder.withIdentity("role-a", sessionManager::getSessionManager);
+		sessionManager.destroy();
+
+		verify(roleA).destroy();
+		assertThat(sessionManager.getIdentityCount()).isZero();
+	}
+
+	interface DisposableSessionManager extends SessionManager, DisposableBean {
+
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.vault.authentication;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -183,6 +184,19 @@ class LifecycleAwareSessionManagerUnitTests {
 		verify(this.listener).onAuthenticationEvent(any(AfterLoginTokenRevocationEvent.class));
 	}
 
+	@Test
+	void shouldNotRevokeLoginTokenOnDestroyIfRevocationIsDisabled() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("login"));
+
+		this.sessionManager.setTokenRevocationEnabled(false);
+		this.sessionManager.renewToken();
+		this.sessionManager.destroy();
+
+		verifyNoInteractions(this.restOperations);
+		verify(this.listener, never()).onAuthenticationEvent(any(BeforeLoginTokenRevocationEvent.class));
+	}
+
 	@Test
 	void shouldNotRevokeRegularTokenOnDestroy() {
 
@@ -449,6 +463,197 @@ class LifecycleAwareSessionManagerUnitTests {
 		verify(this.clientAuthentication, times(1)).login();
 	}
 
+	@Test
+	void backgroundRefreshShouldServeTokenFromSnapshot() {
+
+		runImmediately();
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("login"));
+
+		this.sessionManager.setBackgroundRefreshEnabled(true);
+
+		assertThat(this.sessionManager.getSessionToken()).isEqualTo(LoginToken.of("login"));
+		assertThat(this.sessionManager.getSessionToken()).isEqualTo(LoginToken.of("login"));
+
+		verify(this.clientAuthentication).login();
+		verify(this.taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+		verify(this.taskScheduler, never()).schedule(any(Runnable.class), any(Trigger.class));
+	}
+
+	@Test
+	void backgroundRefreshShouldLoginAheadOfExpiry() {
+
+		runImmediately();
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("first".toCharArray(), Duration.ofHours(1)),
+				LoginToken.of("second".toCharArray(), Duration.ofHours(1)));
+
+		this.sessionManager.setBackgroundRefreshEnabled(true);
+		this.sessionManager.getSessionToken();
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+
+		runnableCaptor.getValue().run();
+
+		assertThat(this.sessionManager.getSessionToken().getToken()).isEqualTo("second");
+		verify(this.clientAuthentication, times(2)).login();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void backgroundRefreshShouldLoginAfterFailedRenewal() {
+
+		runImmediately();
+		when(this.clientAuthentication.login()).thenReturn(
+				LoginToken.renewable("first".toCharArray(), Duration.ofHours(1)),
+				LoginToken.renewable("second".toCharArray(), Duration.ofHours(1)));
+		when(this.restOperations.postForObject(anyString(), any(), ArgumentMatchers.<Class>any()))
+			.thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN));
+
+		this.sessionManager.setBackgroundRefreshEnabled(true);
+		this.sessionManager.getSessionToken();
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+
+		runnableCaptor.getValue().run();
+
+		assertThat(this.sessionManager.getSessionToken().getToken()).isEqualTo("second");
+		verify(this.clientAuthentication, times(2)).login();
+	}
+
+	@Test
+	void backgroundRefreshShouldServeTokenAtMaxTtlUntilReplaced() {
+
+		when(this.clientAuthentication.login()).thenReturn(
+				LoginToken.renewable("first".toCharArray(), Duration.ofSeconds(5)),
+				LoginToken.renewable("second".toCharArray(), Duration.ofHours(1)));
+		when(this.restOperations.postForObject(anyString(), any(), eq(VaultResponse.class)))
+			.thenReturn(fromToken(LoginToken.renewable("first".toCharArray(), Duration.ofSeconds(2))));
+
+		this.sessionManager.getSessionToken();
+		this.sessionManager.setBackgroundRefreshEnabled(true);
+
+		ArgumentCaptor<Runnable> renewalCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(renewalCaptor.capture(), any(Trigger.class));
+		renewalCaptor.getValue().run();
+
+		assertThat(this.sessionManager.getSessionToken().getToken()).isEqualTo("first");
+		verify(this.clientAuthentication, times(1)).login();
+		verify(this.listener).onAuthenticationEvent(any(LoginTokenExpiredEvent.class));
+
+		ArgumentCaptor<Runnable> loginCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(loginCaptor.capture(), any(Instant.class));
+		loginCaptor.getValue().run();
+
+		assertThat(this.sessionManager.getSessionToken().getToken()).isEqualTo("second");
+		verify(this.clientAuthentication, times(2)).login();
+	}
+
+	@Test
+	void backgroundRefreshShouldWaitBoundedForLogin() {
+
+		this.sessionManager.setBackgroundRefreshEnabled(true);
+		this.sessionManager.setMaxLoginWait(Duration.ofMillis(10));
+
+		assertThatExceptionOfType(VaultSessionManagerException.class)
+			.isThrownBy(() -> this.sessionManager.getSessionToken());
+		verifyNoInteractions(this.clientAuthentication);
+	}
+
+	@Test
+	void backgroundRefreshShouldPropagateLoginFailure() {
+
+		runImmediately();
+		when(this.clientAuthentication.login()).thenThrow(new VaultLoginException("foo"));
+
+		this.sessionManager.setBackgroundRefreshEnabled(true);
+
+		assertThatExceptionOfType(VaultLoginException.class).isThrownBy(() -> this.sessionManager.getSessionToken());
+		verify(this.errorListener).onAuthenticationError(any(LoginFailedEvent.class));
+	}
+
+	@Test
+	void shouldApplyRefreshJitter() {
+
+		when(this.clientAuthentication.login())
+			.thenReturn(LoginToken.renewable("login".toCharArray(), Duration.ofHours(1)));
+
+		this.sessionManager.setRefreshJitter(Duration.ofMinutes(10));
+		this.sessionManager.getSessionToken();
+
+		ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+		verify(this.taskScheduler).schedule(any(Runnable.class), triggerCaptor.capture());
+
+		Instant now = Instant.now();
+		assertThat(triggerCaptor.getValue().nextExecution(null)).isBetween(now.plus(Duration.ofMinutes(49)),
+				now.plus(Duration.ofMinutes(60)));
+	}
+
+	@Test
+	void shouldReplaceBatchTokenAheadOfExpiry() {
+
+		when(this.clientAuthentication.login()).thenReturn(batchToken("first"), batchToken("second"));
+
+		this.sessionManager.getSessionToken();
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+
+		runnableCaptor.getValue().run();
+
+		assertThat(this.sessionManager.getSessionToken().getToken()).isEqualTo("second");
+		verify(this.clientAuthentication, times(2)).login();
+		verifyNoInteractions(this.restOperations);
+	}
+
+	@Test
+	void shouldLoginOnNextAccessIfBatchTokenReplacementFails() {
+
+		when(this.clientAuthentication.login()).thenReturn(batchToken("first"))
+			.thenThrow(new VaultLoginException("foo"))
+			.thenReturn(batchToken("third"));
+
+		this.sessionManager.getSessionToken();
+
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+
+		runnableCaptor.getValue().run();
+
+		assertThat(this.sessionManager.getSessionToken().getToken()).isEqualTo("third");
+		verify(this.errorListener).onAuthenticationError(any(LoginFailedEvent.class));
+	}
+
+	@Test
+	void shouldNotSelfLookupBatchToken() {
+
+		when(this.clientAuthentication.login()).thenReturn(VaultToken.of("hvb.token"));
+
+		assertThat(this.sessionManager.getSessionToken()).isEqualTo(VaultToken.of("hvb.token"));
+		this.sessionManager.destroy();
+
+		verifyNoInteractions(this.restOperations);
+		verifyNoInteractions(this.taskScheduler);
+	}
+
+	private void runImmediately() {
+
+		when(this.taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		});
+	}
+
+	private static LoginToken batchToken(String token) {
+
+		return LoginToken.builder()
+			.token(token)
+			.type("batch")
+			.renewable(true)
+			.leaseDuration(Duration.ofHours(1))
+			.build();
+	}
+
 	private static VaultResponse fromToken(LoginToken loginToken) {
 
 		Map<String, Object> auth = new HashMap<>();
@@ -19,6 +19,8 @@ import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.vault.support.VaultToken;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -76,4 +78,14 @@ class LoginTokenUnitTests {
 		assertThat(loginToken.isBatchToken()).isTrue();
 	}
 
+	@Test
+	void shouldDetectBatchTokenByTypeOrPrefix() {
+
+		assertThat(LoginToken.isBatchToken(VaultToken.of("hvb.token"))).isTrue();
+		assertThat(LoginToken.isBatchToken(LoginToken.of("hvb.token"))).isTrue();
+		assertThat(LoginToken.isBatchToken(VaultToken.of("hvs.token"))).isFalse();
+		assertThat(LoginToken.isBatchToken(LoginToken.builder().token("token").type("batch").build())).isTrue();
+		assertThat(LoginToken.isBatchToken(LoginToken.builder().token("hvb.token").type("service").build())).isFalse();
+	}
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link NamespaceRoutingSessionManager}.
+ *
+ * @author agent
+ */
+class NamespaceRoutingSessionManagerUnitTests {
+
+	@Test
+	void shouldUseDefaultSessionManagerWithoutNamespace() {
+
+		NamespaceRoutingSessionManager sessionManager = new NamespaceRoutingSessionManager(
+				() -> VaultToken.of("root"), namespace -> () -> VaultToken.of(namespace));
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(VaultToken.of("root"));
+	}
+
+	@Test
+	void shouldCreateSessionManagerPerNamespaceOnce() {
+
+		AtomicInteger created = new AtomicInteger();
+		NamespaceRoutingSessionManager sessionManager = new NamespaceRoutingSessionManager(() -> VaultToken.of("root"),
+				namespace -> {
+
+					if (!namespace.equals("team-a")) {
+						return null;
+					}
+
+					created.incrementAndGet();
+					return () -> VaultToken.of("team-a");
+				});
+
+		VaultToken first = VaultNamespaceContextHolder.withNamespace("team-a", sessionManager::getSessionToken);
+		VaultToken second = VaultNamespaceContextHolder.withNamespace("team-a", sessionManager::getSessionToken);
+
+		assertThat(first).isEqualTo(second).isEqualTo(VaultToken.of("team-a"));
+		assertThat(created).hasValue(1);
+		assertThatIllegalStateException().isThrownBy(
+				() -> VaultNamespaceContextHolder.withNamespace("team-b", sessionManager::getSessionToken));
+	}
+
+	@Test
+	void shouldDestroySessionManagers() throws Exception {
+
+		DisposableSessionManager teamA = mock(DisposableSessionManager.class);
+
+		NamespaceRoutingSessionManager sessionManager = new NamespaceRoutingSessionManager(
+				() -> VaultToken.of("root"), namespace -> teamA);
+
+		VaultNamespaceContextHolder.withNamespace("team-a", sessionManager::getSessionManager);
+		sessionManager.destroy();
+
+		verify(teamA).destroy();
+	}
+
+	interface DisposableSessionManager extends SessionManager, DisposableBean {
+
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.authentication;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.vault.authentication.event.AfterLoginTokenRenewedEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
+import org.springframework.vault.client.VaultClients;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+/**
+ * Unit tests for {@link PersistentTokenAuthentication}.
+ *
+ * @author agent
+ */
+class PersistentTokenAuthenticationUnitTests {
+
+	RestTemplate restTemplate;
+
+	MockRestServiceServer mockRest;
+
+	InMemoryTokenStore tokenStore = new InMemoryTokenStore();
+
+	LoginToken loginToken = LoginToken.renewable("from-login".toCharArray(), Duration.ofHours(1));
+
+	PersistentTokenAuthentication authentication;
+
+	@BeforeEach
+	void before() {
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setUriTemplateHandler(new VaultClients.PrefixAwareUriBuilderFactory());
+
+		this.mockRest = MockRestServiceServer.createServer(restTemplate);
+		this.restTemplate = restTemplate;
+		this.authentication = new PersistentTokenAuthentication(() -> this.loginToken, this.tokenStore,
+				restTemplate);
+	}
+
+	@Test
+	void shouldLoginAndStoreToken() {
+
+		VaultToken token = this.authentication.login();
+
+		assertThat(token).isSameAs(this.loginToken);
+		assertThat(this.tokenStore.token).isSameAs(this.loginToken);
+	}
+
+	@Test
+	void shouldReuseValidStoredToken() {
+
+		this.tokenStore.token = LoginToken.of("stored");
+		this.mockRest.expect(requestTo("/auth/token/lookup-self"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(header(VaultHttpHeaders.VAULT_TOKEN, "stored"))
+			.andRespond(withSuccess().contentType(MediaType.APPLICATION_JSON)
+				.body("{\"data\": {\"renewable\": true, \"ttl\": 1800, \"accessor\": \"my-accessor\"} }"));
+
+		VaultToken token = this.authentication.login();
+
+		assertThat(token.getToken()).isEqualTo("stored");
+		assertThat(token).isInstanceOf(LoginToken.class);
+		assertThat(((LoginToken) token).getLeaseDuration()).isEqualTo(Duration.ofMinutes(30));
+		assertThat(((LoginToken) token).getAccessor()).isEqualTo("my-accessor");
+		this.mockRest.verify();
+	}
+
+	@Test
+	void shouldLoginIfStoredTokenIsInvalid() {
+
+		this.tokenStore.token = LoginToken.of("stored");
+		this.mockRest.expect(requestTo("/auth/token/lookup-self"))
+			.andRespond(withStatus(HttpStatus.FORBIDDEN).contentType(MediaType.APPLICATION_JSON)
+				.body("{\"errors\": [\"permission denied\"]}"));
+
+		VaultToken token = this.authentication.login();
+
+		assertThat(token).isSameAs(this.loginToken);
+		assertThat(this.tokenStore.token).isSameAs(this.loginToken);
+	}
+
+	@Test
+	void shouldLoginIfStoredTokenExpiresSoon() {
+
+		this.tokenStore.token = LoginToken.of("stored");
+		this.authentication.setMinTimeToLive(Duration.ofMinutes(5));
+		this.mockRest.expect(requestTo("/auth/token/lookup-self"))
+			.andRespond(withSuccess().contentType(MediaType.APPLICATION_JSON)
+				.body("{\"data\": {\"renewable\": true, \"ttl\": 60} }"));
+
+		VaultToken token = this.authentication.login();
+
+		assertThat(token).isSameAs(this.loginToken);
+	}
+
+	@Test
+	void shouldUpdateStoreOnAuthenticationEvents() {
+
+		LoginToken renewed = LoginToken.renewable("renewed".toCharArray(), Duration.ofHours(2));
+
+		this.authentication.onAuthenticationEvent(new AfterLoginTokenRenewedEvent(renewed));
+
+		assertThat(this.tokenStore.token).isSameAs(renewed);
+
+		this.authentication.onAuthenticationEvent(new AfterLoginTokenRevocationEvent(renewed));
+
+		assertThat(this.tokenStore.token).isNull();
+	}
+
+	static class InMemoryTokenStore implements TokenStore {
+
+		@Nullable
+		LoginToken token;
+
+		@Override
+		public @Nullable LoginToken load() {
+			return this.token;
+		}
+
+		@Override
+		public void save(LoginToken token) {
+			this.token = token;
+		}
+
+		@Override
+		public void clear() {
+			this.token = null;
+		}
+
+	}
+
+}
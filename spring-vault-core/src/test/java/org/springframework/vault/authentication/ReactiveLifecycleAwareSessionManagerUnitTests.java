@@ -432,6 +432,44 @@ class ReactiveLifecycleAwareSessionManagerUnitTests {
 		verify(this.tokenSupplier).getVaultToken();
 	}
 
+	@Test
+	void shouldReplaceBatchTokenAheadOfExpiry() {
+
+		when(this.tokenSupplier.getVaultToken()).thenReturn(Mono.just(batchToken("first")),
+				Mono.just(batchToken("second")));
+		ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		this.sessionManager.getSessionToken() //
+			.as(StepVerifier::create) //
+			.expectNext(batchToken("first")) //
+			.verifyComplete();
+
+		verify(this.taskScheduler).schedule(runnableCaptor.capture(), any(Trigger.class));
+		runnableCaptor.getValue().run();
+
+		this.sessionManager.getSessionToken() //
+			.as(StepVerifier::create) //
+			.expectNext(batchToken("second")) //
+			.verifyComplete();
+
+		verify(this.webClient, never()).post();
+		verify(this.listener, times(2)).onAuthenticationEvent(any(AfterLoginEvent.class));
+	}
+
+	@Test
+	void shouldNotSelfLookupBatchToken() {
+
+		mockToken(VaultToken.of("hvb.token"));
+
+		this.sessionManager.getSessionToken() //
+			.as(StepVerifier::create) //
+			.expectNext(VaultToken.of("hvb.token")) //
+			.verifyComplete();
+		this.sessionManager.destroy();
+
+		verifyNoInteractions(this.webClient);
+	}
+
 	private static VaultResponse fromToken(LoginToken loginToken) {
 
 		Map<String, Object> auth = new HashMap<>();
@@ -446,6 +484,16 @@ class ReactiveLifecycleAwareSessionManagerUnitTests {
 		return response;
 	}
 
+	private static LoginToken batchToken(String token) {
+
+		return LoginToken.builder()
+			.token(token)
+			.type("batch")
+			.renewable(true)
+			.leaseDuration(Duration.ofHours(1))
+			.build();
+	}
+
 	private void mockToken(VaultToken token) {
 		when(this.tokenSupplier.getVaultToken()).thenReturn(Mono.just(token));
 	}
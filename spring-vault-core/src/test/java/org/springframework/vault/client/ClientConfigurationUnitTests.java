@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import org.springframework.vault.support.ClientOptions;
+import org.springframework.vault.support.SslConfiguration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClientConfiguration}.
+ *
+ * @author agent
+ */
+class ClientConfigurationUnitTests {
+
+	ClientOptions options = ClientOptions.builder()
+		.maxConnections(64)
+		.idleTimeout(Duration.ofSeconds(30))
+		.maxPendingAcquires(256)
+		.http2(true)
+		.build();
+
+	@Test
+	void shouldApplyPoolOptionsToReactorNetty() {
+
+		HttpClient client = ClientConfiguration.ReactorNetty.createClient(this.options,
+				SslConfiguration.unconfigured());
+
+		assertThat(client.configuration().connectionProvider().maxConnections()).isEqualTo(64);
+		assertThat(client.configuration().protocols()).contains(HttpProtocol.H2, HttpProtocol.HTTP11);
+	}
+
+	@Test
+	void shouldApplyPoolOptionsToJetty() throws Exception {
+
+		org.eclipse.jetty.client.HttpClient client = ClientConfiguration.JettyClient.configureClient(
+				ClientConfiguration.JettyClient.getHttpClient(SslConfiguration.unconfigured()), this.options);
+
+		assertThat(client.getMaxConnectionsPerDestination()).isEqualTo(64);
+		assertThat(client.getIdleTimeout()).isEqualTo(30_000);
+		assertThat(client.getMaxRequestsQueuedPerDestination()).isEqualTo(256);
+	}
+
+	@Test
+	void shouldApplyHttp2ToJdkHttpClient() throws Exception {
+
+		java.net.http.HttpClient client = ClientConfiguration.JdkHttpClient
+			.getBuilder(this.options, SslConfiguration.unconfigured())
+			.build();
+
+		assertThat(client.version()).isEqualTo(java.net.http.HttpClient.Version.HTTP_2);
+	}
+
+	@Test
+	void shouldRetainDefaultsWithoutPoolOptions() {
+
+		HttpClient client = ClientConfiguration.ReactorNetty.createClient(new ClientOptions(),
+				SslConfiguration.unconfigured());
+
+		assertThat(client.configuration().protocols()).containsOnly(HttpProtocol.HTTP11);
+	}
+
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.StreamUtils;
+import org.springframework.vault.client.ClusterVaultEndpointProvider.NodeRole;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ClusterVaultEndpointProvider}.
+ *
+ * @author agent
+ */
+class ClusterVaultEndpointProviderUnitTests {
+
+	VaultEndpoint node1 = VaultEndpoint.create("node1", 8200);
+
+	VaultEndpoint node2 = VaultEndpoint.create("node2", 8200);
+
+	VaultEndpoint node3 = VaultEndpoint.create("node3", 8200);
+
+	Map<String, Integer> health = Map.of("node1", 429, "node2", 200, "node3", 473);
+
+	List<URI> requests = new ArrayList<>();
+
+	ClusterVaultEndpointProvider provider;
+
+	@BeforeEach
+	void before() {
+
+		ClientHttpRequestFactory requestFactory = (uri, method) -> {
+
+			MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+			request.setResponse(
+					new MockClientHttpResponse(new byte[0], HttpStatusCode.valueOf(this.health.get(uri.getHost()))));
+
+			return request;
+		};
+
+		this.provider = new ClusterVaultEndpointProvider(List.of(this.node1, this.node2, this.node3), requestFactory,
+				mock(TaskScheduler.class));
+	}
+
+	@Test
+	void shouldPreferActiveNodeForWrites() {
+
+		assertThat(this.provider.getVaultEndpoint()).isEqualTo(this.node1);
+
+		this.provider.checkHealth();
+
+		assertThat(this.provider.getVaultEndpoint()).isEqualTo(this.node2);
+		assertThat(this.provider.getCandidates(false)).extracting(it -> it.role)
+			.containsExactly(NodeRole.ACTIVE, NodeRole.STANDBY, NodeRole.PERFORMANCE_STANDBY);
+	}
+
+	@Test
+	void shouldPreferFastestNodeForReads() {
+
+		this.provider.checkHealth();
+
+		this.provider.getCandidates(true).forEach(node -> {
+			long latency = node.endpoint.equals(this.node3) ? 1_000_000 : 50_000_000;
+			this.provider.recordLatency(node, latency);
+		});
+
+		assertThat(this.provider.getReadEndpoint()).isEqualTo(this.node3);
+		assertThat(this.provider.getCandidates(true)).extracting(it -> it.endpoint)
+			.containsExactly(this.node3, this.node2, this.node1);
+	}
+
+	@Test
+	void shouldRouteWritesToActiveNode() throws IOException {
+
+		this.provider.checkHealth();
+
+		this.provider.intercept(new MockClientHttpRequest(HttpMethod.POST, URI.create("https://node1:8200/v1/secret")),
+				new byte[0], recordingExecution());
+
+		assertThat(this.requests).containsExactly(URI.create("https://node2:8200/v1/secret"));
+	}
+
+	@Test
+	void shouldFailOverOnConnectionError() throws IOException {
+
+		this.provider.checkHealth();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			this.requests.add(request.getURI());
+
+			if (request.getURI().getHost().equals("node2")) {
+				throw new ConnectException("Connection refused");
+			}
+
+			return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		};
+
+		this.provider.intercept(new MockClientHttpRequest(HttpMethod.PUT, URI.create("https://node2:8200/v1/secret")),
+				new byte[0], execution);
+
+		assertThat(this.requests).containsExactly(URI.create("https://node2:8200/v1/secret"),
+				URI.create("https://node1:8200/v1/secret"));
+		assertThat(this.provider.getCandidates(false).get(2).role).isEqualTo(NodeRole.UNHEALTHY);
+	}
+
+	@Test
+	void shouldNotFailOverWritesAfterRequestWasSent() {
+
+		this.provider.checkHealth();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+			this.requests.add(request.getURI());
+			throw new SocketTimeoutException("Read timed out");
+		};
+
+		assertThatExceptionOfType(SocketTimeoutException.class).isThrownBy(() -> this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.POST, URI.create("https://node2:8200/v1/secret")), new byte[0],
+				execution));
+		assertThat(this.requests).hasSize(1);
+	}
+
+	@Test
+	void shouldFailOverReadsOnIoError() throws IOException {
+
+		this.provider.checkHealth();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			this.requests.add(request.getURI());
+
+			if (this.requests.size() == 1) {
+				throw new SocketTimeoutException("Read timed out");
+			}
+
+			return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		};
+
+		this.provider.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret")),
+				new byte[0], execution);
+
+		assertThat(this.requests).hasSize(2).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void shouldMarkNodesUnhealthyOnProbeFailure() {
+
+		ClusterVaultEndpointProvider provider = new ClusterVaultEndpointProvider(List.of(this.node1, this.node2),
+				(uri, method) -> {
+					throw new ConnectException("Connection refused");
+				}, mock(TaskScheduler.class));
+
+		provider.checkHealth();
+
+		assertThat(provider.getCandidates(true)).extracting(it -> it.role).containsOnly(NodeRole.UNHEALTHY);
+		assertThat(provider.getVaultEndpoint()).isEqualTo(this.node1);
+	}
+
+	@Test
+	void shouldNotRouteRequestsToOtherHosts() throws IOException {
+
+		this.provider.intercept(new MockClientHttpRequest(HttpMethod.GET, URI.create("https://example.com/foo")),
+				new byte[0], recordingExecution());
+
+		assertThat(this.requests).containsExactly(URI.create("https://example.com/foo"));
+	}
+
+	@Test
+	void shouldHedgeSlowReadsToSecondNode() throws Exception {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofMillis(10), Duration.ofMillis(10))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		CountDownLatch latch = new CountDownLatch(1);
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			if (request.getURI().getHost().equals("node3")) {
+				awaitUninterruptibly(latch);
+			}
+
+			return new MockClientHttpResponse(request.getURI().getHost().getBytes(), HttpStatus.OK);
+		};
+
+		try (ClientHttpResponse response = this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], execution)) {
+			assertThat(response.getBody()).hasContent("node2");
+		}
+		finally {
+			latch.countDown();
+		}
+
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(hedgingPolicy.getHedgeCount()).isOne();
+		assertThat(hedgingPolicy.getHedgeWins()).isOne();
+	}
+
+	@Test
+	void shouldNotCountClientErrorAsHedgeWin() throws Exception {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofMillis(10), Duration.ofMillis(10))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			String host = request.getURI().getHost();
+
+			if (host.equals("node3")) {
+				try {
+					Thread.sleep(100);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return new MockClientHttpResponse(host.getBytes(), HttpStatus.OK);
+			}
+
+			return new MockClientHttpResponse(host.getBytes(), HttpStatus.NOT_FOUND);
+		};
+
+		try (ClientHttpResponse response = this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], execution)) {
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+			assertThat(response.getBody()).hasContent("node3");
+		}
+
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(hedgingPolicy.getHedgeCount()).isOne();
+		assertThat(hedgingPolicy.getHedgeWins()).isZero();
+	}
+
+	@Test
+	void shouldPropagateNamespaceAndIdentityToHedgedRequest() {
+
+		this.provider
+			.setHedgingPolicy(HedgingPolicy.builder()
+				.keyValueMounts("secret")
+				.delay(Duration.ofMillis(10), Duration.ofMillis(10))
+				.build());
+		preferNode3ForReads();
+
+		CountDownLatch latch = new CountDownLatch(1);
+		Map<String, String> context = new ConcurrentHashMap<>();
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			String host = request.getURI().getHost();
+			context.put(host,
+					VaultNamespaceContextHolder.getNamespace() + "/" + VaultIdentityContextHolder.getIdentity());
+
+			if (host.equals("node3")) {
+				awaitUninterruptibly(latch);
+			}
+
+			return new MockClientHttpResponse(host.getBytes(), HttpStatus.OK);
+		};
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				URI.create("https://node2:8200/v1/secret/data/foo"));
+
+		try {
+			String body = VaultNamespaceContextHolder.withNamespace("marketing",
+					() -> VaultIdentityContextHolder.withIdentity("billing", () -> exchange(request, execution)));
+			assertThat(body).isEqualTo("node2");
+		}
+		finally {
+			latch.countDown();
+		}
+
+		assertThat(context).containsEntry("node3", "marketing/billing").containsEntry("node2", "marketing/billing");
+	}
+
+	@Test
+	void shouldClearInterruptUsedToAbortPrimaryRequest() throws Exception {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofMillis(10), Duration.ofMillis(10))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			if (request.getURI().getHost().equals("node3")) {
+
+				// complete the request despite the interrupt and retain the interrupt status
+				try {
+					Thread.sleep(5000);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			return new MockClientHttpResponse(request.getURI().getHost().getBytes(), HttpStatus.OK);
+		};
+
+		try (ClientHttpResponse response = this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], execution)) {
+			assertThat(response.getBody()).hasContent("node2");
+		}
+
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(hedgingPolicy.getHedgeWins()).isOne();
+	}
+
+	@Test
+	void shouldSendPrimaryRequestOnCallingThread() throws Exception {
+
+		this.provider
+			.setHedgingPolicy(HedgingPolicy.builder()
+				.keyValueMounts("secret")
+				.delay(Duration.ofSeconds(5), Duration.ofSeconds(5))
+				.build());
+		preferNode3ForReads();
+
+		List<Thread> threads = new ArrayList<>();
+		ClientHttpRequestExecution execution = (request, body) -> {
+			threads.add(Thread.currentThread());
+			return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		};
+
+		this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], execution);
+
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void shouldHedgeImmediatelyIfPrimaryFails() throws Exception {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofSeconds(5), Duration.ofSeconds(5))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			if (request.getURI().getHost().equals("node3")) {
+				throw new SocketTimeoutException();
+			}
+
+			return new MockClientHttpResponse(request.getURI().getHost().getBytes(), HttpStatus.OK);
+		};
+
+		try (ClientHttpResponse response = this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], execution)) {
+			assertThat(response.getBody()).hasContent("node2");
+		}
+
+		assertThat(hedgingPolicy.getHedgeCount()).isOne();
+		assertThat(hedgingPolicy.getHedgeWins()).isOne();
+	}
+
+	@Test
+	void shouldDisarmHedgeIfPrimaryThrowsRuntimeException() throws Exception {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofMillis(10), Duration.ofMillis(10))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			this.requests.add(request.getURI());
+
+			if (request.getURI().getHost().equals("node3")) {
+				throw new IllegalStateException("boom");
+			}
+
+			return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		};
+
+		assertThatIllegalStateException().isThrownBy(() -> this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], execution));
+
+		// would be interrupted by a hedged request that was left armed
+		Thread.sleep(100);
+
+		assertThat(this.requests).containsExactly(URI.create("https://node3:8200/v1/secret/data/foo"));
+		assertThat(hedgingPolicy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	void shouldNotHedgeFastReads() throws Exception {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofSeconds(5), Duration.ofSeconds(5))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], recordingExecution());
+
+		assertThat(this.requests).containsExactly(URI.create("https://node3:8200/v1/secret/data/foo"));
+		assertThat(hedgingPolicy.getHedgeCount()).isZero();
+	}
+
+	@Test
+	void shouldNotHedgeWrites() throws Exception {
+
+		this.provider.setHedgingPolicy(
+				HedgingPolicy.builder().keyValueMounts("secret").delay(Duration.ZERO, Duration.ZERO).build());
+		this.provider.checkHealth();
+
+		this.provider.intercept(
+				new MockClientHttpRequest(HttpMethod.POST, URI.create("https://node2:8200/v1/secret/data/foo")),
+				new byte[0], recordingExecution());
+
+		assertThat(this.requests).containsExactly(URI.create("https://node2:8200/v1/secret/data/foo"));
+	}
+
+	@Test
+	void shouldHedgeSlowReactiveReads() {
+
+		HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+			.keyValueMounts("secret")
+			.delay(Duration.ofMillis(10), Duration.ofMillis(10))
+			.build();
+		this.provider.setHedgingPolicy(hedgingPolicy);
+		preferNode3ForReads();
+
+		ExchangeFunction exchange = request -> {
+
+			this.requests.add(request.url());
+
+			return request.url().getHost().equals("node3") ? Mono.never()
+					: Mono.just(ClientResponse.create(HttpStatus.OK).build());
+		};
+
+		new ClusterExchangeFilterFunction(this.provider)
+			.filter(ClientRequest.create(HttpMethod.GET, URI.create("https://node2:8200/v1/secret/data/foo")).build(),
+					exchange)
+			.as(StepVerifier::create)
+			.assertNext(response -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK))
+			.verifyComplete();
+
+		assertThat(this.requests).containsExactly(URI.create("https://node3:8200/v1/secret/data/foo"),
+				URI.create("https://node2:8200/v1/secret/data/foo"));
+		assertThat(hedgingPolicy.getHedgeWins()).isOne();
+	}
+
+	@Test
+	void shouldRegisterInterceptorWithRestTemplate() {
+
+		RestTemplate restTemplate = VaultClients.createRestTemplate(this.provider,
+				mock(ClientHttpRequestFactory.class));
+
+		assertThat(restTemplate.getInterceptors()).contains(this.provider);
+	}
+
+	private void preferNode3ForReads() {
+
+		this.provider.checkHealth();
+		this.provider.getCandidates(true).forEach(node -> {
+			long latency = node.endpoint.equals(this.node3) ? 1_000_000 : 50_000_000;
+			this.provider.recordLatency(node, latency);
+		});
+	}
+
+	private String exchange(HttpRequest request, ClientHttpRequestExecution execution) {
+
+		try (ClientHttpResponse response = this.provider.intercept(request, new byte[0], execution)) {
+			return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ClientHttpRequestExecution recordingExecution() {
+
+		return (request, body) -> {
+			this.requests.add(request.getURI());
+			return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		};
+	}
+
+}
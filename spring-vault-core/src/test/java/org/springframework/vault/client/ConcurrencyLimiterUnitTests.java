@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.vault.client.ConcurrencyLimiter.Limit;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConcurrencyLimiter}.
+ *
+ * @author agent
+ */
+class ConcurrencyLimiterUnitTests {
+
+	static final URI SECRET = URI.create("https://localhost:8200/v1/secret/data/my-app");
+
+	@Test
+	void shouldClassifyRequests() {
+
+		assertThat(ConcurrencyLimiter.classify(HttpMethod.POST, URI.create("https://localhost/v1/auth/approle/login")))
+			.isEqualTo(ConcurrencyLimiter.AUTH);
+		assertThat(ConcurrencyLimiter.classify(HttpMethod.POST, URI.create("https://localhost/v1/transit/encrypt/key")))
+			.isEqualTo(ConcurrencyLimiter.TRANSIT);
+		assertThat(ConcurrencyLimiter.classify(HttpMethod.GET, SECRET)).isEqualTo(ConcurrencyLimiter.READ);
+		assertThat(ConcurrencyLimiter.classify(HttpMethod.POST, SECRET)).isEqualTo(ConcurrencyLimiter.WRITE);
+	}
+
+	@Test
+	void shouldIncreaseLimitWhenSaturated() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(2).build();
+		Limit limit = limiter.forRequest(HttpMethod.GET, SECRET);
+
+		limit.acquire();
+		limit.acquire();
+		limit.release(1_000_000, false);
+
+		assertThat(limiter.getLimit(ConcurrencyLimiter.READ)).isEqualTo(3);
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isOne();
+	}
+
+	@Test
+	void shouldDecreaseLimitOnOverload() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(10).backoffRatio(0.5).build();
+		Limit limit = limiter.forRequest(HttpMethod.GET, SECRET);
+
+		limit.acquire();
+		limit.release(1_000_000, true);
+
+		assertThat(limiter.getLimit(ConcurrencyLimiter.READ)).isEqualTo(5);
+	}
+
+	@Test
+	void shouldDecreaseLimitOnLatencyIncrease() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(10).backoffRatio(0.5).build();
+		Limit limit = limiter.forRequest(HttpMethod.GET, SECRET);
+
+		limit.acquire();
+		limit.release(1_000_000, false);
+		limit.acquire();
+		limit.release(5_000_000, false);
+
+		assertThat(limiter.getLimit(ConcurrencyLimiter.READ)).isEqualTo(5);
+	}
+
+	@Test
+	void shouldApplyMaxLimitPerOperationClass() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().maxLimit(ConcurrencyLimiter.AUTH, 2).build();
+
+		assertThat(limiter.getLimit(ConcurrencyLimiter.AUTH)).isEqualTo(2);
+		assertThat(limiter.getLimit(ConcurrencyLimiter.READ)).isEqualTo(ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT);
+	}
+
+	@Test
+	void shouldAdmitQueuedRequestOnRelease() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+			.initialLimit(1)
+			.queue(1, Duration.ofSeconds(1))
+			.build();
+		Limit limit = limiter.forRequest(HttpMethod.GET, SECRET);
+
+		assertThat(limit.acquire()).isCompletedWithValue(true);
+
+		CompletableFuture<Boolean> queued = limit.acquire();
+
+		assertThat(queued).isNotDone();
+		assertThat(limit.acquire()).isNull();
+
+		limit.release();
+
+		assertThat(queued).isCompletedWithValue(true);
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isOne();
+	}
+
+	@Test
+	void shouldReservePermitBeforeAdmittingQueuedRequest() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+			.initialLimit(1)
+			.queue(2, Duration.ofSeconds(1))
+			.build();
+		Limit limit = limiter.forRequest(HttpMethod.GET, SECRET);
+
+		assertThat(limit.acquire()).isCompletedWithValue(true);
+
+		CompletableFuture<Boolean> queued = limit.acquire();
+		CompletableFuture<CompletableFuture<Boolean>> reentrant = queued.thenApply(it -> limit.acquire());
+
+		limit.release();
+
+		assertThat(reentrant.join()).isNotNull().isNotDone();
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isOne();
+	}
+
+	@Test
+	void interceptorShouldRejectAfterQueueTimeout() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+			.initialLimit(1)
+			.queue(1, Duration.ofMillis(10))
+			.build();
+		limiter.forRequest(HttpMethod.GET, SECRET).acquire();
+
+		assertThatExceptionOfType(ConcurrencyLimitExceededException.class)
+			.isThrownBy(() -> VaultClients.createConcurrencyLimitInterceptor(limiter)
+				.intercept(new MockClientHttpRequest(HttpMethod.GET, SECRET), new byte[0],
+						(request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK)));
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isOne();
+	}
+
+	@Test
+	void interceptorShouldReleasePermit() throws Exception {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().build();
+
+		VaultClients.createConcurrencyLimitInterceptor(limiter)
+			.intercept(new MockClientHttpRequest(HttpMethod.GET, SECRET), new byte[0],
+					(request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isZero();
+		assertThat(limiter.getLimit(ConcurrencyLimiter.READ)).isLessThan(ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT);
+	}
+
+	@Test
+	void filterShouldAdmitQueuedRequest() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+			.initialLimit(1)
+			.queue(1, Duration.ofSeconds(5))
+			.build();
+		Limit limit = limiter.forRequest(HttpMethod.GET, SECRET);
+		limit.acquire();
+
+		ClientRequest request = ClientRequest.create(HttpMethod.GET, SECRET).build();
+
+		ReactiveVaultClients.concurrencyLimit(limiter)
+			.filter(request, it -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+			.as(StepVerifier::create)
+			.then(limit::release)
+			.expectNextCount(1)
+			.verifyComplete();
+
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isZero();
+	}
+
+	@Test
+	void filterShouldRejectAfterQueueTimeout() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder()
+			.initialLimit(1)
+			.queue(1, Duration.ofMillis(10))
+			.build();
+		limiter.forRequest(HttpMethod.GET, SECRET).acquire();
+
+		ClientRequest request = ClientRequest.create(HttpMethod.GET, SECRET).build();
+
+		ReactiveVaultClients.concurrencyLimit(limiter)
+			.filter(request, it -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+			.as(StepVerifier::create)
+			.verifyError(ConcurrencyLimitExceededException.class);
+
+		assertThat(limiter.getInFlight(ConcurrencyLimiter.READ)).isOne();
+	}
+
+}
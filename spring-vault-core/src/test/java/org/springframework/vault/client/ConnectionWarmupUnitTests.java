@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.vault.client.ConnectionWarmup.WarmupReport;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConnectionWarmup}.
+ *
+ * @author agent
+ */
+class ConnectionWarmupUnitTests {
+
+	AtomicInteger open = new AtomicInteger();
+
+	AtomicInteger maxOpen = new AtomicInteger();
+
+	AtomicInteger requests = new AtomicInteger();
+
+	ClientHttpRequestFactory requestFactory = (uri, method) -> {
+
+		if (uri.getHost().equals("unreachable")) {
+			throw new ConnectException("Connection refused");
+		}
+
+		this.requests.incrementAndGet();
+		this.maxOpen.accumulateAndGet(this.open.incrementAndGet(), Math::max);
+
+		MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+		request.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK) {
+
+			@Override
+			public void close() {
+				ConnectionWarmupUnitTests.this.open.decrementAndGet();
+				super.close();
+			}
+		});
+
+		return request;
+	};
+
+	@Test
+	void shouldOpenConnectionsToEachEndpoint() {
+
+		ConnectionWarmup warmup = ConnectionWarmup.builder().connections(3).build();
+
+		WarmupReport report = warmup.warmUp(this.requestFactory,
+				List.of(VaultEndpoint.create("node1", 8200), VaultEndpoint.create("node2", 8200)));
+
+		assertThat(report.getEndpoints()).isEqualTo(2);
+		assertThat(report.getConnections()).isEqualTo(6);
+		assertThat(report.getFailedConnections()).isZero();
+		assertThat(this.requests).hasValue(6);
+	}
+
+	@Test
+	void shouldHoldResponsesUntilAllConnectionsAreOpen() {
+
+		ConnectionWarmup warmup = ConnectionWarmup.builder().connections(4).build();
+
+		warmup.warmUp(this.requestFactory, List.of(VaultEndpoint.create("node1", 8200)));
+
+		assertThat(this.maxOpen).hasValue(3);
+		assertThat(this.open).hasValue(0);
+	}
+
+	@Test
+	void shouldNotStarveSingleThreadedExecutor() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			ConnectionWarmup warmup = ConnectionWarmup.builder()
+				.connections(3)
+				.timeout(Duration.ofSeconds(5))
+				.executor(executor)
+				.build();
+
+			WarmupReport report = warmup.warmUp(this.requestFactory,
+					List.of(VaultEndpoint.create("node1", 8200), VaultEndpoint.create("node2", 8200)));
+
+			assertThat(report.getConnections()).isEqualTo(6);
+			assertThat(report.getDuration()).isLessThan(Duration.ofSeconds(5));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldReportUnreachableEndpoints() {
+
+		ConnectionWarmup warmup = ConnectionWarmup.builder().connections(2).timeout(Duration.ofSeconds(1)).build();
+
+		WarmupReport report = warmup.warmUp(this.requestFactory,
+				List.of(VaultEndpoint.create("node1", 8200), VaultEndpoint.create("unreachable", 8200)));
+
+		assertThat(report.getConnections()).isEqualTo(2);
+		assertThat(report.getFailedConnections()).isEqualTo(2);
+	}
+
+}
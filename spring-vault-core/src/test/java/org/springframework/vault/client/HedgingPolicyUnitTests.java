@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HedgingPolicy}.
+ *
+ * @author agent
+ */
+class HedgingPolicyUnitTests {
+
+	@Test
+	void shouldHedgeReadsAndIdempotentTransitOperations() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().keyValueMounts("secret").transitMounts("/transit/").build();
+
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/secret/data/foo"))).isTrue();
+		assertThat(policy.isHedgeable(HttpMethod.HEAD, URI.create("https://vault:8200/v1/secret/metadata/foo")))
+			.isTrue();
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/secret/subkeys/foo"))).isTrue();
+		assertThat(policy.isHedgeable(HttpMethod.POST, URI.create("https://vault:8200/v1/transit/decrypt/my-key")))
+			.isTrue();
+		assertThat(policy.isHedgeable(HttpMethod.PUT, URI.create("https://vault:8200/v1/transit/verify/my-key")))
+			.isTrue();
+	}
+
+	@Test
+	void shouldNotHedgeWithoutConfiguredMounts() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().build();
+
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/secret/data/foo"))).isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.POST, URI.create("https://vault:8200/v1/transit/decrypt/my-key")))
+			.isFalse();
+	}
+
+	@Test
+	void shouldNotHedgeOperationsOfOtherMounts() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().keyValueMounts("secret").transitMounts("transit").build();
+
+		assertThat(policy.isHedgeable(HttpMethod.POST, URI.create("https://vault:8200/v1/ssh/verify"))).isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.POST, URI.create("https://vault:8200/v1/secret/verify/foo")))
+			.isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/secrets/data/foo")))
+			.isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/transit/data/foo")))
+			.isFalse();
+	}
+
+	@Test
+	void shouldNotHedgeWrites() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().keyValueMounts("secret").transitMounts("transit").build();
+
+		assertThat(policy.isHedgeable(HttpMethod.POST, URI.create("https://vault:8200/v1/transit/encrypt/my-key")))
+			.isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.PUT, URI.create("https://vault:8200/v1/secret/data/foo"))).isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.DELETE, URI.create("https://vault:8200/v1/secret/foo"))).isFalse();
+	}
+
+	@Test
+	void shouldNotHedgeLeaseCreatingReads() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().keyValueMounts("secret").build();
+
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/database/creds/readonly")))
+			.isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/aws/creds/deploy"))).isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.POST, URI.create("https://vault:8200/v1/pki/issue/web"))).isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/secret/foo"))).isFalse();
+	}
+
+	@Test
+	void shouldHedgeConfiguredReadPaths() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().hedgeablePaths("kv/**").build();
+
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/kv/my-app/db"))).isTrue();
+		assertThat(policy.isHedgeable(HttpMethod.PUT, URI.create("https://vault:8200/v1/kv/my-app/db"))).isFalse();
+		assertThat(policy.isHedgeable(HttpMethod.GET, URI.create("https://vault:8200/v1/database/creds/readonly")))
+			.isFalse();
+	}
+
+	@Test
+	void shouldUseMaxDelayUntilEnoughSamplesAreRecorded() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().delay(Duration.ofMillis(1), Duration.ofMillis(500)).build();
+
+		for (int i = 0; i < 63; i++) {
+			policy.recordLatency(Duration.ofMillis(10).toNanos());
+		}
+
+		assertThat(policy.getDelay()).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Test
+	void shouldDeriveDelayFromLatencyPercentile() {
+
+		HedgingPolicy policy = HedgingPolicy.builder()
+			.percentile(0.9)
+			.delay(Duration.ofMillis(1), Duration.ofMillis(500))
+			.build();
+
+		for (int i = 1; i <= 100; i++) {
+			policy.recordLatency(Duration.ofMillis(i).toNanos());
+		}
+
+		for (int i = 1; i <= 28; i++) {
+			policy.recordLatency(Duration.ofMillis(i).toNanos());
+		}
+
+		assertThat(policy.getDelay()).isBetween(Duration.ofMillis(80), Duration.ofMillis(95));
+	}
+
+	@Test
+	void shouldClampDelay() {
+
+		HedgingPolicy policy = HedgingPolicy.builder().delay(Duration.ofMillis(20), Duration.ofMillis(500)).build();
+
+		for (int i = 0; i < 64; i++) {
+			policy.recordLatency(Duration.ofMillis(1).toNanos());
+		}
+
+		assertThat(policy.getDelay()).isEqualTo(Duration.ofMillis(20));
+	}
+
+	@Test
+	void shouldRejectInvalidPercentile() {
+		assertThatIllegalArgumentException().isThrownBy(() -> HedgingPolicy.builder().percentile(1.5));
+	}
+
+}
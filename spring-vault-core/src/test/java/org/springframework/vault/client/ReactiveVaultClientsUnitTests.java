@@ -83,4 +83,35 @@ class ReactiveVaultClientsUnitTests {
 		assertThat(request.getHeaders().containsHeaderValue(VaultHttpHeaders.VAULT_NAMESPACE, "baz")).isTrue();
 	}
 
+	@Test
+	void consistencyShouldForwardAndRecordStates() {
+
+		VaultIndexTracker tracker = VaultIndexTracker.create();
+		tracker.record(VaultIndexTrackerUnitTests.state("cluster-a", 1, 1));
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, "/v1/a");
+		MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+		response.getHeaders().add(VaultHttpHeaders.VAULT_INDEX, VaultIndexTrackerUnitTests.state("cluster-a", 2, 1));
+
+		ClientHttpConnector connector = (method, uri, fn) -> fn.apply(request).then(Mono.just(response));
+
+		WebClient webClient = WebClient.builder()
+			.clientConnector(connector)
+			.filter(ReactiveVaultClients.consistency(tracker, VaultIndexTracker.Inconsistency.FAIL))
+			.build();
+
+		webClient.get()
+			.uri("/v1/a")
+			.retrieve()
+			.toBodilessEntity()
+			.as(StepVerifier::create) //
+			.expectNextCount(1)
+			.verifyComplete();
+
+		assertThat(request.getHeaders().get(VaultHttpHeaders.VAULT_INDEX))
+			.containsExactly(VaultIndexTrackerUnitTests.state("cluster-a", 1, 1));
+		assertThat(request.getHeaders().getFirst(VaultHttpHeaders.VAULT_INCONSISTENT)).isEqualTo("fail");
+		assertThat(tracker.getStates()).containsExactly(VaultIndexTrackerUnitTests.state("cluster-a", 2, 1));
+	}
+
 }
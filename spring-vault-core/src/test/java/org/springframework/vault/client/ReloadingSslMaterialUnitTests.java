@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.vault.client.ReloadingSslMaterial.ReloadingX509KeyManager;
+import org.springframework.vault.client.ReloadingSslMaterial.ReloadingX509TrustManager;
+import org.springframework.vault.support.CertificateBundle;
+import org.springframework.vault.support.ObjectMapperSupplier;
+import org.springframework.vault.support.SslConfiguration;
+import org.springframework.vault.support.SslConfiguration.KeyStoreConfiguration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ReloadingSslMaterial}.
+ *
+ * @author agent
+ */
+class ReloadingSslMaterialUnitTests {
+
+	static final char[] PASSWORD = "changeit".toCharArray();
+
+	ObjectMapper OBJECT_MAPPER = ObjectMapperSupplier.get();
+
+	CertificateBundle rsa = loadCertificateBundle("certificate-response-rsa-pem.json");
+
+	CertificateBundle ec = loadCertificateBundle("certificate-response-ec-pem.json");
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void shouldReloadChangedKeyStore() throws Exception {
+
+		Path keyStore = this.directory.resolve("keystore.p12");
+		write(this.rsa, keyStore);
+
+		ReloadingX509KeyManager keyManager = ReloadingSslMaterial.keyManager(SslConfiguration
+			.forKeyStore(new FileSystemResource(keyStore), PASSWORD)
+			.withReloadInterval(Duration.ofDays(1)));
+
+		assertThat(keyManager.getCertificateChain("vault")[0]).isEqualTo(this.rsa.getX509Certificate());
+
+		write(this.ec, keyStore);
+
+		assertThat(keyManager.getMaterial().reload()).isTrue();
+		assertThat(keyManager.getCertificateChain("vault")[0]).isEqualTo(this.ec.getX509Certificate());
+	}
+
+	@Test
+	void shouldNotReloadUnchangedKeyStore() throws Exception {
+
+		Path keyStore = this.directory.resolve("keystore.p12");
+		write(this.rsa, keyStore);
+
+		ReloadingX509KeyManager keyManager = ReloadingSslMaterial.keyManager(SslConfiguration
+			.forKeyStore(new FileSystemResource(keyStore), PASSWORD)
+			.withReloadInterval(Duration.ofDays(1)));
+
+		assertThat(keyManager.getMaterial().reload()).isFalse();
+	}
+
+	@Test
+	void shouldReloadTrustStoreOnAccessAfterInterval() throws Exception {
+
+		Path trustStore = this.directory.resolve("truststore.pem");
+		Files.writeString(trustStore, this.rsa.getIssuingCaCertificate());
+
+		ReloadingX509TrustManager trustManager = ReloadingSslMaterial.trustManager(SslConfiguration
+			.forTrustStore(KeyStoreConfiguration.of(new FileSystemResource(trustStore))
+				.withStoreType(SslConfiguration.PEM_KEYSTORE_TYPE))
+			.withReloadInterval(Duration.ofNanos(1)), Runnable::run);
+
+		assertThat(trustManager.getAcceptedIssuers()).containsOnly(this.rsa.getX509IssuerCertificate());
+
+		Files.writeString(trustStore, this.rsa.getIssuingCaCertificate() + "\n" + this.ec.getIssuingCaCertificate());
+
+		assertThat(trustManager.getAcceptedIssuers()).containsOnly(this.rsa.getX509IssuerCertificate(),
+				this.ec.getX509IssuerCertificate());
+	}
+
+	@Test
+	void shouldCheckResourceOnExecutor() throws Exception {
+
+		Path trustStore = this.directory.resolve("truststore.pem");
+		Files.writeString(trustStore, this.rsa.getIssuingCaCertificate());
+
+		List<Runnable> checks = new ArrayList<>();
+		ReloadingX509TrustManager trustManager = ReloadingSslMaterial.trustManager(SslConfiguration
+			.forTrustStore(KeyStoreConfiguration.of(new FileSystemResource(trustStore))
+				.withStoreType(SslConfiguration.PEM_KEYSTORE_TYPE))
+			.withReloadInterval(Duration.ofNanos(1)), checks::add);
+
+		Files.writeString(trustStore, this.rsa.getIssuingCaCertificate() + "\n" + this.ec.getIssuingCaCertificate());
+
+		assertThat(trustManager.getAcceptedIssuers()).containsOnly(this.rsa.getX509IssuerCertificate());
+		assertThat(trustManager.getAcceptedIssuers()).containsOnly(this.rsa.getX509IssuerCertificate());
+		assertThat(checks).hasSize(1);
+
+		checks.get(0).run();
+
+		assertThat(trustManager.getAcceptedIssuers()).containsOnly(this.rsa.getX509IssuerCertificate(),
+				this.ec.getX509IssuerCertificate());
+	}
+
+	@Test
+	void shouldResolveKeyFromMaterialTheAliasWasChosenFrom() throws Exception {
+
+		Path keyStore = this.directory.resolve("keystore.p12");
+		write(this.rsa, keyStore);
+
+		ReloadingX509KeyManager keyManager = ReloadingSslMaterial.keyManager(SslConfiguration
+			.forKeyStore(new FileSystemResource(keyStore), PASSWORD)
+			.withReloadInterval(Duration.ofDays(1)));
+
+		String alias = keyManager.chooseClientAlias(new String[] { "RSA", "EC" }, null, null);
+		assertThat(alias).isNotNull();
+
+		write(this.ec, keyStore);
+		assertThat(keyManager.getMaterial().reload()).isTrue();
+
+		assertThat(keyManager.getCertificateChain(alias)[0]).isEqualTo(this.rsa.getX509Certificate());
+		assertThat(keyManager.getPrivateKey(alias).getAlgorithm()).isEqualTo("RSA");
+		assertThat(keyManager.getCertificateChain("vault")[0]).isEqualTo(this.ec.getX509Certificate());
+	}
+
+	@Test
+	void shouldRetainMaterialIfReloadFails() throws Exception {
+
+		Path keyStore = this.directory.resolve("keystore.p12");
+		write(this.rsa, keyStore);
+
+		ReloadingX509KeyManager keyManager = ReloadingSslMaterial.keyManager(SslConfiguration
+			.forKeyStore(new FileSystemResource(keyStore), PASSWORD)
+			.withReloadInterval(Duration.ofDays(1)));
+
+		Files.writeString(keyStore, "not a key store", StandardCharsets.US_ASCII);
+
+		assertThat(keyManager.getMaterial().reload()).isFalse();
+		assertThat(keyManager.getCertificateChain("vault")[0]).isEqualTo(this.rsa.getX509Certificate());
+	}
+
+	@Test
+	void shouldCreateSslContextWithReloadingManagers() throws Exception {
+
+		Path keyStore = this.directory.resolve("keystore.p12");
+		write(this.rsa, keyStore);
+
+		SslConfiguration sslConfiguration = SslConfiguration.forKeyStore(new FileSystemResource(keyStore), PASSWORD)
+			.withReloadInterval(Duration.ofMinutes(1));
+
+		assertThat(ClientConfiguration.getSSLContext(sslConfiguration)).isNotNull();
+		assertThat(ClientConfiguration.getKeyManagerFactory(sslConfiguration).getKeyManagers())
+			.hasOnlyElementsOfType(ReloadingX509KeyManager.class);
+	}
+
+	private static void write(CertificateBundle bundle, Path path) throws Exception {
+
+		KeyStore keyStore = bundle.createKeyStore("vault", PASSWORD);
+
+		try (OutputStream outputStream = Files.newOutputStream(path)) {
+			keyStore.store(outputStream, PASSWORD);
+		}
+	}
+
+	CertificateBundle loadCertificateBundle(String path) {
+
+		try {
+			URL resource = getClass().getClassLoader().getResource(path);
+			assertThat(resource).as("Resource " + path).isNotNull();
+			return this.OBJECT_MAPPER.readValue(resource, CertificateBundle.class);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.vault.client.ResiliencePolicy.CircuitBreakerState;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ResiliencePolicy}.
+ *
+ * @author agent
+ */
+class ResiliencePolicyUnitTests {
+
+	MutableClock clock = new MutableClock();
+
+	ResiliencePolicy policy = ResiliencePolicy.builder()
+		.backoff(Duration.ofMillis(1), Duration.ofMillis(10))
+		.clock(this.clock)
+		.build();
+
+	AtomicInteger attempts = new AtomicInteger();
+
+	@Test
+	void shouldRetryUnavailableResponse() throws IOException {
+
+		ClientHttpResponse response = intercept(HttpMethod.POST, responses(503, 200));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(this.attempts).hasValue(2);
+		assertThat(this.policy.getRetryCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldGiveUpAfterMaxAttempts() throws IOException {
+
+		ClientHttpResponse response = intercept(HttpMethod.GET, responses(429, 429, 429, 200));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(this.attempts).hasValue(3);
+	}
+
+	@Test
+	void shouldRetryBadGatewayForIdempotentRequestsOnly() throws IOException {
+
+		assertThat(intercept(HttpMethod.GET, responses(502, 200)).getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(intercept(HttpMethod.POST, responses(502, 200)).getStatusCode())
+			.isEqualTo(HttpStatus.BAD_GATEWAY);
+	}
+
+	@Test
+	void shouldRetryConnectionFailures() throws IOException {
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			if (this.attempts.incrementAndGet() == 1) {
+				throw new ConnectException("Connection refused");
+			}
+
+			return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		};
+
+		assertThat(intercept(HttpMethod.POST, execution).getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	@Test
+	void shouldNotRetryNonIdempotentRequestAfterSending() {
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+			this.attempts.incrementAndGet();
+			throw new SocketTimeoutException("Read timed out");
+		};
+
+		assertThatExceptionOfType(SocketTimeoutException.class)
+			.isThrownBy(() -> intercept(HttpMethod.POST, execution));
+		assertThat(this.attempts).hasValue(1);
+	}
+
+	@Test
+	void shouldHonorRetryAfter() throws IOException {
+
+		ClientHttpRequestExecution execution = (request, body) -> {
+
+			this.attempts.incrementAndGet();
+
+			MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+			response.getHeaders().set(HttpHeaders.RETRY_AFTER, "60");
+
+			return response;
+		};
+
+		assertThat(intercept(HttpMethod.GET, execution).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(this.attempts).hasValue(1);
+	}
+
+	@Test
+	void shouldLimitRetriesByBudget() throws IOException {
+
+		ResiliencePolicy policy = ResiliencePolicy.builder()
+			.backoff(Duration.ofMillis(1), Duration.ofMillis(1))
+			.retryBudget(0, 2)
+			.maxAttempts(10)
+			.circuitBreaker(0, Duration.ofSeconds(1))
+			.build();
+
+		ClientHttpRequestInterceptor interceptor = VaultClients.createResilienceInterceptor(policy);
+
+		interceptor.intercept(request(HttpMethod.GET), new byte[0], responses(503, 503, 503, 503, 200));
+
+		assertThat(this.attempts).hasValue(3);
+		assertThat(policy.getRetryCount()).isEqualTo(2);
+	}
+
+	@Test
+	void circuitBreakerShouldOpenAndRecover() throws IOException {
+
+		ResiliencePolicy policy = ResiliencePolicy.builder()
+			.maxAttempts(1)
+			.circuitBreaker(2, Duration.ofSeconds(10))
+			.clock(this.clock)
+			.build();
+
+		ClientHttpRequestInterceptor interceptor = VaultClients.createResilienceInterceptor(policy);
+		ClientHttpRequestExecution execution = responses(503, 503, 200, 200);
+
+		interceptor.intercept(request(HttpMethod.GET), new byte[0], execution);
+		interceptor.intercept(request(HttpMethod.GET), new byte[0], execution);
+
+		assertThat(policy.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.OPEN);
+		assertThat(policy.getCircuitBreakerTrips()).isEqualTo(1);
+		assertThatExceptionOfType(CircuitBreakerOpenException.class)
+			.isThrownBy(() -> interceptor.intercept(request(HttpMethod.GET), new byte[0], execution));
+		assertThat(this.attempts).hasValue(2);
+
+		this.clock.advance(Duration.ofSeconds(11));
+
+		interceptor.intercept(request(HttpMethod.GET), new byte[0], execution);
+
+		assertThat(policy.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+	}
+
+	@Test
+	void circuitBreakerShouldReopenIfTrialThrows() throws IOException {
+
+		ResiliencePolicy policy = ResiliencePolicy.builder()
+			.maxAttempts(1)
+			.circuitBreaker(1, Duration.ofSeconds(10))
+			.clock(this.clock)
+			.build();
+
+		ClientHttpRequestInterceptor interceptor = VaultClients.createResilienceInterceptor(policy);
+
+		interceptor.intercept(request(HttpMethod.GET), new byte[0], responses(503));
+		this.clock.advance(Duration.ofSeconds(11));
+
+		assertThatIllegalStateException().isThrownBy(() -> interceptor.intercept(request(HttpMethod.GET), new byte[0],
+				(request, body) -> {
+					throw new IllegalStateException("boom");
+				}));
+
+		assertThat(policy.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.OPEN);
+
+		this.clock.advance(Duration.ofSeconds(11));
+		interceptor.intercept(request(HttpMethod.GET), new byte[0], responses(200));
+
+		assertThat(policy.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+	}
+
+	@Test
+	void filterShouldReleaseCancelledTrial() {
+
+		ResiliencePolicy policy = ResiliencePolicy.builder()
+			.maxAttempts(1)
+			.circuitBreaker(1, Duration.ofSeconds(10))
+			.clock(this.clock)
+			.build();
+
+		ExchangeFilterFunction filter = ReactiveVaultClients.resilience(policy);
+		ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://localhost/v1/foo")).build();
+
+		filter.filter(request, it -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+			.as(StepVerifier::create)
+			.expectNextCount(1)
+			.verifyComplete();
+		this.clock.advance(Duration.ofSeconds(11));
+
+		filter.filter(request, it -> Mono.never()).as(StepVerifier::create).thenCancel().verify();
+
+		assertThat(policy.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.OPEN);
+
+		filter.filter(request, it -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+			.map(ClientResponse::statusCode)
+			.as(StepVerifier::create)
+			.expectNext(HttpStatus.OK)
+			.verifyComplete();
+
+		assertThat(policy.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+	}
+
+	@Test
+	void shouldCalculateJitteredExponentialBackoff() {
+
+		ResiliencePolicy policy = ResiliencePolicy.builder()
+			.backoff(Duration.ofMillis(100), Duration.ofMillis(1000))
+			.build();
+
+		assertThat(policy.getBackoff(1)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+		assertThat(policy.getBackoff(3)).isBetween(Duration.ofMillis(200), Duration.ofMillis(400));
+		assertThat(policy.getBackoff(40)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+	}
+
+	@Test
+	void filterShouldRetryUnavailableResponse() {
+
+		Deque<HttpStatus> statuses = new ArrayDeque<>();
+		statuses.add(HttpStatus.SERVICE_UNAVAILABLE);
+		statuses.add(HttpStatus.OK);
+
+		ExchangeFilterFunction filter = ReactiveVaultClients.resilience(this.policy);
+		ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("https://localhost/v1/foo")).build();
+
+		filter.filter(request, it -> {
+			this.attempts.incrementAndGet();
+			return Mono.just(ClientResponse.create(statuses.poll()).build());
+		})
+			.map(ClientResponse::statusCode)
+			.as(StepVerifier::create)
+			.expectNext(HttpStatus.OK)
+			.verifyComplete();
+
+		assertThat(this.attempts).hasValue(2);
+	}
+
+	@Test
+	void filterShouldRetryConnectionFailures() {
+
+		ExchangeFilterFunction filter = ReactiveVaultClients.resilience(this.policy);
+		ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("https://localhost/v1/foo")).build();
+
+		filter.filter(request, it -> {
+
+			if (this.attempts.incrementAndGet() == 1) {
+				return Mono.error(new ConnectException("Connection refused"));
+			}
+
+			return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+		}).map(ClientResponse::statusCode).as(StepVerifier::create).expectNext(HttpStatus.OK).verifyComplete();
+
+		assertThat(this.attempts).hasValue(2);
+	}
+
+	private ClientHttpResponse intercept(HttpMethod method, ClientHttpRequestExecution execution) throws IOException {
+		return VaultClients.createResilienceInterceptor(this.policy).intercept(request(method), new byte[0], execution);
+	}
+
+	private ClientHttpRequestExecution responses(int... statuses) {
+
+		AtomicInteger index = new AtomicInteger();
+
+		return (request, body) -> {
+
+			this.attempts.incrementAndGet();
+
+			return new MockClientHttpResponse(new byte[0], statuses[index.getAndIncrement()]);
+		};
+	}
+
+	private static MockClientHttpRequest request(HttpMethod method) {
+		return new MockClientHttpRequest(method, URI.create("https://localhost/v1/foo"));
+	}
+
+	static class MutableClock extends Clock {
+
+		Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
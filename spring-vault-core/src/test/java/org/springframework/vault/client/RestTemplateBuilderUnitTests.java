@@ -18,6 +18,7 @@ package org.springframework.vault.client;
 import java.io.IOException;
 import java.net.URI;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.http.HttpMethod;
@@ -76,4 +77,28 @@ class RestTemplateBuilderUnitTests {
 		assertThat(request.getHeaders().get("header")).containsOnly("value");
 	}
 
+	@Test
+	void shouldApplyObservationRegistry() {
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+		RestTemplate restTemplate = RestTemplateBuilder.builder()
+			.endpoint(VaultEndpoint.create("localhost", 8200))
+			.observationRegistry(observationRegistry)
+			.build();
+
+		assertThat(restTemplate.getObservationRegistry()).isSameAs(observationRegistry);
+	}
+
+	@Test
+	void shouldApplyResiliencePolicyAsFirstInterceptor() {
+
+		RestTemplate restTemplate = RestTemplateBuilder.builder()
+			.endpoint(VaultEndpoint.create("localhost", 8200))
+			.resiliencePolicy(ResiliencePolicy.builder().build())
+			.build();
+
+		assertThat(restTemplate.getInterceptors().get(0)).isInstanceOf(ResilienceInterceptor.class);
+	}
+
 }
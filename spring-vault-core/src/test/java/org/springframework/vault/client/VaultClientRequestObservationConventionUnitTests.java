@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VaultClientRequestObservationConvention}.
+ *
+ * @author agent
+ */
+class VaultClientRequestObservationConventionUnitTests {
+
+	VaultClientRequestObservationConvention convention = new VaultClientRequestObservationConvention();
+
+	@Test
+	void shouldUseVaultObservationName() {
+		assertThat(this.convention.getName()).isEqualTo(VaultClientRequestObservationConvention.DEFAULT_NAME);
+	}
+
+	@Test
+	void shouldTagWithPathTemplate() {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				URI.create("https://localhost:8200/v1/secret/data/my-app/db"));
+		ClientRequestObservationContext context = new ClientRequestObservationContext(request);
+		context.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("uri", "secret/data/{path}"), KeyValue.of("method", "GET"), KeyValue.of("status", "200"));
+	}
+
+	@Test
+	void shouldRecordPayloadSizes() {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST,
+				URI.create("https://localhost:8200/v1/transit/encrypt/my-key"));
+		request.getHeaders().setContentLength(42);
+
+		MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		response.getHeaders().setContentLength(128);
+
+		ClientRequestObservationContext context = new ClientRequestObservationContext(request);
+		context.setResponse(response);
+
+		assertThat(this.convention.getHighCardinalityKeyValues(context)).contains(
+				KeyValue.of(VaultClientRequestObservationConvention.REQUEST_SIZE, "42"),
+				KeyValue.of(VaultClientRequestObservationConvention.RESPONSE_SIZE, "128"));
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.vault.client;
 
 import java.net.URI;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
@@ -69,4 +70,27 @@ class VaultEndpointUnitTests {
 		assertThat(endpoint.createUri("foo")).isEqualTo(URI.create("http://127.0.0.1:80/context/foo"));
 	}
 
+	@Test
+	void shouldCreateUnixDomainSocketEndpointFromURI() {
+
+		VaultEndpoint endpoint = VaultEndpoint.from(URI.create("unix:///var/run/vault/agent.sock"));
+
+		assertThat(endpoint.isUnixDomainSocket()).isTrue();
+		assertThat(endpoint.getUnixDomainSocket()).isEqualTo(Path.of("/var/run/vault/agent.sock"));
+		assertThat(endpoint.getScheme()).isEqualTo("http");
+		assertThat(endpoint.createUri("foo")).isEqualTo(URI.create("http://localhost:8200/v1/foo"));
+		assertThat(endpoint).hasToString("unix:///var/run/vault/agent.sock");
+	}
+
+	@Test
+	void shouldConsiderUnixDomainSocketInEquality() {
+
+		VaultEndpoint socket = VaultEndpoint.unixDomainSocket(Path.of("/var/run/vault/agent.sock"));
+		VaultEndpoint tcp = VaultEndpoint.create("localhost", 8200);
+		tcp.setScheme("http");
+
+		assertThat(socket).isEqualTo(VaultEndpoint.from("unix:///var/run/vault/agent.sock")).isNotEqualTo(tcp);
+		assertThat(tcp.isUnixDomainSocket()).isFalse();
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VaultIndexTracker}.
+ *
+ * @author agent
+ */
+class VaultIndexTrackerUnitTests {
+
+	@Test
+	void shouldRetainLatestStatePerCluster() {
+
+		VaultIndexTracker tracker = VaultIndexTracker.create();
+
+		tracker.record(state("cluster-a", 10, 5));
+		tracker.record(state("cluster-a", 12, 5));
+		tracker.record(state("cluster-a", 11, 5));
+		tracker.record(state("cluster-b", 3, 1));
+
+		assertThat(tracker.getStates()).containsExactly(state("cluster-a", 12, 5), state("cluster-b", 3, 1));
+	}
+
+	@Test
+	void shouldRetainIncomparableStates() {
+
+		VaultIndexTracker tracker = VaultIndexTracker.create();
+
+		tracker.record(state("cluster-a", 10, 5));
+		tracker.record(state("cluster-a", 9, 6));
+		tracker.record("opaque");
+
+		assertThat(tracker.getStates()).containsExactly(state("cluster-a", 10, 5), state("cluster-a", 9, 6),
+				"opaque");
+	}
+
+	@Test
+	void shouldIsolateThreadLocalStates() {
+
+		VaultIndexTracker tracker = VaultIndexTracker.threadLocal();
+
+		tracker.record(state("cluster-a", 1, 1));
+
+		assertThat(CompletableFuture.supplyAsync(tracker::getStates).join()).isEmpty();
+		assertThat(tracker.getStates()).hasSize(1);
+
+		tracker.reset();
+
+		assertThat(tracker.getStates()).isEmpty();
+	}
+
+	@Test
+	void interceptorShouldForwardAndRecordStates() throws Exception {
+
+		VaultIndexTracker tracker = VaultIndexTracker.create();
+		ClientHttpRequestInterceptor interceptor = VaultClients.createConsistencyInterceptor(tracker);
+
+		MockClientHttpRequest write = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://localhost/v1/a"));
+
+		interceptor.intercept(write, new byte[0], (request, body) -> {
+
+			MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.NO_CONTENT);
+			response.getHeaders().add(VaultHttpHeaders.VAULT_INDEX, state("cluster-a", 7, 2));
+
+			return response;
+		});
+
+		assertThat(write.getHeaders().containsHeader(VaultHttpHeaders.VAULT_INDEX)).isFalse();
+
+		MockClientHttpRequest read = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://localhost/v1/a"));
+
+		interceptor.intercept(read, new byte[0],
+				(request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+		assertThat(read.getHeaders().get(VaultHttpHeaders.VAULT_INDEX)).containsExactly(state("cluster-a", 7, 2));
+		assertThat(read.getHeaders().getFirst(VaultHttpHeaders.VAULT_INCONSISTENT)).isEqualTo("forward-active-node");
+	}
+
+	static String state(String clusterId, long localIndex, long replicatedIndex) {
+
+		String state = "v1:%s:%d:%d:hmac".formatted(clusterId, localIndex, replicatedIndex);
+
+		return Base64.getEncoder().encodeToString(state.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
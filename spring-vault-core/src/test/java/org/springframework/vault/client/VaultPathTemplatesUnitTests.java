@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.client;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VaultPathTemplates}.
+ *
+ * @author agent
+ */
+class VaultPathTemplatesUnitTests {
+
+	@ParameterizedTest
+	@CsvSource({ "/v1/secret/data/my-app/db, secret/data/{path}", "secret/metadata/my-app, secret/metadata/{path}",
+			"/v1/secret/my-app, secret/{path}", "secret, secret", "transit/encrypt/my-key, transit/encrypt/{path}",
+			"transit/keys/my-key/rotate, transit/keys/{path}", "database/creds/readonly, database/creds/{path}",
+			"pki/issue/web, pki/issue/{path}", "/v1/sys/health, sys/health", "sys/leases/renew, sys/leases/renew",
+			"sys/leases/revoke-prefix/database/creds, sys/leases/revoke-prefix/{path}",
+			"sys/wrapping/unwrap, sys/wrapping/unwrap", "sys/mounts/secret, sys/mounts/{path}",
+			"auth/token/lookup-self, auth/token/lookup-self", "/v1/auth/approle/login, auth/approle/login",
+			"auth/approle/role/my-role/secret-id, auth/approle/role/{path}",
+			"auth/userpass/login/walter, auth/userpass/login/{path}", "//v1//secret//data//x, secret/data/{path}" })
+	void shouldCreatePathTemplate(String path, String expected) {
+		assertThat(VaultPathTemplates.fromPath(path)).isEqualTo(expected);
+	}
+
+}
@@ -16,11 +16,14 @@
 package org.springframework.vault.config;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.vault.authentication.ClientAuthentication;
 import org.springframework.vault.authentication.TokenAuthentication;
@@ -94,6 +97,47 @@ class AbstractVaultConfigurationUnitTests {
 		verifyNoInteractions(mock);
 	}
 
+	@Test
+	void taskSchedulerWrapperShouldCloseSimpleAsyncTaskScheduler() {
+
+		SimpleAsyncTaskScheduler mock = mock(SimpleAsyncTaskScheduler.class);
+
+		TaskSchedulerWrapper wrapper = new TaskSchedulerWrapper(mock);
+
+		wrapper.afterPropertiesSet();
+		wrapper.destroy();
+
+		verify(mock).close();
+	}
+
+	@Test
+	void shouldUseThreadPoolTaskSchedulerByDefault() {
+
+		TaskSchedulerWrapper wrapper = new RestTemplateCustomizerConfiguration().threadPoolTaskScheduler();
+
+		assertThat(wrapper.getTaskScheduler()).isInstanceOf(ThreadPoolTaskScheduler.class);
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void shouldUseVirtualThreadTaskScheduler() {
+
+		TaskSchedulerWrapper wrapper = new VirtualThreadsConfiguration().threadPoolTaskScheduler();
+
+		assertThat(wrapper.getTaskScheduler()).isInstanceOf(SimpleAsyncTaskScheduler.class);
+
+		wrapper.destroy();
+	}
+
+	static class VirtualThreadsConfiguration extends RestTemplateCustomizerConfiguration {
+
+		@Override
+		protected boolean isVirtualThreadsEnabled() {
+			return true;
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class RestTemplateCustomizerConfiguration extends AbstractVaultConfiguration {
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CachingVaultOperations}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingVaultOperationsUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	MutableClock clock = new MutableClock();
+
+	@Test
+	void shouldServeReadFromCache() {
+
+		VaultResponse response = new VaultResponse();
+		when(this.vaultOperations.read("secret/foo")).thenReturn(response);
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations);
+
+		assertThat(operations.read("secret/foo")).isSameAs(response);
+		assertThat(operations.read("secret/foo")).isSameAs(response);
+
+		verify(this.vaultOperations).read("secret/foo");
+		assertThat(operations.getStatistics().getHitCount()).isOne();
+		assertThat(operations.getStatistics().getMissCount()).isOne();
+	}
+
+	@Test
+	void shouldCacheEntriesPerNamespace() {
+
+		VaultResponse marketing = new VaultResponse();
+		VaultResponse sales = new VaultResponse();
+		when(this.vaultOperations.read("secret/foo")).thenAnswer(
+				invocation -> "marketing".equals(VaultNamespaceContextHolder.getNamespace()) ? marketing : sales);
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations);
+
+		assertThat(VaultNamespaceContextHolder.withNamespace("marketing", () -> operations.read("secret/foo")))
+			.isSameAs(marketing);
+		assertThat(VaultNamespaceContextHolder.withNamespace("sales", () -> operations.read("secret/foo")))
+			.isSameAs(sales);
+		assertThat(VaultNamespaceContextHolder.withNamespace("marketing", () -> operations.read("secret/foo")))
+			.isSameAs(marketing);
+
+		verify(this.vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldCacheEntriesPerIdentity() {
+
+		VaultResponse billing = new VaultResponse();
+		VaultResponse orders = new VaultResponse();
+		when(this.vaultOperations.read("secret/foo")).thenAnswer(
+				invocation -> "billing".equals(VaultIdentityContextHolder.getIdentity()) ? billing : orders);
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations);
+
+		assertThat(VaultIdentityContextHolder.withIdentity("billing", () -> operations.read("secret/foo")))
+			.isSameAs(billing);
+		assertThat(VaultIdentityContextHolder.withIdentity("orders", () -> operations.read("secret/foo")))
+			.isSameAs(orders);
+		assertThat(operations.read("secret/foo")).isSameAs(orders);
+
+		verify(this.vaultOperations, times(3)).read("secret/foo");
+	}
+
+	@Test
+	void shouldExpireEntriesAfterTimeToLive() {
+
+		when(this.vaultOperations.read("secret/foo")).thenReturn(new VaultResponse());
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations,
+				SecretCacheOptions.builder().timeToLive(Duration.ofSeconds(10)).clock(this.clock).build());
+
+		operations.read("secret/foo");
+		this.clock.advance(Duration.ofSeconds(11));
+		operations.read("secret/foo");
+
+		verify(this.vaultOperations, times(2)).read("secret/foo");
+		assertThat(operations.getStatistics().getEvictionCount()).isOne();
+	}
+
+	@Test
+	void shouldExpireEntriesAfterLeaseDuration() {
+
+		VaultResponse response = new VaultResponse();
+		response.setLeaseDuration(5);
+		when(this.vaultOperations.read("database/creds/foo")).thenReturn(response);
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations,
+				SecretCacheOptions.builder().timeToLive(Duration.ofMinutes(10)).clock(this.clock).build());
+
+		operations.read("database/creds/foo");
+		this.clock.advance(Duration.ofSeconds(4));
+		operations.read("database/creds/foo");
+		this.clock.advance(Duration.ofSeconds(2));
+		operations.read("database/creds/foo");
+
+		verify(this.vaultOperations, times(2)).read("database/creds/foo");
+	}
+
+	@Test
+	void shouldCacheAbsentSecretsIfEnabled() {
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations,
+				SecretCacheOptions.builder().negativeTimeToLive(Duration.ofSeconds(10)).build());
+
+		assertThat(operations.read("secret/absent")).isNull();
+		assertThat(operations.read("secret/absent")).isNull();
+
+		verify(this.vaultOperations).read("secret/absent");
+	}
+
+	@Test
+	void shouldNotCacheAbsentSecretsByDefault() {
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations);
+
+		operations.read("secret/absent");
+		operations.read("secret/absent");
+
+		verify(this.vaultOperations, times(2)).read("secret/absent");
+	}
+
+	@Test
+	void writeShouldInvalidateCachedEntry() {
+
+		when(this.vaultOperations.read("secret/foo")).thenReturn(new VaultResponse());
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations);
+
+		operations.read("secret/foo");
+		operations.write("secret/foo", "body");
+		operations.read("secret/foo");
+
+		verify(this.vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldNotCacheValueReadBeforeConcurrentWrite() {
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations);
+
+		when(this.vaultOperations.read("secret/foo")).thenAnswer(invocation -> {
+
+			operations.write("secret/foo", "body");
+			return new VaultResponse();
+		}).thenReturn(new VaultResponse());
+
+		operations.read("secret/foo");
+		operations.read("secret/foo");
+
+		verify(this.vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEntries() {
+
+		when(this.vaultOperations.read(anyString())).thenReturn(new VaultResponse());
+
+		CachingVaultOperations operations = new CachingVaultOperations(this.vaultOperations,
+				SecretCacheOptions.builder().maxSize(2).build());
+
+		operations.read("secret/a");
+		operations.read("secret/b");
+		operations.read("secret/a");
+		operations.read("secret/c");
+		operations.read("secret/a");
+		operations.read("secret/b");
+
+		verify(this.vaultOperations).read("secret/a");
+		verify(this.vaultOperations, times(2)).read("secret/b");
+		assertThat(operations.getStatistics().getSize()).isEqualTo(2);
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactiveCachingVaultOperations}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveCachingVaultOperationsUnitTests {
+
+	@Mock
+	ReactiveVaultOperations vaultOperations;
+
+	@Test
+	void shouldServeReadFromCache() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		VaultResponse response = new VaultResponse();
+		when(this.vaultOperations.read("secret/foo"))
+			.thenReturn(Mono.just(response).doOnSubscribe(it -> subscriptions.incrementAndGet()));
+
+		ReactiveCachingVaultOperations operations = new ReactiveCachingVaultOperations(this.vaultOperations);
+
+		operations.read("secret/foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		operations.read("secret/foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+		assertThat(operations.getStatistics().getHitCount()).isOne();
+	}
+
+	@Test
+	void shouldCacheAbsentSecretsIfEnabled() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		when(this.vaultOperations.read("secret/absent"))
+			.thenReturn(Mono.<VaultResponse>empty().doOnSubscribe(it -> subscriptions.incrementAndGet()));
+
+		ReactiveCachingVaultOperations operations = new ReactiveCachingVaultOperations(this.vaultOperations,
+				SecretCacheOptions.builder().negativeTimeToLive(Duration.ofSeconds(10)).build());
+
+		operations.read("secret/absent").as(StepVerifier::create).verifyComplete();
+		operations.read("secret/absent").as(StepVerifier::create).verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+	}
+
+	@Test
+	void writeShouldInvalidateCachedEntry() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		when(this.vaultOperations.read("secret/foo"))
+			.thenReturn(Mono.just(new VaultResponse()).doOnSubscribe(it -> subscriptions.incrementAndGet()));
+		when(this.vaultOperations.write("secret/foo", "body")).thenReturn(Mono.empty());
+
+		ReactiveCachingVaultOperations operations = new ReactiveCachingVaultOperations(this.vaultOperations);
+
+		operations.read("secret/foo").as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		operations.write("secret/foo", "body").as(StepVerifier::create).verifyComplete();
+		operations.read("secret/foo").as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		assertThat(subscriptions).hasValue(2);
+	}
+
+}
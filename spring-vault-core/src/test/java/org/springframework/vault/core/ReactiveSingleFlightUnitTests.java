@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ReactiveSingleFlight}.
+ *
+ * @author agent
+ */
+class ReactiveSingleFlightUnitTests {
+
+	ReactiveSingleFlight singleFlight = new ReactiveSingleFlight();
+
+	@Test
+	void shouldShareInFlightSubscription() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Sinks.One<String> sink = Sinks.one();
+		Mono<String> source = sink.asMono().doOnSubscribe(it -> subscriptions.incrementAndGet());
+
+		Mono<String> first = this.singleFlight.execute("secret/foo", String.class, source);
+		Mono<String> second = this.singleFlight.execute("secret/foo", String.class, source);
+
+		StepVerifier.create(Mono.zip(first, second))
+			.then(() -> sink.tryEmitValue("value"))
+			.assertNext(it -> {
+				assertThat(it.getT1()).isEqualTo("value");
+				assertThat(it.getT2()).isEqualTo("value");
+			})
+			.verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+		assertThat(this.singleFlight.size()).isZero();
+	}
+
+	@Test
+	void shouldSubscribeAgainAfterCompletion() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Mono<String> source = Mono.just("value").doOnSubscribe(it -> subscriptions.incrementAndGet());
+
+		this.singleFlight.execute("secret/foo", String.class, source)
+			.as(StepVerifier::create)
+			.expectNext("value")
+			.verifyComplete();
+
+		this.singleFlight.execute("secret/foo", String.class, source)
+			.as(StepVerifier::create)
+			.expectNext("value")
+			.verifyComplete();
+
+		assertThat(subscriptions).hasValue(2);
+	}
+
+	@Test
+	void shouldNotShareSubscriptionAcrossNamespaces() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Sinks.One<String> sink = Sinks.one();
+		Mono<String> source = sink.asMono().doOnSubscribe(it -> subscriptions.incrementAndGet());
+
+		Mono<String> first = this.singleFlight.execute("secret/foo", String.class, source)
+			.contextWrite(it -> it.put(VaultNamespaceContextHolder.CONTEXT_KEY, "tenant-a"));
+		Mono<String> second = this.singleFlight.execute("secret/foo", String.class, source)
+			.contextWrite(it -> it.put(VaultNamespaceContextHolder.CONTEXT_KEY, "tenant-b"));
+
+		StepVerifier.create(Mono.zip(first, second))
+			.then(() -> {
+				assertThat(subscriptions).hasValue(2);
+				assertThat(this.singleFlight.size()).isEqualTo(2);
+				sink.tryEmitValue("value");
+			})
+			.expectNextCount(1)
+			.verifyComplete();
+
+		assertThat(this.singleFlight.size()).isZero();
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultDataKey;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactiveVaultEnvelopeEncryptor}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReactiveVaultEnvelopeEncryptorUnitTests {
+
+	static final int CHUNK_SIZE = 1024;
+
+	byte[] dataKey = new byte[32];
+
+	@Mock
+	ReactiveVaultTransitOperations reactiveTransitOperations;
+
+	@Mock
+	VaultTransitOperations transitOperations;
+
+	ReactiveVaultEnvelopeEncryptor encryptor;
+
+	@BeforeEach
+	void before() {
+
+		ThreadLocalRandom.current().nextBytes(this.dataKey);
+
+		when(this.reactiveTransitOperations.generateDataKey("my-key")).thenAnswer(
+				invocation -> Mono.just(VaultDataKey.of(this.dataKey.clone(), Ciphertext.of("vault:v1:wrapped"))));
+		when(this.reactiveTransitOperations.decrypt(eq("my-key"), eq(Ciphertext.of("vault:v1:wrapped"))))
+			.thenAnswer(invocation -> Mono.just(Plaintext.of(this.dataKey.clone())));
+		when(this.transitOperations.decrypt(eq("my-key"), eq(Ciphertext.of("vault:v1:wrapped"))))
+			.thenAnswer(invocation -> Plaintext.of(this.dataKey.clone()));
+
+		this.encryptor = new ReactiveVaultEnvelopeEncryptor(this.reactiveTransitOperations, "my-key", CHUNK_SIZE,
+				DefaultDataBufferFactory.sharedInstance);
+	}
+
+	@Test
+	void shouldRoundtrip() {
+
+		byte[] plaintext = randomBytes(7 * CHUNK_SIZE + 123);
+
+		Flux<DataBuffer> envelope = this.encryptor.encrypt(split(plaintext, 100));
+
+		join(this.encryptor.decrypt(envelope)).as(StepVerifier::create)
+			.assertNext(actual -> assertThat(actual).isEqualTo(plaintext))
+			.verifyComplete();
+	}
+
+	@Test
+	void shouldCreateEnvelopeCompatibleWithBlockingEncryptor() throws Exception {
+
+		byte[] plaintext = randomBytes(3 * CHUNK_SIZE);
+		byte[] envelope = join(this.encryptor.encrypt(split(plaintext, 500))).block();
+
+		ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+		new VaultEnvelopeEncryptor(this.transitOperations, "my-key").decrypt(new ByteArrayInputStream(envelope),
+				decrypted);
+
+		assertThat(decrypted.toByteArray()).isEqualTo(plaintext);
+	}
+
+	@Test
+	void shouldRejectTamperedEnvelope() {
+
+		byte[] envelope = join(this.encryptor.encrypt(split(randomBytes(2 * CHUNK_SIZE), 2048))).block();
+		envelope[envelope.length - 20] ^= 1;
+
+		this.encryptor.decrypt(split(envelope, 333))
+			.as(StepVerifier::create)
+			.thenConsumeWhile(it -> true)
+			.verifyError(VaultException.class);
+	}
+
+	private static Flux<DataBuffer> split(byte[] bytes, int size) {
+
+		return Flux.range(0, (bytes.length + size - 1) / size).map(i -> {
+
+			int offset = i * size;
+			int length = Math.min(size, bytes.length - offset);
+
+			DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+			buffer.write(bytes, offset, length);
+
+			return buffer;
+		});
+	}
+
+	private static Mono<byte[]> join(Flux<DataBuffer> buffers) {
+
+		return DataBufferUtils.join(buffers).map(buffer -> {
+
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			DataBufferUtils.release(buffer);
+
+			return bytes;
+		});
+	}
+
+	private static byte[] randomBytes(int size) {
+
+		byte[] bytes = new byte[size];
+		ThreadLocalRandom.current().nextBytes(bytes);
+
+		return bytes;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ *
+ * @author agent
+ */
+class SingleFlightUnitTests {
+
+	SingleFlight singleFlight = new SingleFlight();
+
+	@Test
+	void shouldCollapseConcurrentInvocations() throws Exception {
+
+		int threads = 8;
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+
+			List<Future<String>> futures = new ArrayList<>();
+			futures.add(executor.submit(() -> this.singleFlight.execute("secret/foo", String.class, () -> {
+				invocations.incrementAndGet();
+				leaderStarted.countDown();
+				await(release);
+				return "value";
+			})));
+
+			leaderStarted.await(1, TimeUnit.SECONDS);
+
+			for (int i = 1; i < threads; i++) {
+				futures.add(executor.submit(() -> this.singleFlight.execute("secret/foo", String.class, () -> {
+					invocations.incrementAndGet();
+					return "other";
+				})));
+			}
+
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<String> future : futures) {
+				assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(invocations).hasValue(1);
+		assertThat(this.singleFlight.size()).isZero();
+	}
+
+	@Test
+	void shouldInvokeLoaderAgainAfterCompletion() {
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		this.singleFlight.execute("secret/foo", String.class, invocations::incrementAndGet);
+		this.singleFlight.execute("secret/foo", String.class, invocations::incrementAndGet);
+
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void shouldNotShareInvocationsAcrossNamespacesAndIdentities() throws Exception {
+
+		// nested invocations would wait for themselves if keys collided
+		CompletableFuture<String> value = CompletableFuture
+			.supplyAsync(() -> this.singleFlight.execute("secret/foo", "marketing", null, String.class,
+					() -> this.singleFlight.execute("secret/foo", "sales", null, String.class,
+							() -> this.singleFlight.execute("secret/foo", "sales", "billing", String.class,
+									() -> "value"))));
+
+		assertThat(value.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(this.singleFlight.size()).isZero();
+	}
+
+	@Test
+	void shouldPropagateFailure() {
+
+		assertThatIllegalStateException().isThrownBy(() -> this.singleFlight.execute("secret/foo", String.class, () -> {
+			throw new IllegalStateException();
+		}));
+
+		assertThat(this.singleFlight.size()).isZero();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
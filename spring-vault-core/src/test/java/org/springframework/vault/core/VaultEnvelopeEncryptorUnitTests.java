@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultDataKey;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link VaultEnvelopeEncryptor}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VaultEnvelopeEncryptorUnitTests {
+
+	static final int CHUNK_SIZE = 1024;
+
+	byte[] dataKey = new byte[32];
+
+	@Mock
+	VaultTransitOperations transitOperations;
+
+	VaultEnvelopeEncryptor encryptor;
+
+	@BeforeEach
+	void before() {
+
+		ThreadLocalRandom.current().nextBytes(this.dataKey);
+
+		when(this.transitOperations.generateDataKey("my-key"))
+			.thenAnswer(invocation -> VaultDataKey.of(this.dataKey.clone(), Ciphertext.of("vault:v1:wrapped")));
+		when(this.transitOperations.decrypt(eq("my-key"), eq(Ciphertext.of("vault:v1:wrapped"))))
+			.thenAnswer(invocation -> Plaintext.of(this.dataKey.clone()));
+
+		this.encryptor = new VaultEnvelopeEncryptor(this.transitOperations, "my-key", CHUNK_SIZE);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 10 * CHUNK_SIZE, 10 * CHUNK_SIZE + 17 })
+	void shouldRoundtrip(int size) throws IOException {
+
+		byte[] plaintext = randomBytes(size);
+
+		byte[] envelope = encrypt(plaintext);
+
+		assertThat(envelope.length).isGreaterThan(size);
+		assertThat(decrypt(envelope)).isEqualTo(plaintext);
+
+		verify(this.transitOperations).generateDataKey("my-key");
+		verify(this.transitOperations).decrypt(eq("my-key"), any(Ciphertext.class));
+	}
+
+	@Test
+	void shouldRoundtripUsingChannels() throws IOException {
+
+		byte[] plaintext = randomBytes(5 * CHUNK_SIZE + 3);
+		ByteArrayOutputStream envelope = new ByteArrayOutputStream();
+		ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+
+		this.encryptor.encrypt(Channels.newChannel(new ByteArrayInputStream(plaintext)), Channels.newChannel(envelope));
+		this.encryptor.decrypt(Channels.newChannel(new ByteArrayInputStream(envelope.toByteArray())),
+				Channels.newChannel(decrypted));
+
+		assertThat(decrypted.toByteArray()).isEqualTo(plaintext);
+	}
+
+	@Test
+	void shouldStoreWrappedKeyInHeader() throws IOException {
+
+		byte[] envelope = encrypt(randomBytes(10));
+
+		assertThat(new String(envelope)).contains("vault:v1:wrapped");
+	}
+
+	@Test
+	void destroyShouldZeroEnvelopeKey() {
+
+		byte[] key = this.dataKey.clone();
+		EnvelopeFormat.EnvelopeKey envelopeKey = new EnvelopeFormat.EnvelopeKey(key);
+
+		envelopeKey.destroy();
+
+		assertThat(key).containsOnly(0);
+		assertThat(envelopeKey.isDestroyed()).isTrue();
+		assertThatIllegalStateException().isThrownBy(envelopeKey::getEncoded);
+	}
+
+	@Test
+	void generateDataKeyShouldNotBeSupportedByDefault() {
+
+		VaultTransitOperations operations = mock(VaultTransitOperations.class, CALLS_REAL_METHODS);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> operations.generateDataKey("my-key"));
+	}
+
+	@Test
+	void shouldRejectTamperedChunk() throws IOException {
+
+		byte[] envelope = encrypt(randomBytes(3 * CHUNK_SIZE));
+		envelope[envelope.length - CHUNK_SIZE] ^= 1;
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> decrypt(envelope));
+	}
+
+	@Test
+	void shouldRejectTruncatedEnvelope() throws IOException {
+
+		byte[] envelope = encrypt(randomBytes(3 * CHUNK_SIZE + 10));
+		byte[] truncated = Arrays.copyOf(envelope, envelope.length - 26);
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> decrypt(truncated));
+	}
+
+	@Test
+	void shouldRejectUnknownFormat() {
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> decrypt(randomBytes(100)));
+	}
+
+	private byte[] encrypt(byte[] plaintext) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		this.encryptor.encrypt(new ByteArrayInputStream(plaintext), out);
+
+		return out.toByteArray();
+	}
+
+	private byte[] decrypt(byte[] envelope) throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		this.encryptor.decrypt(new ByteArrayInputStream(envelope), out);
+
+		return out.toByteArray();
+	}
+
+	private static byte[] randomBytes(int size) {
+
+		byte[] bytes = new byte[size];
+		ThreadLocalRandom.current().nextBytes(bytes);
+
+		return bytes;
+	}
+
+}
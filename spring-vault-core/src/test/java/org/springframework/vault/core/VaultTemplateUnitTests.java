@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.vault.authentication.IdentityRoutingSessionManager;
+import org.springframework.vault.authentication.NamespaceRoutingSessionManager;
+import org.springframework.vault.authentication.SessionManager;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.client.VaultIdentityContextHolder;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VaultTemplate}.
+ *
+ * @author agent
+ */
+class VaultTemplateUnitTests {
+
+	List<MockClientHttpRequest> requests = new ArrayList<>();
+
+	ClientHttpRequestFactory requestFactory;
+
+	@BeforeEach
+	void before() {
+
+		this.requestFactory = (uri, method) -> {
+
+			MockClientHttpResponse response = new MockClientHttpResponse("{\"data\":{}}".getBytes(), HttpStatus.OK);
+			response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+			MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+			request.setResponse(response);
+			this.requests.add(request);
+
+			return request;
+		};
+	}
+
+	@AfterEach
+	void after() {
+		VaultNamespaceContextHolder.resetNamespace();
+		VaultIdentityContextHolder.resetIdentity();
+	}
+
+	@Test
+	void shouldRouteRequestsThroughNamespaceTemplate() {
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				() -> VaultToken.of("token"));
+
+		template.withNamespace("team-a").read("secret/foo");
+		template.withNamespace("team-b").read("secret/foo");
+		template.read("secret/foo");
+
+		assertThat(this.requests).extracting(it -> it.getHeaders().getFirst(VaultHttpHeaders.VAULT_NAMESPACE))
+			.containsExactly("team-a", "team-b", null);
+		assertThat(VaultNamespaceContextHolder.getNamespace()).isNull();
+	}
+
+	@Test
+	void shouldCacheNamespaceTemplates() {
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				() -> VaultToken.of("token"));
+
+		VaultOperations namespaced = template.withNamespace("team-a");
+
+		assertThat(namespaced).isSameAs(template.withNamespace("team-a"));
+		assertThat(((VaultTemplate) namespaced).withNamespace("team-a")).isSameAs(namespaced);
+		assertThat(((VaultTemplate) namespaced).getNamespace()).isEqualTo("team-a");
+	}
+
+	@Test
+	void shouldRouteRequestsToNamespaceBoundToThread() {
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				() -> VaultToken.of("token"));
+
+		VaultNamespaceContextHolder.withNamespace("team-a", () -> template.read("secret/foo"));
+
+		assertThat(this.requests.get(0).getHeaders().getFirst(VaultHttpHeaders.VAULT_NAMESPACE)).isEqualTo("team-a");
+	}
+
+	@Test
+	void shouldUseSessionTokenOfNamespace() {
+
+		SessionManager root = () -> VaultToken.of("root-token");
+		NamespaceRoutingSessionManager sessionManager = new NamespaceRoutingSessionManager(root,
+				namespace -> () -> VaultToken.of(namespace + "-token"));
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				sessionManager);
+
+		template.withNamespace("team-a").read("secret/foo");
+		template.read("secret/foo");
+
+		assertThat(this.requests).extracting(it -> it.getHeaders().getFirst(VaultHttpHeaders.VAULT_TOKEN))
+			.containsExactly("team-a-token", "root-token");
+	}
+
+	@Test
+	void shouldUseSessionTokenOfIdentity() {
+
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(
+				() -> VaultToken.of("root-token"), identity -> () -> VaultToken.of(identity + "-token"));
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				sessionManager);
+
+		template.withIdentity("role-a").read("secret/foo");
+		template.withIdentity("role-b")
+			.doWithSession(restOperations -> restOperations.getForObject("secret/foo", String.class));
+		template.read("secret/foo");
+
+		assertThat(this.requests).extracting(it -> it.getHeaders().getFirst(VaultHttpHeaders.VAULT_TOKEN))
+			.containsExactly("role-a-token", "role-b-token", "root-token");
+		assertThat(VaultIdentityContextHolder.getIdentity()).isNull();
+	}
+
+	@Test
+	void shouldRetainNamespaceAndIdentity() {
+
+		IdentityRoutingSessionManager sessionManager = new IdentityRoutingSessionManager(
+				() -> VaultToken.of("root-token"), identity -> () -> VaultToken.of(identity + "-token"));
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				sessionManager);
+
+		VaultTemplate bound = (VaultTemplate) ((VaultTemplate) template.withNamespace("team-a")).withIdentity("role-a");
+
+		bound.read("secret/foo");
+
+		assertThat(bound.getNamespace()).isEqualTo("team-a");
+		assertThat(bound.getIdentity()).isEqualTo("role-a");
+		assertThat(this.requests.get(0).getHeaders().getFirst(VaultHttpHeaders.VAULT_NAMESPACE)).isEqualTo("team-a");
+		assertThat(this.requests.get(0).getHeaders().getFirst(VaultHttpHeaders.VAULT_TOKEN))
+			.isEqualTo("role-a-token");
+	}
+
+	@Test
+	void withIdentityRequiresIdentityRoutingSessionManager() {
+
+		VaultTemplate template = new VaultTemplate(VaultEndpoint.create("localhost", 8200), this.requestFactory,
+				() -> VaultToken.of("token"));
+
+		assertThatIllegalStateException().isThrownBy(() -> template.withIdentity("role-a"));
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.client.VaultNamespaceContextHolder;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Hmac;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultHmacRequest;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link VaultTransitBatchExecutor}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class VaultTransitBatchExecutorUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+	VaultTransitBatchExecutor executor;
+
+	@BeforeEach
+	void before() {
+
+		this.taskScheduler.setPoolSize(2);
+		this.taskScheduler.afterPropertiesSet();
+
+		this.executor = new VaultTransitBatchExecutor(this.vaultOperations, "transit", this.taskScheduler);
+		this.executor.setMaxDelay(Duration.ofMillis(50));
+	}
+
+	@AfterEach
+	void after() {
+		this.taskScheduler.destroy();
+	}
+
+	@Test
+	void shouldCombineEncryptCallsIntoBatch() throws Exception {
+
+		when(this.vaultOperations.write(eq("transit/encrypt/my-key"), any()))
+			.thenReturn(batchResponse(Map.of("ciphertext", "vault:v1:a"), Map.of("ciphertext", "vault:v1:b")));
+
+		CompletableFuture<Ciphertext> first = this.executor.encrypt("my-key", Plaintext.of("a"));
+		CompletableFuture<Ciphertext> second = this.executor.encrypt("my-key", Plaintext.of("b"));
+
+		assertThat(first.get(1, TimeUnit.SECONDS).getCiphertext()).isEqualTo("vault:v1:a");
+		assertThat(second.get(1, TimeUnit.SECONDS).getCiphertext()).isEqualTo("vault:v1:b");
+
+		verify(this.vaultOperations).write(eq("transit/encrypt/my-key"), any());
+	}
+
+	@Test
+	void shouldSendBatchWhenMaxBatchSizeIsReached() throws Exception {
+
+		this.executor.setMaxDelay(Duration.ofMinutes(1));
+		this.executor.setMaxBatchSize(2);
+
+		when(this.vaultOperations.write(eq("transit/decrypt/my-key"), any()))
+			.thenReturn(batchResponse(Map.of("plaintext", "YQ=="), Map.of("plaintext", "Yg==")));
+
+		CompletableFuture<Plaintext> first = this.executor.decrypt("my-key", Ciphertext.of("vault:v1:a"));
+		CompletableFuture<Plaintext> second = this.executor.decrypt("my-key", Ciphertext.of("vault:v1:b"));
+
+		assertThat(first.get(1, TimeUnit.SECONDS).asString()).isEqualTo("a");
+		assertThat(second.get(1, TimeUnit.SECONDS).asString()).isEqualTo("b");
+	}
+
+	@Test
+	void shouldCompleteItemsIndividually() throws Exception {
+
+		when(this.vaultOperations.write(eq("transit/decrypt/my-key"), any()))
+			.thenReturn(batchResponse(Map.of("plaintext", "YQ=="), Map.of("error", "message authentication failed")));
+
+		CompletableFuture<Plaintext> first = this.executor.decrypt("my-key", Ciphertext.of("vault:v1:a"));
+		CompletableFuture<Plaintext> second = this.executor.decrypt("my-key", Ciphertext.of("vault:v1:b"));
+
+		assertThat(first.get(1, TimeUnit.SECONDS).asString()).isEqualTo("a");
+		assertThatExceptionOfType(Exception.class).isThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+			.withCauseInstanceOf(VaultException.class)
+			.withMessageContaining("message authentication failed");
+	}
+
+	@Test
+	void shouldFailAllItemsIfBatchRequestFails() {
+
+		when(this.vaultOperations.write(eq("transit/encrypt/my-key"), any()))
+			.thenThrow(new VaultException("Status 500"));
+
+		CompletableFuture<Ciphertext> first = this.executor.encrypt("my-key", Plaintext.of("a"));
+		CompletableFuture<Ciphertext> second = this.executor.encrypt("my-key", Plaintext.of("b"));
+
+		assertThatExceptionOfType(Exception.class).isThrownBy(() -> first.get(1, TimeUnit.SECONDS))
+			.withCauseInstanceOf(VaultException.class);
+		assertThatExceptionOfType(Exception.class).isThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+			.withCauseInstanceOf(VaultException.class);
+	}
+
+	@Test
+	void shouldBatchHmacPerAlgorithm() throws Exception {
+
+		when(this.vaultOperations.write(eq("transit/hmac/my-key"), any()))
+			.thenReturn(batchResponse(Map.of("hmac", "vault:v1:hmac")));
+
+		CompletableFuture<Hmac> hmac = this.executor.getHmac("my-key",
+				VaultHmacRequest.builder().plaintext(Plaintext.of("a")).algorithm("sha2-512").build());
+
+		assertThat(hmac.get(1, TimeUnit.SECONDS).getHmac()).isEqualTo("vault:v1:hmac");
+
+		verify(this.vaultOperations).write(eq("transit/hmac/my-key"),
+				argThat(body -> body instanceof Map<?, ?> map && "sha2-512".equals(map.get("algorithm"))
+						&& map.get("batch_input") instanceof List<?> list && list.size() == 1));
+	}
+
+	@Test
+	void shouldBatchPerNamespace() throws Exception {
+
+		Set<String> namespaces = ConcurrentHashMap.newKeySet();
+
+		when(this.vaultOperations.write(eq("transit/encrypt/my-key"), any())).thenAnswer(invocation -> {
+
+			String namespace = VaultNamespaceContextHolder.getNamespace();
+			namespaces.add(namespace);
+			return batchResponse(Map.of("ciphertext", "vault:v1:" + namespace));
+		});
+
+		CompletableFuture<Ciphertext> first = VaultNamespaceContextHolder.withNamespace("tenant-a",
+				() -> this.executor.encrypt("my-key", Plaintext.of("a")));
+		CompletableFuture<Ciphertext> second = VaultNamespaceContextHolder.withNamespace("tenant-b",
+				() -> this.executor.encrypt("my-key", Plaintext.of("b")));
+
+		assertThat(first.get(1, TimeUnit.SECONDS).getCiphertext()).isEqualTo("vault:v1:tenant-a");
+		assertThat(second.get(1, TimeUnit.SECONDS).getCiphertext()).isEqualTo("vault:v1:tenant-b");
+		assertThat(namespaces).containsOnly("tenant-a", "tenant-b");
+
+		verify(this.vaultOperations, times(2)).write(eq("transit/encrypt/my-key"), any());
+	}
+
+	@Test
+	void shouldFlushPendingItemsOnDestroy() throws Exception {
+
+		this.executor.setMaxDelay(Duration.ofMinutes(1));
+
+		when(this.vaultOperations.write(eq("transit/encrypt/my-key"), any()))
+			.thenReturn(batchResponse(Map.of("ciphertext", "vault:v1:a")));
+
+		CompletableFuture<Ciphertext> future = this.executor.encrypt("my-key", Plaintext.of("a"));
+
+		this.executor.destroy();
+
+		assertThat(future).isCompletedWithValueMatching(it -> it.getCiphertext().equals("vault:v1:a"));
+		assertThatIllegalStateException().isThrownBy(() -> this.executor.encrypt("my-key", Plaintext.of("b")));
+	}
+
+	@SafeVarargs
+	private static VaultResponse batchResponse(Map<String, String>... results) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("batch_results", List.of(results)));
+
+		return response;
+	}
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.core.lease.BulkRenewalOutcome.Type;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BulkLeaseRenewal}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkLeaseRenewalUnitTests {
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+
+		this.executor.shutdown();
+		this.executor.awaitTermination(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void shouldLimitConcurrency() {
+
+		BulkLeaseRenewal renewal = new BulkLeaseRenewal(
+				BulkRenewalOptions.builder().maxConcurrency(2).executor(this.executor).build(), this.taskScheduler);
+
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		List<BooleanSupplier> tasks = new ArrayList<>();
+
+		for (int i = 0; i < 20; i++) {
+			tasks.add(() -> {
+
+				maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(5);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				active.decrementAndGet();
+				return true;
+			});
+		}
+
+		BulkRenewalOutcome outcome = renewal.run(Type.RENEWAL, tasks);
+
+		assertThat(outcome.getTotal()).isEqualTo(20);
+		assertThat(outcome.getSucceeded()).isEqualTo(20);
+		assertThat(maxActive).hasValueLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void shouldReportFailures() {
+
+		BulkLeaseRenewal renewal = new BulkLeaseRenewal(BulkRenewalOptions.builder().executor(this.executor).build(),
+				this.taskScheduler);
+
+		BulkRenewalOutcome outcome = renewal.run(Type.RESTART, List.of(() -> true, () -> false, () -> {
+			throw new IllegalStateException();
+		}));
+
+		assertThat(outcome.getType()).isEqualTo(Type.RESTART);
+		assertThat(outcome.getSucceeded()).isOne();
+		assertThat(outcome.getFailed()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldApplyRateLimit() {
+
+		BulkLeaseRenewal renewal = new BulkLeaseRenewal(
+				BulkRenewalOptions.builder().requestsPerSecond(50).executor(this.executor).build(), this.taskScheduler);
+
+		List<BooleanSupplier> tasks = new ArrayList<>();
+		for (int i = 0; i < 75; i++) {
+			tasks.add(() -> true);
+		}
+
+		// burst of 50, remaining 25 tokens refill within 500ms
+		BulkRenewalOutcome outcome = renewal.run(Type.RENEWAL, tasks);
+
+		assertThat(outcome.getSucceeded()).isEqualTo(75);
+		assertThat(outcome.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+	}
+
+	@Test
+	void shouldFlushPendingTasks() {
+
+		List<BulkRenewalOutcome> outcomes = new ArrayList<>();
+		BulkLeaseRenewal renewal = new BulkLeaseRenewal(
+				BulkRenewalOptions.builder().executor(Runnable::run).outcomeListener(outcomes::add).build(),
+				this.taskScheduler);
+
+		renewal.submit(() -> true);
+		renewal.submit(() -> true);
+		renewal.flush();
+		renewal.flush();
+
+		assertThat(outcomes).hasSize(1);
+		assertThat(outcomes.get(0).getTotal()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldCompleteBatchIfExecutorIsSaturated() throws InterruptedException {
+
+		ExecutorService saturated = Executors.newSingleThreadExecutor();
+		CountDownLatch blocked = new CountDownLatch(1);
+		saturated.execute(() -> {
+			try {
+				blocked.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		try {
+
+			BulkLeaseRenewal renewal = new BulkLeaseRenewal(
+					BulkRenewalOptions.builder().maxConcurrency(4).executor(saturated).build(), this.taskScheduler);
+
+			List<BooleanSupplier> tasks = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				tasks.add(() -> true);
+			}
+
+			BulkRenewalOutcome outcome = renewal.run(Type.RENEWAL, tasks);
+
+			assertThat(outcome.getSucceeded()).isEqualTo(10);
+		}
+		finally {
+			blocked.countDown();
+			saturated.shutdown();
+			saturated.awaitTermination(1, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void shouldRequeueRemainingTasksIfInterrupted() {
+
+		List<BulkRenewalOutcome> outcomes = new ArrayList<>();
+		BulkLeaseRenewal renewal = new BulkLeaseRenewal(BulkRenewalOptions.builder()
+			.maxConcurrency(1)
+			.executor(this.executor)
+			.outcomeListener(outcomes::add)
+			.build(), this.taskScheduler);
+
+		renewal.submit(() -> {
+			Thread.currentThread().interrupt();
+			return true;
+		});
+		renewal.submit(() -> true);
+		renewal.submit(() -> true);
+
+		try {
+			renewal.flush();
+		}
+		finally {
+			assertThat(Thread.interrupted()).isTrue();
+		}
+
+		renewal.flush();
+
+		assertThat(outcomes).hasSize(2);
+		assertThat(outcomes.get(0).getTotal()).isEqualTo(3);
+		assertThat(outcomes.get(0).getSucceeded()).isOne();
+		assertThat(outcomes.get(1).getTotal()).isEqualTo(2);
+		assertThat(outcomes.get(1).getSucceeded()).isEqualTo(2);
+		verify(this.taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+	}
+
+}
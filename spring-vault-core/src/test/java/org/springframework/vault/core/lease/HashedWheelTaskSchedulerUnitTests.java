@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.core.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HashedWheelTaskScheduler}.
+ *
+ * @author agent
+ */
+class HashedWheelTaskSchedulerUnitTests {
+
+	HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler(Duration.ofMillis(10), 16, Runnable::run);
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		this.scheduler.destroy();
+	}
+
+	@Test
+	void shouldRunScheduledTask() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, Instant.now().plusMillis(50));
+
+		assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isPositive();
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		future.get(1, TimeUnit.SECONDS);
+
+		assertThat(future.isDone()).isTrue();
+		assertThat(this.scheduler.getPendingTasks()).isZero();
+	}
+
+	@Test
+	void shouldRunTasksBeyondOneWheelRotation() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(1);
+		Instant start = Instant.now();
+
+		// 16 buckets of 10ms each: a 400ms delay requires multiple rounds
+		this.scheduler.schedule(latch::countDown, start.plusMillis(400));
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(Duration.between(start, Instant.now())).isGreaterThanOrEqualTo(Duration.ofMillis(390));
+	}
+
+	@Test
+	void shouldNotRunCanceledTask() throws InterruptedException {
+
+		AtomicInteger counter = new AtomicInteger();
+
+		ScheduledFuture<?> future = this.scheduler.schedule(counter::incrementAndGet, Instant.now().plusMillis(50));
+
+		assertThat(future.cancel(false)).isTrue();
+		assertThat(this.scheduler.getPendingTasks()).isZero();
+
+		Thread.sleep(200);
+
+		assertThat(counter).hasValue(0);
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void shouldRunOneShotTriggerOnce() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger counter = new AtomicInteger();
+
+		ScheduledFuture<?> future = this.scheduler.schedule(() -> {
+			counter.incrementAndGet();
+			latch.countDown();
+		}, new SecretLeaseContainer.OneShotTrigger(Duration.ofMillis(20)));
+
+		assertThat(future).isNotNull();
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Thread.sleep(100);
+
+		assertThat(counter).hasValue(1);
+		assertThat(future.isDone()).isTrue();
+	}
+
+	@Test
+	void shouldRunWithFixedDelay() throws InterruptedException {
+
+		CountDownLatch latch = new CountDownLatch(3);
+
+		ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(latch::countDown, Duration.ofMillis(20));
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		future.cancel(false);
+
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void shouldRunManyTasks() throws InterruptedException {
+
+		int count = 10_000;
+		CountDownLatch latch = new CountDownLatch(count);
+		Instant now = Instant.now();
+
+		for (int i = 0; i < count; i++) {
+			this.scheduler.schedule(latch::countDown, now.plusMillis(ThreadLocalRandom.current().nextInt(300)));
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.scheduler.getPendingTasks()).isZero();
+	}
+
+	@Test
+	void shouldRejectTasksAfterDestroy() throws InterruptedException {
+
+		this.scheduler.destroy();
+
+		assertThatIllegalStateException().isThrownBy(() -> this.scheduler.schedule(() -> {
+		}, Instant.now()));
+	}
+
+}
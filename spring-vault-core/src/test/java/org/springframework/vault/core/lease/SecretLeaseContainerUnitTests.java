@@ -595,6 +595,21 @@ class SecretLeaseContainerUnitTests {
 		assertThat(nextExecutionTime).isBetween(Instant.now().plusSeconds(35), Instant.now().plusSeconds(41));
 	}
 
+	@Test
+	void scheduleRenewalShouldApplyJitter() {
+
+		prepareRenewal();
+
+		this.secretLeaseContainer.setRenewalJitter(Duration.ofSeconds(20));
+		this.secretLeaseContainer.start();
+
+		ArgumentCaptor<Trigger> captor = ArgumentCaptor.forClass(Trigger.class);
+		verify(this.taskScheduler).schedule(any(Runnable.class), captor.capture());
+
+		Instant nextExecutionTime = captor.getValue().nextExecution(null);
+		assertThat(nextExecutionTime).isBetween(Instant.now().plusSeconds(19), Instant.now().plusSeconds(41));
+	}
+
 	@Test
 	void shouldPublishRenewalErrors() {
 
@@ -772,6 +787,119 @@ class SecretLeaseContainerUnitTests {
 		assertThat(leaseCreatedEvent.getSecrets()).containsKey("key");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRenewLeaseInBatch() {
+
+		List<BulkRenewalOutcome> outcomes = new ArrayList<>();
+		SecretLeaseContainer container = createBulkRenewalContainer(outcomes);
+
+		when(this.taskScheduler.schedule(any(Runnable.class), any(Trigger.class))).thenReturn(this.scheduledFuture);
+		when(this.vaultOperations.read(this.requestedSecret.getPath())).thenReturn(createSecrets());
+		when(this.vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+			.thenReturn(Lease.of("new_lease", Duration.ofSeconds(70), true));
+
+		container.addRequestedSecret(this.requestedSecret);
+		container.start();
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(captor.capture(), any(Trigger.class));
+		captor.getValue().run();
+
+		verify(this.vaultOperations, never()).doWithSession(any(RestOperationsCallback.class));
+		verify(this.taskScheduler).schedule(captor.capture(), any(Instant.class));
+		captor.getValue().run();
+
+		verify(this.vaultOperations).doWithSession(any(RestOperationsCallback.class));
+		verify(this.taskScheduler, times(2)).schedule(any(Runnable.class), any(Trigger.class));
+		assertThat(outcomes).hasSize(1);
+		assertThat(outcomes.get(0).getType()).isEqualTo(BulkRenewalOutcome.Type.RENEWAL);
+		assertThat(outcomes.get(0).getSucceeded()).isOne();
+		assertThat(outcomes.get(0).getFailed()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldReportExpiredLeaseInBatch() {
+
+		List<BulkRenewalOutcome> outcomes = new ArrayList<>();
+		SecretLeaseContainer container = createBulkRenewalContainer(outcomes);
+
+		when(this.taskScheduler.schedule(any(Runnable.class), any(Trigger.class))).thenReturn(this.scheduledFuture);
+		when(this.vaultOperations.read(this.requestedSecret.getPath())).thenReturn(createSecrets());
+		when(this.vaultOperations.doWithSession(any(RestOperationsCallback.class)))
+			.thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+		container.addRequestedSecret(this.requestedSecret);
+		container.start();
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(captor.capture(), any(Trigger.class));
+		captor.getValue().run();
+		verify(this.taskScheduler).schedule(captor.capture(), any(Instant.class));
+		captor.getValue().run();
+
+		assertThat(outcomes).hasSize(1);
+		assertThat(outcomes.get(0).getFailed()).isOne();
+		verify(this.leaseListenerAdapter).onLeaseEvent(any(SecretLeaseExpiredEvent.class));
+	}
+
+	@Test
+	void shouldRestartSecretsInBatch() {
+
+		List<BulkRenewalOutcome> outcomes = new ArrayList<>();
+		SecretLeaseContainer container = createBulkRenewalContainer(outcomes);
+		RequestedSecret other = RequestedSecret.renewable("other-secret");
+
+		when(this.taskScheduler.schedule(any(Runnable.class), any(Trigger.class))).thenReturn(this.scheduledFuture);
+		when(this.vaultOperations.read(this.requestedSecret.getPath())).thenReturn(createSecrets());
+		when(this.vaultOperations.read(other.getPath())).thenReturn(createSecrets(), (VaultResponse) null);
+
+		container.addRequestedSecret(this.requestedSecret);
+		container.addRequestedSecret(other);
+		container.start();
+		container.restartSecrets();
+
+		assertThat(outcomes).hasSize(1);
+		assertThat(outcomes.get(0).getType()).isEqualTo(BulkRenewalOutcome.Type.RESTART);
+		assertThat(outcomes.get(0).getTotal()).isEqualTo(2);
+		assertThat(outcomes.get(0).getSucceeded()).isOne();
+		verify(this.leaseListenerAdapter).onLeaseEvent(any(SecretLeaseRotatedEvent.class));
+		verify(this.leaseListenerAdapter).onLeaseEvent(any(SecretNotFoundEvent.class));
+	}
+
+	@Test
+	void shouldRejectBulkRenewalOptionsAfterInitialization() {
+		assertThatIllegalStateException().isThrownBy(
+				() -> this.secretLeaseContainer.setBulkRenewalOptions(BulkRenewalOptions.builder().build()));
+	}
+
+	@Test
+	void shouldRejectBulkRenewalWindowNotLessThanExpiryThreshold() {
+
+		SecretLeaseContainer container = new SecretLeaseContainer(this.vaultOperations, this.taskScheduler);
+		container.setExpiryThreshold(Duration.ofSeconds(5));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> container
+			.setBulkRenewalOptions(BulkRenewalOptions.builder().window(Duration.ofSeconds(5)).build()));
+
+		container.setBulkRenewalOptions(BulkRenewalOptions.builder().window(Duration.ofSeconds(1)).build());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> container.setExpiryThreshold(Duration.ofMillis(500)));
+	}
+
+	private SecretLeaseContainer createBulkRenewalContainer(List<BulkRenewalOutcome> outcomes) {
+
+		SecretLeaseContainer container = new SecretLeaseContainer(this.vaultOperations, this.taskScheduler);
+		container.setBulkRenewalOptions(
+				BulkRenewalOptions.builder().executor(Runnable::run).outcomeListener(outcomes::add).build());
+		container.addLeaseListener(this.leaseListenerAdapter);
+		container.addErrorListener(this.leaseListenerAdapter);
+		container.afterPropertiesSet();
+
+		return container;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void prepareRenewal() {
 
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultTransitOperations;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultDataKey;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CachingVaultBytesEncryptor}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CachingVaultBytesEncryptorUnitTests {
+
+	@Mock
+	VaultTransitOperations transitOperations;
+
+	MutableClock clock = new MutableClock();
+
+	Map<String, byte[]> keys = new HashMap<>();
+
+	AtomicInteger generation = new AtomicInteger();
+
+	@BeforeEach
+	void before() {
+
+		when(this.transitOperations.generateDataKey("my-key")).thenAnswer(invocation -> {
+
+			byte[] key = new byte[32];
+			ThreadLocalRandom.current().nextBytes(key);
+
+			String wrapped = "vault:v1:" + this.generation.incrementAndGet();
+			this.keys.put(wrapped, key);
+
+			return VaultDataKey.of(key.clone(), Ciphertext.of(wrapped));
+		});
+
+		when(this.transitOperations.decrypt(eq("my-key"), any(Ciphertext.class))).thenAnswer(invocation -> {
+
+			Ciphertext ciphertext = invocation.getArgument(1);
+			return Plaintext.of(this.keys.get(ciphertext.getCiphertext()).clone());
+		});
+	}
+
+	@Test
+	void shouldRoundtripWithoutUnwrapping() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+
+		byte[] ciphertext = encryptor.encrypt("hello".getBytes());
+
+		assertThat(encryptor.decrypt(ciphertext)).isEqualTo("hello".getBytes());
+		verify(this.transitOperations).generateDataKey("my-key");
+		verify(this.transitOperations, never()).decrypt(anyString(), any(Ciphertext.class));
+	}
+
+	@Test
+	void shouldReuseDataKeyForConfiguredNumberOfMessages() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key",
+				DataKeyCacheOptions.builder().maxMessagesPerKey(3).build());
+
+		for (int i = 0; i < 7; i++) {
+			encryptor.encrypt(new byte[] { (byte) i });
+		}
+
+		verify(this.transitOperations, times(3)).generateDataKey("my-key");
+	}
+
+	@Test
+	void shouldRejectMaxMessagesPerKeyBeyondNonceLimit() {
+
+		DataKeyCacheOptions.builder().maxMessagesPerKey(DataKeyCacheOptions.MAX_MESSAGES_PER_KEY);
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> DataKeyCacheOptions.builder().maxMessagesPerKey(DataKeyCacheOptions.MAX_MESSAGES_PER_KEY + 1));
+	}
+
+	@Test
+	void shouldObtainNewDataKeyAfterTimeToLive() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key",
+				DataKeyCacheOptions.builder().keyTimeToLive(Duration.ofMinutes(1)).clock(this.clock).build());
+
+		encryptor.encrypt("a".getBytes());
+		encryptor.encrypt("b".getBytes());
+		this.clock.advance(Duration.ofMinutes(2));
+		encryptor.encrypt("c".getBytes());
+
+		verify(this.transitOperations, times(2)).generateDataKey("my-key");
+	}
+
+	@Test
+	void shouldNotBlockDecryptionWhileObtainingDataKey() throws Exception {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key",
+				DataKeyCacheOptions.builder().maxMessagesPerKey(1).build());
+
+		byte[] ciphertext = encryptor.encrypt("a".getBytes());
+
+		CountDownLatch generating = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(this.transitOperations.generateDataKey("my-key")).thenAnswer(invocation -> {
+
+			generating.countDown();
+			release.await(5, TimeUnit.SECONDS);
+
+			return VaultDataKey.of(new byte[32], Ciphertext.of("vault:v1:blocked"));
+		});
+
+		CompletableFuture<byte[]> rotation = CompletableFuture.supplyAsync(() -> encryptor.encrypt("b".getBytes()));
+		assertThat(generating.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<byte[]> decryption = CompletableFuture.supplyAsync(() -> encryptor.decrypt(ciphertext));
+
+		assertThat(decryption.get(5, TimeUnit.SECONDS)).isEqualTo("a".getBytes());
+
+		release.countDown();
+		assertThat(encryptor.decrypt(rotation.get(5, TimeUnit.SECONDS))).isEqualTo("b".getBytes());
+	}
+
+	@Test
+	void shouldShareDataKeyRequestAcrossConcurrentEncryptions() throws Exception {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+
+		CountDownLatch release = new CountDownLatch(1);
+		when(this.transitOperations.generateDataKey("my-key")).thenAnswer(invocation -> {
+
+			release.await(5, TimeUnit.SECONDS);
+
+			return VaultDataKey.of(new byte[32], Ciphertext.of("vault:v1:shared"));
+		});
+
+		CompletableFuture<byte[]> first = CompletableFuture.supplyAsync(() -> encryptor.encrypt("a".getBytes()));
+		CompletableFuture<byte[]> second = CompletableFuture.supplyAsync(() -> encryptor.encrypt("b".getBytes()));
+
+		Thread.sleep(100);
+		release.countDown();
+
+		assertThat(encryptor.decrypt(first.get(5, TimeUnit.SECONDS))).isEqualTo("a".getBytes());
+		assertThat(encryptor.decrypt(second.get(5, TimeUnit.SECONDS))).isEqualTo("b".getBytes());
+		verify(this.transitOperations).generateDataKey("my-key");
+	}
+
+	@Test
+	void shouldUnwrapAndCacheUnknownDataKeys() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+		CachingVaultBytesEncryptor other = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+
+		byte[] first = encryptor.encrypt("a".getBytes());
+		byte[] second = encryptor.encrypt("b".getBytes());
+
+		assertThat(other.decrypt(first)).isEqualTo("a".getBytes());
+		assertThat(other.decrypt(second)).isEqualTo("b".getBytes());
+
+		verify(this.transitOperations).decrypt(eq("my-key"), any(Ciphertext.class));
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedDecryptionKeys() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key",
+				DataKeyCacheOptions.builder().maxMessagesPerKey(1).maxDecryptionKeys(2).build());
+
+		byte[] first = encryptor.encrypt("a".getBytes());
+		encryptor.encrypt("b".getBytes());
+		encryptor.encrypt("c".getBytes());
+
+		assertThat(encryptor.getDecryptionKeyCount()).isEqualTo(2);
+		assertThat(encryptor.decrypt(first)).isEqualTo("a".getBytes());
+		verify(this.transitOperations).decrypt(eq("my-key"), eq(Ciphertext.of("vault:v1:1")));
+	}
+
+	@Test
+	void shouldRequireUnwrappingAfterDestroy() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+
+		byte[] ciphertext = encryptor.encrypt("hello".getBytes());
+		encryptor.destroy();
+
+		assertThat(encryptor.getDecryptionKeyCount()).isZero();
+		assertThat(encryptor.decrypt(ciphertext)).isEqualTo("hello".getBytes());
+		verify(this.transitOperations).decrypt(eq("my-key"), any(Ciphertext.class));
+	}
+
+	@Test
+	void shouldRejectTamperedCiphertext() {
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+
+		byte[] ciphertext = encryptor.encrypt("hello".getBytes());
+		ciphertext[ciphertext.length - 1] ^= 1;
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> encryptor.decrypt(ciphertext));
+	}
+
+	@Test
+	void shouldDecryptVaultBytesEncryptorFormat() {
+
+		when(this.transitOperations.decrypt("my-key", Ciphertext.of("vault:v1:transit")))
+			.thenReturn(Plaintext.of("hello"));
+
+		CachingVaultBytesEncryptor encryptor = new CachingVaultBytesEncryptor(this.transitOperations, "my-key");
+
+		assertThat(encryptor.decrypt("vault:v1:transit".getBytes())).isEqualTo("hello".getBytes());
+	}
+
+	static class MutableClock extends Clock {
+
+		Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.vault.support;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClientOptions}.
+ *
+ * @author agent
+ */
+class ClientOptionsUnitTests {
+
+	@Test
+	void shouldRetainClientDefaults() {
+
+		ClientOptions options = new ClientOptions();
+
+		assertThat(options.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(options.getReadTimeout()).isEqualTo(Duration.ofSeconds(15));
+		assertThat(options.getMaxConnections()).isNull();
+		assertThat(options.getMaxConnectionsPerRoute()).isNull();
+		assertThat(options.getKeepAlive()).isNull();
+		assertThat(options.getIdleTimeout()).isNull();
+		assertThat(options.getMaxPendingAcquires()).isNull();
+		assertThat(options.getPendingAcquireTimeout()).isNull();
+		assertThat(options.isHttp2()).isFalse();
+	}
+
+	@Test
+	void shouldBuildOptions() {
+
+		ClientOptions options = ClientOptions.builder()
+			.connectionTimeout(Duration.ofSeconds(1))
+			.readTimeout(Duration.ofSeconds(2))
+			.maxConnections(100)
+			.maxConnectionsPerRoute(50)
+			.keepAlive(Duration.ofMinutes(5))
+			.idleTimeout(Duration.ofSeconds(30))
+			.maxPendingAcquires(500)
+			.pendingAcquireTimeout(Duration.ofSeconds(3))
+			.http2(true)
+			.build();
+
+		assertThat(options.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(options.getReadTimeout()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(options.getMaxConnections()).isEqualTo(100);
+		assertThat(options.getMaxConnectionsPerRoute()).isEqualTo(50);
+		assertThat(options.getKeepAlive()).isEqualTo(Duration.ofMinutes(5));
+		assertThat(options.getIdleTimeout()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(options.getMaxPendingAcquires()).isEqualTo(500);
+		assertThat(options.getPendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(3));
+		assertThat(options.isHttp2()).isTrue();
+	}
+
+	@Test
+	void shouldRejectInvalidPoolOptions() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> ClientOptions.builder().maxConnections(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> ClientOptions.builder().idleTimeout(Duration.ZERO));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> ClientOptions.builder().keepAlive(Duration.ofSeconds(-1)));
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.vault.support;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.io.ClassPathResource;
@@ -107,4 +109,18 @@ class SslConfigurationUnitTests {
 		assertThat(configuration.getTrustStoreConfiguration().getStoreType()).isEqualTo("PEM");
 	}
 
+	@Test
+	void shouldRetainReloadInterval() {
+
+		KeyStoreConfiguration keystore = KeyStoreConfiguration.of(new ClassPathResource("certificate.json"));
+		SslConfiguration configuration = SslConfiguration.unconfigured()
+			.withReloadInterval(Duration.ofMinutes(1))
+			.withTrustStore(keystore)
+			.withEnabledProtocols("TLSv1.3");
+
+		assertThat(configuration.isReloadEnabled()).isTrue();
+		assertThat(configuration.getReloadInterval()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(SslConfiguration.unconfigured().isReloadEnabled()).isFalse();
+	}
+
 }